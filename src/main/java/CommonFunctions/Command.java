@@ -2,7 +2,6 @@ package CommonFunctions;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,13 +25,19 @@ public class Command implements Serializable {
      */
     public String d_command;
 
+    /**
+     * tokens of the command, parsed once.
+     */
+    private final CommandTokens d_tokens;
+
     /**
      * Sets the values of the data member.
      * 
      * @param p_command input command given by the player
      */
     public Command(String p_command) {
-        this.d_command = p_command.trim().replaceAll(" +", " ");
+        this.d_tokens = CommandTokens.parse(p_command);
+        this.d_command = d_tokens.getText();
     }
 
     /**
@@ -43,60 +48,53 @@ public class Command implements Serializable {
      */
     public String getRootCommand() {
 
-        return d_command.split(" ")[0];
+        return d_tokens.getRoot();
     }
 
     /**
-     * Iterates through the list of operations received from the player.
+     * Iterates through the list of operations received from the player. A
+     * command whose only argument follows its root, as in
+     * {@code loadmap filename}, gives a "filename" operation; other arguments
+     * before the first option are an operation named by the first of them.
      * 
      * @return list the list of operations are returned
      */
     public List<Map<String, String>> getOperationsAndArguments() {
-        String l_rootCommand = getRootCommand();
-        String l_operationsString = d_command.replace(l_rootCommand, "").trim();
-
-        if (null == l_operationsString || l_operationsString.isEmpty()) {
-            return new ArrayList<Map<String, String>>();
-        }
-        boolean l_isFlagLessCommand = !l_operationsString.contains("-") && !l_operationsString.contains(" ");
-
-        // handle commands to load files, ex: loadmap filename
-        if (l_isFlagLessCommand) {
-            l_operationsString = "-filename " + l_operationsString;
-        }
-
         List<Map<String, String>> l_operations_list = new ArrayList<Map<String, String>>();
-        String[] l_operations = l_operationsString.split("-");
 
-        Arrays.stream(l_operations).forEach((operation) -> {
-            if (operation.length() > 1) {
-                l_operations_list.add(getOperationAndArgumentsMap(operation));
+        if (d_tokens.hasPositionalArguments()) {
+            String l_arguments = d_tokens.getPositionalArguments();
+            int l_space = l_arguments.indexOf(' ');
+            // handle commands to load files, ex: loadmap filename
+            if (l_space < 0 && d_tokens.getOptionCount() == 0) {
+                l_operations_list.add(getOperationAndArgumentsMap("filename", l_arguments));
+            } else if (l_space < 0) {
+                l_operations_list.add(getOperationAndArgumentsMap(l_arguments, ""));
+            } else {
+                l_operations_list.add(getOperationAndArgumentsMap(l_arguments.substring(0, l_space),
+                        l_arguments.substring(l_space + 1)));
             }
-        });
+        }
+        for (int l_option = 0; l_option < d_tokens.getOptionCount(); l_option++) {
+            l_operations_list.add(
+                    getOperationAndArgumentsMap(d_tokens.getOption(l_option), d_tokens.getArguments(l_option)));
+        }
 
         return l_operations_list;
     }
 
     /**
-     * Manages all the operations and arguments provided by the player.
+     * Builds the map of an operation and its arguments.
      * 
-     * @param p_operation input operation given by the player
+     * @param p_operation name of the operation
+     * @param p_arguments arguments of the operation
      * @return map the operation map is returned
      */
-    private Map<String, String> getOperationAndArgumentsMap(String p_operation) {
+    private Map<String, String> getOperationAndArgumentsMap(String p_operation, String p_arguments) {
         Map<String, String> l_operationMap = new HashMap<String, String>();
 
-        String[] l_split_operation = p_operation.split(" ");
-        String l_arguments = "";
-
-        l_operationMap.put("operation", l_split_operation[0]);
-
-        if (l_split_operation.length > 1) {
-            String[] l_arguments_values = Arrays.copyOfRange(l_split_operation, 1, l_split_operation.length);
-            l_arguments = String.join(" ", l_arguments_values);
-        }
-
-        l_operationMap.put("arguments", l_arguments);
+        l_operationMap.put("operation", p_operation);
+        l_operationMap.put("arguments", p_arguments);
 
         return l_operationMap;
     }
@@ -125,4 +123,13 @@ public class Command implements Serializable {
         return d_command;
     }
 
+    /**
+     * Getter for the tokens of the command.
+     *
+     * @return root, options and arguments of the command
+     */
+    public CommandTokens getD_tokens() {
+        return d_tokens;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,278 @@
+package CommonFunctions;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A command split into its root, its options and the arguments of each option
+ * in a single pass over the text, without regular expressions. The command is
+ * kept once, with its words separated by single spaces, and every part is a
+ * slice of it.
+ *
+ * <p>
+ * A word starting with '-' and a character other than a digit names an
+ * option, and the words after it up to the next option are its arguments, so
+ * '-' inside a word or in front of a number is part of an argument. Words
+ * between the root and the first option are the positional arguments of
+ * commands such as {@code deploy} or {@code loadmap}. A '-' without a name, or
+ * positional arguments mixed with options, is a syntax error, reported with
+ * its position in the text entered.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public final class CommandTokens implements Serializable {
+
+    /**
+     * the command, trimmed, with its words separated by single spaces.
+     */
+    private final String d_text;
+
+    /**
+     * end of the root command in d_text.
+     */
+    private final int d_rootEnd;
+
+    /**
+     * start of the positional arguments in d_text.
+     */
+    private final int d_positionalStart;
+
+    /**
+     * end of the positional arguments in d_text, equal to the start if none.
+     */
+    private final int d_positionalEnd;
+
+    /**
+     * start and end of each option name, and of its arguments, in d_text, four
+     * ints per option.
+     */
+    private final int[] d_optionSlices;
+
+    /**
+     * message of the first syntax error, or null.
+     */
+    private final String d_error;
+
+    /**
+     * position of the first syntax error in the text entered, or -1.
+     */
+    private final int d_errorPosition;
+
+    /**
+     * Creates the tokens of a parsed command.
+     *
+     * @param p_text            command with single spaces
+     * @param p_rootEnd         end of the root command
+     * @param p_positionalStart start of the positional arguments
+     * @param p_positionalEnd   end of the positional arguments
+     * @param p_optionSlices    slices of the options and their arguments
+     * @param p_error           first syntax error, or null
+     * @param p_errorPosition   position of the error, or -1
+     */
+    private CommandTokens(String p_text, int p_rootEnd, int p_positionalStart, int p_positionalEnd,
+            int[] p_optionSlices, String p_error, int p_errorPosition) {
+        d_text = p_text;
+        d_rootEnd = p_rootEnd;
+        d_positionalStart = p_positionalStart;
+        d_positionalEnd = p_positionalEnd;
+        d_optionSlices = p_optionSlices;
+        d_error = p_error;
+        d_errorPosition = p_errorPosition;
+    }
+
+    /**
+     * Parses a command. Any character up to a space separates words.
+     *
+     * @param p_command command entered
+     * @return tokens of the command
+     */
+    public static CommandTokens parse(String p_command) {
+        int l_length = p_command.length();
+        char[] l_text = new char[l_length];
+        int[] l_slices = new int[0];
+        int l_options = 0;
+        int l_size = 0;
+        int l_rootEnd = -1;
+        int l_positionalStart = -1;
+        int l_positionalEnd = -1;
+        int l_firstPositional = -1;
+        String l_error = null;
+        int l_errorPosition = -1;
+
+        int l_index = 0;
+        while (l_index < l_length && p_command.charAt(l_index) <= ' ') {
+            l_index++;
+        }
+        while (l_index < l_length) {
+            if (l_size > 0) {
+                l_text[l_size++] = ' ';
+            }
+            int l_wordPosition = l_index;
+            int l_wordStart = l_size;
+            while (l_index < l_length && p_command.charAt(l_index) > ' ') {
+                l_text[l_size++] = p_command.charAt(l_index++);
+            }
+            while (l_index < l_length && p_command.charAt(l_index) <= ' ') {
+                l_index++;
+            }
+
+            if (l_rootEnd < 0) {
+                l_rootEnd = l_size;
+            } else if (l_text[l_wordStart] == '-' && l_size - l_wordStart > 1
+                    && !Character.isDigit(l_text[l_wordStart + 1])) {
+                if (l_options * 4 == l_slices.length) {
+                    l_slices = Arrays.copyOf(l_slices, Math.max(8, l_slices.length * 2));
+                }
+                l_slices[l_options * 4] = l_wordStart + 1;
+                l_slices[l_options * 4 + 1] = l_size;
+                l_slices[l_options * 4 + 2] = -1;
+                l_slices[l_options * 4 + 3] = -1;
+                l_options++;
+            } else if (l_text[l_wordStart] == '-' && l_size - l_wordStart == 1) {
+                if (l_error == null) {
+                    l_error = "Option name missing after '-' at position " + l_wordPosition;
+                    l_errorPosition = l_wordPosition;
+                }
+            } else if (l_options > 0) {
+                int l_slice = (l_options - 1) * 4 + 2;
+                if (l_slices[l_slice] < 0) {
+                    l_slices[l_slice] = l_wordStart;
+                }
+                l_slices[l_slice + 1] = l_size;
+            } else {
+                if (l_positionalStart < 0) {
+                    l_positionalStart = l_wordStart;
+                    l_firstPositional = l_wordPosition;
+                }
+                l_positionalEnd = l_size;
+            }
+        }
+
+        if (l_rootEnd < 0) {
+            l_rootEnd = 0;
+        }
+        if (l_positionalStart < 0) {
+            l_positionalStart = l_rootEnd;
+            l_positionalEnd = l_rootEnd;
+        } else if (l_options > 0 && (l_error == null || l_firstPositional < l_errorPosition)) {
+            l_error = "Option expected instead of argument at position " + l_firstPositional;
+            l_errorPosition = l_firstPositional;
+        }
+        for (int l_option = 0; l_option < l_options; l_option++) {
+            if (l_slices[l_option * 4 + 2] < 0) {
+                l_slices[l_option * 4 + 2] = l_slices[l_option * 4 + 1];
+                l_slices[l_option * 4 + 3] = l_slices[l_option * 4 + 1];
+            }
+        }
+        return new CommandTokens(new String(l_text, 0, l_size), l_rootEnd, l_positionalStart, l_positionalEnd,
+                Arrays.copyOf(l_slices, l_options * 4), l_error, l_errorPosition);
+    }
+
+    /**
+     * The command, trimmed, with its words separated by single spaces.
+     *
+     * @return command text
+     */
+    public String getText() {
+        return d_text;
+    }
+
+    /**
+     * The root command.
+     *
+     * @return first word, empty for an empty command
+     */
+    public String getRoot() {
+        return d_text.substring(0, d_rootEnd);
+    }
+
+    /**
+     * Whether the command has words between its root and its first option.
+     *
+     * @return true if it has positional arguments
+     */
+    public boolean hasPositionalArguments() {
+        return d_positionalEnd > d_positionalStart;
+    }
+
+    /**
+     * The positional arguments of the command.
+     *
+     * @return arguments separated by single spaces, empty if none
+     */
+    public String getPositionalArguments() {
+        return d_text.substring(d_positionalStart, d_positionalEnd);
+    }
+
+    /**
+     * Number of options of the command.
+     *
+     * @return option count
+     */
+    public int getOptionCount() {
+        return d_optionSlices.length / 4;
+    }
+
+    /**
+     * Name of an option, without its '-'.
+     *
+     * @param p_option position of the option
+     * @return option name
+     */
+    public String getOption(int p_option) {
+        return d_text.substring(d_optionSlices[p_option * 4], d_optionSlices[p_option * 4 + 1]);
+    }
+
+    /**
+     * Arguments of an option.
+     *
+     * @param p_option position of the option
+     * @return arguments separated by single spaces, empty if none
+     */
+    public String getArguments(int p_option) {
+        return d_text.substring(d_optionSlices[p_option * 4 + 2], d_optionSlices[p_option * 4 + 3]);
+    }
+
+    /**
+     * Arguments of the first option with a name.
+     *
+     * @param p_option option name, without its '-'
+     * @return arguments separated by single spaces, or null if the command has
+     *         no such option
+     */
+    public String getArguments(String p_option) {
+        for (int l_option = 0; l_option < d_optionSlices.length; l_option += 4) {
+            int l_start = d_optionSlices[l_option];
+            int l_end = d_optionSlices[l_option + 1];
+            if (l_end - l_start == p_option.length() && d_text.regionMatches(l_start, p_option, 0, l_end - l_start)) {
+                return d_text.substring(d_optionSlices[l_option + 2], d_optionSlices[l_option + 3]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The first syntax error of the command.
+     *
+     * @return error message with its position, or null if the command is well
+     *         formed
+     */
+    public String getError() {
+        return d_error;
+    }
+
+    /**
+     * Position of the first syntax error in the text entered.
+     *
+     * @return position, or -1 if the command is well formed
+     */
+    public int getErrorPosition() {
+        return d_errorPosition;
+    }
+}
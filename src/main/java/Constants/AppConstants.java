@@ -47,7 +47,7 @@ public class AppConstants implements Serializable {
 	/**
 	 * Error message for an invalid 'tournament' command format.
 	 */
-	public static final String INVALID_TOURNAMENT_CMD_ERROR = "Invalid Command. Kindly provide command in format of : tournament -M listofmapfiles -P listofplayerstrategies -G numberofgames -D maxnumberofturns";
+	public static final String INVALID_TOURNAMENT_CMD_ERROR = "Invalid Command. Kindly provide command in format of : tournament -M listofmapfiles -P listofplayerstrategies -G numberofgames -D maxnumberofturns [-threads numberofthreads] [-seed seed]";
 	/**
 	 * Key for specifying arguments in a map.
 	 */
@@ -258,6 +258,16 @@ public class AppConstants implements Serializable {
 	 */
 	public static final int NUM_AVAILABLE_CARDS = AVAILABLE_CARDS.size();
 
+	/**
+	 * Chance of each attacking army to kill a defending army in a battle.
+	 */
+	public static final double ATTACKER_KILL_CHANCE = 0.6;
+
+	/**
+	 * Chance of each defending army to kill an attacking army in a battle.
+	 */
+	public static final double DEFENDER_KILL_CHANCE = 0.7;
+
 	/**
 	 * Represents the constant string for continent.
 	 */
@@ -286,6 +296,16 @@ public class AppConstants implements Serializable {
 	 */
 	public static final List<String> TOURNAMENT_PLAYER_BEHAVIORS = Arrays.asList("Aggressive", "Random","Benevolent",
 			"Cheater");
+	/**
+	 * Represents the header of the conquest map metadata section.
+	 */
+	public static final String CONQUEST_MAP_HEADER = "[Map]";
+
+	/**
+	 * Represents the header of the domination map files section.
+	 */
+	public static final String DOMINATION_FILES = "[files]";
+
 	/**
 	 * Represents the constant string for conquest continents.
 	 */
@@ -306,4 +326,73 @@ public class AppConstants implements Serializable {
 	 */
 	public static final String CONQUEST_MAP = "conquest";
 
-}
\ No newline at end of file
+	/**
+	 * Represents the directory, relative to the working directory, holding the
+	 * compiled form of loaded map files.
+	 */
+	public static final String MAP_CACHE_DIRECTORY = ".mapcache";
+
+	/**
+	 * Represents the file the game log is written to.
+	 */
+	public static final String LOG_FILE = "LogFile.txt";
+
+	/**
+	 * Represents the directory holding the log file of each tournament game.
+	 */
+	public static final String TOURNAMENT_LOG_DIRECTORY = "tournament-logs";
+
+	/**
+	 * Represents the file listing the log segments of each tournament game.
+	 */
+	public static final String TOURNAMENT_LOG_INDEX = "index.txt";
+
+	/**
+	 * Represents the bytes a tournament game log holds before it is rolled over.
+	 */
+	public static final long TOURNAMENT_LOG_SEGMENT_BYTES = 4L * 1024 * 1024;
+
+	/**
+	 * Represents the seconds a tournament game log stays open before it is
+	 * rolled over, 0 for no limit.
+	 */
+	public static final long TOURNAMENT_LOG_SEGMENT_SECONDS = 0;
+
+	/**
+	 * Represents the extension of the journal of turns played since a game was
+	 * last saved in full.
+	 */
+	public static final String SAVE_JOURNAL_EXTENSION = ".journal";
+
+	/**
+	 * Represents the bytes a save journal holds before it is folded into a new
+	 * full save.
+	 */
+	public static final long SAVE_JOURNAL_BYTES = 256L * 1024;
+
+	/**
+	 * Represents the directory under the resources holding autosaves.
+	 */
+	public static final String AUTOSAVE_DIRECTORY = "autosave";
+
+	/**
+	 * Represents the turns played between autosaves, 0 for no autosave by turn.
+	 */
+	public static final int AUTOSAVE_TURNS = 0;
+
+	/**
+	 * Represents the seconds between autosaves, 0 for no autosave by time.
+	 */
+	public static final long AUTOSAVE_SECONDS = 0;
+
+	/**
+	 * Represents the number of autosaves kept.
+	 */
+	public static final int AUTOSAVE_KEEP = 3;
+
+	/**
+	 * Represents the most tournament games that may be played at the same time.
+	 */
+	public static final int MAX_TOURNAMENT_THREADS = 25;
+
+}
@@ -9,6 +9,9 @@ import Models.StartUpPhase;
 import java.io.Serializable;
 
 import Constants.AppConstants;
+import Services.AutosaveService;
+import Views.Console;
+import Views.LogView.LogWriter;
 
 /**
  * This is the entry point of the Game and keeps the track of current Game
@@ -25,6 +28,11 @@ import Constants.AppConstants;
  */
 public class GameEngineCtx implements Serializable {
 
+	/**
+	 * pinned so that games saved while the tournament flag was static still load.
+	 */
+	private static final long serialVersionUID = -6275318985512056173L;
+
 	/**
 	 * d_gameState stores the information about current GamePlay.
 	 */
@@ -54,9 +62,43 @@ public class GameEngineCtx implements Serializable {
 	GamePlayPhase d_currentPhase = new StartUpPhase(this, d_gameState);
 
 	/**
-	 * Tournament mode or single game mode.
+	 * Phase the phase loop starts next, null when no transition is pending.
+	 */
+	transient GamePlayPhase d_nextPhase;
+
+	/**
+	 * Tournament mode flag handed to the next phase.
+	 */
+	transient boolean d_nextPhaseTournamentMode;
+
+	/**
+	 * Whether the phase loop is running on this context.
 	 */
-	static boolean d_isTournamentMode = false;
+	transient boolean d_phaseLoopRunning;
+
+	/**
+	 * Tournament mode or single game mode. Kept per context, since tournament
+	 * games run side by side on contexts of their own; not saved, as a loaded
+	 * game is never a tournament game.
+	 */
+	transient boolean d_isTournamentMode = false;
+
+	/**
+	 * Autosave of the game, created when first needed.
+	 */
+	transient AutosaveService d_autosaveService;
+
+	/**
+	 * Gets the autosave of the game, configured from the system properties.
+	 *
+	 * @return autosave of the game
+	 */
+	public AutosaveService getD_autosaveService() {
+		if (d_autosaveService == null) {
+			d_autosaveService = AutosaveService.fromProperties();
+		}
+		return d_autosaveService;
+	}
 
 	/**
 	 * Tournament mode information.
@@ -73,7 +115,7 @@ public class GameEngineCtx implements Serializable {
 	 * @param p_isTournamentMode true if tournament is being played or else false
 	 */
 	public void setD_isTournamentMode(boolean p_isTournamentMode) {
-		GameEngineCtx.d_isTournamentMode = p_isTournamentMode;
+		d_isTournamentMode = p_isTournamentMode;
 	}
 
 	/**
@@ -100,9 +142,8 @@ public class GameEngineCtx implements Serializable {
 	 * @param p_phase new Phase to set in Game context
 	 */
 	public void loadPhase(GamePlayPhase p_phase) {
-		d_currentPhase = p_phase;
 		d_gameState = p_phase.getD_gameState();
-		getD_CurrentPhase().initPhase(d_isTournamentMode);
+		transitionTo(p_phase, d_isTournamentMode);
 	}
 
 	/**
@@ -113,10 +154,13 @@ public class GameEngineCtx implements Serializable {
 	 */
 	public void setD_gameEngineCtxLog(String p_gameEngineCtxLog, String p_logType) {
 		d_currentPhase.getD_gameState().updateLogFile(p_gameEngineCtxLog, p_logType);
+		if (Console.isSilent()) {
+			return;
+		}
 		String l_consoleLogger = p_logType.equals(AppConstants.GAMEPLAY_PHASE)
 				? "\n************ " + p_gameEngineCtxLog + " ************\n"
 				: p_gameEngineCtxLog;
-		System.out.println(l_consoleLogger);
+		Console.println(l_consoleLogger);
 	}
 
 	/**
@@ -130,18 +174,15 @@ public class GameEngineCtx implements Serializable {
 		switch (p_gamePlayPhase) {
 			case AppConstants.START_UP_PHASE:
 				this.setD_gameEngineCtxLog("Startup Phase", AppConstants.GAMEPLAY_PHASE);
-				setD_CurrentPhase(new StartUpPhase(this, d_gameState));
-				getD_CurrentPhase().initPhase(d_isTournamentMode);
+				transitionTo(new StartUpPhase(this, d_gameState), d_isTournamentMode);
 				break;
 			case AppConstants.ISSUE_ORDER_PHASE:
 				this.setD_gameEngineCtxLog("Issue Order Phase", AppConstants.GAMEPLAY_PHASE);
-				setD_CurrentPhase(new IssueOrderPhase(this, d_gameState));
-				getD_CurrentPhase().initPhase(p_isTournamentMode);
+				transitionTo(new IssueOrderPhase(this, d_gameState), p_isTournamentMode);
 				break;
 			case AppConstants.ORDER_EXECUTION_PHASE:
 				this.setD_gameEngineCtxLog("Order Execution Phase", AppConstants.GAMEPLAY_PHASE);
-				setD_CurrentPhase(new OrderExecutionPhase(this, d_gameState));
-				getD_CurrentPhase().initPhase(d_isTournamentMode);
+				transitionTo(new OrderExecutionPhase(this, d_gameState), d_isTournamentMode);
 				break;
 			default:
 				break;
@@ -149,20 +190,63 @@ public class GameEngineCtx implements Serializable {
 
 	}
 
+	/**
+	 * Makes the given phase current and has it started by the phase loop. Called
+	 * from inside a running phase, this only records the transition: the phase
+	 * returns, and the loop then starts the next one, so the stack stays the same
+	 * depth however many turns are played. Called from outside, it runs the loop
+	 * until a phase returns without asking for another one.
+	 *
+	 * @param p_phase            phase to start
+	 * @param p_isTournamentMode tournament mode flag handed to the phase
+	 */
+	public void transitionTo(GamePlayPhase p_phase, boolean p_isTournamentMode) {
+		setD_CurrentPhase(p_phase);
+		d_nextPhase = p_phase;
+		d_nextPhaseTournamentMode = p_isTournamentMode;
+		if (!d_phaseLoopRunning) {
+			runPhaseLoop();
+		}
+	}
+
+	/**
+	 * Starts pending phases one after another until none is left, asking the log
+	 * writers to write out what they hold after each phase.
+	 */
+	private void runPhaseLoop() {
+		d_phaseLoopRunning = true;
+		try {
+			while (d_nextPhase != null) {
+				GamePlayPhase l_phase = d_nextPhase;
+				boolean l_isTournamentMode = d_nextPhaseTournamentMode;
+				d_nextPhase = null;
+				l_phase.initPhase(l_isTournamentMode);
+				LogWriter.requestFlushAll();
+			}
+		} finally {
+			d_phaseLoopRunning = false;
+		}
+	}
+
 	/**
 	 * The primary method responsible for receiving user commands and directing them
 	 * to the appropriate logical processes.The primary method responsible for
 	 * receiving user commands and directing them to the appropriate logical
 	 * processes.
 	 *
-	 * @param p_args the program doesn't use default command line arguments
+	 * @param p_args {@code -console print|buffer|silent} or {@code -headless}
+	 *               choose where console messages go, see {@link Console}
 	 */
 	public static void main(String[] p_args) {
+		try {
+			Console.configure(p_args);
+		} catch (IllegalArgumentException l_e) {
+			System.err.println("Ignoring console arguments: " + l_e.getMessage());
+		}
 		GameEngineCtx l_gameEngineCtx = new GameEngineCtx();
 		l_gameEngineCtx.getD_CurrentPhase().getD_gameState()
 				.updateLogFile("STARTING WARZONE.........." + System.lineSeparator(), AppConstants.START_GAME);
 		l_gameEngineCtx.setGamePlayPhase(AppConstants.START_UP_PHASE, false);
-		l_gameEngineCtx.getD_CurrentPhase().initPhase(d_isTournamentMode);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,265 @@
+package Models;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the borders of a map in compressed sparse row form.
+ * Countries are numbered by their position in the map's country list, and the
+ * neighbours of the country at index i are
+ * {@code d_neighbours[d_offsets[i]] .. d_neighbours[d_offsets[i + 1] - 1]}.
+ * Borders to country ids that are not in the map are dropped.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public final class AdjacencyGraph {
+
+    /**
+     * countries by dense index.
+     */
+    private final Country[] d_countries;
+
+    /**
+     * start of each country's row in d_neighbours, with one extra entry at the
+     * end.
+     */
+    private final int[] d_offsets;
+
+    /**
+     * dense indexes of the neighbours of all countries, row after row.
+     */
+    private final int[] d_neighbours;
+
+    /**
+     * dense index by country id, used when the ids are small enough.
+     */
+    private final int[] d_indexById;
+
+    /**
+     * dense index by country id, used when the ids are too sparse for an array.
+     */
+    private final HashMap<Integer, Integer> d_sparseIndexById;
+
+    /**
+     * Builds the snapshot from a list of countries.
+     *
+     * @param p_countries countries of the map
+     */
+    public AdjacencyGraph(List<Country> p_countries) {
+        int l_countryCount = p_countries.size();
+        d_countries = p_countries.toArray(new Country[l_countryCount]);
+
+        int l_maxId = -1;
+        boolean l_denseIds = true;
+        for (Country l_country : d_countries) {
+            Integer l_id = l_country.getD_countryId();
+            if (l_id != null) {
+                if (l_id < 0) {
+                    l_denseIds = false;
+                } else {
+                    l_maxId = Math.max(l_maxId, l_id);
+                }
+            }
+        }
+        l_denseIds = l_denseIds && l_maxId <= 4 * l_countryCount + 64;
+
+        if (l_denseIds) {
+            d_indexById = new int[l_maxId + 1];
+            Arrays.fill(d_indexById, -1);
+            d_sparseIndexById = null;
+        } else {
+            d_indexById = null;
+            d_sparseIndexById = new HashMap<Integer, Integer>(l_countryCount * 2);
+        }
+        for (int l_index = l_countryCount - 1; l_index >= 0; l_index--) {
+            Integer l_id = d_countries[l_index].getD_countryId();
+            if (l_id == null) {
+                continue;
+            }
+            // walk backwards so the first country with a given id wins, like Map.getCountry
+            if (d_indexById != null) {
+                d_indexById[l_id] = l_index;
+            } else {
+                d_sparseIndexById.put(l_id, l_index);
+            }
+        }
+
+        d_offsets = new int[l_countryCount + 1];
+        int l_edgeCount = 0;
+        for (int l_index = 0; l_index < l_countryCount; l_index++) {
+            List<Integer> l_adjacentIds = d_countries[l_index].getD_adjacentCountryIds();
+            if (l_adjacentIds != null) {
+                for (Integer l_adjacentId : l_adjacentIds) {
+                    if (l_adjacentId != null && indexOfId(l_adjacentId) >= 0) {
+                        l_edgeCount++;
+                    }
+                }
+            }
+            d_offsets[l_index + 1] = l_edgeCount;
+        }
+        d_neighbours = new int[l_edgeCount];
+        int l_position = 0;
+        for (int l_index = 0; l_index < l_countryCount; l_index++) {
+            List<Integer> l_adjacentIds = d_countries[l_index].getD_adjacentCountryIds();
+            if (l_adjacentIds != null) {
+                for (Integer l_adjacentId : l_adjacentIds) {
+                    int l_neighbour = l_adjacentId == null ? -1 : indexOfId(l_adjacentId);
+                    if (l_neighbour >= 0) {
+                        d_neighbours[l_position++] = l_neighbour;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a snapshot sharing the arrays of another one.
+     *
+     * @param p_countries       countries by dense index
+     * @param p_offsets         row offsets
+     * @param p_neighbours      neighbour rows
+     * @param p_indexById       dense index by id, or null
+     * @param p_sparseIndexById dense index by id when ids are sparse, or null
+     */
+    private AdjacencyGraph(Country[] p_countries, int[] p_offsets, int[] p_neighbours, int[] p_indexById,
+            HashMap<Integer, Integer> p_sparseIndexById) {
+        d_countries = p_countries;
+        d_offsets = p_offsets;
+        d_neighbours = p_neighbours;
+        d_indexById = p_indexById;
+        d_sparseIndexById = p_sparseIndexById;
+    }
+
+    /**
+     * Same borders over other country objects with the same ids in the same
+     * order, such as the countries of another game on the same map.
+     *
+     * @param p_countries countries by dense index
+     * @return snapshot sharing this one's arrays
+     */
+    AdjacencyGraph withCountries(Country[] p_countries) {
+        return new AdjacencyGraph(p_countries, d_offsets, d_neighbours, d_indexById, d_sparseIndexById);
+    }
+
+    /**
+     * Number of countries in the snapshot.
+     *
+     * @return country count
+     */
+    public int size() {
+        return d_countries.length;
+    }
+
+    /**
+     * Country at a dense index.
+     *
+     * @param p_index dense index
+     * @return country object
+     */
+    public Country country(int p_index) {
+        return d_countries[p_index];
+    }
+
+    /**
+     * Dense index of the country with the given id.
+     *
+     * @param p_countryId country id
+     * @return dense index, or -1 if no country has that id
+     */
+    public int indexOfId(int p_countryId) {
+        if (d_indexById != null) {
+            return p_countryId >= 0 && p_countryId < d_indexById.length ? d_indexById[p_countryId] : -1;
+        }
+        Integer l_index = d_sparseIndexById.get(p_countryId);
+        return l_index == null ? -1 : l_index;
+    }
+
+    /**
+     * Dense index of a country object.
+     *
+     * @param p_country country object
+     * @return dense index, or -1 if the country is not in the snapshot
+     */
+    public int indexOf(Country p_country) {
+        if (p_country == null || p_country.getD_countryId() == null) {
+            return -1;
+        }
+        int l_index = indexOfId(p_country.getD_countryId());
+        return l_index >= 0 && d_countries[l_index] == p_country ? l_index : -1;
+    }
+
+    /**
+     * Number of neighbours of a country.
+     *
+     * @param p_index dense index of the country
+     * @return neighbour count
+     */
+    public int degree(int p_index) {
+        return d_offsets[p_index + 1] - d_offsets[p_index];
+    }
+
+    /**
+     * The n-th neighbour of a country.
+     *
+     * @param p_index dense index of the country
+     * @param p_nth   position in the country's neighbour row
+     * @return dense index of the neighbour
+     */
+    public int neighbour(int p_index, int p_nth) {
+        return d_neighbours[d_offsets[p_index] + p_nth];
+    }
+
+    /**
+     * Start of a country's row in the neighbours array.
+     *
+     * @param p_index dense index of the country
+     * @return first position of the row
+     */
+    public int rowStart(int p_index) {
+        return d_offsets[p_index];
+    }
+
+    /**
+     * End of a country's row in the neighbours array, exclusive.
+     *
+     * @param p_index dense index of the country
+     * @return position after the last entry of the row
+     */
+    public int rowEnd(int p_index) {
+        return d_offsets[p_index + 1];
+    }
+
+    /**
+     * Neighbour stored at a position of the neighbours array, for iterating rows
+     * between rowStart and rowEnd.
+     *
+     * @param p_position position in the neighbours array
+     * @return dense index of the neighbour
+     */
+    public int neighbourAt(int p_position) {
+        return d_neighbours[p_position];
+    }
+
+    /**
+     * Checks whether a border leads from one country to another.
+     *
+     * @param p_from dense index of the source country
+     * @param p_to   dense index of the target country
+     * @return true if p_to is a neighbour of p_from
+     */
+    public boolean isAdjacent(int p_from, int p_to) {
+        for (int l_position = d_offsets[p_from]; l_position < d_offsets[p_from + 1]; l_position++) {
+            if (d_neighbours[l_position] == p_to) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
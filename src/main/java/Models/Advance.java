@@ -1,12 +1,13 @@
 package Models;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.SplittableRandom;
 
-import CommonFunctions.CommonCode;
 import Constants.AppConstants;
-import Services.PlayerService;
+import Models.LogModel.LogCategory;
+import Models.LogModel.LogEvent;
+import Models.LogModel.LogTemplate;
+import Views.Console;
 
 /**
  * Represents a specific command following the Command pattern.
@@ -21,6 +22,9 @@ import Services.PlayerService;
  */
 public class Advance implements Order, Serializable {
 
+	/** pinned so that games saved before the log events were added still load. */
+	private static final long serialVersionUID = 2059665730893459060L;
+
 	/**
 	 * Name of the country receiving the new armies.
 	 */
@@ -46,6 +50,11 @@ public class Advance implements Order, Serializable {
 	 */
 	String d_orderExecutionLog;
 
+	/**
+	 * Event of the last execution of the order, turned into text only when read.
+	 */
+	LogEvent d_orderExecutionEvent;
+
 	/**
 	 * Constructor receiving all necessary parameters for executing the order.
 	 *
@@ -73,11 +82,9 @@ public class Advance implements Order, Serializable {
 			Player l_targetCountryPlayer = fetchTargetCountryPlayer(p_gameState);
 			if (l_targetCountryPlayer != null) {
 				if (l_targetCountryPlayer.d_negotiatedWith.contains(this.d_playerInitiator)) {
-					this.setD_orderExecutionLog(
-							"Advance Command cannot be executed as Player:" + this.d_playerInitiator.getD_playerName()
-									+ " negotiated terms with Player:" + l_targetCountryPlayer.getD_playerName(),
-							AppConstants.LOG_MSG);
-					p_gameState.updateLog(orderExecutionLog(), AppConstants.ORDER_EFFECT);
+					this.setD_orderExecutionEvent(LogTemplate.ADVANCE_NEGOTIATED, this.d_playerInitiator.getD_playerName(),
+							l_targetCountryPlayer.getD_playerName(), null, null, 0, 0, AppConstants.LOG_MSG);
+					p_gameState.updateLog(LogCategory.ORDER_EFFECT, d_orderExecutionEvent);
 				} else {
 					Country l_targetCountry = p_gameState.getD_map().getCountryByName(d_targetCountry);
 					Country l_sourceCountry = p_gameState.getD_map().getCountryByName(d_sourceCountry);
@@ -87,7 +94,7 @@ public class Advance implements Order, Serializable {
 				}
 			}
 		} else {
-			p_gameState.updateLog(orderExecutionLog(), AppConstants.ORDER_EFFECT);
+			p_gameState.updateLog(LogCategory.ORDER_EFFECT, d_orderExecutionEvent);
 		}
 	}
 
@@ -109,14 +116,16 @@ public class Advance implements Order, Serializable {
 			deployArmiesToTarget(p_targetCountry);
 		} else if (p_targetCountry.getD_armyCount() == null) {
 			conquerTargetCountry(p_gameState, p_targetCountryPlayer, p_targetCountry);
-			this.d_playerInitiator.allocateCard();
+			this.d_playerInitiator.allocateCard(p_gameState);
 		} else {
 			processOrderResult(p_gameState, p_targetCountryPlayer, p_targetCountry, p_sourceCountry);
 		}
 	}
 
 	/**
-	 * Process and return the result of the advance order after battle.
+	 * Process and return the result of the advance order after battle. All the
+	 * advancing armies fight all the armies of the target country, the kills on
+	 * each side drawn by the {@link BattleEngine}.
 	 *
 	 * @param p_gameState           Current state of the game
 	 * @param p_targetCountryPlayer Player owning the target country
@@ -125,15 +134,16 @@ public class Advance implements Order, Serializable {
 	 */
 	private void processOrderResult(GameState p_gameState, Player p_targetCountryPlayer, Country p_targetCountry,
 			Country p_sourceCountry) {
-		int l_armiesInAttack = Math.min(this.d_armiesToAllocate, p_targetCountry.getD_armyCount());
-
-		List<Integer> l_attackerArmies = createArmyUnits(l_armiesInAttack, "attacker");
-		List<Integer> l_defenderArmies = createArmyUnits(l_armiesInAttack, "defender");
-		this.processBattleResult(p_sourceCountry, p_targetCountry, l_attackerArmies, l_defenderArmies,
-				p_targetCountryPlayer);
-
-		p_gameState.updateLog(orderExecutionLog(), AppConstants.ORDER_EFFECT);
-		this.updateContinents(this.d_playerInitiator, p_targetCountryPlayer, p_gameState);
+		SplittableRandom l_battles = p_gameState.getD_random().battles();
+		int l_defenders = p_targetCountry.getD_armyCount();
+		int l_attackersLeft = Math.max(0,
+				this.d_armiesToAllocate - BattleEngine.attackersKilled(l_defenders, l_battles));
+		int l_defendersLeft = Math.max(0,
+				l_defenders - BattleEngine.defendersKilled(this.d_armiesToAllocate, l_battles));
+		handleSurvivingArmies(l_attackersLeft, l_defendersLeft, p_sourceCountry, p_targetCountry,
+				p_targetCountryPlayer, p_gameState);
+
+		p_gameState.updateLog(LogCategory.ORDER_EFFECT, d_orderExecutionEvent);
 	}
 
 	/**
@@ -145,14 +155,11 @@ public class Advance implements Order, Serializable {
 	 */
 	private void conquerTargetCountry(GameState p_gameState, Player p_targetCountryPlayer, Country p_targetCountry) {
 		p_targetCountry.setD_armyCount(d_armiesToAllocate);
-		p_targetCountryPlayer.getD_playerCountries().remove(p_targetCountry);
-		this.d_playerInitiator.getD_playerCountries().add(p_targetCountry);
-		this.setD_orderExecutionLog(
-				"Player : " + this.d_playerInitiator.getD_playerName() + " is assigned with Country : "
-						+ p_targetCountry.getD_countryName() + " and armies : " + p_targetCountry.getD_armyCount(),
+		p_gameState.transferCountry(p_targetCountry, p_targetCountryPlayer, this.d_playerInitiator);
+		this.setD_orderExecutionEvent(LogTemplate.ADVANCE_CONQUERED, this.d_playerInitiator.getD_playerName(),
+				p_targetCountry.getD_countryName(), null, null, p_targetCountry.getD_armyCount(), 0,
 				AppConstants.LOG_MSG);
-		p_gameState.updateLog(orderExecutionLog(), AppConstants.ORDER_EFFECT);
-		this.updateContinents(this.d_playerInitiator, p_targetCountryPlayer, p_gameState);
+		p_gameState.updateLog(LogCategory.ORDER_EFFECT, d_orderExecutionEvent);
 	}
 
 	/**
@@ -162,15 +169,7 @@ public class Advance implements Order, Serializable {
 	 * @return target country player
 	 */
 	private Player fetchTargetCountryPlayer(GameState p_gameState) {
-		Player l_playerOfTargetCountry = null;
-		for (Player l_player : p_gameState.getD_playerList()) {
-			String l_cont = l_player.getCountryList().stream()
-					.filter(l_country -> l_country.equalsIgnoreCase(this.d_targetCountry)).findFirst().orElse(null);
-			if (!CommonCode.isEmpty(l_cont)) {
-				l_playerOfTargetCountry = l_player;
-			}
-		}
-		return l_playerOfTargetCountry;
+		return p_gameState.getCountryOwner(this.d_targetCountry);
 	}
 
 	/**
@@ -184,70 +183,6 @@ public class Advance implements Order, Serializable {
 		p_targetCountry.setD_armyCount(l_updatedTargetContArmies);
 	}
 
-	/**
-	 * Processes the battle result by determining surviving armies and handling the
-	 * aftermath.
-	 *
-	 * @param p_sourceCountry       The source country of the battle
-	 * @param p_targetCountry       The target country of the battle
-	 * @param p_attackerArmies      List of integers representing the attacker's
-	 *                              armies
-	 * @param p_defenderArmies      List of integers representing the defender's
-	 *                              armies
-	 * @param p_targetCountryPlayer Player who owns the target country
-	 */
-	private void processBattleResult(Country p_sourceCountry, Country p_targetCountry, List<Integer> p_attackerArmies,
-			List<Integer> p_defenderArmies, Player p_targetCountryPlayer) {
-		int l_attackerArmiesLeft = determineAttackerArmiesLeft(p_targetCountry.getD_armyCount());
-		int l_defenderArmiesLeft = determineDefenderArmiesLeft(p_targetCountry.getD_armyCount());
-
-		determineSurvivingArmies(p_attackerArmies, p_defenderArmies, l_attackerArmiesLeft, l_defenderArmiesLeft);
-
-		handleSurvivingArmies(l_attackerArmiesLeft, l_defenderArmiesLeft, p_sourceCountry, p_targetCountry,
-				p_targetCountryPlayer);
-	}
-
-	/**
-	 * Determines the number of attacker armies left after the battle.
-	 *
-	 * @param p_targetCountryArmyCount Number of armies in the target country
-	 * @return Number of attacker armies left
-	 */
-	private int determineAttackerArmiesLeft(int p_targetCountryArmyCount) {
-		return this.d_armiesToAllocate > p_targetCountryArmyCount ? this.d_armiesToAllocate - p_targetCountryArmyCount
-				: 0;
-	}
-
-	/**
-	 * Determines the number of defender armies left after the battle.
-	 *
-	 * @param p_targetCountryArmyCount Number of armies in the target country
-	 * @return Number of defender armies left
-	 */
-	private int determineDefenderArmiesLeft(int p_targetCountryArmyCount) {
-		return this.d_armiesToAllocate < p_targetCountryArmyCount ? p_targetCountryArmyCount - this.d_armiesToAllocate
-				: 0;
-	}
-
-	/**
-	 * Determines the surviving armies during the battle.
-	 *
-	 * @param p_attackerArmies     List of attacker armies
-	 * @param p_defenderArmies     List of defender armies
-	 * @param p_attackerArmiesLeft Remaining attacker armies
-	 * @param p_defenderArmiesLeft Remaining defender armies
-	 */
-	private void determineSurvivingArmies(List<Integer> p_attackerArmies, List<Integer> p_defenderArmies,
-			int p_attackerArmiesLeft, int p_defenderArmiesLeft) {
-		for (int i = 0; i < p_attackerArmies.size(); i++) {
-			if (p_attackerArmies.get(i) > p_defenderArmies.get(i)) {
-				p_attackerArmiesLeft++;
-			} else {
-				p_defenderArmiesLeft++;
-			}
-		}
-	}
-
 	/**
 	 * Handles the surviving armies after a battle and updates country ownership and
 	 * armies accordingly.
@@ -257,11 +192,12 @@ public class Advance implements Order, Serializable {
 	 * @param p_sourceCountry       Source country of the battle
 	 * @param p_targetCountry       Target country of the battle
 	 * @param p_targetCountryPlayer Player owning the target country
+	 * @param p_gameState           Current state of the game
 	 */
 	public void handleSurvivingArmies(int p_attackerArmiesLeft, int p_defenderArmiesLeft,
-			Country p_sourceCountry, Country p_targetCountry, Player p_targetCountryPlayer) {
+			Country p_sourceCountry, Country p_targetCountry, Player p_targetCountryPlayer, GameState p_gameState) {
 		if (p_defenderArmiesLeft == 0) {
-			transferOwnership(p_attackerArmiesLeft, p_targetCountry, p_targetCountryPlayer);
+			transferOwnership(p_attackerArmiesLeft, p_targetCountry, p_targetCountryPlayer, p_gameState);
 		} else {
 			updateArmies(p_sourceCountry, p_targetCountry, p_attackerArmiesLeft, p_defenderArmiesLeft,
 					p_targetCountryPlayer);
@@ -274,13 +210,14 @@ public class Advance implements Order, Serializable {
 	 * @param p_attackerArmiesLeft  Remaining attacker armies after the battle
 	 * @param p_targetCountry       Target country of the battle
 	 * @param p_targetCountryPlayer Player owning the target country
+	 * @param p_gameState           Current state of the game
 	 */
-	private void transferOwnership(int p_attackerArmiesLeft, Country p_targetCountry, Player p_targetCountryPlayer) {
-		p_targetCountryPlayer.getD_playerCountries().remove(p_targetCountry);
+	private void transferOwnership(int p_attackerArmiesLeft, Country p_targetCountry, Player p_targetCountryPlayer,
+			GameState p_gameState) {
+		p_gameState.transferCountry(p_targetCountry, p_targetCountryPlayer, this.d_playerInitiator);
 		p_targetCountry.setD_armyCount(p_attackerArmiesLeft);
-		this.d_playerInitiator.getD_playerCountries().add(p_targetCountry);
 		updateLogAfterTransfer(p_targetCountryPlayer, p_targetCountry);
-		this.d_playerInitiator.allocateCard();
+		this.d_playerInitiator.allocateCard(p_gameState);
 	}
 
 	/**
@@ -307,9 +244,9 @@ public class Advance implements Order, Serializable {
 	 * @param p_targetCountry       Target country of the battle
 	 */
 	private void updateLogAfterTransfer(Player p_targetCountryPlayer, Country p_targetCountry) {
-		String l_logEntry = "Player: " + this.d_playerInitiator.getD_playerName() + " is assigned with Country: "
-				+ p_targetCountry.getD_countryName() + " and armies: " + p_targetCountry.getD_armyCount();
-		setD_orderExecutionLog(l_logEntry, AppConstants.LOG_MSG);
+		setD_orderExecutionEvent(LogTemplate.ADVANCE_TRANSFERRED, this.d_playerInitiator.getD_playerName(),
+				p_targetCountry.getD_countryName(), null, null, p_targetCountry.getD_armyCount(), 0,
+				AppConstants.LOG_MSG);
 	}
 
 	/**
@@ -321,13 +258,10 @@ public class Advance implements Order, Serializable {
 	 */
 	private void updateLogAfterBattle(Country p_targetCountry, Country p_sourceCountry,
 			Player p_targetCountryPlayer) {
-		String l_logEntry1 = "Country: " + p_targetCountry.getD_countryName() + " is left with "
-				+ p_targetCountry.getD_armyCount() + " armies and is still owned by player: "
-				+ p_targetCountryPlayer.getD_playerName();
-		String l_logEntry2 = "Country: " + p_sourceCountry.getD_countryName() + " is left with "
-				+ p_sourceCountry.getD_armyCount() + " armies and is still owned by player: "
-				+ this.d_playerInitiator.getD_playerName();
-		setD_orderExecutionLog(l_logEntry1 + System.lineSeparator() + l_logEntry2, AppConstants.LOG_MSG);
+		setD_orderExecutionEvent(LogTemplate.ADVANCE_DEFENDED, p_targetCountry.getD_countryName(),
+				p_targetCountryPlayer.getD_playerName(), p_sourceCountry.getD_countryName(),
+				this.d_playerInitiator.getD_playerName(), p_targetCountry.getD_armyCount(),
+				p_sourceCountry.getD_armyCount(), AppConstants.LOG_MSG);
 	}
 
 	/**
@@ -339,44 +273,28 @@ public class Advance implements Order, Serializable {
 
 	@Override
 	public boolean isValid(GameState p_gameState) {
-		Country l_country = d_playerInitiator.getD_playerCountries().stream()
-				.filter(l_pl -> l_pl.getD_countryName().equalsIgnoreCase(this.d_sourceCountry.toString()))
-				.findFirst().orElse(null);
-		if (l_country == null) {
-			this.setD_orderExecutionLog(this.currentOrder() + " is not executed since Source country : "
-					+ this.d_sourceCountry + " given in advance command does not belongs to the player : "
-					+ d_playerInitiator.getD_playerName(), AppConstants.ERROR_LOG_MSG);
-			p_gameState.updateLog(orderExecutionLog(), AppConstants.ORDER_EFFECT);
+		Country l_country = p_gameState.getD_map().getCountryByName(this.d_sourceCountry);
+		if (l_country == null || !d_playerInitiator.getD_playerCountries().contains(l_country)) {
+			this.setD_orderExecutionEvent(LogTemplate.ADVANCE_NOT_OWNED, this.d_sourceCountry, this.d_targetCountry,
+					d_playerInitiator.getD_playerName(), null, this.d_armiesToAllocate, 0, AppConstants.ERROR_LOG_MSG);
+			p_gameState.updateLog(LogCategory.ORDER_EFFECT, d_orderExecutionEvent);
 			return false;
 		}
 		if (this.d_armiesToAllocate > l_country.getD_armyCount()) {
-			this.setD_orderExecutionLog(this.currentOrder()
-					+ " is not executed as armies given in advance order exceeds armies of source country : "
-					+ this.d_sourceCountry, AppConstants.ERROR_LOG_MSG);
-			p_gameState.updateLog(orderExecutionLog(), AppConstants.ORDER_EFFECT);
+			this.setD_orderExecutionEvent(LogTemplate.ADVANCE_EXCEEDS_ARMIES, this.d_sourceCountry,
+					this.d_targetCountry, null, null, this.d_armiesToAllocate, 0, AppConstants.ERROR_LOG_MSG);
+			p_gameState.updateLog(LogCategory.ORDER_EFFECT, d_orderExecutionEvent);
 			return false;
 		}
 		if (this.d_armiesToAllocate == l_country.getD_armyCount()) {
-			this.setD_orderExecutionLog(this.currentOrder() + " is not executed as source country : "
-					+ this.d_sourceCountry + " has " + l_country.getD_armyCount()
-					+ " army units and all of those cannot be given advance order, atleast one army unit has to retain the territory.",
-					AppConstants.ERROR_LOG_MSG);
-			p_gameState.updateLog(orderExecutionLog(), AppConstants.ORDER_EFFECT);
+			this.setD_orderExecutionEvent(LogTemplate.ADVANCE_ALL_ARMIES, this.d_sourceCountry, this.d_targetCountry,
+					null, null, this.d_armiesToAllocate, l_country.getD_armyCount(), AppConstants.ERROR_LOG_MSG);
+			p_gameState.updateLog(LogCategory.ORDER_EFFECT, d_orderExecutionEvent);
 			return false;
 		}
 		return true;
 	}
 
-	/**
-	 * Gives current advance order which is being executed.
-	 * 
-	 * @return advance order command
-	 */
-	private String currentOrder() {
-		return "Advance Order : " + "advance" + " " + this.d_sourceCountry + " " + this.d_targetCountry + " "
-				+ this.d_armiesToAllocate;
-	}
-
 	/**
 	 * Prints information about order.
 	 */
@@ -386,7 +304,7 @@ public class Advance implements Order, Serializable {
 				+ this.d_playerInitiator.getD_playerName()
 				+ " ----------\n" + System.lineSeparator() + "Move " + this.d_armiesToAllocate + " armies from "
 				+ this.d_sourceCountry + " to " + this.d_targetCountry;
-		System.out.println(System.lineSeparator() + this.d_orderExecutionLog);
+		Console.println(System.lineSeparator() + this.d_orderExecutionLog);
 	}
 
 	/**
@@ -394,6 +312,9 @@ public class Advance implements Order, Serializable {
 	 */
 	@Override
 	public String orderExecutionLog() {
+		if (this.d_orderExecutionLog == null && this.d_orderExecutionEvent != null) {
+			this.d_orderExecutionLog = this.d_orderExecutionEvent.render();
+		}
 		return this.d_orderExecutionLog;
 	}
 
@@ -405,61 +326,43 @@ public class Advance implements Order, Serializable {
 	 */
 	public void setD_orderExecutionLog(String p_orderExecutionLog, String p_logType) {
 		this.d_orderExecutionLog = p_orderExecutionLog;
+		this.d_orderExecutionEvent = null;
 		if (p_logType.equals(AppConstants.ERROR_LOG_MSG)) {
-			System.err.println(p_orderExecutionLog);
+			Console.printError(p_orderExecutionLog);
 		} else {
-			System.out.println(p_orderExecutionLog);
+			Console.println(p_orderExecutionLog);
 		}
 	}
 
 	/**
-	 * Creates army units based on attacker and defender's winning
-	 * chances.
-	 * 
-	 * @param p_size number of random armies to be generated
-	 * @param p_role armies to be generated is for defender or for attacker
-	 * @return List random army units based on probability
+	 * Records the outcome of the order as a log event and hands it to the
+	 * console, which builds its text only if it prints it; the log writer builds
+	 * its own. Nothing is recorded or printed while order effects are switched
+	 * off in the log.
+	 *
+	 * @param p_template template of the outcome
+	 * @param p_text0    first text of the template
+	 * @param p_text1    second text of the template
+	 * @param p_text2    third text of the template
+	 * @param p_text3    fourth text of the template
+	 * @param p_number0  first number of the template
+	 * @param p_number1  second number of the template
+	 * @param p_logType  type of log : error, default
 	 */
-	private List<Integer> createArmyUnits(int p_size, String p_role) {
-		List<Integer> l_armyList = new ArrayList<>();
-		Double l_probability = "attacker".equalsIgnoreCase(p_role) ? 0.6 : 0.7;
-		for (int l_i = 0; l_i < p_size; l_i++) {
-			int l_randomNumber = getRandomInteger(10, 1);
-			Integer l_armyUnit = (int) Math.round(l_randomNumber * l_probability);
-			l_armyList.add(l_armyUnit);
+	private void setD_orderExecutionEvent(LogTemplate p_template, String p_text0, String p_text1, String p_text2,
+			String p_text3, int p_number0, int p_number1, String p_logType) {
+		this.d_orderExecutionLog = null;
+		if (!LogCategory.ORDER_EFFECT.isEnabled()) {
+			this.d_orderExecutionEvent = null;
+			return;
+		}
+		this.d_orderExecutionEvent = new LogEvent(p_template, p_text0, p_text1, p_text2, p_text3, p_number0,
+				p_number1);
+		if (p_logType.equals(AppConstants.ERROR_LOG_MSG)) {
+			Console.printError(this.d_orderExecutionEvent);
+		} else {
+			Console.println(this.d_orderExecutionEvent);
 		}
-		return l_armyList;
-	}
-
-	/**
-	 * returns random integer between minimum and maximum range.
-	 * 
-	 * @param p_maximum upper limit
-	 * @param p_minimum lower limit
-	 * @return int random number
-	 */
-	private static int getRandomInteger(int p_maximum, int p_minimum) {
-		return ((int) (Math.random() * (p_maximum - p_minimum))) + p_minimum;
-	}
-
-	/**
-	 * Updates continents of players based on battle results.
-	 * 
-	 * @param p_playerOfSourceCountry player owning source country
-	 * @param p_targetCountryPlayer   player owning target country
-	 * @param p_gameState             current state of the game
-	 */
-	private void updateContinents(Player p_playerOfSourceCountry, Player p_targetCountryPlayer,
-			GameState p_gameState) {
-		System.out.println("Updating continents of players involved in battle...");
-		List<Player> l_playesList = new ArrayList<>();
-		p_playerOfSourceCountry.setD_playerContinents(new ArrayList<>());
-		p_targetCountryPlayer.setD_playerContinents(new ArrayList<>());
-		l_playesList.add(p_playerOfSourceCountry);
-		l_playesList.add(p_targetCountryPlayer);
-
-		PlayerService l_playerService = new PlayerService();
-		l_playerService.allocRandomContinents(l_playesList, p_gameState.getD_map().getD_continents());
 	}
 
 	/**
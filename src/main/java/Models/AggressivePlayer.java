@@ -6,7 +6,9 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map.Entry;
-import java.util.Random;
+import java.util.SplittableRandom;
+
+import Views.Console;
 
 /**
  * Defines an Aggressive Player strategy. This player accumulates all his
@@ -25,6 +27,11 @@ import java.util.Random;
  */
 public class AggressivePlayer extends PlayerBehaviorStrategy {
 
+	/**
+	 * serial version from before the strategy returned order intents.
+	 */
+	private static final long serialVersionUID = 6080222684283455782L;
+
 	/**
 	 * An ArrayList to hold countries for deployment sequence.
 	 */
@@ -36,18 +43,18 @@ public class AggressivePlayer extends PlayerBehaviorStrategy {
 	 * @param p_player    Reference to a Player object
 	 * @param p_gameState Reference to a GameState object
 	 * 
-	 * @return A string representation of the generated order
+	 * @return the generated order
 	 */
 	@Override
-	public String generateOrder(Player p_player, GameState p_gameState) {
-		System.out.println("Creating order for : " + p_player.getD_playerName());
-		String l_command;
+	public OrderIntent generateOrder(Player p_player, GameState p_gameState) {
+		Console.println("Creating order for : " + p_player.getD_playerName());
+		OrderIntent l_command;
 
 		if (p_player.getD_unallocatedArmyCount() > 0) {
 			l_command = generateDeployOrder(p_player, p_gameState);
 		} else {
 			if (p_player.getD_playerOwnedCards().size() > 0) {
-				Random l_random = new Random();
+				SplittableRandom l_random = p_gameState.getD_random().strategy(p_player);
 				int l_randomIndex = l_random.nextInt(p_player.getD_playerOwnedCards().size() + 1);
 				if (l_randomIndex == p_player.getD_playerOwnedCards().size()) {
 					l_command = generateAdvanceOrder(p_player, p_gameState);
@@ -66,8 +73,8 @@ public class AggressivePlayer extends PlayerBehaviorStrategy {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public String generateDeployOrder(Player p_player, GameState p_gameState) {
-		Random l_random = new Random();
+	public OrderIntent generateDeployOrder(Player p_player, GameState p_gameState) {
+		SplittableRandom l_random = p_gameState.getD_random().strategy(p_player);
 		// get strongest country then deploy
 		Country l_strongestCountry = getStrongestCountry(p_player, p_gameState);
 		d_deployCountries.add(l_strongestCountry);
@@ -75,29 +82,27 @@ public class AggressivePlayer extends PlayerBehaviorStrategy {
 		if (p_player.getD_unallocatedArmyCount() > 1) {
 			l_armiesToDeploy = l_random.nextInt(p_player.getD_unallocatedArmyCount() - 1) + 1;
 		}
-		return String.format("deploy %s %d", l_strongestCountry.getD_countryName(), l_armiesToDeploy);
+		return OrderIntent.deploy(indexOf(p_gameState, l_strongestCountry), l_armiesToDeploy);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public String generateAdvanceOrder(Player p_player, GameState p_gameState) {
+	public OrderIntent generateAdvanceOrder(Player p_player, GameState p_gameState) {
 		// move armies from its neighbors to maximize armies on source country
-		Country l_randomSourceCountry = getRandomCountry(d_deployCountries);
+		SplittableRandom l_random = p_gameState.getD_random().strategy(p_player);
+		Country l_randomSourceCountry = getRandomCountry(d_deployCountries, l_random);
 		moveArmiesFromItsNeighbors(p_player, l_randomSourceCountry, p_gameState);
 
-		Random l_random = new Random();
-		Country l_randomTargetCountry = p_gameState.getD_map()
-				.getCountry(l_randomSourceCountry.getD_adjacentCountryIds()
-						.get(l_random.nextInt(l_randomSourceCountry.getD_adjacentCountryIds().size())));
+		Country l_randomTargetCountry = getRandomNeighbour(l_randomSourceCountry, p_gameState, l_random);
 
 		int l_armiesToSend = l_randomSourceCountry.getD_armyCount() != null
 				&& l_randomSourceCountry.getD_armyCount() > 1 ? l_randomSourceCountry.getD_armyCount() : 1;
 
 		// attacks with strongest country
-		return "advance " + l_randomSourceCountry.getD_countryName() + " " + l_randomTargetCountry.getD_countryName()
-				+ " " + l_armiesToSend;
+		return OrderIntent.advance(indexOf(p_gameState, l_randomSourceCountry),
+				indexOf(p_gameState, l_randomTargetCountry), l_armiesToSend);
 
 	}
 
@@ -109,18 +114,17 @@ public class AggressivePlayer extends PlayerBehaviorStrategy {
 	 * @param p_gameState           The current state of the game
 	 */
 	public void moveArmiesFromItsNeighbors(Player p_player, Country p_randomSourceCountry, GameState p_gameState) {
-		List<Integer> l_adjacentCountryIds = p_randomSourceCountry.getD_adjacentCountryIds();
-		List<Country> l_listOfNeighbors = new ArrayList<Country>();
-		for (int l_index = 0; l_index < l_adjacentCountryIds.size(); l_index++) {
-			Country l_country = p_gameState.getD_map()
-					.getCountry(p_randomSourceCountry.getD_adjacentCountryIds().get(l_index));
-			if (p_player.getD_playerCountries().contains(l_country)) {
-				l_listOfNeighbors.add(l_country);
-			}
-		}
+		AdjacencyGraph l_graph = p_gameState.getD_map().getAdjacencyGraph();
+		int l_sourceIndex = l_graph.indexOf(p_randomSourceCountry);
+		int l_rowStart = l_sourceIndex < 0 ? 0 : l_graph.rowStart(l_sourceIndex);
+		int l_rowEnd = l_sourceIndex < 0 ? 0 : l_graph.rowEnd(l_sourceIndex);
 
 		int l_ArmiesToMove = 0;
-		for (Country l_con : l_listOfNeighbors) {
+		for (int l_position = l_rowStart; l_position < l_rowEnd; l_position++) {
+			Country l_con = l_graph.country(l_graph.neighbourAt(l_position));
+			if (!p_player.getD_playerCountries().contains(l_con)) {
+				continue;
+			}
 			l_ArmiesToMove += p_randomSourceCountry.getD_armyCount() != null
 					&& p_randomSourceCountry.getD_armyCount() > 0
 							? p_randomSourceCountry.getD_armyCount() + (l_con.getD_armyCount())
@@ -134,24 +138,22 @@ public class AggressivePlayer extends PlayerBehaviorStrategy {
 	 * Chooses a country at random from a given list.
 	 * 
 	 * @param p_listOfCountries A list of country objects
+	 * @param p_random          Strategy stream of the player
 	 * @return A randomly selected country
 	 */
-	private Country getRandomCountry(List<Country> p_listOfCountries) {
-		Random l_random = new Random();
-		return p_listOfCountries.get(l_random.nextInt(p_listOfCountries.size()));
+	private Country getRandomCountry(List<Country> p_listOfCountries, SplittableRandom p_random) {
+		return p_listOfCountries.get(p_random.nextInt(p_listOfCountries.size()));
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public String generateCardOrder(Player p_player, GameState p_gameState, String p_cardName) {
-		Random l_random = new Random();
+	public OrderIntent generateCardOrder(Player p_player, GameState p_gameState, String p_cardName) {
+		SplittableRandom l_random = p_gameState.getD_random().strategy(p_player);
 		Country l_StrongestSourceCountry = getStrongestCountry(p_player, d_gameState);
 
-		Country l_randomTargetCountry = p_gameState.getD_map()
-				.getCountry(l_StrongestSourceCountry.getD_adjacentCountryIds()
-						.get(l_random.nextInt(l_StrongestSourceCountry.getD_adjacentCountryIds().size())));
+		Country l_randomTargetCountry = getRandomNeighbour(l_StrongestSourceCountry, p_gameState, l_random);
 
 		int l_armiesToSend = l_StrongestSourceCountry.getD_armyCount() != null
 				&& l_StrongestSourceCountry.getD_armyCount() > 1 ? l_StrongestSourceCountry.getD_armyCount()
@@ -159,14 +161,15 @@ public class AggressivePlayer extends PlayerBehaviorStrategy {
 
 		switch (p_cardName) {
 			case "bomb":
-				return "bomb " + l_randomTargetCountry.getD_countryName();
+				return OrderIntent.bomb(indexOf(p_gameState, l_randomTargetCountry));
 			case "blockade":
-				return "blockade " + l_StrongestSourceCountry.getD_countryName();
+				return OrderIntent.blockade(indexOf(p_gameState, l_StrongestSourceCountry));
 			case "airlift":
-				return "airlift " + l_StrongestSourceCountry.getD_countryName() + " "
-						+ getRandomCountry(p_player.getD_playerCountries()).getD_countryName() + " " + l_armiesToSend;
+				return OrderIntent.airlift(indexOf(p_gameState, l_StrongestSourceCountry),
+						indexOf(p_gameState, getRandomCountry(p_player.getD_playerCountries(), l_random)),
+						l_armiesToSend);
 			case "negotiate":
-				return "negotiate" + " " + getRandomEnemyPlayer(p_player, p_gameState).getD_playerName();
+				return OrderIntent.negotiate(getRandomEnemyPlayer(p_player, p_gameState, l_random));
 		}
 		return null;
 	}
@@ -176,17 +179,17 @@ public class AggressivePlayer extends PlayerBehaviorStrategy {
 	 * 
 	 * @param p_player    The player making the selection
 	 * @param p_gameState The current state of the game
+	 * @param p_random    Strategy stream of the player
 	 * @return A player chosen at random from the enemy players
 	 */
-	private Player getRandomEnemyPlayer(Player p_player, GameState p_gameState) {
+	private Player getRandomEnemyPlayer(Player p_player, GameState p_gameState, SplittableRandom p_random) {
 		ArrayList<Player> l_playerList = new ArrayList<Player>();
-		Random l_random = new Random();
 
 		for (Player l_player : p_gameState.getD_playerList()) {
 			if (!l_player.equals(p_player))
 				l_playerList.add(p_player);
 		}
-		return l_playerList.get(l_random.nextInt(l_playerList.size()));
+		return l_playerList.get(p_random.nextInt(l_playerList.size()));
 	}
 
 	/**
@@ -3,6 +3,7 @@ package Models;
 import java.io.Serializable;
 
 import Constants.AppConstants;
+import Views.Console;
 
 /**
  * This class handles the execution and validation of Airlift Validate.
@@ -82,13 +83,16 @@ public class Airlift implements Card, Serializable {
 		}
 	}
 
-	private Country findCountryByName(String countryName) {
-		for (Country country : d_player.getD_playerCountries()) {
-			if (country.getD_countryName().equalsIgnoreCase(countryName)) {
-				return country;
-			}
-		}
-		return null;
+	/**
+	 * Finds a country of the player issuing the order.
+	 *
+	 * @param p_gameState   current state of the game
+	 * @param p_countryName name of the country
+	 * @return country, or null if the player does not own it
+	 */
+	private Country findCountryByName(GameState p_gameState, String p_countryName) {
+		Country l_country = p_gameState.getD_map().getCountryByName(p_countryName);
+		return p_gameState.getCountryOwner(l_country) == d_player ? l_country : null;
 	}
 
 	/**
@@ -96,7 +100,7 @@ public class Airlift implements Card, Serializable {
 	 */
 	@Override
 	public boolean isValid(GameState p_gameState) {
-		Country l_sourceCountry = findCountryByName(this.d_sourceCountry.toString());
+		Country l_sourceCountry = findCountryByName(p_gameState, this.d_sourceCountry);
 
 		if (l_sourceCountry == null) {
 			String l_logMsg = this.currentOrder() + " not executed as Source country : " + this.d_sourceCountry
@@ -106,7 +110,7 @@ public class Airlift implements Card, Serializable {
 			return false;
 		}
 
-		Country l_targetCountry = findCountryByName(this.d_targetCountry.toString());
+		Country l_targetCountry = findCountryByName(p_gameState, this.d_targetCountry);
 
 		if (l_targetCountry == null) {
 			String l_logMsg = this.currentOrder() + " not executed since Target country : " + this.d_sourceCountry
@@ -136,7 +140,7 @@ public class Airlift implements Card, Serializable {
 		this.d_orderExecutionLog = "----------Airlift order issued by player " + this.d_player.getD_playerName()
 				+ "----------" + System.lineSeparator() + "Move " + this.d_armyCount + " armies from "
 				+ this.d_sourceCountry + " to " + this.d_targetCountry;
-		System.out.println(System.lineSeparator() + this.d_orderExecutionLog);
+		Console.println(System.lineSeparator() + this.d_orderExecutionLog);
 	}
 
 	/**
@@ -161,15 +165,15 @@ public class Airlift implements Card, Serializable {
 		switch (p_logType) {
 			case AppConstants.ERROR_LOG_MSG:
 				// Log an error message
-				System.err.println(p_orderExecutionLog);
+				Console.printError(p_orderExecutionLog);
 				break;
 			case AppConstants.LOG_MSG:
 				// Log a standard message
-				System.out.println(p_orderExecutionLog);
+				Console.println(p_orderExecutionLog);
 				break;
 			default:
 				// Log a message for an unknown log type
-				System.out.println("Unknown log type: " + p_logType);
+				Console.println("Unknown log type: " + p_logType);
 				break;
 		}
 	}
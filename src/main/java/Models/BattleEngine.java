@@ -0,0 +1,196 @@
+package Models;
+
+import java.util.SplittableRandom;
+
+import Constants.AppConstants;
+
+/**
+ * Resolves the battles of advance orders. In a battle each attacking army kills
+ * a defending army with a chance of {@link AppConstants#ATTACKER_KILL_CHANCE},
+ * and each defending army kills an attacking army with a chance of
+ * {@link AppConstants#DEFENDER_KILL_CHANCE}. The armies killed on each side are
+ * therefore binomially distributed. Small battles are rolled army by army;
+ * larger ones draw the kills at once, by inversion when few kills are expected
+ * and by transformed rejection (Hormann, 1993) otherwise, so a battle takes
+ * constant time and allocates nothing however many armies fight in it.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public final class BattleEngine {
+
+    /**
+     * trials below which each trial is drawn on its own, which is quicker than
+     * the setup of the other methods.
+     */
+    private static final int DIRECT_LIMIT = 24;
+
+    /**
+     * expected successes below which binomials are drawn by inversion.
+     */
+    private static final double INVERSION_LIMIT = 10;
+
+    /**
+     * error of Stirling's approximation of log(k!) for k up to 9.
+     */
+    private static final double[] STIRLING_TAIL = { 0.0810614667953272, 0.0413406959554092, 0.0276779256849983,
+            0.02079067210376509, 0.0166446911898211, 0.0138761288230707, 0.0118967099458917, 0.0104112652619720,
+            0.00925546218271273, 0.00833056343336287 };
+
+    /**
+     * Not instantiated.
+     */
+    private BattleEngine() {
+    }
+
+    /**
+     * Defending armies killed in a battle.
+     *
+     * @param p_attackers attacking armies
+     * @param p_random    battle stream of the game
+     * @return defending armies killed, up to the attacking armies
+     */
+    public static int defendersKilled(int p_attackers, SplittableRandom p_random) {
+        return binomial(p_attackers, AppConstants.ATTACKER_KILL_CHANCE, p_random);
+    }
+
+    /**
+     * Attacking armies killed in a battle.
+     *
+     * @param p_defenders defending armies
+     * @param p_random    battle stream of the game
+     * @return attacking armies killed, up to the defending armies
+     */
+    public static int attackersKilled(int p_defenders, SplittableRandom p_random) {
+        return binomial(p_defenders, AppConstants.DEFENDER_KILL_CHANCE, p_random);
+    }
+
+    /**
+     * Number of successes in independent trials of the same chance.
+     *
+     * @param p_trials number of trials
+     * @param p_chance chance of each trial to succeed
+     * @param p_random stream to draw from
+     * @return successes, from 0 to the number of trials
+     */
+    public static int binomial(int p_trials, double p_chance, SplittableRandom p_random) {
+        if (p_trials <= 0 || p_chance <= 0) {
+            return 0;
+        }
+        if (p_chance >= 1) {
+            return p_trials;
+        }
+        if (p_trials < DIRECT_LIMIT) {
+            int l_successes = 0;
+            for (int l_trial = 0; l_trial < p_trials; l_trial++) {
+                if (p_random.nextDouble() < p_chance) {
+                    l_successes++;
+                }
+            }
+            return l_successes;
+        }
+        if (p_chance > 0.5) {
+            return p_trials - binomial(p_trials, 1 - p_chance, p_random);
+        }
+        if (p_trials * p_chance < INVERSION_LIMIT) {
+            return inversion(p_trials, p_chance, p_random);
+        }
+        return transformedRejection(p_trials, p_chance, p_random);
+    }
+
+    /**
+     * Draws a binomial by walking its distribution from 0, which takes about as
+     * many steps as successes are expected.
+     *
+     * @param p_trials number of trials
+     * @param p_chance chance of each trial, at most one half
+     * @param p_random stream to draw from
+     * @return successes
+     */
+    private static int inversion(int p_trials, double p_chance, SplittableRandom p_random) {
+        double l_failure = 1 - p_chance;
+        double l_noSuccess = Math.exp(p_trials * Math.log1p(-p_chance));
+        double l_odds = p_chance / l_failure;
+        double l_bound = Math.min(p_trials,
+                p_trials * p_chance + 10 * Math.sqrt(p_trials * p_chance * l_failure + 1));
+
+        int l_successes = 0;
+        double l_probability = l_noSuccess;
+        double l_uniform = p_random.nextDouble();
+        while (l_uniform > l_probability) {
+            l_successes++;
+            if (l_successes > l_bound) {
+                // rounding left the uniform beyond the tail, start over
+                l_successes = 0;
+                l_probability = l_noSuccess;
+                l_uniform = p_random.nextDouble();
+            } else {
+                l_uniform -= l_probability;
+                l_probability *= (p_trials - l_successes + 1) * l_odds / l_successes;
+            }
+        }
+        return l_successes;
+    }
+
+    /**
+     * Draws a binomial by transformed rejection with squeeze (BTRS), which
+     * accepts after a small constant number of tries on average.
+     *
+     * @param p_trials number of trials
+     * @param p_chance chance of each trial, at most one half, with at least
+     *                 {@link #INVERSION_LIMIT} successes expected
+     * @param p_random stream to draw from
+     * @return successes
+     */
+    private static int transformedRejection(int p_trials, double p_chance, SplittableRandom p_random) {
+        double l_deviation = Math.sqrt(p_trials * p_chance * (1 - p_chance));
+        double l_b = 1.15 + 2.53 * l_deviation;
+        double l_a = -0.0873 + 0.0248 * l_b + 0.01 * p_chance;
+        double l_c = p_trials * p_chance + 0.5;
+        double l_squeeze = 0.92 - 4.2 / l_b;
+        double l_odds = p_chance / (1 - p_chance);
+        double l_alpha = (2.83 + 5.1 / l_b) * l_deviation;
+        double l_mode = Math.floor((p_trials + 1) * p_chance);
+
+        while (true) {
+            double l_u = p_random.nextDouble() - 0.5;
+            double l_v = p_random.nextDouble();
+            double l_us = 0.5 - Math.abs(l_u);
+            double l_k = Math.floor((2 * l_a / l_us + l_b) * l_u + l_c);
+            if (l_us >= 0.07 && l_v <= l_squeeze) {
+                return (int) l_k;
+            }
+            if (l_k < 0 || l_k > p_trials) {
+                continue;
+            }
+            l_v = Math.log(l_v * l_alpha / (l_a / (l_us * l_us) + l_b));
+            double l_bound = (l_mode + 0.5) * Math.log((l_mode + 1) / (l_odds * (p_trials - l_mode + 1)))
+                    + (p_trials + 1) * Math.log((p_trials - l_mode + 1) / (p_trials - l_k + 1))
+                    + (l_k + 0.5) * Math.log(l_odds * (p_trials - l_k + 1) / (l_k + 1))
+                    + stirlingTail(l_mode) + stirlingTail(p_trials - l_mode) - stirlingTail(l_k)
+                    - stirlingTail(p_trials - l_k);
+            if (l_v <= l_bound) {
+                return (int) l_k;
+            }
+        }
+    }
+
+    /**
+     * Error of Stirling's approximation of log(k!).
+     *
+     * @param p_k whole number, at least 0
+     * @return log(k!) less its Stirling approximation
+     */
+    private static double stirlingTail(double p_k) {
+        if (p_k < STIRLING_TAIL.length) {
+            return STIRLING_TAIL[(int) p_k];
+        }
+        double l_square = (p_k + 1) * (p_k + 1);
+        return (1.0 / 12 - (1.0 / 360 - 1.0 / 1260 / l_square) / l_square) / (p_k + 1);
+    }
+}
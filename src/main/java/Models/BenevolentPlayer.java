@@ -5,7 +5,9 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map.Entry;
-import java.util.Random;
+import java.util.SplittableRandom;
+
+import Views.Console;
 
 /**
  * This denotes the category of a Benevolent Player who
@@ -22,6 +24,11 @@ import java.util.Random;
  */
 public class BenevolentPlayer extends PlayerBehaviorStrategy {
 
+	/**
+	 * serial version from before the strategy returned order intents.
+	 */
+	private static final long serialVersionUID = -1234336418664483831L;
+
 	/**
 	 * Sequence of countries based on deployment order.
 	 */
@@ -36,8 +43,9 @@ public class BenevolentPlayer extends PlayerBehaviorStrategy {
 	 * @return Order object of order class
 	 */
 	@Override
-	public String generateOrder(Player p_player, GameState p_gameState) {
-		String l_command;
+	public OrderIntent generateOrder(Player p_player, GameState p_gameState) {
+		OrderIntent l_command;
+		SplittableRandom l_random = p_gameState.getD_random().strategy(p_player);
 		if (!checkIfArmiesDepoyed(p_player)) {
 			if (p_player.getD_unallocatedArmyCount() > 0) {
 				l_command = generateDeployOrder(p_player, p_gameState);
@@ -46,25 +54,24 @@ public class BenevolentPlayer extends PlayerBehaviorStrategy {
 			}
 		} else {
 			if (p_player.getD_playerOwnedCards().size() > 0) {
-				System.out.println("Enters Card Logic");
-				int l_index = (int) (Math.random() * 3) + 1;
+				Console.println("Enters Card Logic");
+				int l_index = l_random.nextInt(3) + 1;
 				switch (l_index) {
 					case 1:
-						System.out.println("Deploy!");
+						Console.println("Deploy!");
 						l_command = generateDeployOrder(p_player, p_gameState);
 						break;
 					case 2:
-						System.out.println("Advance!");
+						Console.println("Advance!");
 						l_command = generateAdvanceOrder(p_player, p_gameState);
 						break;
 					case 3:
 						if (p_player.getD_playerOwnedCards().size() == 1) {
-							System.out.println("Cards!");
+							Console.println("Cards!");
 							l_command = generateCardOrder(p_player, p_gameState,
 									p_player.getD_playerOwnedCards().get(0));
 							break;
 						} else {
-							Random l_random = new Random();
 							int l_randomIndex = l_random.nextInt(p_player.getD_playerOwnedCards().size());
 							l_command = generateCardOrder(p_player, p_gameState,
 									p_player.getD_playerOwnedCards().get(l_randomIndex));
@@ -75,13 +82,12 @@ public class BenevolentPlayer extends PlayerBehaviorStrategy {
 						break;
 				}
 			} else {
-				Random l_random = new Random();
 				Boolean l_randomBoolean = l_random.nextBoolean();
 				if (l_randomBoolean) {
-					System.out.println("Without Card Deploy Logic");
+					Console.println("Without Card Deploy Logic");
 					l_command = generateDeployOrder(p_player, p_gameState);
 				} else {
-					System.out.println("Without Card Advance Logic");
+					Console.println("Without Card Advance Logic");
 					l_command = generateAdvanceOrder(p_player, p_gameState);
 				}
 			}
@@ -93,16 +99,16 @@ public class BenevolentPlayer extends PlayerBehaviorStrategy {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public String generateDeployOrder(Player p_player, GameState p_gameState) {
+	public OrderIntent generateDeployOrder(Player p_player, GameState p_gameState) {
 		if (p_player.getD_unallocatedArmyCount() > 0) {
 			Country l_weakestCountry = getWeakestCountry(p_player);
 			d_deployCountries.add(l_weakestCountry);
 
-			Random l_random = new Random();
+			SplittableRandom l_random = p_gameState.getD_random().strategy(p_player);
 			int l_armiesToDeploy = l_random.nextInt(p_player.getD_unallocatedArmyCount()) + 1;
 
-			System.out.println("deploy " + l_weakestCountry.getD_countryName() + " " + l_armiesToDeploy);
-			return String.format("deploy %s %d", l_weakestCountry.getD_countryName(), l_armiesToDeploy);
+			Console.println("deploy " + l_weakestCountry.getD_countryName() + " " + l_armiesToDeploy);
+			return OrderIntent.deploy(indexOf(p_gameState, l_weakestCountry), l_armiesToDeploy);
 		} else {
 			return generateAdvanceOrder(p_player, p_gameState);
 		}
@@ -112,38 +118,38 @@ public class BenevolentPlayer extends PlayerBehaviorStrategy {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public String generateAdvanceOrder(Player p_player, GameState p_gameState) {
+	public OrderIntent generateAdvanceOrder(Player p_player, GameState p_gameState) {
 		// advance on weakest country
 		int l_armiesToSend;
-		Random l_random = new Random();
+		SplittableRandom l_random = p_gameState.getD_random().strategy(p_player);
 
-		Country l_randomSourceCountry = getRandomCountry(d_deployCountries);
-		System.out.println("Source country" + l_randomSourceCountry.getD_countryName());
+		Country l_randomSourceCountry = getRandomCountry(d_deployCountries, l_random);
+		Console.println("Source country" + l_randomSourceCountry.getD_countryName());
 		Country l_weakestTargetCountry = getWeakestNeighbor(l_randomSourceCountry, p_gameState);
-		System.out.println("Target Country" + l_weakestTargetCountry.getD_countryName());
+		Console.println("Target Country" + l_weakestTargetCountry.getD_countryName());
 		if (l_randomSourceCountry.getD_armyCount() > 1) {
 			l_armiesToSend = l_random.nextInt(l_randomSourceCountry.getD_armyCount() - 1) + 1;
 		} else {
 			l_armiesToSend = 1;
 		}
 
-		System.out.println("advance " + l_randomSourceCountry.getD_countryName() + " "
+		Console.println("advance " + l_randomSourceCountry.getD_countryName() + " "
 				+ l_weakestTargetCountry.getD_countryName() + " " + l_armiesToSend);
-		return "advance " + l_randomSourceCountry.getD_countryName() + " " + l_weakestTargetCountry.getD_countryName()
-				+ " " + l_armiesToSend;
+		return OrderIntent.advance(indexOf(p_gameState, l_randomSourceCountry),
+				indexOf(p_gameState, l_weakestTargetCountry), l_armiesToSend);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public String generateCardOrder(Player p_player, GameState p_gameState, String p_cardName) {
+	public OrderIntent generateCardOrder(Player p_player, GameState p_gameState, String p_cardName) {
 		int l_armiesToSend;
-		Random l_random = new Random();
-		Country l_randomOwnCountry = getRandomCountry(p_player.getD_playerCountries());
+		SplittableRandom l_random = p_gameState.getD_random().strategy(p_player);
+		Country l_randomOwnCountry = getRandomCountry(p_player.getD_playerCountries(), l_random);
+		ArrayList<Integer> l_enemyNeighbors = randomEnemyNeighbor(p_player, l_randomOwnCountry, p_gameState);
 		Country l_randomEnemyNeighbor = p_gameState.getD_map()
-				.getCountry(randomEnemyNeighbor(p_player, l_randomOwnCountry)
-						.get(l_random.nextInt(randomEnemyNeighbor(p_player, l_randomOwnCountry).size())));
+				.getCountry(l_enemyNeighbors.get(l_random.nextInt(l_enemyNeighbors.size())));
 
 		if (l_randomOwnCountry.getD_armyCount() > 1) {
 			l_armiesToSend = l_random.nextInt(l_randomOwnCountry.getD_armyCount() - 1) + 1;
@@ -153,15 +159,16 @@ public class BenevolentPlayer extends PlayerBehaviorStrategy {
 
 		switch (p_cardName) {
 			case "bomb":
-				System.err.println("I am benevolent player, I don't hurt anyone.");
-				return "bomb" + " " + "false";
+				Console.printError("I am benevolent player, I don't hurt anyone.");
+				return null;
 			case "blockade":
-				return "blockade " + l_randomOwnCountry.getD_countryName();
+				return OrderIntent.blockade(indexOf(p_gameState, l_randomOwnCountry));
 			case "airlift":
-				return "airlift " + l_randomOwnCountry.getD_countryName() + " "
-						+ getRandomCountry(p_player.getD_playerCountries()).getD_countryName() + " " + l_armiesToSend;
+				return OrderIntent.airlift(indexOf(p_gameState, l_randomOwnCountry),
+						indexOf(p_gameState, getRandomCountry(p_player.getD_playerCountries(), l_random)),
+						l_armiesToSend);
 			case "negotiate":
-				return "negotiate " + p_player.getD_playerName();
+				return OrderIntent.negotiate(p_player);
 		}
 		return null;
 	}
@@ -180,11 +187,11 @@ public class BenevolentPlayer extends PlayerBehaviorStrategy {
 	 * This function yields the player's behavior.
 	 * 
 	 * @param p_listOfCountries list of countries
+	 * @param p_random          strategy stream of the player
 	 * @return return country
 	 */
-	private Country getRandomCountry(List<Country> p_listOfCountries) {
-		Random l_random = new Random();
-		return p_listOfCountries.get(l_random.nextInt(p_listOfCountries.size()));
+	private Country getRandomCountry(List<Country> p_listOfCountries, SplittableRandom p_random) {
+		return p_listOfCountries.get(p_random.nextInt(p_listOfCountries.size()));
 	}
 
 	/**
@@ -209,15 +216,22 @@ public class BenevolentPlayer extends PlayerBehaviorStrategy {
 	 * @return weakest neighbor
 	 */
 	public Country getWeakestNeighbor(Country l_randomSourceCountry, GameState p_gameState) {
-		List<Integer> l_adjacentCountryIds = l_randomSourceCountry.getD_adjacentCountryIds();
-		List<Country> l_listOfNeighbors = new ArrayList<Country>();
-		for (int l_index = 0; l_index < l_adjacentCountryIds.size(); l_index++) {
-			Country l_country = p_gameState.getD_map()
-					.getCountry(l_randomSourceCountry.getD_adjacentCountryIds().get(l_index));
-			l_listOfNeighbors.add(l_country);
+		AdjacencyGraph l_graph = p_gameState.getD_map().getAdjacencyGraph();
+		int l_sourceIndex = l_graph.indexOf(l_randomSourceCountry);
+		if (l_sourceIndex < 0 || l_graph.degree(l_sourceIndex) == 0) {
+			return null;
+		}
+		Country l_Country = null;
+		int l_smallestNoOfArmies = Integer.MAX_VALUE;
+		for (int l_position = l_graph.rowStart(l_sourceIndex); l_position < l_graph
+				.rowEnd(l_sourceIndex); l_position++) {
+			Country l_neighbour = l_graph.country(l_graph.neighbourAt(l_position));
+			int l_armies = l_neighbour.getD_armyCount();
+			if (l_armies < l_smallestNoOfArmies) {
+				l_smallestNoOfArmies = l_armies;
+				l_Country = l_neighbour;
+			}
 		}
-		Country l_Country = calculateWeakestCountry(l_listOfNeighbors);
-
 		return l_Country;
 	}
 
@@ -253,14 +267,21 @@ public class BenevolentPlayer extends PlayerBehaviorStrategy {
 	 * 
 	 * @param p_player  Player
 	 * @param p_country Country
+	 * @param p_gameState GameState
 	 * @return List of Ids.
 	 */
-	private ArrayList<Integer> randomEnemyNeighbor(Player p_player, Country p_country) {
+	private ArrayList<Integer> randomEnemyNeighbor(Player p_player, Country p_country, GameState p_gameState) {
 		ArrayList<Integer> l_enemyNeighbors = new ArrayList<Integer>();
+		AdjacencyGraph l_graph = p_gameState.getD_map().getAdjacencyGraph();
+		int l_index = l_graph.indexOf(p_country);
+		if (l_index < 0) {
+			return l_enemyNeighbors;
+		}
 
-		for (Integer l_countryID : p_country.getD_adjacentCountryIds()) {
-			if (!p_player.getCountryIDs().contains(l_countryID))
-				l_enemyNeighbors.add(l_countryID);
+		for (int l_position = l_graph.rowStart(l_index); l_position < l_graph.rowEnd(l_index); l_position++) {
+			Country l_neighbour = l_graph.country(l_graph.neighbourAt(l_position));
+			if (!p_player.getD_playerCountries().contains(l_neighbour))
+				l_enemyNeighbors.add(l_neighbour.getD_countryId());
 		}
 		return l_enemyNeighbors;
 	}
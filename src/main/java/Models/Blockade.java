@@ -4,6 +4,7 @@ import java.io.Serializable;
 
 import Constants.AppConstants;
 import CommonFunctions.CommonCode;
+import Views.Console;
 
 /**
  * Execution of the Blockade order involves converting one of your territories
@@ -58,16 +59,14 @@ public class Blockade implements Card, Serializable {
 					: l_targetCountryID.getD_armyCount();
 			l_targetCountryID.setD_armyCount(l_noOfArmiesOnTargetCountry * 3);
 
-			// change the territory to a neutral territory
-			d_initiatorPlayer.getD_playerCountries().remove(l_targetCountryID);
-
 			Player l_player = p_gameState.getD_playerList().stream()
 					.filter(l_pl -> l_pl.getD_playerName().equalsIgnoreCase("Neutral")).findFirst().orElse(null);
 
-			// assign neutral territory to existing neutral player.
+			// change the territory to a neutral territory, held by the neutral player if
+			// there is one
+			p_gameState.transferCountry(l_targetCountryID, d_initiatorPlayer, l_player);
 			if (!CommonCode.isNull(l_player)) {
-				l_player.getD_playerCountries().add(l_targetCountryID);
-				System.out.println("Neutral territory: " + l_targetCountryID.getD_countryName()
+				Console.println("Neutral territory: " + l_targetCountryID.getD_countryName()
 						+ "assigned to the Neutral Player.");
 			}
 
@@ -114,7 +113,7 @@ public class Blockade implements Card, Serializable {
 		this.d_orderExecutionLog = "----------Blockade card order issued by player "
 				+ this.d_initiatorPlayer.getD_playerName() + "----------" + System.lineSeparator()
 				+ "Creating a defensive blockade with armies = " + "on country ID: " + this.d_targetCountryID;
-		System.out.println(System.lineSeparator() + this.d_orderExecutionLog);
+		Console.println(System.lineSeparator() + this.d_orderExecutionLog);
 	}
 
 	/**
@@ -129,15 +128,15 @@ public class Blockade implements Card, Serializable {
 		switch (p_logType) {
 			case AppConstants.ERROR_LOG_MSG:
 				// Log an error message
-				System.err.println(p_orderExecutionLog);
+				Console.printError(p_orderExecutionLog);
 				break;
 			case AppConstants.LOG_MSG:
 				// Log a standard message
-				System.out.println(p_orderExecutionLog);
+				Console.println(p_orderExecutionLog);
 				break;
 			default:
 				// Log a message for an unknown log type
-				System.out.println("Unknown log type: " + p_logType);
+				Console.println("Unknown log type: " + p_logType);
 				break;
 		}
 	}
@@ -4,6 +4,7 @@ import java.io.Serializable;
 
 import CommonFunctions.CommonCode;
 import Constants.AppConstants;
+import Views.Console;
 
 /**
  * Using the bomb card results in a 50% reduction in the army units of the
@@ -88,15 +89,7 @@ public class Bomb implements Card, Serializable {
 	 * @return target country player
 	 */
 	private Player fetchTargetCountryPlayer(GameState p_gameState, String p_targetCountry) {
-		Player l_playerOfTargetCountry = null;
-		for (Player l_player : p_gameState.getD_playerList()) {
-			String l_cont = l_player.getCountryList().stream()
-					.filter(l_country -> l_country.equalsIgnoreCase(p_targetCountry)).findFirst().orElse(null);
-			if (!CommonCode.isEmpty(l_cont)) {
-				l_playerOfTargetCountry = l_player;
-			}
-		}
-		return l_playerOfTargetCountry;
+		return p_gameState.getCountryOwner(p_targetCountry);
 	}
 
 	/**
@@ -141,7 +134,7 @@ public class Bomb implements Card, Serializable {
 		this.d_orderHistory = "----------Bomb card order initiated by player "
 				+ this.d_playerCommencer.getD_playerName() + "----------" + System.lineSeparator()
 				+ "Creating a bomb order = " + "on country ID. " + this.d_targetCountryID;
-		System.out.println(System.lineSeparator() + this.d_orderHistory);
+		Console.println(System.lineSeparator() + this.d_orderHistory);
 
 	}
 
@@ -166,15 +159,15 @@ public class Bomb implements Card, Serializable {
 		switch (p_logType) {
 			case AppConstants.ERROR_LOG_MSG:
 				// Log an error message
-				System.err.println(p_orderExecutionLog);
+				Console.printError(p_orderExecutionLog);
 				break;
 			case AppConstants.LOG_MSG:
 				// Log a standard message
-				System.out.println(p_orderExecutionLog);
+				Console.println(p_orderExecutionLog);
 				break;
 			default:
 				// Log a message for an unknown log type
-				System.out.println("Unknown log type: " + p_logType);
+				Console.println("Unknown log type: " + p_logType);
 				break;
 		}
 	}
@@ -13,12 +13,11 @@
  */
 package Models;
 
-import Services.PlayerService;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import Constants.AppConstants;
 
@@ -31,6 +30,11 @@ import Constants.AppConstants;
  */
 public class CheaterPlayer extends PlayerBehaviorStrategy {
 
+	/**
+	 * serial version from before the strategy returned order intents.
+	 */
+	private static final long serialVersionUID = 3848220704889653672L;
+
 	/**
 	 * Generates cheat-related orders for the player.
 	 *
@@ -40,12 +44,12 @@ public class CheaterPlayer extends PlayerBehaviorStrategy {
 	 * @throws IOException If an I/O error occurs.
 	 */
 	@Override
-	public String generateOrder(Player p_player, GameState p_gameState) throws IOException {
+	public OrderIntent generateOrder(Player p_player, GameState p_gameState) throws IOException {
 
 		if (p_player.getD_unallocatedArmyCount() != 0) {
+			SplittableRandom l_rnd = p_gameState.getD_random().strategy(p_player);
 			while (p_player.getD_unallocatedArmyCount() > 0) {
-				Random l_rnd = new Random();
-				Country l_rndCountry = getRandomCountry(p_player.getD_playerCountries());
+				Country l_rndCountry = getRandomCountry(p_player.getD_playerCountries(), l_rnd);
 				int l_armiesToDeploy = l_rnd.nextInt(p_player.getD_unallocatedArmyCount()) + 1;
 
 				l_rndCountry.setD_armyCount(l_armiesToDeploy);
@@ -61,7 +65,7 @@ public class CheaterPlayer extends PlayerBehaviorStrategy {
 		overcomeNearbyEnemies(p_player, p_gameState);
 		boostEnemyNeighborsCounties(p_player, p_gameState);
 
-		p_player.checkAdditionalOrders(true); // In "player.java" the checkAdditionalOrders method need change
+		p_player.checkAdditionalOrders(true, p_gameState); // In "player.java" the checkAdditionalOrders method need change
 		return null;
 	}
 
@@ -70,11 +74,11 @@ public class CheaterPlayer extends PlayerBehaviorStrategy {
 	 *
 	 * @param p_listOfCountries The list of countries from which to select a random
 	 *                          country.
+	 * @param p_random          The strategy stream of the player.
 	 * @return A randomly selected country from the provided list.
 	 */
-	private Country getRandomCountry(List<Country> p_listOfCountries) {
-		Random l_random = new Random();
-		return p_listOfCountries.get(l_random.nextInt(p_listOfCountries.size()));
+	private Country getRandomCountry(List<Country> p_listOfCountries, SplittableRandom p_random) {
+		return p_listOfCountries.get(p_random.nextInt(p_listOfCountries.size()));
 	}
 
 	/**
@@ -87,7 +91,7 @@ public class CheaterPlayer extends PlayerBehaviorStrategy {
 		List<Country> l_ownedCountries = p_player.getD_playerCountries();
 
 		for (Country l_playerOwnedCountry : l_ownedCountries) {
-			ArrayList<Integer> l_enemyCountries = getEnemies(p_player, l_playerOwnedCountry);
+			ArrayList<Integer> l_enemyCountries = getEnemies(p_player, l_playerOwnedCountry, p_gameState);
 
 			if (l_enemyCountries.size() == 0)
 				continue;
@@ -112,10 +116,11 @@ public class CheaterPlayer extends PlayerBehaviorStrategy {
 	 * @param p_gameState The current state of the game.
 	 */
 	private void overcomeNearbyEnemies(Player p_player, GameState p_gameState) {
-		List<Country> l_ownedCountries = p_player.getD_playerCountries();
+		// copied, as the conquests below add to the player's countries
+		List<Country> l_ownedCountries = new ArrayList<>(p_player.getD_playerCountries());
 
 		for (Country l_playerOwnedCountry : l_ownedCountries) {
-			ArrayList<Integer> l_countryEnemies = getEnemies(p_player, l_playerOwnedCountry);
+			ArrayList<Integer> l_countryEnemies = getEnemies(p_player, l_playerOwnedCountry, p_gameState);
 
 			for (Integer l_enemyId : l_countryEnemies) {
 				Map l_loadedMap = p_gameState.getD_map();
@@ -140,22 +145,12 @@ public class CheaterPlayer extends PlayerBehaviorStrategy {
 	 * @return The owner player of the specified country.
 	 */
 	private Player getCountryOwner(GameState p_gameState, Integer p_countryId) {
-		List<Player> l_players = p_gameState.getD_playerList();
-		Player l_owner = null;
-
-		for (Player l_player : l_players) {
-			List<Integer> l_playerOwnedCountry = l_player.getCountryIDs();
-			if (l_playerOwnedCountry.contains(p_countryId)) {
-				l_owner = l_player;
-				break;
-			}
-		}
-
-		return l_owner;
+		return p_gameState.getCountryOwner(p_gameState.getD_map().getCountryByID(p_countryId));
 	}
 
 	/**
-	 * Conquers the target country from the opponent and updates player continents.
+	 * Conquers the target country from the opponent, which updates the continents
+	 * of both players.
 	 *
 	 * @param p_gameState            The current state of the game.
 	 * @param p_opponentTargetPlayer The opponent player owning the target country.
@@ -165,46 +160,31 @@ public class CheaterPlayer extends PlayerBehaviorStrategy {
 	 */
 	private void conquerTargetCountry(GameState p_gameState, Player p_opponentTargetPlayer, Player p_cheaterPlayer,
 			Country p_targetCountry) {
-		if (p_opponentTargetPlayer != null) {
-			p_opponentTargetPlayer.getD_playerCountries().remove(p_targetCountry);
-			p_opponentTargetPlayer.getD_playerCountries().add(p_targetCountry);
-			// Add Log Here
-			this.updateContinents(p_cheaterPlayer, p_opponentTargetPlayer, p_gameState);
+		if (p_opponentTargetPlayer != null && p_opponentTargetPlayer != p_cheaterPlayer) {
+			p_gameState.transferCountry(p_targetCountry, p_opponentTargetPlayer, p_cheaterPlayer);
 		}
 	}
 
-	/**
-	 * Updates the continents for both cheater player and opponent player.
-	 *
-	 * @param p_cheaterPlayer        The cheater player.
-	 * @param p_opponentTargetPlayer The opponent player.
-	 * @param p_gameState            The current state of the game.
-	 */
-	private void updateContinents(Player p_cheaterPlayer, Player p_opponentTargetPlayer,
-			GameState p_gameState) {
-		List<Player> l_playesList = new ArrayList<>();
-		p_cheaterPlayer.setD_playerContinents(new ArrayList<>());
-		p_opponentTargetPlayer.setD_playerContinents(new ArrayList<>());
-		l_playesList.add(p_cheaterPlayer);
-		l_playesList.add(p_opponentTargetPlayer);
-
-		PlayerService l_playerService = new PlayerService();
-		l_playerService.allocRandomContinents(l_playesList, p_gameState.getD_map().getD_continents());
-	}
-
 	/**
 	 * Gets a list of enemy neighbors for a given country owned by the player.
 	 *
 	 * @param p_player  The player owning the country.
 	 * @param p_country The country for which to find enemy neighbors.
+	 * @param p_gameState The current state of the game.
 	 * @return A list of enemy neighbors' IDs.
 	 */
-	private ArrayList<Integer> getEnemies(Player p_player, Country p_country) {
+	private ArrayList<Integer> getEnemies(Player p_player, Country p_country, GameState p_gameState) {
 		ArrayList<Integer> l_enemyNeighbors = new ArrayList<Integer>();
+		AdjacencyGraph l_graph = p_gameState.getD_map().getAdjacencyGraph();
+		int l_index = l_graph.indexOf(p_country);
+		if (l_index < 0) {
+			return l_enemyNeighbors;
+		}
 
-		for (Integer l_countryID : p_country.getD_adjacentCountryIds()) {
-			if (!p_player.getCountryIDs().contains(l_countryID))
-				l_enemyNeighbors.add(l_countryID);
+		for (int l_position = l_graph.rowStart(l_index); l_position < l_graph.rowEnd(l_index); l_position++) {
+			Country l_neighbour = l_graph.country(l_graph.neighbourAt(l_position));
+			if (p_gameState.getCountryOwner(l_neighbour) != p_player)
+				l_enemyNeighbors.add(l_neighbour.getD_countryId());
 		}
 		return l_enemyNeighbors;
 	}
@@ -217,7 +197,7 @@ public class CheaterPlayer extends PlayerBehaviorStrategy {
 	 * @return Always returns null.
 	 */
 	@Override
-	public String generateDeployOrder(Player p_player, GameState p_gameState) {
+	public OrderIntent generateDeployOrder(Player p_player, GameState p_gameState) {
 		return null;
 	}
 
@@ -229,7 +209,7 @@ public class CheaterPlayer extends PlayerBehaviorStrategy {
 	 * @return Always returns null.
 	 */
 	@Override
-	public String generateAdvanceOrder(Player p_player, GameState p_gameState) {
+	public OrderIntent generateAdvanceOrder(Player p_player, GameState p_gameState) {
 		return null;
 	}
 
@@ -242,7 +222,7 @@ public class CheaterPlayer extends PlayerBehaviorStrategy {
 	 * @return Always returns null.
 	 */
 	@Override
-	public String generateCardOrder(Player p_player, GameState p_gameState, String p_cardName) {
+	public OrderIntent generateCardOrder(Player p_player, GameState p_gameState, String p_cardName) {
 		return null;
 	}
 
@@ -4,6 +4,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import CommonFunctions.CommonCode;
+import Views.Console;
 
 /**
  * This model class manages all the Continents in the map.
@@ -161,7 +162,7 @@ public class Continent implements Serializable {
 	 */
 	public void removeCountry(Country p_targetCountryId) {
 		if (d_countries == null) {
-			System.out.println("No such Country Exists");
+			Console.println("No such Country Exists");
 		} else {
 			d_countries.remove(p_targetCountryId);
 		}
@@ -4,6 +4,8 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
+import Views.Console;
+
 /**
  * This model class manages all the countries on the map.
  * 
@@ -179,8 +181,8 @@ public class Country implements Serializable {
 	 * @param p_countryNeighbourId Id of country to be added
 	 */
 	public void addNeighbour(Integer p_countryNeighbourId) {
-		if (!d_adjacentCountryIds.contains(p_countryNeighbourId))
-			d_adjacentCountryIds.add(p_countryNeighbourId);
+		if (!getD_adjacentCountryIds().contains(p_countryNeighbourId))
+			ownNeighbours().add(p_countryNeighbourId);
 	}
 
 	/**
@@ -189,10 +191,23 @@ public class Country implements Serializable {
 	 * @param p_countryNeighbourId Id of country to be removed
 	 */
 	public void removeNeighbour(Integer p_countryNeighbourId) {
-		if (d_adjacentCountryIds.contains(p_countryNeighbourId)) {
-			d_adjacentCountryIds.remove(d_adjacentCountryIds.indexOf(p_countryNeighbourId));
+		if (getD_adjacentCountryIds().contains(p_countryNeighbourId)) {
+			ownNeighbours().remove(d_adjacentCountryIds.indexOf(p_countryNeighbourId));
 		} else {
-			System.out.println("No Such Neighbour Exists");
+			Console.println("No Such Neighbour Exists");
+		}
+	}
+
+	/**
+	 * Copies the neighbour list before its first edit if it is the read-only
+	 * list shared with other games on the same map.
+	 *
+	 * @return neighbour list that may be edited
+	 */
+	private List<Integer> ownNeighbours() {
+		if (!(d_adjacentCountryIds instanceof ArrayList)) {
+			d_adjacentCountryIds = new ArrayList<Integer>(getD_adjacentCountryIds());
 		}
+		return d_adjacentCountryIds;
 	}
 }
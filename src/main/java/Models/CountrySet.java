@@ -0,0 +1,179 @@
+package Models;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.RandomAccess;
+
+/**
+ * Countries owned by a player, in the order the player got them. Membership
+ * tests, additions and removals take constant time: every country maps to its
+ * slot, and a removed country only leaves its slot empty until the slots are
+ * next read by position. Through the {@link java.util.List} interface the set
+ * is read-only; the player changes it with {@link #addCountry(Country)} and
+ * {@link #removeCountry(Country)}.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+final class CountrySet extends AbstractList<Country> implements RandomAccess, Serializable {
+
+    /**
+     * slots of the countries in order, null where a country was removed.
+     */
+    private Country[] d_slots;
+
+    /**
+     * slots in use, by countries or by the gaps they left.
+     */
+    private int d_end;
+
+    /**
+     * countries in the set.
+     */
+    private int d_size;
+
+    /**
+     * slot of each country.
+     */
+    private final IdentityHashMap<Country, Integer> d_slotOf;
+
+    /**
+     * Creates an empty set.
+     */
+    CountrySet() {
+        d_slots = new Country[8];
+        d_slotOf = new IdentityHashMap<Country, Integer>();
+    }
+
+    /**
+     * Creates a set of the countries of a collection, in its order and without
+     * repeats.
+     *
+     * @param p_countries countries
+     */
+    CountrySet(Collection<Country> p_countries) {
+        d_slots = new Country[Math.max(8, p_countries.size())];
+        d_slotOf = new IdentityHashMap<Country, Integer>(p_countries.size());
+        for (Country l_country : p_countries) {
+            addCountry(l_country);
+        }
+    }
+
+    /**
+     * Adds a country after the others.
+     *
+     * @param p_country country
+     * @return false if the set already held the country
+     */
+    boolean addCountry(Country p_country) {
+        if (p_country == null || d_slotOf.containsKey(p_country)) {
+            return false;
+        }
+        if (d_end == d_slots.length) {
+            if (d_size < d_end - d_end / 4) {
+                compact();
+            } else {
+                d_slots = Arrays.copyOf(d_slots, d_slots.length * 2);
+            }
+        }
+        d_slots[d_end] = p_country;
+        d_slotOf.put(p_country, d_end);
+        d_end++;
+        d_size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes a country.
+     *
+     * @param p_country country
+     * @return false if the set did not hold the country
+     */
+    boolean removeCountry(Country p_country) {
+        Integer l_slot = d_slotOf.remove(p_country);
+        if (l_slot == null) {
+            return false;
+        }
+        d_slots[l_slot] = null;
+        d_size--;
+        modCount++;
+        if (d_size == 0) {
+            d_end = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public Country get(int p_index) {
+        if (p_index < 0 || p_index >= d_size) {
+            throw new IndexOutOfBoundsException("Index: " + p_index + ", Size: " + d_size);
+        }
+        compact();
+        return d_slots[p_index];
+    }
+
+    @Override
+    public int size() {
+        return d_size;
+    }
+
+    @Override
+    public boolean contains(Object p_country) {
+        return d_slotOf.containsKey(p_country);
+    }
+
+    @Override
+    public int indexOf(Object p_country) {
+        if (!d_slotOf.containsKey(p_country)) {
+            return -1;
+        }
+        compact();
+        return d_slotOf.get(p_country);
+    }
+
+    @Override
+    public int lastIndexOf(Object p_country) {
+        return indexOf(p_country);
+    }
+
+    /**
+     * Closes the gaps left by removed countries. Gaps only appear with a
+     * change to the set, so this never moves a country under an iterator that
+     * is still valid.
+     */
+    private void compact() {
+        if (d_end == d_size) {
+            return;
+        }
+        int l_next = 0;
+        for (int l_slot = 0; l_slot < d_end; l_slot++) {
+            Country l_country = d_slots[l_slot];
+            if (l_country != null) {
+                d_slots[l_next] = l_country;
+                d_slotOf.put(l_country, l_next);
+                l_next++;
+            }
+        }
+        Arrays.fill(d_slots, l_next, d_end, null);
+        d_end = l_next;
+    }
+
+    /**
+     * Saves the set as a plain list, as players saved their countries before.
+     *
+     * @return countries in order
+     */
+    private Object writeReplace() {
+        return new ArrayList<Country>(this);
+    }
+}
@@ -1,6 +1,10 @@
 package Models;
 
 import Constants.AppConstants;
+import Models.LogModel.LogCategory;
+import Models.LogModel.LogEvent;
+import Models.LogModel.LogTemplate;
+import Views.Console;
 import java.io.Serializable;
 
 /**
@@ -15,6 +19,10 @@ import java.io.Serializable;
  * @version 3.0.0
  */
 public class Deploy implements Order, Serializable {
+
+	/** pinned so that games saved before the log events were added still load. */
+	private static final long serialVersionUID = -567524226509084450L;
+
 	/**
 	 * Denotes name of the target country.
 	 */
@@ -35,6 +43,11 @@ public class Deploy implements Order, Serializable {
 	 */
 	String d_orderExecutionLog;
 
+	/**
+	 * Event of the last execution of the order, turned into text only when read.
+	 */
+	LogEvent d_orderExecutionEvent;
+
 	/**
 	 * parameterized constructor.
 	 * 
@@ -61,20 +74,17 @@ public class Deploy implements Order, Serializable {
 					Integer l_armiesToUpdate = l_country.getD_armyCount() == null ? this.d_armiesToAllocate
 							: l_country.getD_armyCount() + this.d_armiesToAllocate;
 					l_country.setD_armyCount(l_armiesToUpdate);
-					this.setD_orderExecutionLog(l_armiesToUpdate
-							+ " armies have been deployed successfully on country : " + l_country.getD_countryName(),
-							AppConstants.LOG_MSG);
+					this.setD_orderExecutionEvent(LogTemplate.DEPLOYED, l_country.getD_countryName(), null,
+							l_armiesToUpdate, AppConstants.LOG_MSG);
 				}
 			}
 		} else {
-			this.setD_orderExecutionLog("Deploy Order = " + "deploy" + " " + this.d_targetCountry + " "
-					+ this.d_armiesToAllocate + " is not executed since Target country: "
-					+ this.d_targetCountry + " given in deploy command does not belongs to the player : "
-					+ d_playerInitiator.getD_playerName(), AppConstants.ERROR_LOG_MSG);
+			this.setD_orderExecutionEvent(LogTemplate.DEPLOY_NOT_OWNED, this.d_targetCountry,
+					d_playerInitiator.getD_playerName(), this.d_armiesToAllocate, AppConstants.ERROR_LOG_MSG);
 			d_playerInitiator.setD_unallocatedArmyCount(
 					d_playerInitiator.getD_unallocatedArmyCount() + this.d_armiesToAllocate);
 		}
-		p_gameState.updateLog(orderExecutionLog(), AppConstants.ORDER_EFFECT);
+		p_gameState.updateLog(LogCategory.ORDER_EFFECT, d_orderExecutionEvent);
 	}
 
 	/**
@@ -97,7 +107,7 @@ public class Deploy implements Order, Serializable {
 		this.d_orderExecutionLog = "\n---------- Deploy order issued by player "
 				+ this.d_playerInitiator.getD_playerName() + " ----------\n" + System.lineSeparator() + "Deploy "
 				+ this.d_armiesToAllocate + " armies to " + this.d_targetCountry;
-		System.out.println(this.d_orderExecutionLog);
+		Console.println(this.d_orderExecutionLog);
 	}
 
 	/**
@@ -105,6 +115,9 @@ public class Deploy implements Order, Serializable {
 	 */
 	@Override
 	public String orderExecutionLog() {
+		if (d_orderExecutionLog == null && d_orderExecutionEvent != null) {
+			d_orderExecutionLog = d_orderExecutionEvent.render();
+		}
 		return d_orderExecutionLog;
 	}
 
@@ -116,23 +129,51 @@ public class Deploy implements Order, Serializable {
 	 */
 	public void setD_orderExecutionLog(String p_orderExecutionLog, String p_logType) {
 		this.d_orderExecutionLog = p_orderExecutionLog;
+		this.d_orderExecutionEvent = null;
 		// Determine the type of log message
 		switch (p_logType) {
 			case AppConstants.ERROR_LOG_MSG:
 				// Log an error message
-				System.err.println(p_orderExecutionLog);
+				Console.printError(p_orderExecutionLog);
 				break;
 			case AppConstants.LOG_MSG:
 				// Log a standard message
-				System.out.println(p_orderExecutionLog);
+				Console.println(p_orderExecutionLog);
 				break;
 			default:
 				// Log a message for an unknown log type
-				System.out.println("Unknown log type: " + p_logType);
+				Console.println("Unknown log type: " + p_logType);
 				break;
 		}
 	}
 
+	/**
+	 * Records the outcome of the order as a log event and hands it to the
+	 * console, which builds its text only if it prints it; the log writer builds
+	 * its own. Nothing is recorded or printed while order effects are switched
+	 * off in the log.
+	 *
+	 * @param p_template template of the outcome
+	 * @param p_text0    first text of the template
+	 * @param p_text1    second text of the template
+	 * @param p_number0  number of the template
+	 * @param p_logType  type of log : error, default
+	 */
+	private void setD_orderExecutionEvent(LogTemplate p_template, String p_text0, String p_text1, int p_number0,
+			String p_logType) {
+		this.d_orderExecutionLog = null;
+		if (!LogCategory.ORDER_EFFECT.isEnabled()) {
+			this.d_orderExecutionEvent = null;
+			return;
+		}
+		this.d_orderExecutionEvent = new LogEvent(p_template, p_text0, p_text1, null, null, p_number0, 0);
+		if (p_logType.equals(AppConstants.ERROR_LOG_MSG)) {
+			Console.printError(this.d_orderExecutionEvent);
+		} else {
+			Console.println(this.d_orderExecutionEvent);
+		}
+	}
+
 	/**
 	 * Return order name.
 	 * 
@@ -2,6 +2,7 @@ package Models;
 
 import Constants.AppConstants;
 import Services.PlayerService;
+import Views.Console;
 import java.io.Serializable;
 
 /**
@@ -92,7 +93,7 @@ public class Diplomacy implements Card, Serializable {
                 + this.d_grantingPlayer.getD_playerName()
                 + "----------" + System.lineSeparator() + "Request to " + " negotiate attacks from "
                 + this.d_markPlayer;
-        System.out.println(System.lineSeparator() + this.d_orderLog);
+        Console.println(System.lineSeparator() + this.d_orderLog);
     }
 
     /**
@@ -141,15 +142,15 @@ public class Diplomacy implements Card, Serializable {
         switch (p_logType) {
             case AppConstants.ERROR_LOG_MSG:
                 // Log an error message
-                System.err.println(p_orderExecutionLog);
+                Console.printError(p_orderExecutionLog);
                 break;
             case AppConstants.LOG_MSG:
                 // Log a standard message
-                System.out.println(p_orderExecutionLog);
+                Console.println(p_orderExecutionLog);
                 break;
             default:
                 // Log a message for an unknown log type
-                System.out.println("Unknown log type: " + p_logType);
+                Console.println("Unknown log type: " + p_logType);
                 break;
         }
     }
@@ -118,6 +118,9 @@ public abstract class GamePlayPhase implements Serializable {
         l_mapLoadSuccess = d_gameState.getD_map() != null;
 
         d_gameState.updateLogFile(l_command.getD_command() + " 1", AppConstants.HANDLE_COMMAND);
+        if (l_command.getD_tokens().getError() != null) {
+            throw new InvalidCommand(l_command.getD_tokens().getError());
+        }
 
         switch (l_rootCommand) {
             case "loadmap": {
@@ -188,6 +191,7 @@ public abstract class GamePlayPhase implements Serializable {
                 break;
             }
             case "exit": {
+                d_gameEngineCtx.getD_autosaveService().close();
                 System.exit(0);
                 break;
             }
@@ -0,0 +1,160 @@
+package Models;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Source of all randomness in a game. The game has one seed, from which an
+ * independent stream is derived for the allocation of countries and
+ * strategies, for battles, for the cards handed out and for the orders of each
+ * player's strategy. A stream only advances when its own part of the game draws
+ * from it, so a game replays the same way from the same seed, and a player who
+ * draws more orders does not change the outcome of the battles. A game is used
+ * by one thread at a time, as is its random source.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public final class GameRandom {
+
+    /**
+     * odd constant spreading consecutive keys over the seed space, as in
+     * SplitMix64.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * key of the allocation stream.
+     */
+    private static final long ALLOCATION_STREAM = 1;
+
+    /**
+     * key of the battle stream.
+     */
+    private static final long BATTLE_STREAM = 2;
+
+    /**
+     * key of the card stream.
+     */
+    private static final long CARD_STREAM = 3;
+
+    /**
+     * key the strategy streams are derived from.
+     */
+    private static final long STRATEGY_STREAM = 4;
+
+    /**
+     * seed of the game.
+     */
+    private final long d_seed;
+
+    /**
+     * stream allocating countries and strategies.
+     */
+    private final SplittableRandom d_allocation;
+
+    /**
+     * stream deciding battles.
+     */
+    private final SplittableRandom d_battles;
+
+    /**
+     * stream picking the cards handed out.
+     */
+    private final SplittableRandom d_cards;
+
+    /**
+     * stream of each player's strategy, by player name.
+     */
+    private final HashMap<String, SplittableRandom> d_strategies = new HashMap<String, SplittableRandom>();
+
+    /**
+     * Creates the random source of a game.
+     *
+     * @param p_seed seed of the game
+     */
+    public GameRandom(long p_seed) {
+        d_seed = p_seed;
+        d_allocation = new SplittableRandom(mix(p_seed, ALLOCATION_STREAM));
+        d_battles = new SplittableRandom(mix(p_seed, BATTLE_STREAM));
+        d_cards = new SplittableRandom(mix(p_seed, CARD_STREAM));
+    }
+
+    /**
+     * Random source of a game no seed was given for.
+     *
+     * @return random source with a seed of its own
+     */
+    public static GameRandom unseeded() {
+        return new GameRandom(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Derives a seed from another seed and a key. Different keys give unrelated
+     * seeds, also when the keys are consecutive.
+     *
+     * @param p_seed seed derived from
+     * @param p_key  key of the derived seed
+     * @return derived seed
+     */
+    public static long mix(long p_seed, long p_key) {
+        long l_mixed = p_seed + p_key * GOLDEN_GAMMA;
+        l_mixed = (l_mixed ^ (l_mixed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        l_mixed = (l_mixed ^ (l_mixed >>> 27)) * 0x94D049BB133111EBL;
+        return l_mixed ^ (l_mixed >>> 31);
+    }
+
+    /**
+     * Seed of the game, to replay it with.
+     *
+     * @return seed
+     */
+    public long getD_seed() {
+        return d_seed;
+    }
+
+    /**
+     * Stream allocating countries and strategies.
+     *
+     * @return allocation stream
+     */
+    public SplittableRandom allocation() {
+        return d_allocation;
+    }
+
+    /**
+     * Stream deciding battles.
+     *
+     * @return battle stream
+     */
+    public SplittableRandom battles() {
+        return d_battles;
+    }
+
+    /**
+     * Stream picking the cards handed out.
+     *
+     * @return card stream
+     */
+    public SplittableRandom cards() {
+        return d_cards;
+    }
+
+    /**
+     * Stream of a player's strategy, keyed by the player name so that it does not
+     * depend on the order players join in.
+     *
+     * @param p_player player
+     * @return strategy stream of the player
+     */
+    public SplittableRandom strategy(Player p_player) {
+        return d_strategies.computeIfAbsent(p_player.getD_playerName(),
+                p_name -> new SplittableRandom(mix(mix(d_seed, STRATEGY_STREAM), p_name.hashCode())));
+    }
+}
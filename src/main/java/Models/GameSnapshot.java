@@ -0,0 +1,1015 @@
+package Models;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import CommonFunctions.CommonCode;
+import Controllers.GameEngineCtx;
+import Services.CompiledMap;
+import Services.MapCache;
+import Services.MapService;
+
+/**
+ * Binary save game format. A snapshot holds only the data of a game: the phase
+ * it is in, the turn counters, the map, the armies on each country and the
+ * players with their countries, continents, cards, negotiations and pending
+ * orders. The engine, the services and the log are not saved; loading a
+ * snapshot builds fresh ones, as a new game does.
+ * <p>
+ * A map that is unchanged since it was loaded from its file is saved as a
+ * reference: the file name and a fingerprint of its structure, checked when the
+ * game is loaded. An edited map is saved in full, in the layout of a compiled
+ * map. Snapshots start with a magic number and a format version, are written
+ * through a buffered channel and are read back without reflection.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public final class GameSnapshot {
+
+    /**
+     * first bytes of a snapshot, "WZSG".
+     */
+    public static final int MAGIC = 0x575A5347;
+
+    /**
+     * layout version of the snapshot. Version 2 added the save id and the
+     * lengths that let card hands and order queues be decoded lazily.
+     */
+    private static final int VERSION = 2;
+
+    /**
+     * snapshots at least this large are memory mapped instead of read into the
+     * heap.
+     */
+    private static final long MAPPED_READ_BYTES = 1024 * 1024;
+
+    /**
+     * bytes collected before they are written to the channel.
+     */
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    /**
+     * stands for a null Integer.
+     */
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    /**
+     * phases a game can be saved in.
+     */
+    private static final byte START_UP = 0, ISSUE_ORDER = 1, ORDER_EXECUTION = 2;
+
+    /**
+     * ways the map is saved.
+     */
+    private static final byte NO_MAP = 0, MAP_REFERENCE = 1, MAP_INLINE = 2;
+
+    /**
+     * kinds of pending orders.
+     */
+    private static final byte DEPLOY = 0, ADVANCE = 1, BOMB = 2, BLOCKADE = 3, AIRLIFT = 4, DIPLOMACY = 5;
+
+    /**
+     * Not instantiated.
+     */
+    private GameSnapshot() {
+    }
+
+    /**
+     * Writes a snapshot of the game a phase is playing.
+     *
+     * @param p_phase   phase the game is in
+     * @param p_channel channel to write to
+     * @throws IOException if the channel cannot be written, or the game is in a
+     *                     phase or has a map that cannot be saved
+     */
+    public static void write(GamePlayPhase p_phase, FileChannel p_channel) throws IOException {
+        try {
+            writePhase(p_phase, new Output(p_channel));
+        } catch (UncheckedIOException l_e) {
+            throw l_e.getCause();
+        }
+    }
+
+    /**
+     * Takes a snapshot of the game a phase is playing in memory, to be written
+     * out later while the game goes on.
+     *
+     * @param p_phase phase the game is in
+     * @return snapshot, ready to be read from
+     * @throws IOException if the game is in a phase or has a map that cannot be
+     *                     saved
+     */
+    public static ByteBuffer encode(GamePlayPhase p_phase) throws IOException {
+        Output l_out = new Output(null);
+        writePhase(p_phase, l_out);
+        l_out.d_buffer.flip();
+        return l_out.d_buffer;
+    }
+
+    /**
+     * Writes a snapshot through a buffered output.
+     *
+     * @param p_phase phase the game is in
+     * @param p_out   output
+     * @throws IOException if the game is in a phase that is not saved or its
+     *                     map cannot be saved
+     */
+    private static void writePhase(GamePlayPhase p_phase, Output p_out) throws IOException {
+        p_out.putInt(MAGIC);
+        p_out.putInt(VERSION);
+        p_out.putLong(ThreadLocalRandom.current().nextLong());
+        p_out.put(phaseKind(p_phase));
+
+        GameState l_gameState = p_phase.getD_gameState();
+        p_out.putString(l_gameState.d_error);
+        p_out.putInteger(l_gameState.d_loadmapCommand == null ? null : l_gameState.d_loadmapCommand ? 1 : 0);
+        p_out.putInt(l_gameState.d_maxnumberofturns);
+        p_out.putInt(l_gameState.d_numberOfTurnsLeft);
+
+        Map l_map = l_gameState.d_map;
+        writeMap(p_out, l_map);
+        IdentityHashMap<Country, Integer> l_countryIndexes = new IdentityHashMap<Country, Integer>();
+        IdentityHashMap<Continent, Integer> l_continentIndexes = new IdentityHashMap<Continent, Integer>();
+        if (l_map != null) {
+            for (Country l_country : l_map.getD_countries()) {
+                l_countryIndexes.put(l_country, l_countryIndexes.size());
+                p_out.putInteger(l_country.d_armyCount);
+            }
+            for (Continent l_continent : l_map.getD_continents()) {
+                l_continentIndexes.put(l_continent, l_continentIndexes.size());
+            }
+        }
+
+        List<Player> l_players = new ArrayList<Player>();
+        IdentityHashMap<Player, Integer> l_playerIndexes = new IdentityHashMap<Player, Integer>();
+        collectPlayers(l_gameState, l_players, l_playerIndexes);
+        p_out.putInt(l_players.size());
+        for (Player l_player : l_players) {
+            writePlayer(p_out, l_player, l_countryIndexes, l_continentIndexes);
+        }
+        for (Player l_player : l_players) {
+            writePlayerReferences(p_out, l_player, l_playerIndexes);
+        }
+        writePlayerList(p_out, l_gameState.d_playerList, l_playerIndexes);
+        writePlayerList(p_out, l_gameState.d_playersFailed, l_playerIndexes);
+        p_out.putInt(l_gameState.d_winner == null ? -1 : l_playerIndexes.get(l_gameState.d_winner));
+        p_out.flush();
+    }
+
+    /**
+     * Whether a file starts like a snapshot.
+     *
+     * @param p_channel channel of the file, positioned at its start
+     * @return true if the file is a snapshot
+     * @throws IOException if the file cannot be read
+     */
+    public static boolean isSnapshot(FileChannel p_channel) throws IOException {
+        ByteBuffer l_magic = ByteBuffer.allocate(4);
+        while (l_magic.hasRemaining() && p_channel.read(l_magic) >= 0) {
+            // keep reading until the magic number is complete or the file ends
+        }
+        p_channel.position(0);
+        return !l_magic.hasRemaining() && l_magic.getInt(0) == MAGIC;
+    }
+
+    /**
+     * Id a snapshot was given when it was written, which tells snapshots of the
+     * same game apart without reading them whole.
+     *
+     * @param p_channel channel of the file, positioned at its start
+     * @return save id, or null if the file is not a snapshot or predates save
+     *         ids
+     * @throws IOException if the file cannot be read
+     */
+    public static Long readSaveId(FileChannel p_channel) throws IOException {
+        ByteBuffer l_header = ByteBuffer.allocate(16);
+        while (l_header.hasRemaining() && p_channel.read(l_header) >= 0) {
+            // keep reading until the header is complete or the file ends
+        }
+        p_channel.position(0);
+        if (l_header.hasRemaining() || l_header.getInt(0) != MAGIC || l_header.getInt(4) < 2) {
+            return null;
+        }
+        return l_header.getLong(8);
+    }
+
+    /**
+     * Reads a snapshot back into a phase, which runs on an engine of its own like
+     * a newly started game. A large snapshot is memory mapped rather than read
+     * into the heap, and the armies on the countries are read from it in bulk.
+     * The card hands and order queues of the players are decoded only when the
+     * game first uses them.
+     *
+     * @param p_channel channel to read from
+     * @return phase the game was saved in
+     * @throws IOException if the channel cannot be read, the snapshot is corrupt
+     *                     or of an unknown version, or its map file has changed
+     *                     since the game was saved
+     */
+    public static GamePlayPhase read(FileChannel p_channel) throws IOException {
+        long l_size = p_channel.size();
+        ByteBuffer l_in;
+        if (l_size >= MAPPED_READ_BYTES) {
+            l_in = p_channel.map(FileChannel.MapMode.READ_ONLY, 0, l_size);
+        } else {
+            l_in = ByteBuffer.allocate((int) l_size);
+            while (l_in.hasRemaining() && p_channel.read(l_in) >= 0) {
+                // keep reading until the whole file is in memory
+            }
+            l_in.flip();
+        }
+        try {
+            if (l_in.getInt() != MAGIC) {
+                throw new IOException("Not a saved game");
+            }
+            int l_version = l_in.getInt();
+            if (l_version < 1 || l_version > VERSION) {
+                throw new IOException("Saved game has unknown format version " + l_version);
+            }
+            if (l_version >= 2) {
+                l_in.getLong();
+            }
+            byte l_phaseKind = l_in.get();
+
+            GameState l_gameState = new GameState();
+            l_gameState.d_error = getString(l_in);
+            Integer l_loadmapCommand = getInteger(l_in);
+            l_gameState.d_loadmapCommand = l_loadmapCommand == null ? null : l_loadmapCommand == 1;
+            l_gameState.d_maxnumberofturns = l_in.getInt();
+            l_gameState.d_numberOfTurnsLeft = l_in.getInt();
+
+            Map l_map = readMap(l_in);
+            l_gameState.d_map = l_map;
+            List<Country> l_countries = l_map == null ? new ArrayList<Country>() : l_map.getD_countries();
+            List<Continent> l_continents = l_map == null ? new ArrayList<Continent>() : l_map.getD_continents();
+            int[] l_armies = new int[l_countries.size()];
+            l_in.asIntBuffer().get(l_armies);
+            l_in.position(l_in.position() + 4 * l_armies.length);
+            for (int l_index = 0; l_index < l_armies.length; l_index++) {
+                l_countries.get(l_index).d_armyCount = l_armies[l_index] == NULL_INT ? null : l_armies[l_index];
+            }
+
+            Player[] l_players = new Player[l_in.getInt()];
+            for (int l_index = 0; l_index < l_players.length; l_index++) {
+                l_players[l_index] = readPlayer(l_in, l_countries, l_continents, l_version);
+            }
+            for (Player l_player : l_players) {
+                readPlayerReferences(l_in, l_player, l_players, l_version);
+            }
+            l_gameState.d_playerList = readPlayerList(l_in, l_players);
+            List<Player> l_playersFailed = readPlayerList(l_in, l_players);
+            l_gameState.d_playersFailed = l_playersFailed == null ? new ArrayList<Player>() : l_playersFailed;
+            int l_winner = l_in.getInt();
+            l_gameState.d_winner = l_winner < 0 ? null : l_players[l_winner];
+
+            GameEngineCtx l_gameEngine = new GameEngineCtx();
+            l_gameEngine.setD_gameState(l_gameState);
+            GamePlayPhase l_phase = newPhase(l_phaseKind, l_gameEngine, l_gameState);
+            l_gameEngine.setD_CurrentPhase(l_phase);
+            return l_phase;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException l_e) {
+            throw new IOException("Saved game is corrupt", l_e);
+        }
+    }
+
+    /**
+     * Kind of a phase in the snapshot.
+     *
+     * @param p_phase phase to save
+     * @return phase kind
+     * @throws IOException if the phase is of an unknown kind
+     */
+    private static byte phaseKind(GamePlayPhase p_phase) throws IOException {
+        if (p_phase instanceof StartUpPhase) {
+            return START_UP;
+        } else if (p_phase instanceof IssueOrderPhase) {
+            return ISSUE_ORDER;
+        } else if (p_phase instanceof OrderExecutionPhase) {
+            return ORDER_EXECUTION;
+        }
+        throw new IOException("Cannot save a game in phase " + p_phase.getClass().getSimpleName());
+    }
+
+    /**
+     * Builds the phase a snapshot was saved in.
+     *
+     * @param p_phaseKind  phase kind
+     * @param p_gameEngine engine of the loaded game
+     * @param p_gameState  loaded game
+     * @return phase
+     * @throws IOException if the phase kind is unknown
+     */
+    private static GamePlayPhase newPhase(byte p_phaseKind, GameEngineCtx p_gameEngine, GameState p_gameState)
+            throws IOException {
+        switch (p_phaseKind) {
+            case START_UP:
+                return new StartUpPhase(p_gameEngine, p_gameState);
+            case ISSUE_ORDER:
+                return new IssueOrderPhase(p_gameEngine, p_gameState);
+            case ORDER_EXECUTION:
+                return new OrderExecutionPhase(p_gameEngine, p_gameState);
+            default:
+                throw new IOException("Saved game has unknown phase " + p_phaseKind);
+        }
+    }
+
+    /**
+     * Writes the structure of the map, as a reference to its file if it has not
+     * been edited since it was loaded, else in full.
+     *
+     * @param p_out output
+     * @param p_map map of the game, may be null
+     * @throws IOException if the map cannot be represented in compiled form
+     */
+    private static void writeMap(Output p_out, Map p_map) throws IOException {
+        if (p_map == null) {
+            p_out.put(NO_MAP);
+            return;
+        }
+        MapTopology l_topology = p_map.getD_topology();
+        if (l_topology != null && p_map.getD_mapFile() != null && isLoadedFrom(l_topology, p_map.getD_mapFile())) {
+            p_out.put(MAP_REFERENCE);
+            p_out.putString(p_map.getD_mapFile());
+            p_out.putLong(l_topology.fingerprint());
+            return;
+        }
+        p_out.put(MAP_INLINE);
+        p_out.putString(p_map.getD_mapFile());
+        CompiledMap l_compiledMap = CompiledMap.compile(p_map, 0, 0);
+        if (l_compiledMap == null) {
+            throw new IOException("Cannot save a map with missing ids or names");
+        }
+        ByteBuffer l_encoded = l_compiledMap.encode();
+        p_out.putInt(l_encoded.remaining());
+        p_out.put(l_encoded);
+    }
+
+    /**
+     * Whether a topology is the one the map cache holds for a map file, so that
+     * loading the file again gives the same map.
+     *
+     * @param p_topology topology of the map
+     * @param p_mapFile  name of the map file
+     * @return true if the map file still compiles to the topology
+     */
+    private static boolean isLoadedFrom(MapTopology p_topology, String p_mapFile) {
+        String l_filePath = CommonCode.getMapFilePath(p_mapFile);
+        BasicFileAttributes l_attributes = MapCache.readAttributes(l_filePath);
+        if (l_attributes == null) {
+            return false;
+        }
+        Map l_cachedMap = MapCache.load(l_filePath, l_attributes);
+        return l_cachedMap != null && l_cachedMap.getD_topology() == p_topology;
+    }
+
+    /**
+     * Reads the structure of the map.
+     *
+     * @param p_in input
+     * @return map with no armies placed, or null if the game had none
+     * @throws IOException if a referenced map file has changed since the game was
+     *                     saved, or the map is corrupt
+     */
+    private static Map readMap(ByteBuffer p_in) throws IOException {
+        byte l_kind = p_in.get();
+        if (l_kind == NO_MAP) {
+            return null;
+        }
+        String l_mapFile = getString(p_in);
+        Map l_map;
+        if (l_kind == MAP_REFERENCE) {
+            long l_fingerprint = p_in.getLong();
+            l_map = new MapService().loadMap(new GameState(), l_mapFile);
+            MapTopology l_topology = l_map.getD_topology();
+            if (l_topology == null || l_topology.fingerprint() != l_fingerprint) {
+                throw new IOException("Map file " + l_mapFile + " has changed since the game was saved");
+            }
+        } else if (l_kind == MAP_INLINE) {
+            int l_length = p_in.getInt();
+            ByteBuffer l_encoded = p_in.slice();
+            l_encoded.limit(l_length);
+            p_in.position(p_in.position() + l_length);
+            CompiledMap l_compiledMap = CompiledMap.decode(l_encoded);
+            if (l_compiledMap == null) {
+                throw new IOException("Saved game has a corrupt map");
+            }
+            l_map = l_compiledMap.toMap();
+        } else {
+            throw new IOException("Saved game has unknown map kind " + l_kind);
+        }
+        l_map.setD_mapFile(l_mapFile);
+        return l_map;
+    }
+
+    /**
+     * Lists every player the game refers to, players of the game first, each
+     * once.
+     *
+     * @param p_gameState     game to save
+     * @param p_players       filled with the players
+     * @param p_playerIndexes filled with the index of each player
+     */
+    private static void collectPlayers(GameState p_gameState, List<Player> p_players,
+            IdentityHashMap<Player, Integer> p_playerIndexes) {
+        List<Player> l_pending = new ArrayList<Player>();
+        if (p_gameState.d_playerList != null) {
+            l_pending.addAll(p_gameState.d_playerList);
+        }
+        if (p_gameState.d_playersFailed != null) {
+            l_pending.addAll(p_gameState.d_playersFailed);
+        }
+        l_pending.add(p_gameState.d_winner);
+        for (int l_index = 0; l_index < l_pending.size(); l_index++) {
+            Player l_player = l_pending.get(l_index);
+            if (l_player == null || p_playerIndexes.containsKey(l_player)) {
+                continue;
+            }
+            p_playerIndexes.put(l_player, p_players.size());
+            p_players.add(l_player);
+            l_pending.addAll(l_player.d_negotiatedWith);
+            if (l_player.d_playerOrder != null) {
+                for (Order l_order : l_player.d_playerOrder) {
+                    l_pending.add(initiator(l_order));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the state a player holds by itself.
+     *
+     * @param p_out                output
+     * @param p_player             player to write
+     * @param p_countryIndexes     index of each country of the map
+     * @param p_continentIndexes   index of each continent of the map
+     */
+    private static void writePlayer(Output p_out, Player p_player, IdentityHashMap<Country, Integer> p_countryIndexes,
+            IdentityHashMap<Continent, Integer> p_continentIndexes) {
+        p_out.putString(p_player.getD_playerName());
+        p_out.putString(p_player.getD_playerColor());
+        p_out.putString(p_player.d_playerBehaviorStrategy == null ? null
+                : p_player.d_playerBehaviorStrategy.getPlayerBehavior());
+        p_out.putInteger(p_player.d_unallocatedArmyCount);
+        p_out.putBoolean(p_player.d_additionalOrders);
+        p_out.putBoolean(p_player.d_allowOnlyOneCardPerTurn);
+        p_out.putString(p_player.d_playerLogMessage);
+        Output l_cards = new Output(null);
+        l_cards.putInt(p_player.d_playerOwnedCardList.size());
+        for (String l_card : p_player.d_playerOwnedCardList) {
+            l_cards.putString(l_card);
+        }
+        p_out.putSection(l_cards);
+        writeIndexes(p_out, p_player.d_playerCountries, p_countryIndexes);
+        writeIndexes(p_out, p_player.d_playerContinents, p_continentIndexes);
+    }
+
+    /**
+     * Reads the state a player holds by itself.
+     *
+     * @param p_in         input
+     * @param p_countries  countries of the map
+     * @param p_continents continents of the map
+     * @param p_version    layout version of the snapshot
+     * @return player
+     * @throws IOException if the player has an unknown strategy
+     */
+    private static Player readPlayer(ByteBuffer p_in, List<Country> p_countries, List<Continent> p_continents,
+            int p_version) throws IOException {
+        Player l_player = new Player();
+        l_player.setD_playerName(getString(p_in));
+        l_player.setD_playerColor(getString(p_in));
+        String l_behavior = getString(p_in);
+        if (l_behavior != null) {
+            l_player.setStrategy(newStrategy(l_behavior));
+        }
+        l_player.d_unallocatedArmyCount = getInteger(p_in);
+        l_player.d_additionalOrders = p_in.get() != 0;
+        l_player.d_allowOnlyOneCardPerTurn = p_in.get() != 0;
+        l_player.d_playerLogMessage = getString(p_in);
+        if (p_version >= 2) {
+            ByteBuffer l_cards = getSection(p_in);
+            l_player.d_playerOwnedCardList = new LazyList<String>(() -> readCards(l_cards));
+        } else {
+            l_player.d_playerOwnedCardList = readCards(p_in);
+        }
+        List<Country> l_countries = readIndexes(p_in, p_countries);
+        l_player.d_playerCountries = l_countries == null ? null : new CountrySet(l_countries);
+        l_player.d_playerContinents = readIndexes(p_in, p_continents);
+        return l_player;
+    }
+
+    /**
+     * Reads a card hand.
+     *
+     * @param p_in input
+     * @return cards
+     */
+    private static List<String> readCards(ByteBuffer p_in) {
+        int l_cardCount = p_in.getInt();
+        List<String> l_cards = new ArrayList<String>(l_cardCount);
+        for (int l_card = 0; l_card < l_cardCount; l_card++) {
+            l_cards.add(getString(p_in));
+        }
+        return l_cards;
+    }
+
+    /**
+     * Strategy of a saved player behavior.
+     *
+     * @param p_behavior behavior name
+     * @return new strategy
+     * @throws IOException if the behavior is unknown
+     */
+    private static PlayerBehaviorStrategy newStrategy(String p_behavior) throws IOException {
+        switch (p_behavior) {
+            case "Human":
+                return new HumanPlayer();
+            case "Aggressive":
+                return new AggressivePlayer();
+            case "Random":
+                return new RandomPlayer();
+            case "Benevolent":
+                return new BenevolentPlayer();
+            case "Cheater":
+                return new CheaterPlayer();
+            default:
+                throw new IOException("Saved game has unknown player behavior " + p_behavior);
+        }
+    }
+
+    /**
+     * Writes what a player refers to in other players: negotiations and pending
+     * orders.
+     *
+     * @param p_out           output
+     * @param p_player        player to write
+     * @param p_playerIndexes index of each player
+     */
+    private static void writePlayerReferences(Output p_out, Player p_player,
+            IdentityHashMap<Player, Integer> p_playerIndexes) {
+        p_out.putInt(p_player.d_negotiatedWith.size());
+        for (Player l_negotiated : p_player.d_negotiatedWith) {
+            p_out.putInt(p_playerIndexes.get(l_negotiated));
+        }
+        if (p_player.d_playerOrder == null) {
+            p_out.putInt(-1);
+            return;
+        }
+        Output l_orders = new Output(null);
+        l_orders.putInt(p_player.d_playerOrder.size());
+        for (Order l_order : p_player.d_playerOrder) {
+            writeOrder(l_orders, l_order, p_playerIndexes);
+        }
+        p_out.putSection(l_orders);
+    }
+
+    /**
+     * Reads what a player refers to in other players.
+     *
+     * @param p_in      input
+     * @param p_player  player to fill in
+     * @param p_players every player, by index
+     * @param p_version layout version of the snapshot
+     * @throws IOException if an order is of an unknown kind
+     */
+    private static void readPlayerReferences(ByteBuffer p_in, Player p_player, Player[] p_players, int p_version)
+            throws IOException {
+        int l_negotiatedCount = p_in.getInt();
+        for (int l_index = 0; l_index < l_negotiatedCount; l_index++) {
+            p_player.d_negotiatedWith.add(p_players[p_in.getInt()]);
+        }
+        if (p_version < 2) {
+            int l_orderCount = p_in.getInt();
+            p_player.d_playerOrder = l_orderCount < 0 ? null : readOrders(p_in, l_orderCount, p_players);
+            return;
+        }
+        if (p_in.getInt(p_in.position()) < 0) {
+            p_in.getInt();
+            p_player.d_playerOrder = null;
+            return;
+        }
+        ByteBuffer l_orders = getSection(p_in);
+        p_player.d_playerOrder = new LazyList<Order>(() -> {
+            try {
+                return readOrders(l_orders, l_orders.getInt(), p_players);
+            } catch (IOException | RuntimeException l_e) {
+                throw new IllegalStateException("Saved game has corrupt orders", l_e);
+            }
+        });
+    }
+
+    /**
+     * Reads an order queue.
+     *
+     * @param p_in         input
+     * @param p_orderCount number of orders
+     * @param p_players    every player, by index
+     * @return orders
+     * @throws IOException if an order is of an unknown kind
+     */
+    private static List<Order> readOrders(ByteBuffer p_in, int p_orderCount, Player[] p_players)
+            throws IOException {
+        List<Order> l_orders = new ArrayList<Order>(p_orderCount);
+        for (int l_index = 0; l_index < p_orderCount; l_index++) {
+            l_orders.add(readOrder(p_in, p_players));
+        }
+        return l_orders;
+    }
+
+    /**
+     * Player who issued an order.
+     *
+     * @param p_order order
+     * @return issuing player, or null for an order of an unknown kind
+     */
+    private static Player initiator(Order p_order) {
+        if (p_order instanceof Deploy) {
+            return ((Deploy) p_order).d_playerInitiator;
+        } else if (p_order instanceof Advance) {
+            return ((Advance) p_order).d_playerInitiator;
+        } else if (p_order instanceof Bomb) {
+            return ((Bomb) p_order).d_playerCommencer;
+        } else if (p_order instanceof Blockade) {
+            return ((Blockade) p_order).d_initiatorPlayer;
+        } else if (p_order instanceof Airlift) {
+            return ((Airlift) p_order).d_player;
+        } else if (p_order instanceof Diplomacy) {
+            return ((Diplomacy) p_order).d_grantingPlayer;
+        }
+        return null;
+    }
+
+    /**
+     * Writes a pending order.
+     *
+     * @param p_out           output
+     * @param p_order         order
+     * @param p_playerIndexes index of each player
+     */
+    private static void writeOrder(Output p_out, Order p_order, IdentityHashMap<Player, Integer> p_playerIndexes) {
+        Player l_initiator = initiator(p_order);
+        if (l_initiator == null) {
+            throw new IllegalStateException("Cannot save order " + p_order.getClass().getSimpleName());
+        }
+        if (p_order instanceof Deploy) {
+            Deploy l_deploy = (Deploy) p_order;
+            p_out.put(DEPLOY);
+            p_out.putInt(p_playerIndexes.get(l_initiator));
+            p_out.putString(l_deploy.d_targetCountry);
+            p_out.putInteger(l_deploy.d_armiesToAllocate);
+        } else if (p_order instanceof Advance) {
+            Advance l_advance = (Advance) p_order;
+            p_out.put(ADVANCE);
+            p_out.putInt(p_playerIndexes.get(l_initiator));
+            p_out.putString(l_advance.d_sourceCountry);
+            p_out.putString(l_advance.d_targetCountry);
+            p_out.putInteger(l_advance.d_armiesToAllocate);
+        } else if (p_order instanceof Bomb) {
+            p_out.put(BOMB);
+            p_out.putInt(p_playerIndexes.get(l_initiator));
+            p_out.putString(((Bomb) p_order).d_targetCountryID);
+        } else if (p_order instanceof Blockade) {
+            p_out.put(BLOCKADE);
+            p_out.putInt(p_playerIndexes.get(l_initiator));
+            p_out.putString(((Blockade) p_order).d_targetCountryID);
+        } else if (p_order instanceof Airlift) {
+            Airlift l_airlift = (Airlift) p_order;
+            p_out.put(AIRLIFT);
+            p_out.putInt(p_playerIndexes.get(l_initiator));
+            p_out.putString(l_airlift.d_sourceCountry);
+            p_out.putString(l_airlift.d_targetCountry);
+            p_out.putInteger(l_airlift.d_armyCount);
+        } else {
+            p_out.put(DIPLOMACY);
+            p_out.putInt(p_playerIndexes.get(l_initiator));
+            p_out.putString(((Diplomacy) p_order).d_markPlayer);
+        }
+    }
+
+    /**
+     * Reads a pending order.
+     *
+     * @param p_in      input
+     * @param p_players every player, by index
+     * @return order
+     * @throws IOException if the order is of an unknown kind
+     */
+    private static Order readOrder(ByteBuffer p_in, Player[] p_players) throws IOException {
+        byte l_kind = p_in.get();
+        Player l_initiator = p_players[p_in.getInt()];
+        switch (l_kind) {
+            case DEPLOY:
+                return new Deploy(l_initiator, getString(p_in), getInteger(p_in));
+            case ADVANCE:
+                return new Advance(l_initiator, getString(p_in), getString(p_in), getInteger(p_in));
+            case BOMB:
+                return new Bomb(l_initiator, getString(p_in));
+            case BLOCKADE:
+                return new Blockade(l_initiator, getString(p_in));
+            case AIRLIFT:
+                return new Airlift(getString(p_in), getString(p_in), getInteger(p_in), l_initiator);
+            case DIPLOMACY:
+                return new Diplomacy(getString(p_in), l_initiator);
+            default:
+                throw new IOException("Saved game has unknown order kind " + l_kind);
+        }
+    }
+
+    /**
+     * Writes a list of players as indexes.
+     *
+     * @param p_out           output
+     * @param p_players       list, may be null
+     * @param p_playerIndexes index of each player
+     */
+    private static void writePlayerList(Output p_out, List<Player> p_players,
+            IdentityHashMap<Player, Integer> p_playerIndexes) {
+        if (p_players == null) {
+            p_out.putInt(-1);
+            return;
+        }
+        p_out.putInt(p_players.size());
+        for (Player l_player : p_players) {
+            p_out.putInt(l_player == null ? -1 : p_playerIndexes.get(l_player));
+        }
+    }
+
+    /**
+     * Reads a list of players written as indexes.
+     *
+     * @param p_in      input
+     * @param p_players every player, by index
+     * @return list, or null if it was null
+     */
+    private static List<Player> readPlayerList(ByteBuffer p_in, Player[] p_players) {
+        int l_count = p_in.getInt();
+        if (l_count < 0) {
+            return null;
+        }
+        List<Player> l_list = new ArrayList<Player>(l_count);
+        for (int l_index = 0; l_index < l_count; l_index++) {
+            int l_player = p_in.getInt();
+            l_list.add(l_player < 0 ? null : p_players[l_player]);
+        }
+        return l_list;
+    }
+
+    /**
+     * Writes a list of map objects as their indexes in the map; objects not in
+     * the map are left out.
+     *
+     * @param <T>       countries or continents
+     * @param p_out     output
+     * @param p_list    list, may be null
+     * @param p_indexes index of each object of the map
+     */
+    private static <T> void writeIndexes(Output p_out, List<T> p_list, IdentityHashMap<T, Integer> p_indexes) {
+        if (p_list == null) {
+            p_out.putInt(-1);
+            return;
+        }
+        int l_count = 0;
+        for (T l_item : p_list) {
+            if (p_indexes.containsKey(l_item)) {
+                l_count++;
+            }
+        }
+        p_out.putInt(l_count);
+        for (T l_item : p_list) {
+            Integer l_index = p_indexes.get(l_item);
+            if (l_index != null) {
+                p_out.putInt(l_index);
+            }
+        }
+    }
+
+    /**
+     * Reads a list of map objects written as indexes.
+     *
+     * @param <T>     countries or continents
+     * @param p_in    input
+     * @param p_items objects of the map
+     * @return list, or null if it was null
+     */
+    private static <T> List<T> readIndexes(ByteBuffer p_in, List<T> p_items) {
+        int l_count = p_in.getInt();
+        if (l_count < 0) {
+            return null;
+        }
+        List<T> l_list = new ArrayList<T>(l_count);
+        for (int l_index = 0; l_index < l_count; l_index++) {
+            l_list.add(p_items.get(p_in.getInt()));
+        }
+        return l_list;
+    }
+
+    /**
+     * Reads an Integer that may be null.
+     *
+     * @param p_in input
+     * @return value, or null
+     */
+    private static Integer getInteger(ByteBuffer p_in) {
+        int l_value = p_in.getInt();
+        return l_value == NULL_INT ? null : l_value;
+    }
+
+    /**
+     * Reads a string that may be null.
+     *
+     * @param p_in input
+     * @return string, or null
+     */
+    private static String getString(ByteBuffer p_in) {
+        int l_length = p_in.getInt();
+        if (l_length < 0) {
+            return null;
+        }
+        byte[] l_bytes = new byte[l_length];
+        p_in.get(l_bytes);
+        return new String(l_bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a section written with its length, without decoding it.
+     *
+     * @param p_in input
+     * @return section, to be decoded later
+     */
+    private static ByteBuffer getSection(ByteBuffer p_in) {
+        int l_length = p_in.getInt();
+        ByteBuffer l_section = p_in.slice();
+        l_section.limit(l_length);
+        p_in.position(p_in.position() + l_length);
+        return l_section;
+    }
+
+    /**
+     * Buffered output to a channel.
+     */
+    private static final class Output {
+
+        /**
+         * channel written to, null to keep everything in memory.
+         */
+        private final FileChannel d_channel;
+
+        /**
+         * bytes not yet written.
+         */
+        private ByteBuffer d_buffer = ByteBuffer.allocate(BUFFER_BYTES);
+
+        /**
+         * Creates an output.
+         *
+         * @param p_channel channel written to, null to keep everything in memory
+         */
+        Output(FileChannel p_channel) {
+            d_channel = p_channel;
+        }
+
+        /**
+         * Makes room for a number of bytes, writing out the buffer or growing it
+         * if needed.
+         *
+         * @param p_bytes bytes about to be put
+         */
+        private void ensure(int p_bytes) {
+            if (d_buffer.remaining() >= p_bytes) {
+                return;
+            }
+            if (d_channel != null) {
+                flush();
+                return;
+            }
+            ByteBuffer l_grown = ByteBuffer.allocate(Math.max(d_buffer.capacity() * 2, d_buffer.position() + p_bytes));
+            d_buffer.flip();
+            l_grown.put(d_buffer);
+            d_buffer = l_grown;
+        }
+
+        /**
+         * Puts a byte.
+         *
+         * @param p_value byte
+         */
+        void put(byte p_value) {
+            ensure(1);
+            d_buffer.put(p_value);
+        }
+
+        /**
+         * Puts a boolean as one byte.
+         *
+         * @param p_value boolean
+         */
+        void putBoolean(boolean p_value) {
+            put(p_value ? (byte) 1 : (byte) 0);
+        }
+
+        /**
+         * Puts an int.
+         *
+         * @param p_value int
+         */
+        void putInt(int p_value) {
+            ensure(4);
+            d_buffer.putInt(p_value);
+        }
+
+        /**
+         * Puts a long.
+         *
+         * @param p_value long
+         */
+        void putLong(long p_value) {
+            ensure(8);
+            d_buffer.putLong(p_value);
+        }
+
+        /**
+         * Puts an Integer that may be null.
+         *
+         * @param p_value Integer, or null
+         */
+        void putInteger(Integer p_value) {
+            putInt(p_value == null ? NULL_INT : p_value);
+        }
+
+        /**
+         * Puts a string that may be null, as its length and its UTF-8 bytes.
+         *
+         * @param p_value string, or null
+         */
+        void putString(String p_value) {
+            if (p_value == null) {
+                putInt(-1);
+                return;
+            }
+            byte[] l_bytes = p_value.getBytes(StandardCharsets.UTF_8);
+            putInt(l_bytes.length);
+            put(ByteBuffer.wrap(l_bytes));
+        }
+
+        /**
+         * Puts what an in-memory output holds, after its length, so that it can be
+         * skipped when read.
+         *
+         * @param p_section in-memory output
+         */
+        void putSection(Output p_section) {
+            p_section.d_buffer.flip();
+            putInt(p_section.d_buffer.remaining());
+            put(p_section.d_buffer);
+        }
+
+        /**
+         * Puts the remaining bytes of a buffer.
+         *
+         * @param p_bytes bytes to put
+         */
+        void put(ByteBuffer p_bytes) {
+            while (p_bytes.hasRemaining()) {
+                ensure(1);
+                int l_count = Math.min(d_buffer.remaining(), p_bytes.remaining());
+                ByteBuffer l_chunk = p_bytes.duplicate();
+                l_chunk.limit(l_chunk.position() + l_count);
+                d_buffer.put(l_chunk);
+                p_bytes.position(p_bytes.position() + l_count);
+            }
+        }
+
+        /**
+         * Writes the buffered bytes to the channel.
+         */
+        void flush() {
+            if (d_channel == null) {
+                return;
+            }
+            d_buffer.flip();
+            try {
+                while (d_buffer.hasRemaining()) {
+                    d_channel.write(d_buffer);
+                }
+            } catch (IOException l_e) {
+                throw new UncheckedIOException(l_e);
+            }
+            d_buffer.clear();
+        }
+    }
+}
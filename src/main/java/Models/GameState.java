@@ -4,7 +4,9 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
+import Models.LogModel.LogCategory;
 import Models.LogModel.LogEntryBuffer;
+import Models.LogModel.LogEvent;
 
 /**
  * This class is used to test functionality of GameState class functions.
@@ -20,6 +22,11 @@ import Models.LogModel.LogEntryBuffer;
  */
 public class GameState implements Serializable {
 
+	/**
+	 * pinned so that games saved before per-game log files still load.
+	 */
+	private static final long serialVersionUID = -9166405310126168627L;
+
 	/**
 	 * map object.
 	 */
@@ -65,6 +72,22 @@ public class GameState implements Serializable {
 	 */
 	Player d_winner;
 
+	/**
+	 * Journal the turns of the game are saved to, null until the game is saved.
+	 */
+	transient SaveJournal d_saveJournal;
+
+	/**
+	 * Source of the randomness of the game, created with a seed of its own on
+	 * first use unless one was set.
+	 */
+	transient GameRandom d_random;
+
+	/**
+	 * Owner of each country, built on first use.
+	 */
+	transient OwnerIndex d_ownerIndex;
+
 	/**
 	 * establish a getter method to get the map.
 	 * 
@@ -111,6 +134,16 @@ public class GameState implements Serializable {
 		d_logEntryBuffer.setLogMsg(p_logMsg, p_logType);
 	}
 
+	/**
+	 * Sends the log of this game to its own file from now on, so that games
+	 * played side by side do not share a log.
+	 *
+	 * @param p_logFilePath path of the log file
+	 */
+	public void redirectLog(String p_logFilePath) {
+		d_logEntryBuffer = new LogEntryBuffer(p_logFilePath);
+	}
+
 	/**
 	 * Get the Log in current GameState.
 	 *
@@ -165,6 +198,19 @@ public class GameState implements Serializable {
 		d_logEntryBuffer.setLogMsg(p_logMessage, p_logType);
 	}
 
+	/**
+	 * Adds an event to the log; its text is built only where it is read. A null
+	 * event, recorded while its category is switched off, is ignored.
+	 *
+	 * @param p_logCategory category of the event
+	 * @param p_logEvent    event to be added
+	 */
+	public void updateLog(LogCategory p_logCategory, LogEvent p_logEvent) {
+		if (p_logEvent != null) {
+			d_logEntryBuffer.logEvent(p_logCategory, p_logEvent);
+		}
+	}
+
 	/**
 	 * Fetches the most recent Log in current GameState.
 	 *
@@ -245,4 +291,104 @@ public class GameState implements Serializable {
 	public Player getD_winner() {
 		return d_winner;
 	}
+
+	/**
+	 * Returns the source of the randomness of the game.
+	 *
+	 * @return random source
+	 */
+	public GameRandom getD_random() {
+		if (d_random == null) {
+			d_random = GameRandom.unseeded();
+		}
+		return d_random;
+	}
+
+	/**
+	 * Sets the source of the randomness of the game, to play it from a known
+	 * seed.
+	 *
+	 * @param p_random random source
+	 */
+	public void setD_random(GameRandom p_random) {
+		d_random = p_random;
+	}
+
+	/**
+	 * Returns the player owning a country.
+	 *
+	 * @param p_country country of the map
+	 * @return owner, or null if no player owns the country
+	 */
+	public Player getCountryOwner(Country p_country) {
+		if (p_country == null || d_playerList == null) {
+			return null;
+		}
+		if (d_map != null) {
+			OwnerIndex l_ownerIndex = ownerIndex();
+			int l_index = l_ownerIndex.graph().indexOf(p_country);
+			if (l_index >= 0) {
+				return l_ownerIndex.owner(l_index);
+			}
+		}
+		// a country the graph cannot tell apart by its id is looked up by name
+		Player l_owner = null;
+		for (Player l_player : d_playerList) {
+			if (l_player.getCountryList().stream()
+					.anyMatch(l_name -> l_name.equalsIgnoreCase(p_country.getD_countryName()))) {
+				l_owner = l_player;
+			}
+		}
+		return l_owner;
+	}
+
+	/**
+	 * Returns the player owning a country.
+	 *
+	 * @param p_countryName name of the country, in any case
+	 * @return owner, or null if no player owns the country or the map has no
+	 *         such country
+	 */
+	public Player getCountryOwner(String p_countryName) {
+		return d_map == null ? null : getCountryOwner(d_map.getCountryByName(p_countryName));
+	}
+
+	/**
+	 * Moves a country from one player to another, or to or from no player, and
+	 * updates the continents of both players if one of them completed or lost a
+	 * continent with it.
+	 *
+	 * @param p_country  country that changes hands
+	 * @param p_previous player losing the country, or null
+	 * @param p_next     player getting the country, or null
+	 */
+	public void transferCountry(Country p_country, Player p_previous, Player p_next) {
+		OwnerIndex l_index = null;
+		int l_countryIndex = -1;
+		if (d_map != null && d_playerList != null) {
+			l_index = ownerIndex();
+			l_countryIndex = l_index.graph().indexOf(p_country);
+		}
+		if (p_previous != null) {
+			p_previous.removeCountry(p_country);
+		}
+		if (p_next != null) {
+			p_next.addCountry(p_country);
+		}
+		if (l_index != null) {
+			l_index.transferred(l_countryIndex, p_previous, p_next);
+		}
+	}
+
+	/**
+	 * Owner index of the game, built again if it no longer applies.
+	 *
+	 * @return owner index
+	 */
+	private OwnerIndex ownerIndex() {
+		if (d_ownerIndex == null || !d_ownerIndex.isCurrent(d_map, d_playerList)) {
+			d_ownerIndex = new OwnerIndex(d_map, d_playerList);
+		}
+		return d_ownerIndex;
+	}
 }
@@ -25,6 +25,11 @@ import java.io.InputStreamReader;
  */
 public class HumanPlayer extends PlayerBehaviorStrategy {
 
+    /**
+     * serial version from before the strategy returned order intents.
+     */
+    private static final long serialVersionUID = -5703160396769127263L;
+
     /**
      * Returns the behavior type of the player.
      *
@@ -36,15 +41,15 @@ public class HumanPlayer extends PlayerBehaviorStrategy {
     }
 
     /**
-     * Generates a command for the player based on user input.
+     * Reads a command for the player from user input.
      *
-     * @param p_player    The player for whom the command is generated.
+     * @param p_player    The player for whom the command is entered.
      * @param p_gameState The current state of the game.
      * @return A string representing the command entered by the user.
      * @throws IOException If an I/O error occurs while reading the command.
      */
     @Override
-    public String generateOrder(Player p_player, GameState p_gameState) throws IOException {
+    public String readCommand(Player p_player, GameState p_gameState) throws IOException {
         BufferedReader l_readerCmd = new BufferedReader(new InputStreamReader(System.in));
         System.out.println("\nPlease enter a command to issue an order for player "
                 + p_player.getD_playerName() + " or use the 'showmap' command to view the current state of the game.");
@@ -53,6 +58,19 @@ public class HumanPlayer extends PlayerBehaviorStrategy {
         return l_cmdEntered;
     }
 
+    /**
+     * Generates an order for the player.
+     *
+     * @param p_player    The player for whom the order is generated.
+     * @param p_gameState The current state of the game.
+     * @return Always returns null as human players type their orders as
+     *         commands.
+     */
+    @Override
+    public OrderIntent generateOrder(Player p_player, GameState p_gameState) {
+        return null;
+    }
+
     /**
      * Generates a deployment order for the player.
      *
@@ -62,7 +80,7 @@ public class HumanPlayer extends PlayerBehaviorStrategy {
      *         orders.
      */
     @Override
-    public String generateDeployOrder(Player p_player, GameState p_gameState) {
+    public OrderIntent generateDeployOrder(Player p_player, GameState p_gameState) {
         return null;
     }
 
@@ -74,7 +92,7 @@ public class HumanPlayer extends PlayerBehaviorStrategy {
      * @return Always returns null as human players don't generate advance orders.
      */
     @Override
-    public String generateAdvanceOrder(Player p_player, GameState p_gameState) {
+    public OrderIntent generateAdvanceOrder(Player p_player, GameState p_gameState) {
         return null;
     }
 
@@ -88,7 +106,7 @@ public class HumanPlayer extends PlayerBehaviorStrategy {
      *         orders.
      */
     @Override
-    public String generateCardOrder(Player p_player, GameState p_gameState, String p_cardName) {
+    public OrderIntent generateCardOrder(Player p_player, GameState p_gameState, String p_cardName) {
         return null;
     }
 }
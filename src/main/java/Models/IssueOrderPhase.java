@@ -13,6 +13,7 @@ import Services.GameService;
 import CommonFunctions.ExceptionLogHandler;
 import CommonFunctions.Command;
 import Constants.AppConstants;
+import Models.LogModel.LogCategory;
 import Views.ShowMap;
 
 /**
@@ -65,13 +66,13 @@ public class IssueOrderPhase extends GamePlayPhase {
 
     @Override
     protected void executeDeploy(String p_command, Player p_player) throws IOException {
-        p_player.initDeployOrder(p_command);
-        d_gameState.updateLogFile(p_player.getD_playerLogMessage(), AppConstants.ORDER_EFFECT);
+        p_player.initDeployOrder(p_command, d_gameState);
+        d_gameState.updateLog(p_player.getD_playerLogMessage(), AppConstants.ORDER_EFFECT);
     }
 
     @Override
     public void initPhase(boolean p_isTournamentMode) {
-        while (d_gameEngineCtx.getD_CurrentPhase() instanceof IssueOrderPhase) {
+        while (d_gameEngineCtx.getD_CurrentPhase() == this) {
             issueOrders(p_isTournamentMode);
         }
     }
@@ -90,7 +91,7 @@ public class IssueOrderPhase extends GamePlayPhase {
                 if (l_player.getD_additionalOrders() && !l_player.getD_playerName().equals("Neutral")) {
                     try {
                         l_player.issue_order(this);
-                        l_player.checkAdditionalOrders(p_isTournamentMode);
+                        l_player.checkAdditionalOrders(p_isTournamentMode, d_gameState);
                     } catch (InvalidCommand | IOException | InvalidMap l_exception) {
                         d_gameEngineCtx.setD_gameEngineCtxLog(l_exception.getMessage(),
                                 AppConstants.ORDER_EFFECT);
@@ -103,7 +104,8 @@ public class IssueOrderPhase extends GamePlayPhase {
     }
 
     /**
-     * Asks for order commands from user.
+     * Asks for order commands from user, or for the orders computer players
+     * decide on, which are queued without going through a command.
      * 
      * @param p_player player for which commands are to be issued
      * @throws InvalidCommand exception if command is invalid
@@ -111,14 +113,35 @@ public class IssueOrderPhase extends GamePlayPhase {
      * @throws InvalidMap     indicates failure in using the invalid map
      */
     public void askForOrder(Player p_player) throws InvalidCommand, IOException, InvalidMap {
-        String l_commandEntered = p_player.getPlayerOrder(d_gameState);
+        String l_commandEntered = p_player.getD_playerBehaviorStrategy().readCommand(p_player, d_gameState);
+
+        if (l_commandEntered != null) {
+            d_gameState.updateLogFile("(Player: " + p_player.getD_playerName() + ") " + l_commandEntered,
+                    AppConstants.ISSUE_ORDERS);
+            handleCommand(l_commandEntered, p_player);
+            return;
+        }
 
-        if (l_commandEntered == null)
+        OrderIntent l_intent = p_player.getOrderIntent(d_gameState);
+        if (l_intent == null)
             return;
 
-        d_gameState.updateLogFile("(Player: " + p_player.getD_playerName() + ") " + l_commandEntered,
-                AppConstants.ISSUE_ORDERS);
-        handleCommand(l_commandEntered, p_player);
+        if (LogCategory.ISSUE_ORDERS.isEnabled()) {
+            d_gameState.updateLog(LogCategory.ISSUE_ORDERS,
+                    l_intent.toLogEvent(p_player, d_gameState.getD_map().getAdjacencyGraph()));
+        }
+        p_player.issueIntent(l_intent, d_gameState);
+        switch (l_intent.getD_kind()) {
+            case DEPLOY:
+            case ADVANCE:
+                d_gameState.updateLog(p_player.getD_playerLogMessage(), AppConstants.ORDER_EFFECT);
+                break;
+            default:
+                if (p_player.getD_playerOwnedCards().contains(l_intent.getD_kind().commandName())) {
+                    d_gameEngineCtx.setD_gameEngineCtxLog(p_player.d_playerLogMessage, AppConstants.ORDER_EFFECT);
+                }
+                break;
+        }
     }
 
     /**
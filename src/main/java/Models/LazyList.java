@@ -0,0 +1,123 @@
+package Models;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Supplier;
+
+/**
+ * List whose elements are built the first time it is used. A loaded game keeps
+ * the card hands and order queues of its players in this form, so that they are
+ * decoded from the save file only once the game looks at them. The list is
+ * saved with Java serialization as the plain list it stands for.
+ *
+ * @param <T> element type
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+final class LazyList<T> extends AbstractList<T> implements Serializable {
+
+    /**
+     * builds the elements, null once they are built.
+     */
+    private transient Supplier<List<T>> d_loader;
+
+    /**
+     * elements, null until they are built.
+     */
+    private List<T> d_elements;
+
+    /**
+     * Creates a list built on first use.
+     *
+     * @param p_loader builds the elements
+     */
+    LazyList(Supplier<List<T>> p_loader) {
+        d_loader = p_loader;
+    }
+
+    /**
+     * Whether the elements have been built.
+     *
+     * @return true once the list was used
+     */
+    boolean isLoaded() {
+        return d_elements != null;
+    }
+
+    /**
+     * Elements of the list, built if this is the first use.
+     *
+     * @return elements
+     */
+    private List<T> elements() {
+        if (d_elements == null) {
+            d_elements = new ArrayList<T>(d_loader.get());
+            d_loader = null;
+        }
+        return d_elements;
+    }
+
+    @Override
+    public T get(int p_index) {
+        return elements().get(p_index);
+    }
+
+    @Override
+    public int size() {
+        return elements().size();
+    }
+
+    @Override
+    public T set(int p_index, T p_element) {
+        return elements().set(p_index, p_element);
+    }
+
+    @Override
+    public void add(int p_index, T p_element) {
+        elements().add(p_index, p_element);
+    }
+
+    @Override
+    public T remove(int p_index) {
+        return elements().remove(p_index);
+    }
+
+    @Override
+    public void clear() {
+        if (d_elements == null) {
+            d_elements = new ArrayList<T>();
+            d_loader = null;
+        } else {
+            d_elements.clear();
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return elements().iterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int p_index) {
+        return elements().listIterator(p_index);
+    }
+
+    /**
+     * Saves the list as the plain list it stands for.
+     *
+     * @return elements
+     */
+    private Object writeReplace() {
+        return new ArrayList<T>(elements());
+    }
+}
@@ -0,0 +1,178 @@
+package Models.LogModel;
+
+import java.util.Locale;
+
+import Constants.AppConstants;
+
+/**
+ * Kind of a log entry, one for each log type in AppConstants. Each category
+ * decides how its entries are framed in the log file and can be switched off,
+ * in which case entries of that kind are dropped before any text is built for
+ * them. Categories can be switched off at start-up by listing them in the
+ * {@code warzone.log.disabled} system property, separated by commas.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public enum LogCategory {
+
+    /**
+     * command entered by a user.
+     */
+    HANDLE_COMMAND(AppConstants.HANDLE_COMMAND),
+
+    /**
+     * order issued by a player.
+     */
+    ISSUE_ORDERS(AppConstants.ISSUE_ORDERS),
+
+    /**
+     * change of game phase.
+     */
+    GAMEPLAY_PHASE(AppConstants.GAMEPLAY_PHASE),
+
+    /**
+     * effect of an order, the most frequent entries of a game.
+     */
+    ORDER_EFFECT(AppConstants.ORDER_EFFECT),
+
+    /**
+     * start of a game.
+     */
+    START_GAME(AppConstants.START_GAME),
+
+    /**
+     * end of a game.
+     */
+    END_GAME(AppConstants.END_GAME);
+
+    /**
+     * log type this category stands for.
+     */
+    private final String d_logType;
+
+    /**
+     * whether entries of this category are logged.
+     */
+    private volatile boolean d_enabled;
+
+    /**
+     * Creates a category.
+     *
+     * @param p_logType log type this category stands for
+     */
+    LogCategory(String p_logType) {
+        d_logType = p_logType;
+        d_enabled = !disabledAtStartUp(name());
+    }
+
+    /**
+     * Whether a category is listed in the warzone.log.disabled system property.
+     *
+     * @param p_name name of the category
+     * @return true if it is listed
+     */
+    private static boolean disabledAtStartUp(String p_name) {
+        for (String l_name : System.getProperty("warzone.log.disabled", "").split(",")) {
+            if (l_name.trim().toUpperCase(Locale.ROOT).equals(p_name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Category of a log type.
+     *
+     * @param p_logType log type, one of the AppConstants log types
+     * @return category, or null if the log type is unknown
+     */
+    public static LogCategory of(String p_logType) {
+        for (LogCategory l_category : values()) {
+            if (l_category.d_logType.equals(p_logType)) {
+                return l_category;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Log type this category stands for.
+     *
+     * @return log type
+     */
+    public String getD_logType() {
+        return d_logType;
+    }
+
+    /**
+     * Whether entries of this category are logged.
+     *
+     * @return true if they are
+     */
+    public boolean isEnabled() {
+        return d_enabled;
+    }
+
+    /**
+     * Switches entries of this category on or off.
+     *
+     * @param p_enabled true to log them
+     */
+    public void setEnabled(boolean p_enabled) {
+        d_enabled = p_enabled;
+    }
+
+    /**
+     * Appends an event to a log, framed the way this category is framed in the
+     * log file.
+     *
+     * @param p_log   log to append to
+     * @param p_event event to append
+     */
+    public void appendTo(StringBuilder p_log, LogEvent p_event) {
+        switch (this) {
+            case HANDLE_COMMAND:
+                p_log.append(System.lineSeparator()).append("Command Entered: ");
+                p_event.appendTo(p_log);
+                p_log.append(System.lineSeparator());
+                break;
+            case ISSUE_ORDERS:
+                p_log.append(System.lineSeparator()).append("Order Issued: ");
+                p_event.appendTo(p_log);
+                p_log.append(System.lineSeparator());
+                break;
+            case GAMEPLAY_PHASE:
+                p_log.append(System.lineSeparator()).append("=======");
+                p_event.appendTo(p_log);
+                p_log.append("=======").append(System.lineSeparator()).append(System.lineSeparator());
+                break;
+            case ORDER_EFFECT:
+                p_log.append("Log: ");
+                p_event.appendTo(p_log);
+                p_log.append(System.lineSeparator());
+                break;
+            default:
+                p_event.appendTo(p_log);
+                p_log.append(System.lineSeparator());
+                break;
+        }
+    }
+
+    /**
+     * Renders an event the way this category frames it in the log file.
+     *
+     * @param p_event event to render
+     * @return log file text of the event
+     */
+    public String format(LogEvent p_event) {
+        StringBuilder l_log = new StringBuilder();
+        appendTo(l_log, p_event);
+        return l_log.toString();
+    }
+}
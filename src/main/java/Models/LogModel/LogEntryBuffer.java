@@ -4,8 +4,6 @@ import Views.LogView.*;
 
 import java.io.Serializable;
 
-import Constants.AppConstants;
-
 /**
  * Records and manages logs for different stages within the game.
  * Extends a custom observable class to manage observers for log updates.
@@ -20,9 +18,20 @@ import Constants.AppConstants;
  */
 public class LogEntryBuffer extends CustomObservable implements Serializable {
 
-    /** Stores the log message. */
+    /**
+     * pinned so that games saved before per-game log files still load.
+     */
+    private static final long serialVersionUID = -4916412020136447936L;
+
+    /** Stores the log message, built from the last event when first read. */
     private String d_logMessage;
 
+    /** Category of the last event. */
+    private LogCategory d_logCategory;
+
+    /** Last event logged. */
+    private LogEvent d_logEvent;
+
     /**
      * Constructor to initialize LogEntryBuffer and add default observers.
      */
@@ -31,15 +40,46 @@ public class LogEntryBuffer extends CustomObservable implements Serializable {
         this.addObserver(defaultLogger);
     }
 
+    /**
+     * Constructor to initialize LogEntryBuffer with a logger writing to the given
+     * file.
+     *
+     * @param p_logFilePath path of the log file
+     */
+    public LogEntryBuffer(String p_logFilePath) {
+        this.addObserver(new Logger(p_logFilePath));
+    }
+
     /**
      * Retrieves the stored log message.
      *
      * @return Log Message
      */
     public String getD_logMessage() {
+        if (d_logMessage == null && d_logEvent != null) {
+            d_logMessage = d_logCategory.format(d_logEvent);
+        }
         return d_logMessage;
     }
 
+    /**
+     * Retrieves the category of the last event.
+     *
+     * @return category, null before the first event
+     */
+    public LogCategory getD_logCategory() {
+        return d_logCategory;
+    }
+
+    /**
+     * Retrieves the last event logged.
+     *
+     * @return event, null before the first event
+     */
+    public LogEvent getD_logEvent() {
+        return d_logEvent;
+    }
+
     /**
      * Sets the log message and notifies the log observer object.
      *
@@ -47,26 +87,26 @@ public class LogEntryBuffer extends CustomObservable implements Serializable {
      * @param p_logType         Type of Log: Command, Order, Effect, Phase, etc.
      */
     public void setLogMsg(String p_messageToUpdate, String p_logType) {
-        switch (p_logType) {
-            case AppConstants.HANDLE_COMMAND:
-                d_logMessage = System.lineSeparator() + "Command Entered: " + p_messageToUpdate
-                        + System.lineSeparator();
-                break;
-            case AppConstants.ISSUE_ORDERS:
-                d_logMessage = System.lineSeparator() + "Order Issued: " + p_messageToUpdate + System.lineSeparator();
-                break;
-            case AppConstants.GAMEPLAY_PHASE:
-                d_logMessage = System.lineSeparator() + "=======" + p_messageToUpdate + "======="
-                        + System.lineSeparator() + System.lineSeparator();
-                break;
-            case AppConstants.ORDER_EFFECT:
-                d_logMessage = "Log: " + p_messageToUpdate + System.lineSeparator();
-                break;
-            case AppConstants.START_GAME:
-            case AppConstants.END_GAME:
-                d_logMessage = p_messageToUpdate + System.lineSeparator();
-                break;
+        LogCategory l_category = LogCategory.of(p_logType);
+        if (l_category != null && l_category.isEnabled()) {
+            logEvent(l_category, LogEvent.message(p_messageToUpdate));
+        }
+    }
+
+    /**
+     * Records an event and notifies the log observer object, unless its category
+     * is switched off. The text of the event is built only when it is read.
+     *
+     * @param p_category category of the event
+     * @param p_event    event to log
+     */
+    public void logEvent(LogCategory p_category, LogEvent p_event) {
+        if (!p_category.isEnabled()) {
+            return;
         }
+        d_logCategory = p_category;
+        d_logEvent = p_event;
+        d_logMessage = null;
         notifyObservers(); // Notifies all registered observers about the log message update.
     }
 }
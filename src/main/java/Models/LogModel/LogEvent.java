@@ -0,0 +1,159 @@
+package Models.LogModel;
+
+import java.io.Serializable;
+
+/**
+ * One log entry as recorded by the game: a template and the values filling it
+ * in. The values are texts that already exist, such as country and player
+ * names, and plain numbers, so recording an event builds no text; the text is
+ * built by whoever reads it, usually the log writer on its own thread.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public final class LogEvent implements Serializable {
+
+    /**
+     * template of the entry.
+     */
+    private final LogTemplate d_template;
+
+    /**
+     * text filling {s0}.
+     */
+    private final String d_text0;
+
+    /**
+     * text filling {s1}.
+     */
+    private final String d_text1;
+
+    /**
+     * text filling {s2}.
+     */
+    private final String d_text2;
+
+    /**
+     * text filling {s3}.
+     */
+    private final String d_text3;
+
+    /**
+     * number filling {n0}.
+     */
+    private final int d_number0;
+
+    /**
+     * number filling {n1}.
+     */
+    private final int d_number1;
+
+    /**
+     * Creates an event.
+     *
+     * @param p_template template of the entry
+     * @param p_text0    first text, or null
+     * @param p_text1    second text, or null
+     * @param p_text2    third text, or null
+     * @param p_text3    fourth text, or null
+     * @param p_number0  first number
+     * @param p_number1  second number
+     */
+    public LogEvent(LogTemplate p_template, String p_text0, String p_text1, String p_text2, String p_text3,
+            int p_number0, int p_number1) {
+        d_template = p_template;
+        d_text0 = p_text0;
+        d_text1 = p_text1;
+        d_text2 = p_text2;
+        d_text3 = p_text3;
+        d_number0 = p_number0;
+        d_number1 = p_number1;
+    }
+
+    /**
+     * Event holding a ready-made message.
+     *
+     * @param p_message message text
+     * @return event of the message
+     */
+    public static LogEvent message(String p_message) {
+        return new LogEvent(LogTemplate.MESSAGE, p_message, null, null, null, 0, 0);
+    }
+
+    /**
+     * Template of the entry.
+     *
+     * @return template
+     */
+    public LogTemplate getD_template() {
+        return d_template;
+    }
+
+    /**
+     * Text filling a placeholder.
+     *
+     * @param p_slot placeholder number, 0 to 3
+     * @return text
+     */
+    public String getText(int p_slot) {
+        switch (p_slot) {
+            case 0:
+                return d_text0;
+            case 1:
+                return d_text1;
+            case 2:
+                return d_text2;
+            default:
+                return d_text3;
+        }
+    }
+
+    /**
+     * Number filling a placeholder.
+     *
+     * @param p_slot placeholder number, 0 or 1
+     * @return number
+     */
+    public int getNumber(int p_slot) {
+        return p_slot == 0 ? d_number0 : d_number1;
+    }
+
+    /**
+     * Appends the text of the entry to a log.
+     *
+     * @param p_log log to append to
+     */
+    public void appendTo(StringBuilder p_log) {
+        d_template.appendTo(p_log, this);
+    }
+
+    /**
+     * Builds the text of the entry.
+     *
+     * @return text of the entry
+     */
+    public String render() {
+        if (d_template == LogTemplate.MESSAGE) {
+            return d_text0;
+        }
+        StringBuilder l_log = new StringBuilder();
+        appendTo(l_log);
+        return l_log.toString();
+    }
+
+    /**
+     * Text of the entry, so that sinks taking any object, such as the console,
+     * build it only when they write it.
+     *
+     * @return text of the entry
+     */
+    @Override
+    public String toString() {
+        return render();
+    }
+}
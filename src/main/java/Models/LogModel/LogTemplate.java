@@ -0,0 +1,140 @@
+package Models.LogModel;
+
+/**
+ * Text of a kind of log entry, with placeholders for the values of one event:
+ * {@code {s0}} to {@code {s3}} for its texts, {@code {n0}} and {@code {n1}} for
+ * its numbers, and {@code %n} for a line separator. Keeping the text here lets
+ * the game record an event as a template and a few values, and build the text
+ * only where it is read.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public enum LogTemplate {
+
+    /**
+     * ready-made message, held as the first text.
+     */
+    MESSAGE("{s0}"),
+
+    /**
+     * advance refused because the two players negotiated: initiator, target
+     * owner.
+     */
+    ADVANCE_NEGOTIATED("Advance Command cannot be executed as Player:{s0} negotiated terms with Player:{s1}"),
+
+    /**
+     * advance into an undefended country: initiator, country, armies.
+     */
+    ADVANCE_CONQUERED("Player : {s0} is assigned with Country : {s1} and armies : {n0}"),
+
+    /**
+     * advance that won a battle: initiator, country, armies.
+     */
+    ADVANCE_TRANSFERRED("Player: {s0} is assigned with Country: {s1} and armies: {n0}"),
+
+    /**
+     * advance that lost a battle: target country, target armies, target owner,
+     * source country, source armies, initiator.
+     */
+    ADVANCE_DEFENDED("Country: {s0} is left with {n0} armies and is still owned by player: {s1}%n"
+            + "Country: {s2} is left with {n1} armies and is still owned by player: {s3}"),
+
+    /**
+     * advance from a country of another player: source, target, armies,
+     * initiator.
+     */
+    ADVANCE_NOT_OWNED("Advance Order : advance {s0} {s1} {n0} is not executed since Source country : {s0}"
+            + " given in advance command does not belongs to the player : {s2}"),
+
+    /**
+     * advance of more armies than the source holds: source, target, armies.
+     */
+    ADVANCE_EXCEEDS_ARMIES("Advance Order : advance {s0} {s1} {n0} is not executed as armies given in advance"
+            + " order exceeds armies of source country : {s0}"),
+
+    /**
+     * advance of every army of the source: source, target, armies, armies of the
+     * source.
+     */
+    ADVANCE_ALL_ARMIES("Advance Order : advance {s0} {s1} {n0} is not executed as source country : {s0} has {n1}"
+            + " army units and all of those cannot be given advance order, atleast one army unit has to retain"
+            + " the territory."),
+
+    /**
+     * deploy carried out: country, armies on the country.
+     */
+    DEPLOYED("{n0} armies have been deployed successfully on country : {s0}"),
+
+    /**
+     * deploy to a country of another player: target, armies, initiator.
+     */
+    DEPLOY_NOT_OWNED("Deploy Order = deploy {s0} {n0} is not executed since Target country: {s0} given in deploy"
+            + " command does not belongs to the player : {s1}"),
+
+    /**
+     * deploy order issued by a computer player: player, country, armies.
+     */
+    ORDER_ISSUED_DEPLOY("(Player: {s0}) deploy {s1} {n0}"),
+
+    /**
+     * advance or airlift order issued by a computer player: player, command,
+     * source, target, armies.
+     */
+    ORDER_ISSUED_MOVE("(Player: {s0}) {s1} {s2} {s3} {n0}"),
+
+    /**
+     * bomb, blockade or negotiate order issued by a computer player: player,
+     * command, country or player aimed at.
+     */
+    ORDER_ISSUED_TARGET("(Player: {s0}) {s1} {s2}");
+
+    /**
+     * text with placeholders.
+     */
+    private final String d_pattern;
+
+    /**
+     * Creates a template.
+     *
+     * @param p_pattern text with placeholders
+     */
+    LogTemplate(String p_pattern) {
+        d_pattern = p_pattern;
+    }
+
+    /**
+     * Appends the text of an event to a log, filling in its values.
+     *
+     * @param p_log   log to append to
+     * @param p_event event whose values fill the placeholders
+     */
+    void appendTo(StringBuilder p_log, LogEvent p_event) {
+        int l_start = 0;
+        for (int l_index = 0; l_index < d_pattern.length(); l_index++) {
+            char l_char = d_pattern.charAt(l_index);
+            if (l_char == '%' && l_index + 1 < d_pattern.length() && d_pattern.charAt(l_index + 1) == 'n') {
+                p_log.append(d_pattern, l_start, l_index).append(System.lineSeparator());
+                l_index++;
+                l_start = l_index + 1;
+            } else if (l_char == '{' && l_index + 3 < d_pattern.length() && d_pattern.charAt(l_index + 3) == '}') {
+                char l_kind = d_pattern.charAt(l_index + 1);
+                int l_slot = d_pattern.charAt(l_index + 2) - '0';
+                p_log.append(d_pattern, l_start, l_index);
+                if (l_kind == 's') {
+                    p_log.append(p_event.getText(l_slot));
+                } else {
+                    p_log.append(p_event.getNumber(l_slot));
+                }
+                l_index += 3;
+                l_start = l_index + 1;
+            }
+        }
+        p_log.append(d_pattern, l_start, d_pattern.length());
+    }
+}
@@ -5,8 +5,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import Exceptions.InvalidMap;
-import java.util.Map.Entry;
 import CommonFunctions.CommonCode;
 
 /**
@@ -23,6 +23,11 @@ import CommonFunctions.CommonCode;
  */
 public class Map implements Serializable {
 
+    /**
+     * pinned so that games saved before the lookup indexes were added still load.
+     */
+    private static final long serialVersionUID = -1115623889049541032L;
+
     /**
      * stores the map file name.
      */
@@ -39,9 +44,65 @@ public class Map implements Serializable {
     List<Country> d_countries;
 
     /**
-     * HashMap of the countries one can reach from the existing position.
+     * index of countries by country ID, rebuilt lazily from the country list.
+     */
+    transient HashMap<Integer, Country> d_countryIdIndex;
+
+    /**
+     * index of countries by lower case country name, rebuilt lazily.
      */
-    HashMap<Integer, Boolean> d_countryReach = new HashMap<Integer, Boolean>();
+    transient HashMap<String, Country> d_countryNameIndex;
+
+    /**
+     * country list the country indexes were built from.
+     */
+    transient List<Country> d_indexedCountries;
+
+    /**
+     * size of the country list when the country indexes were built.
+     */
+    transient int d_indexedCountryCount;
+
+    /**
+     * index of continents by continent ID, rebuilt lazily from the continent list.
+     */
+    transient HashMap<Integer, Continent> d_continentIdIndex;
+
+    /**
+     * index of continents by lower case continent name, rebuilt lazily.
+     */
+    transient HashMap<String, Continent> d_continentNameIndex;
+
+    /**
+     * continent list the continent indexes were built from.
+     */
+    transient List<Continent> d_indexedContinents;
+
+    /**
+     * size of the continent list when the continent indexes were built.
+     */
+    transient int d_indexedContinentCount;
+
+    /**
+     * border snapshot, rebuilt lazily from the country list.
+     */
+    transient AdjacencyGraph d_adjacencyGraph;
+
+    /**
+     * country list the border snapshot was built from.
+     */
+    transient List<Country> d_graphCountries;
+
+    /**
+     * size of the country list when the border snapshot was built.
+     */
+    transient int d_graphCountryCount;
+
+    /**
+     * shared structure the countries and continents were built from, dropped as
+     * soon as the map is edited.
+     */
+    transient MapTopology d_topology;
 
     /**
      * establish a getter method to get the map file.
@@ -77,6 +138,7 @@ public class Map implements Serializable {
      */
     public void setD_continents(List<Continent> p_continents) {
         this.d_continents = p_continents;
+        invalidateIndexes();
     }
 
     /**
@@ -95,6 +157,7 @@ public class Map implements Serializable {
      */
     public void setD_countries(List<Country> p_countries) {
         this.d_countries = p_countries;
+        invalidateIndexes();
     }
 
     /**
@@ -104,6 +167,7 @@ public class Map implements Serializable {
      */
     public void addContinent(Continent p_continent) {
         d_continents.add(p_continent);
+        invalidateIndexes();
     }
 
     /**
@@ -113,6 +177,139 @@ public class Map implements Serializable {
      */
     public void addCountry(Country p_country) {
         d_countries.add(p_country);
+        invalidateIndexes();
+    }
+
+    /**
+     * Returns the shared structure this map was built from.
+     *
+     * @return topology, or null if the map was not loaded from a compiled map
+     *         or has been edited since
+     */
+    public MapTopology getD_topology() {
+        return topologyMatches() ? d_topology : null;
+    }
+
+    /**
+     * Checks that the map still has the shape of its topology, so that topology
+     * indexes point at the right country and continent objects.
+     *
+     * @return true if the topology can serve lookups for this map
+     */
+    private boolean topologyMatches() {
+        return d_topology != null && d_countries != null && d_continents != null
+                && d_countries.size() == d_topology.countryCount()
+                && d_continents.size() == d_topology.continentCount();
+    }
+
+    /**
+     * Returns the border snapshot of the map, rebuilding it if the map was edited
+     * since it was built. Maps built from a topology share its arrays.
+     *
+     * @return adjacency graph over the current countries
+     */
+    public AdjacencyGraph getAdjacencyGraph() {
+        List<Country> l_countries = d_countries != null ? d_countries : Collections.<Country>emptyList();
+        AdjacencyGraph l_graph = d_adjacencyGraph;
+        if (l_graph == null || d_graphCountries != l_countries || d_graphCountryCount != l_countries.size()) {
+            l_graph = topologyMatches() ? d_topology.graphFor(l_countries) : null;
+            if (l_graph == null) {
+                l_graph = new AdjacencyGraph(l_countries);
+            }
+            d_adjacencyGraph = l_graph;
+            d_graphCountries = l_countries;
+            d_graphCountryCount = l_countries.size();
+        }
+        return l_graph;
+    }
+
+    /**
+     * Drops the lookup indexes and the border snapshot so that they are rebuilt
+     * on next use, and detaches the map from its shared topology. Map edits call
+     * this themselves; callers that modify the country or continent objects
+     * directly should call it afterwards.
+     */
+    public void invalidateIndexes() {
+        d_topology = null;
+        d_adjacencyGraph = null;
+        d_countryIdIndex = null;
+        d_countryNameIndex = null;
+        d_indexedCountries = null;
+        d_continentIdIndex = null;
+        d_continentNameIndex = null;
+        d_indexedContinents = null;
+    }
+
+    /**
+     * Rebuilds the country indexes if the country list was replaced or resized
+     * since they were built.
+     *
+     * @return false if the map has no country list
+     */
+    private boolean ensureCountryIndexes() {
+        if (d_countries == null) {
+            return false;
+        }
+        if (d_countryIdIndex != null && d_indexedCountries == d_countries
+                && d_indexedCountryCount == d_countries.size()) {
+            return true;
+        }
+        HashMap<Integer, Country> l_idIndex = new HashMap<Integer, Country>(d_countries.size() * 2);
+        HashMap<String, Country> l_nameIndex = new HashMap<String, Country>(d_countries.size() * 2);
+        for (Country l_country : d_countries) {
+            if (l_country.getD_countryId() != null) {
+                l_idIndex.putIfAbsent(l_country.getD_countryId(), l_country);
+            }
+            if (l_country.getD_countryName() != null) {
+                l_nameIndex.putIfAbsent(nameKey(l_country.getD_countryName()), l_country);
+            }
+        }
+        d_countryIdIndex = l_idIndex;
+        d_countryNameIndex = l_nameIndex;
+        d_indexedCountries = d_countries;
+        d_indexedCountryCount = d_countries.size();
+        return true;
+    }
+
+    /**
+     * Rebuilds the continent indexes if the continent list was replaced or resized
+     * since they were built.
+     *
+     * @return false if the map has no continent list
+     */
+    private boolean ensureContinentIndexes() {
+        if (d_continents == null) {
+            return false;
+        }
+        if (d_continentIdIndex != null && d_indexedContinents == d_continents
+                && d_indexedContinentCount == d_continents.size()) {
+            return true;
+        }
+        HashMap<Integer, Continent> l_idIndex = new HashMap<Integer, Continent>(d_continents.size() * 2);
+        HashMap<String, Continent> l_nameIndex = new HashMap<String, Continent>(d_continents.size() * 2);
+        for (Continent l_continent : d_continents) {
+            if (l_continent.getD_continentID() != null) {
+                l_idIndex.putIfAbsent(l_continent.getD_continentID(), l_continent);
+            }
+            if (l_continent.getD_continentName() != null) {
+                l_nameIndex.putIfAbsent(nameKey(l_continent.getD_continentName()), l_continent);
+            }
+        }
+        d_continentIdIndex = l_idIndex;
+        d_continentNameIndex = l_nameIndex;
+        d_indexedContinents = d_continents;
+        d_indexedContinentCount = d_continents.size();
+        return true;
+    }
+
+    /**
+     * Normalises a country or continent name into its index key.
+     *
+     * @param p_name name to normalise
+     * @return lower case name
+     */
+    private static String nameKey(String p_name) {
+        return p_name.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -172,10 +369,21 @@ public class Map implements Serializable {
      * Validates the complete map.
      *
      * @return Bool Value if map is valid
-     * @throws InvalidMap Exception
+     * @throws InvalidMap listing every problem found in the map
      */
     public Boolean Validate() throws InvalidMap {
-        return (!checkForNullObjects() && checkContinentConnectivity() && checkCountryConnectivity());
+        throwIfInvalid(getValidationResult());
+        return true;
+    }
+
+    /**
+     * Runs every map check and collects all the problems found, without
+     * throwing.
+     *
+     * @return problems found in the map
+     */
+    public MapValidationResult getValidationResult() {
+        return new MapValidator(this).validate();
     }
 
     /**
@@ -185,17 +393,9 @@ public class Map implements Serializable {
      * @throws InvalidMap for corresponding Invalid conditions
      */
     public Boolean checkForNullObjects() throws InvalidMap {
-        if (d_continents == null || d_continents.isEmpty()) {
-            throw new InvalidMap("Map must possess atleast one continent!");
-        }
-        if (d_countries == null || d_countries.isEmpty()) {
-            throw new InvalidMap("Map must possess atleast one country!");
-        }
-        for (Country c : d_countries) {
-            if (c.getD_adjacentCountryIds().size() < 1) {
-                throw new InvalidMap(c.getD_countryName() + " does not possess any neighbour, hence isn't reachable!");
-            }
-        }
+        MapValidationResult l_result = new MapValidationResult();
+        new MapValidator(this).checkStructure(l_result);
+        throwIfInvalid(l_result);
         return false;
     }
 
@@ -203,100 +403,38 @@ public class Map implements Serializable {
      * Checks All Continent's Inner Connectivity.
      *
      * @return Boolean Value if all are connected
-     * @throws InvalidMap if any continent is not Connected
+     * @throws InvalidMap listing the countries that cannot be reached within
+     *                    their continent
      */
     public Boolean checkContinentConnectivity() throws InvalidMap {
-        boolean l_flagConnectivity = true;
-        for (Continent c : d_continents) {
-            if (null == c.getD_countries() || c.getD_countries().size() < 1) {
-                throw new InvalidMap(c.getD_continentName() + " has no countries, it must possess atleast 1 country");
-            }
-            if (!subGraphConnectivity(c)) {
-                l_flagConnectivity = false;
-            }
-        }
-        return l_flagConnectivity;
-    }
-
-    /**
-     * Checks Inner Connectivity of a Continent.
-     *
-     * @param p_continent Continent being checked
-     * @return Bool Value if Continent is Connected
-     * @throws InvalidMap Which country is not connected
-     */
-    public boolean subGraphConnectivity(Continent p_continent) throws InvalidMap {
-        HashMap<Integer, Boolean> l_continentCountry = new HashMap<Integer, Boolean>();
-
-        for (Country c : p_continent.getD_countries()) {
-            l_continentCountry.put(c.getD_countryId(), false);
-        }
-        dfsSubgraph(p_continent.getD_countries().get(0), l_continentCountry, p_continent);
-
-        // Iterates Over Entries to locate unreachable countries in continent
-        for (Entry<Integer, Boolean> entry : l_continentCountry.entrySet()) {
-            if (!entry.getValue()) {
-                Country l_country = getCountry(entry.getKey());
-                String l_messageException = l_country.getD_countryName() + " in Continent "
-                        + p_continent.getD_continentName() + " is not reachable";
-                throw new InvalidMap(l_messageException);
-            }
-        }
-        return !l_continentCountry.containsValue(false);
-    }
-
-    /**
-     * Depth-First Search (DFS) applied to the subgraph of the continent.
-     *
-     * @param p_c                country visited
-     * @param p_continentCountry Hashmap of Visited Boolean Values
-     * @param p_continent        continent being checked for connectivity
-     */
-    public void dfsSubgraph(Country p_c, HashMap<Integer, Boolean> p_continentCountry, Continent p_continent) {
-        p_continentCountry.put(p_c.getD_countryId(), true);
-        for (Country c : p_continent.getD_countries()) {
-            if (p_c.getD_adjacentCountryIds().contains(c.getD_countryId())) {
-                if (!p_continentCountry.get(c.getD_countryId())) {
-                    dfsSubgraph(c, p_continentCountry, p_continent);
-                }
-            }
-        }
+        MapValidationResult l_result = new MapValidationResult();
+        new MapValidator(this).checkContinents(l_result);
+        throwIfInvalid(l_result);
+        return true;
     }
 
     /**
      * Evaluates country connectivity within the map.
      *
      * @return boolean value for condition if all the countries are connected
-     * @throws InvalidMap pointing out which Country is not connected
+     * @throws InvalidMap listing the countries that cannot be reached
      */
     public boolean checkCountryConnectivity() throws InvalidMap {
-        for (Country c : d_countries) {
-            d_countryReach.put(c.getD_countryId(), false);
-        }
-        dfsCountry(d_countries.get(0));
-
-        // Iterates over entries to locate the unreachable country
-        for (Entry<Integer, Boolean> entry : d_countryReach.entrySet()) {
-            if (!entry.getValue()) {
-                String l_exceptionMessage = getCountry(entry.getKey()).getD_countryName() + " country is not reachable";
-                throw new InvalidMap(l_exceptionMessage);
-            }
-        }
-        return !d_countryReach.containsValue(false);
+        MapValidationResult l_result = new MapValidationResult();
+        new MapValidator(this).checkWholeMap(l_result);
+        throwIfInvalid(l_result);
+        return true;
     }
 
     /**
-     * Applies DFS search iteratively starting from the entered node.
+     * Throws an InvalidMap carrying every problem of a validation result.
      *
-     * @param p_c Country visited first
-     * @throws InvalidMap Exception
+     * @param p_result validation result
+     * @throws InvalidMap if the result has any problem
      */
-    public void dfsCountry(Country p_c) throws InvalidMap {
-        d_countryReach.put(p_c.getD_countryId(), true);
-        for (Country l_nextCountry : getAdjacentCountry(p_c)) {
-            if (!d_countryReach.get(l_nextCountry.getD_countryId())) {
-                dfsCountry(l_nextCountry);
-            }
+    private void throwIfInvalid(MapValidationResult p_result) throws InvalidMap {
+        if (!p_result.isValid()) {
+            throw new InvalidMap(p_result.getMessage());
         }
     }
 
@@ -312,8 +450,16 @@ public class Map implements Serializable {
         List<Country> l_adjCountries = new ArrayList<Country>();
 
         if (p_country.getD_adjacentCountryIds().size() > 0) {
-            for (int i : p_country.getD_adjacentCountryIds()) {
-                l_adjCountries.add(getCountry(i));
+            AdjacencyGraph l_graph = getAdjacencyGraph();
+            int l_index = l_graph.indexOf(p_country);
+            if (l_index >= 0) {
+                for (int l_position = l_graph.rowStart(l_index); l_position < l_graph.rowEnd(l_index); l_position++) {
+                    l_adjCountries.add(l_graph.country(l_graph.neighbourAt(l_position)));
+                }
+            } else {
+                for (int i : p_country.getD_adjacentCountryIds()) {
+                    l_adjCountries.add(getCountry(i));
+                }
             }
         } else {
             throw new InvalidMap(p_country.getD_countryName() + " doesn't have any adjacent countries");
@@ -328,20 +474,59 @@ public class Map implements Serializable {
      * @return matching country object
      */
     public Country getCountry(Integer p_targetCountryId) {
-        return d_countries.stream().filter(l_country -> l_country.getD_countryId().equals(p_targetCountryId))
-                .findFirst()
-                .orElse(null);
+        if (p_targetCountryId == null) {
+            return null;
+        }
+        if (topologyMatches()) {
+            int l_index = d_topology.indexOfCountryId(p_targetCountryId);
+            Country l_country = l_index < 0 ? null : d_countries.get(l_index);
+            if (l_country == null || p_targetCountryId.equals(l_country.getD_countryId())) {
+                return l_country;
+            }
+            invalidateIndexes();
+        }
+        if (!ensureCountryIndexes()) {
+            return null;
+        }
+        Country l_country = d_countryIdIndex.get(p_targetCountryId);
+        if (l_country != null && !p_targetCountryId.equals(l_country.getD_countryId())) {
+            // the country was changed in place, so the index is stale
+            invalidateIndexes();
+            ensureCountryIndexes();
+            l_country = d_countryIdIndex.get(p_targetCountryId);
+        }
+        return l_country;
     }
 
     /**
-     * Locates the Country object based on the provided country name.
+     * Locates the Country object based on the provided country name, ignoring
+     * case.
      * 
      * @param p_countryName Name of the country object to be found
      * @return matching country object
      */
     public Country getCountryByName(String p_countryName) {
-        return d_countries.stream().filter(l_country -> l_country.getD_countryName().equals(p_countryName)).findFirst()
-                .orElse(null);
+        if (p_countryName == null) {
+            return null;
+        }
+        if (topologyMatches()) {
+            int l_index = d_topology.indexOfCountryName(p_countryName);
+            Country l_country = l_index < 0 ? null : d_countries.get(l_index);
+            if (l_country == null || p_countryName.equalsIgnoreCase(l_country.getD_countryName())) {
+                return l_country;
+            }
+            invalidateIndexes();
+        }
+        if (!ensureCountryIndexes()) {
+            return null;
+        }
+        Country l_country = d_countryNameIndex.get(nameKey(p_countryName));
+        if (l_country != null && !p_countryName.equalsIgnoreCase(l_country.getD_countryName())) {
+            invalidateIndexes();
+            ensureCountryIndexes();
+            l_country = d_countryNameIndex.get(nameKey(p_countryName));
+        }
+        return l_country;
     }
 
     /**
@@ -351,19 +536,38 @@ public class Map implements Serializable {
      * @return country object
      */
     public Country getCountryByID(Integer p_countryID) {
-        return d_countries.stream().filter(l_country -> l_country.getD_countryId().equals(p_countryID)).findFirst()
-                .orElse(null);
+        return getCountry(p_countryID);
     }
 
     /**
-     * Retrieves the Continent object associated with the given continent name.
+     * Retrieves the Continent object associated with the given continent name,
+     * ignoring case.
      * 
      * @param p_continentName Continent Name to be found
      * @return matching continent object
      */
     public Continent getContinent(String p_continentName) {
-        return d_continents.stream().filter(l_continent -> l_continent.getD_continentName().equals(p_continentName))
-                .findFirst().orElse(null);
+        if (p_continentName == null) {
+            return null;
+        }
+        if (topologyMatches()) {
+            int l_index = d_topology.indexOfContinentName(p_continentName);
+            Continent l_continent = l_index < 0 ? null : d_continents.get(l_index);
+            if (l_continent == null || p_continentName.equalsIgnoreCase(l_continent.getD_continentName())) {
+                return l_continent;
+            }
+            invalidateIndexes();
+        }
+        if (!ensureContinentIndexes()) {
+            return null;
+        }
+        Continent l_continent = d_continentNameIndex.get(nameKey(p_continentName));
+        if (l_continent != null && !p_continentName.equalsIgnoreCase(l_continent.getD_continentName())) {
+            invalidateIndexes();
+            ensureContinentIndexes();
+            l_continent = d_continentNameIndex.get(nameKey(p_continentName));
+        }
+        return l_continent;
     }
 
     /**
@@ -373,8 +577,27 @@ public class Map implements Serializable {
      * @return continent object
      */
     public Continent getContinentByID(Integer p_continentID) {
-        return d_continents.stream().filter(l_continent -> l_continent.getD_continentID().equals(p_continentID))
-                .findFirst().orElse(null);
+        if (p_continentID == null) {
+            return null;
+        }
+        if (topologyMatches()) {
+            int l_index = d_topology.indexOfContinentId(p_continentID);
+            Continent l_continent = l_index < 0 ? null : d_continents.get(l_index);
+            if (l_continent == null || p_continentID.equals(l_continent.getD_continentID())) {
+                return l_continent;
+            }
+            invalidateIndexes();
+        }
+        if (!ensureContinentIndexes()) {
+            return null;
+        }
+        Continent l_continent = d_continentIdIndex.get(p_continentID);
+        if (l_continent != null && !p_continentID.equals(l_continent.getD_continentID())) {
+            invalidateIndexes();
+            ensureContinentIndexes();
+            l_continent = d_continentIdIndex.get(p_continentID);
+        }
+        return l_continent;
     }
 
     /**
@@ -391,6 +614,7 @@ public class Map implements Serializable {
             l_continentId = d_continents.size() > 0 ? Collections.max(getContinentIDs()) + 1 : 1;
             if (CommonCode.isNull(getContinent(p_continentName))) {
                 d_continents.add(new Continent(l_continentId, p_continentName, p_controlValue));
+                invalidateIndexes();
                 System.out.println("Continent has been added successfully");
             } else {
                 throw new InvalidMap("Continent cannot be added! It already exists!");
@@ -398,6 +622,7 @@ public class Map implements Serializable {
         } else {
             d_continents = new ArrayList<Continent>();
             d_continents.add(new Continent(1, p_continentName, p_controlValue));
+            invalidateIndexes();
         }
     }
 
@@ -411,17 +636,19 @@ public class Map implements Serializable {
      */
     public void removeContinent(String p_continentName) throws InvalidMap {
         if (d_continents != null) {
-            if (!CommonCode.isNull(getContinent(p_continentName))) {
+            Continent l_continent = getContinent(p_continentName);
+            if (!CommonCode.isNull(l_continent)) {
 
                 // Deletes the continent and updates neighbour as well as country objects
-                if (getContinent(p_continentName).getD_countries() != null) {
-                    for (Country c : getContinent(p_continentName).getD_countries()) {
+                if (l_continent.getD_countries() != null) {
+                    for (Country c : l_continent.getD_countries()) {
                         removeCountryNeighboursFromAll(c.getD_countryId());
                         updateNeighboursCont(c.getD_countryId());
                         d_countries.remove(c);
                     }
                 }
-                d_continents.remove(getContinent(p_continentName));
+                d_continents.remove(l_continent);
+                invalidateIndexes();
                 System.out.println("Continent has been removed successfully");
             } else {
                 throw new InvalidMap("No such Continent exists!");
@@ -445,17 +672,13 @@ public class Map implements Serializable {
         }
         if (CommonCode.isNull(getCountryByName(p_countryName))) {
             l_countryId = d_countries.size() > 0 ? Collections.max(getCountryIDs()) + 1 : 1;
-            if (d_continents != null && getContinent(p_continentName) != null
-                    && getContinentIDs().contains(getContinent(p_continentName).getD_continentID())) {
-                Country l_country = new Country(l_countryId, p_countryName,
-                        getContinent(p_continentName).getD_continentID());
+            Continent l_continent = d_continents != null ? getContinent(p_continentName) : null;
+            if (l_continent != null) {
+                Country l_country = new Country(l_countryId, p_countryName, l_continent.getD_continentID());
                 d_countries.add(l_country);
-                for (Continent c : d_continents) {
-                    if (c.getD_continentName().equals(p_continentName)) {
-                        c.addCountry(l_country);
-                        System.out.println("Country has been added successfully");
-                    }
-                }
+                invalidateIndexes();
+                l_continent.addCountry(l_country);
+                System.out.println("Country has been added successfully");
             } else {
                 throw new InvalidMap("Cannot add Country to a Continent that doesn't exist!");
             }
@@ -471,15 +694,17 @@ public class Map implements Serializable {
      * @throws InvalidMap Exception
      */
     public void removeCountry(String p_countryName) throws InvalidMap {
-        if (d_countries != null && !CommonCode.isNull(getCountryByName(p_countryName))) {
+        Country l_country = d_countries != null ? getCountryByName(p_countryName) : null;
+        if (!CommonCode.isNull(l_country)) {
             for (Continent c : d_continents) {
-                if (c.getD_continentID().equals(getCountryByName(p_countryName).getD_continentId())) {
-                    c.removeCountry(getCountryByName(p_countryName));
+                if (c.getD_continentID().equals(l_country.getD_continentId())) {
+                    c.removeCountry(l_country);
                 }
-                c.removeCountryNeighboursFromAll(getCountryByName(p_countryName).getD_countryId());
+                c.removeCountryNeighboursFromAll(l_country.getD_countryId());
             }
-            removeCountryNeighboursFromAll(getCountryByName(p_countryName).getD_countryId());
-            d_countries.remove(getCountryByName(p_countryName));
+            removeCountryNeighboursFromAll(l_country.getD_countryId());
+            d_countries.remove(l_country);
+            invalidateIndexes();
             System.out.println("Country has been removed successfully");
         } else {
             throw new InvalidMap("Country:  " + p_countryName + " does not exist!");
@@ -495,10 +720,11 @@ public class Map implements Serializable {
      */
     public void addCountryNeighbour(String p_countryName, String p_neighbourName) throws InvalidMap {
         if (d_countries != null) {
-            if (!CommonCode.isNull(getCountryByName(p_countryName))
-                    && !CommonCode.isNull(getCountryByName(p_neighbourName))) {
-                d_countries.get(d_countries.indexOf(getCountryByName(p_countryName)))
-                        .addNeighbour(getCountryByName(p_neighbourName).getD_countryId());
+            Country l_country = getCountryByName(p_countryName);
+            Country l_neighbour = getCountryByName(p_neighbourName);
+            if (!CommonCode.isNull(l_country) && !CommonCode.isNull(l_neighbour)) {
+                l_country.addNeighbour(l_neighbour.getD_countryId());
+                invalidateIndexes();
                 System.out.println("Neighbor has been added successfully");
             } else {
                 throw new InvalidMap("Invalid Neighbour Pair! Either of the Countries Doesn't exist!");
@@ -515,10 +741,11 @@ public class Map implements Serializable {
      */
     public void removeCountryNeighbour(String p_countryName, String p_neighbourName) throws InvalidMap {
         if (d_countries != null) {
-            if (!CommonCode.isNull(getCountryByName(p_countryName))
-                    && !CommonCode.isNull(getCountryByName(p_neighbourName))) {
-                d_countries.get(d_countries.indexOf(getCountryByName(p_countryName)))
-                        .removeNeighbour(getCountryByName(p_neighbourName).getD_countryId());
+            Country l_country = getCountryByName(p_countryName);
+            Country l_neighbour = getCountryByName(p_neighbourName);
+            if (!CommonCode.isNull(l_country) && !CommonCode.isNull(l_neighbour)) {
+                l_country.removeNeighbour(l_neighbour.getD_countryId());
+                invalidateIndexes();
                 System.out.println("Neighbor has been removed successfully");
             } else {
                 throw new InvalidMap("Invalid Neighbour Pair! Either of the Countries Doesn't exist!");
@@ -537,6 +764,7 @@ public class Map implements Serializable {
         for (Continent c : d_continents) {
             c.removeCountryNeighboursFromAll(p_targetCountryId);
         }
+        invalidateIndexes();
     }
 
     /**
@@ -554,6 +782,7 @@ public class Map implements Serializable {
                 }
             }
         }
+        invalidateIndexes();
     }
 
 }
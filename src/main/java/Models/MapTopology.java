@@ -0,0 +1,315 @@
+package Models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable structure of a map file: continents, countries, names, borders and
+ * the lookup indexes over them. One topology is shared by every game that loads
+ * the same file; each game gets its own country and continent objects for the
+ * state that changes during play, while the names, the neighbour lists, the
+ * border snapshot and the lookup indexes stay shared.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public final class MapTopology {
+
+    /**
+     * continent ids in map order.
+     */
+    private final int[] d_continentIds;
+
+    /**
+     * continent names in map order.
+     */
+    private final String[] d_continentNames;
+
+    /**
+     * continent bonus values in map order.
+     */
+    private final int[] d_continentValues;
+
+    /**
+     * start of each continent's row in d_members, with one extra entry at the
+     * end.
+     */
+    private final int[] d_memberOffsets;
+
+    /**
+     * country indexes of the members of all continents, row after row.
+     */
+    private final int[] d_members;
+
+    /**
+     * country ids in map order.
+     */
+    private final int[] d_countryIds;
+
+    /**
+     * country names in map order.
+     */
+    private final String[] d_countryNames;
+
+    /**
+     * continent id of each country.
+     */
+    private final int[] d_countryContinentIds;
+
+    /**
+     * read-only neighbour id list of each country, handed to every game.
+     */
+    private final List<List<Integer>> d_adjacentIds;
+
+    /**
+     * border snapshot over template countries; games get a copy that points at
+     * their own countries but shares its arrays.
+     */
+    private final AdjacencyGraph d_graph;
+
+    /**
+     * country index by lower case country name.
+     */
+    private final HashMap<String, Integer> d_countryIndexByName;
+
+    /**
+     * continent index by continent id.
+     */
+    private final HashMap<Integer, Integer> d_continentIndexById;
+
+    /**
+     * continent index by lower case continent name.
+     */
+    private final HashMap<String, Integer> d_continentIndexByName;
+
+    /**
+     * Creates a topology from the arrays of a compiled map.
+     *
+     * @param p_continentIds        continent ids
+     * @param p_continentNames      continent names
+     * @param p_continentValues     continent bonus values
+     * @param p_memberOffsets       continent member row offsets
+     * @param p_members             continent member country indexes
+     * @param p_countryIds          country ids
+     * @param p_countryNames        country names
+     * @param p_countryContinentIds continent id of each country
+     * @param p_borderOffsets       border row offsets
+     * @param p_borderIds           neighbour country ids
+     */
+    public MapTopology(int[] p_continentIds, String[] p_continentNames, int[] p_continentValues,
+            int[] p_memberOffsets, int[] p_members, int[] p_countryIds, String[] p_countryNames,
+            int[] p_countryContinentIds, int[] p_borderOffsets, int[] p_borderIds) {
+        d_continentIds = p_continentIds;
+        d_continentNames = p_continentNames;
+        d_continentValues = p_continentValues;
+        d_memberOffsets = p_memberOffsets;
+        d_members = p_members;
+        d_countryIds = p_countryIds;
+        d_countryNames = p_countryNames;
+        d_countryContinentIds = p_countryContinentIds;
+
+        List<List<Integer>> l_adjacentIds = new ArrayList<List<Integer>>(p_countryIds.length);
+        List<Country> l_templates = new ArrayList<Country>(p_countryIds.length);
+        d_countryIndexByName = new HashMap<String, Integer>(p_countryIds.length * 2);
+        for (int l_index = 0; l_index < p_countryIds.length; l_index++) {
+            Integer[] l_neighbours = new Integer[p_borderOffsets[l_index + 1] - p_borderOffsets[l_index]];
+            for (int l_position = 0; l_position < l_neighbours.length; l_position++) {
+                l_neighbours[l_position] = p_borderIds[p_borderOffsets[l_index] + l_position];
+            }
+            List<Integer> l_neighbourList = Collections.unmodifiableList(Arrays.asList(l_neighbours));
+            l_adjacentIds.add(l_neighbourList);
+
+            Country l_template = new Country(p_countryIds[l_index], p_countryContinentIds[l_index]);
+            l_template.setD_adjacentCountryIds(l_neighbourList);
+            l_templates.add(l_template);
+            d_countryIndexByName.putIfAbsent(nameKey(p_countryNames[l_index]), l_index);
+        }
+        d_adjacentIds = Collections.unmodifiableList(l_adjacentIds);
+        d_graph = new AdjacencyGraph(l_templates);
+
+        d_continentIndexById = new HashMap<Integer, Integer>(p_continentIds.length * 2);
+        d_continentIndexByName = new HashMap<String, Integer>(p_continentIds.length * 2);
+        for (int l_index = 0; l_index < p_continentIds.length; l_index++) {
+            d_continentIndexById.putIfAbsent(p_continentIds[l_index], l_index);
+            d_continentIndexByName.putIfAbsent(nameKey(p_continentNames[l_index]), l_index);
+        }
+    }
+
+    /**
+     * Builds the continent and country objects of one game. Their names and
+     * neighbour lists are the shared ones; a country copies its neighbour list
+     * the first time the list is edited.
+     *
+     * @return new map backed by this topology
+     */
+    public Map newMap() {
+        List<Country> l_countries = new ArrayList<Country>(d_countryIds.length);
+        for (int l_index = 0; l_index < d_countryIds.length; l_index++) {
+            Country l_country = new Country(d_countryIds[l_index], d_countryNames[l_index],
+                    d_countryContinentIds[l_index]);
+            l_country.setD_adjacentCountryIds(d_adjacentIds.get(l_index));
+            l_countries.add(l_country);
+        }
+
+        List<Continent> l_continents = new ArrayList<Continent>(d_continentIds.length);
+        for (int l_index = 0; l_index < d_continentIds.length; l_index++) {
+            Continent l_continent = new Continent(d_continentIds[l_index], d_continentNames[l_index],
+                    d_continentValues[l_index]);
+            for (int l_position = d_memberOffsets[l_index]; l_position < d_memberOffsets[l_index + 1]; l_position++) {
+                l_continent.addCountry(l_countries.get(d_members[l_position]));
+            }
+            l_continents.add(l_continent);
+        }
+
+        Map l_map = new Map();
+        l_map.setD_continents(l_continents);
+        l_map.setD_countries(l_countries);
+        l_map.d_topology = this;
+        return l_map;
+    }
+
+    /**
+     * Number of countries.
+     *
+     * @return country count
+     */
+    public int countryCount() {
+        return d_countryIds.length;
+    }
+
+    /**
+     * Number of continents.
+     *
+     * @return continent count
+     */
+    public int continentCount() {
+        return d_continentIds.length;
+    }
+
+    /**
+     * Fingerprint of the structure: ids, names, bonus values, memberships and
+     * borders. Two topologies with the same fingerprint describe the same map.
+     *
+     * @return 64 bit fingerprint
+     */
+    public long fingerprint() {
+        long l_hash = 0xcbf29ce484222325L;
+        l_hash = mix(l_hash, d_continentIds.length);
+        for (int l_index = 0; l_index < d_continentIds.length; l_index++) {
+            l_hash = mix(l_hash, d_continentIds[l_index]);
+            l_hash = mix(l_hash, d_continentValues[l_index]);
+            l_hash = mix(l_hash, d_continentNames[l_index].hashCode());
+        }
+        for (int l_value : d_memberOffsets) {
+            l_hash = mix(l_hash, l_value);
+        }
+        for (int l_value : d_members) {
+            l_hash = mix(l_hash, l_value);
+        }
+        l_hash = mix(l_hash, d_countryIds.length);
+        for (int l_index = 0; l_index < d_countryIds.length; l_index++) {
+            l_hash = mix(l_hash, d_countryIds[l_index]);
+            l_hash = mix(l_hash, d_countryContinentIds[l_index]);
+            l_hash = mix(l_hash, d_countryNames[l_index].hashCode());
+            List<Integer> l_neighbours = d_adjacentIds.get(l_index);
+            l_hash = mix(l_hash, l_neighbours.size());
+            for (Integer l_neighbourId : l_neighbours) {
+                l_hash = mix(l_hash, l_neighbourId);
+            }
+        }
+        return l_hash;
+    }
+
+    /**
+     * Folds one value into a fingerprint.
+     *
+     * @param p_hash  fingerprint so far
+     * @param p_value value to fold in
+     * @return new fingerprint
+     */
+    private static long mix(long p_hash, int p_value) {
+        return (p_hash ^ p_value) * 0x100000001b3L;
+    }
+
+    /**
+     * Index of the first country with the given id.
+     *
+     * @param p_countryId country id
+     * @return country index, or -1 if there is none
+     */
+    public int indexOfCountryId(int p_countryId) {
+        return d_graph.indexOfId(p_countryId);
+    }
+
+    /**
+     * Index of the first country with the given name, ignoring case.
+     *
+     * @param p_countryName country name
+     * @return country index, or -1 if there is none
+     */
+    public int indexOfCountryName(String p_countryName) {
+        Integer l_index = d_countryIndexByName.get(nameKey(p_countryName));
+        return l_index == null ? -1 : l_index;
+    }
+
+    /**
+     * Index of the first continent with the given id.
+     *
+     * @param p_continentId continent id
+     * @return continent index, or -1 if there is none
+     */
+    public int indexOfContinentId(int p_continentId) {
+        Integer l_index = d_continentIndexById.get(p_continentId);
+        return l_index == null ? -1 : l_index;
+    }
+
+    /**
+     * Index of the first continent with the given name, ignoring case.
+     *
+     * @param p_continentName continent name
+     * @return continent index, or -1 if there is none
+     */
+    public int indexOfContinentName(String p_continentName) {
+        Integer l_index = d_continentIndexByName.get(nameKey(p_continentName));
+        return l_index == null ? -1 : l_index;
+    }
+
+    /**
+     * Border snapshot over the countries of one game, sharing the arrays of the
+     * topology.
+     *
+     * @param p_countries countries of the game, in topology order
+     * @return border snapshot, or null if a country no longer matches the
+     *         topology because its id or its neighbours were changed
+     */
+    AdjacencyGraph graphFor(List<Country> p_countries) {
+        Country[] l_countries = p_countries.toArray(new Country[p_countries.size()]);
+        for (int l_index = 0; l_index < l_countries.length; l_index++) {
+            Integer l_countryId = l_countries[l_index].getD_countryId();
+            if (l_countryId == null || l_countryId != d_countryIds[l_index]
+                    || l_countries[l_index].getD_adjacentCountryIds() != d_adjacentIds.get(l_index)) {
+                return null;
+            }
+        }
+        return d_graph.withCountries(l_countries);
+    }
+
+    /**
+     * Normalises a country or continent name into its index key.
+     *
+     * @param p_name name to normalise
+     * @return lower case name
+     */
+    private static String nameKey(String p_name) {
+        return p_name.toLowerCase(Locale.ROOT);
+    }
+}
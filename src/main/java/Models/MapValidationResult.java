@@ -0,0 +1,70 @@
+package Models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects every problem found while validating a map, so that all of them can
+ * be reported together.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public class MapValidationResult {
+
+    /**
+     * messages of the problems found, in the order they were found.
+     */
+    private final List<String> d_errors = new ArrayList<String>();
+
+    /**
+     * Records a problem.
+     *
+     * @param p_error message describing the problem
+     */
+    public void addError(String p_error) {
+        d_errors.add(p_error);
+    }
+
+    /**
+     * Records a list of problems.
+     *
+     * @param p_errors messages describing the problems
+     */
+    public void addErrors(List<String> p_errors) {
+        d_errors.addAll(p_errors);
+    }
+
+    /**
+     * Tells whether no problem was found.
+     *
+     * @return true if the map is valid
+     */
+    public boolean isValid() {
+        return d_errors.isEmpty();
+    }
+
+    /**
+     * Gets the problems found.
+     *
+     * @return read only list of messages
+     */
+    public List<String> getD_errors() {
+        return Collections.unmodifiableList(d_errors);
+    }
+
+    /**
+     * Joins all the problems into one message, one per line.
+     *
+     * @return message listing every problem
+     */
+    public String getMessage() {
+        return String.join(System.lineSeparator(), d_errors);
+    }
+}
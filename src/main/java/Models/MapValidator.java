@@ -0,0 +1,299 @@
+package Models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Validates a map in one pass over its border snapshot. Reachability is
+ * checked with an explicit stack and bitsets, so that large maps neither
+ * overflow the call stack nor pay for repeated list scans, and every problem
+ * found is reported instead of only the first one. On large maps the
+ * structure checks, the continent checks and the whole-map check run
+ * concurrently on the common fork-join pool, and their problems are merged
+ * back in the same order as a sequential run.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public class MapValidator {
+
+    /**
+     * number of countries from which the checks run in parallel; below it the
+     * hand-off to the pool costs more than the checks themselves.
+     */
+    public static final int PARALLEL_THRESHOLD = 2048;
+
+    /**
+     * map being validated.
+     */
+    private final Map d_map;
+
+    /**
+     * border snapshot of the map.
+     */
+    private final AdjacencyGraph d_graph;
+
+    /**
+     * dense country indexes of the members of each continent, in continent order;
+     * -1 marks a member that is not in the map's country list.
+     */
+    private final int[][] d_continentMembers;
+
+    /**
+     * position of each country within its continent's member list, -1 if it is
+     * in no continent.
+     */
+    private final int[] d_positionInContinent;
+
+    /**
+     * continent of each country as an index into the continent list, -1 if none.
+     */
+    private final int[] d_continentOf;
+
+    /**
+     * Prepares the validation of a map.
+     *
+     * @param p_map map to validate
+     */
+    public MapValidator(Map p_map) {
+        d_map = p_map;
+        d_graph = p_map.getAdjacencyGraph();
+        d_positionInContinent = new int[d_graph.size()];
+        d_continentOf = new int[d_graph.size()];
+        Arrays.fill(d_positionInContinent, -1);
+        Arrays.fill(d_continentOf, -1);
+
+        List<Continent> l_continents = p_map.getD_continents();
+        int l_continentCount = l_continents == null ? 0 : l_continents.size();
+        d_continentMembers = new int[l_continentCount][];
+        for (int l_continent = 0; l_continent < l_continentCount; l_continent++) {
+            List<Country> l_countries = l_continents.get(l_continent).getD_countries();
+            int l_size = l_countries == null ? 0 : l_countries.size();
+            int[] l_members = new int[l_size];
+            for (int l_position = 0; l_position < l_size; l_position++) {
+                int l_index = indexOf(l_countries.get(l_position));
+                l_members[l_position] = l_index;
+                if (l_index >= 0) {
+                    d_positionInContinent[l_index] = l_position;
+                    d_continentOf[l_index] = l_continent;
+                }
+            }
+            d_continentMembers[l_continent] = l_members;
+        }
+    }
+
+    /**
+     * Runs every check on the map.
+     *
+     * @return problems found
+     */
+    public MapValidationResult validate() {
+        MapValidationResult l_result = new MapValidationResult();
+        if (!checkPresence(l_result)) {
+            return l_result;
+        }
+        if (d_graph.size() < PARALLEL_THRESHOLD) {
+            l_result.addErrors(findCountriesWithoutNeighbours());
+            l_result.addErrors(findEmptyContinents());
+            checkContinents(l_result);
+            checkWholeMap(l_result);
+            return l_result;
+        }
+
+        ForkJoinPool l_pool = ForkJoinPool.commonPool();
+        ForkJoinTask<List<String>> l_neighbourCheck = l_pool.submit(this::findCountriesWithoutNeighbours);
+        ForkJoinTask<MapValidationResult> l_wholeMapCheck = l_pool.submit(() -> {
+            MapValidationResult l_wholeMapResult = new MapValidationResult();
+            checkWholeMap(l_wholeMapResult);
+            return l_wholeMapResult;
+        });
+        List<List<String>> l_continentErrors = IntStream.range(0, d_continentMembers.length).parallel()
+                .mapToObj(this::checkContinent).collect(Collectors.toList());
+
+        l_result.addErrors(l_neighbourCheck.join());
+        l_result.addErrors(findEmptyContinents());
+        for (List<String> l_errors : l_continentErrors) {
+            l_result.addErrors(l_errors);
+        }
+        l_result.addErrors(l_wholeMapCheck.join().getD_errors());
+        return l_result;
+    }
+
+    /**
+     * Checks that the map has continents and countries, that every country has a
+     * neighbour and that every continent has a country.
+     *
+     * @param p_result result to add the problems to
+     * @return false if the map has no continent or no country, in which case
+     *         connectivity cannot be checked
+     */
+    public boolean checkStructure(MapValidationResult p_result) {
+        if (!checkPresence(p_result)) {
+            return false;
+        }
+        p_result.addErrors(findCountriesWithoutNeighbours());
+        p_result.addErrors(findEmptyContinents());
+        return true;
+    }
+
+    /**
+     * Checks that the map has at least one continent and one country.
+     *
+     * @param p_result result to add the problems to
+     * @return false if either is missing
+     */
+    private boolean checkPresence(MapValidationResult p_result) {
+        if (d_map.getD_continents() == null || d_map.getD_continents().isEmpty()) {
+            p_result.addError("Map must possess atleast one continent!");
+            return false;
+        }
+        if (d_map.getD_countries() == null || d_map.getD_countries().isEmpty()) {
+            p_result.addError("Map must possess atleast one country!");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Finds the countries that have no neighbour at all.
+     *
+     * @return one problem per such country, in map order
+     */
+    private List<String> findCountriesWithoutNeighbours() {
+        List<String> l_errors = new ArrayList<String>();
+        for (Country l_country : d_map.getD_countries()) {
+            if (l_country.getD_adjacentCountryIds() == null || l_country.getD_adjacentCountryIds().isEmpty()) {
+                l_errors.add(
+                        l_country.getD_countryName() + " does not possess any neighbour, hence isn't reachable!");
+            }
+        }
+        return l_errors;
+    }
+
+    /**
+     * Finds the continents that have no country.
+     *
+     * @return one problem per such continent, in map order
+     */
+    private List<String> findEmptyContinents() {
+        List<String> l_errors = new ArrayList<String>();
+        for (int l_continent = 0; l_continent < d_continentMembers.length; l_continent++) {
+            if (d_continentMembers[l_continent].length == 0) {
+                l_errors.add(d_map.getD_continents().get(l_continent).getD_continentName()
+                        + " has no countries, it must possess atleast 1 country");
+            }
+        }
+        return l_errors;
+    }
+
+    /**
+     * Checks that every continent is connected on its own.
+     *
+     * @param p_result result to add the problems to
+     */
+    public void checkContinents(MapValidationResult p_result) {
+        for (int l_continent = 0; l_continent < d_continentMembers.length; l_continent++) {
+            p_result.addErrors(checkContinent(l_continent));
+        }
+    }
+
+    /**
+     * Checks that every country of a continent can be reached from its first
+     * country without leaving the continent.
+     *
+     * @param p_continent index of the continent in the map's continent list
+     * @return problems found, empty if the continent is connected
+     */
+    public List<String> checkContinent(int p_continent) {
+        List<String> l_errors = new ArrayList<String>();
+        int[] l_members = d_continentMembers[p_continent];
+        if (l_members.length == 0) {
+            return l_errors;
+        }
+
+        BitSet l_reached = new BitSet(l_members.length);
+        if (l_members[0] >= 0) {
+            int[] l_stack = new int[l_members.length];
+            int l_top = 0;
+            l_stack[l_top++] = l_members[0];
+            l_reached.set(0);
+            while (l_top > 0) {
+                int l_country = l_stack[--l_top];
+                for (int l_position = d_graph.rowStart(l_country); l_position < d_graph
+                        .rowEnd(l_country); l_position++) {
+                    int l_neighbour = d_graph.neighbourAt(l_position);
+                    if (d_continentOf[l_neighbour] == p_continent
+                            && !l_reached.get(d_positionInContinent[l_neighbour])) {
+                        l_reached.set(d_positionInContinent[l_neighbour]);
+                        l_stack[l_top++] = l_neighbour;
+                    }
+                }
+            }
+        }
+
+        Continent l_continent = d_map.getD_continents().get(p_continent);
+        for (int l_position = l_reached.nextClearBit(0); l_position < l_members.length; l_position = l_reached
+                .nextClearBit(l_position + 1)) {
+            l_errors.add(l_continent.getD_countries().get(l_position).getD_countryName() + " in Continent "
+                    + l_continent.getD_continentName() + " is not reachable");
+        }
+        return l_errors;
+    }
+
+    /**
+     * Checks that every country of the map can be reached from the first one.
+     *
+     * @param p_result result to add the problems to
+     */
+    public void checkWholeMap(MapValidationResult p_result) {
+        int l_countryCount = d_graph.size();
+        if (l_countryCount == 0) {
+            return;
+        }
+        BitSet l_reached = new BitSet(l_countryCount);
+        int[] l_stack = new int[l_countryCount];
+        int l_top = 0;
+        l_stack[l_top++] = 0;
+        l_reached.set(0);
+        while (l_top > 0) {
+            int l_country = l_stack[--l_top];
+            for (int l_position = d_graph.rowStart(l_country); l_position < d_graph.rowEnd(l_country); l_position++) {
+                int l_neighbour = d_graph.neighbourAt(l_position);
+                if (!l_reached.get(l_neighbour)) {
+                    l_reached.set(l_neighbour);
+                    l_stack[l_top++] = l_neighbour;
+                }
+            }
+        }
+
+        for (int l_country = l_reached.nextClearBit(0); l_country < l_countryCount; l_country = l_reached
+                .nextClearBit(l_country + 1)) {
+            p_result.addError(d_graph.country(l_country).getD_countryName() + " country is not reachable");
+        }
+    }
+
+    /**
+     * Finds the dense index of a continent member, by object and then by id.
+     *
+     * @param p_country member of a continent
+     * @return dense index, or -1 if the country is not in the map
+     */
+    private int indexOf(Country p_country) {
+        int l_index = d_graph.indexOf(p_country);
+        if (l_index < 0 && p_country != null && p_country.getD_countryId() != null) {
+            l_index = d_graph.indexOfId(p_country.getD_countryId());
+        }
+        return l_index;
+    }
+}
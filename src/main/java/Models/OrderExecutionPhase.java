@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 import Services.GameService;
 import CommonFunctions.ExceptionLogHandler;
+import Views.Console;
 
 /**
  * Implementation of the Order Execution Phase for GamePlay using the State
@@ -56,12 +57,19 @@ public class OrderExecutionPhase extends GamePlayPhase {
 	@Override
 	public void initPhase(boolean isTournamentMode) {
 		executeOrders();
+		if (!isTournamentMode) {
+			d_gameEngineCtx.getD_autosaveService().turnEnded(this);
+		}
 
-		ShowMap l_map_view = new ShowMap(d_gameState);
-		l_map_view.showMap();
+		if (!Console.isSilent()) {
+			ShowMap l_map_view = new ShowMap(d_gameState);
+			l_map_view.showMap();
+		}
 
-		if (this.checkGameHasEnded(d_gameState))
+		if (this.checkGameHasEnded(d_gameState)) {
+			d_gameEngineCtx.getD_autosaveService().close();
 			return;
+		}
 
 		try {
 			String l_continue = this.continueForNextTurn(isTournamentMode);
@@ -70,9 +78,10 @@ public class OrderExecutionPhase extends GamePlayPhase {
 				d_gameEngineCtx.setD_gameEngineCtxLog("Startup Phase", AppConstants.GAMEPLAY_PHASE);
 				d_gameEngineCtx.setD_CurrentPhase(new StartUpPhase(d_gameEngineCtx, d_gameState));
 			} else if (l_continue.equalsIgnoreCase("N") && !isTournamentMode) {
+				d_gameEngineCtx.getD_autosaveService().close();
 				d_gameEngineCtx.setGamePlayPhase(AppConstants.START_UP_PHASE, isTournamentMode);
 			} else if (l_continue.equalsIgnoreCase("Y")) {
-				System.out.println("\n" + d_gameState.getD_numberOfTurnsLeft()
+				Console.println("\n" + d_gameState.getD_numberOfTurnsLeft()
 						+ " Turns are left for this game. Continuing for next Turn.\n");
 				d_playerService.allocArmies(d_gameState);
 				d_gameEngineCtx.setGamePlayPhase(AppConstants.ISSUE_ORDER_PHASE, isTournamentMode);
@@ -122,6 +131,7 @@ public class OrderExecutionPhase extends GamePlayPhase {
 			}
 		}
 		d_playerService.resetPlayersFlag(d_gameState.getD_playerList());
+		SaveJournal.recordTurn(this);
 	}
 
 	/**
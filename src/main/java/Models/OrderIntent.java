@@ -0,0 +1,247 @@
+package Models;
+
+import java.util.Locale;
+
+import Models.LogModel.LogEvent;
+import Models.LogModel.LogTemplate;
+
+/**
+ * Order of a player, with its countries given by their index in the adjacency
+ * graph of the map. Computer players hand these to
+ * {@link Player#issueIntent(OrderIntent, GameState)} instead of typing commands,
+ * so their orders are never formatted and parsed again; commands of human
+ * players are parsed into these once, and go through the same checks.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public final class OrderIntent {
+
+    /**
+     * Kinds of orders, named as their commands.
+     */
+    public enum Kind {
+        /** deploy armies to an own country. */
+        DEPLOY,
+        /** advance armies to a neighbouring country. */
+        ADVANCE,
+        /** airlift armies between own countries. */
+        AIRLIFT,
+        /** bomb a country. */
+        BOMB,
+        /** blockade an own country. */
+        BLOCKADE,
+        /** negotiate with another player. */
+        NEGOTIATE;
+
+        /**
+         * name of the command, and of the card, of this kind of order.
+         */
+        private final String d_commandName = name().toLowerCase(Locale.ROOT);
+
+        /**
+         * Name of the command, and of the card, of this kind of order.
+         *
+         * @return command name
+         */
+        public String commandName() {
+            return d_commandName;
+        }
+    }
+
+    /**
+     * kind of order.
+     */
+    private final Kind d_kind;
+
+    /**
+     * index of the country armies leave, -1 if none.
+     */
+    private final int d_source;
+
+    /**
+     * index of the country the order is aimed at, -1 if none.
+     */
+    private final int d_target;
+
+    /**
+     * armies of the order.
+     */
+    private final int d_armies;
+
+    /**
+     * player to negotiate with.
+     */
+    private final Player d_otherPlayer;
+
+    /**
+     * Creates an order intent.
+     *
+     * @param p_kind        kind of order
+     * @param p_source      index of the source country, -1 if none
+     * @param p_target      index of the target country, -1 if none
+     * @param p_armies      armies of the order
+     * @param p_otherPlayer player to negotiate with, or null
+     */
+    private OrderIntent(Kind p_kind, int p_source, int p_target, int p_armies, Player p_otherPlayer) {
+        d_kind = p_kind;
+        d_source = p_source;
+        d_target = p_target;
+        d_armies = p_armies;
+        d_otherPlayer = p_otherPlayer;
+    }
+
+    /**
+     * Deploy order.
+     *
+     * @param p_country index of the country to deploy to
+     * @param p_armies  armies to deploy
+     * @return intent
+     */
+    public static OrderIntent deploy(int p_country, int p_armies) {
+        return new OrderIntent(Kind.DEPLOY, -1, p_country, p_armies, null);
+    }
+
+    /**
+     * Advance order.
+     *
+     * @param p_source index of the country to advance from
+     * @param p_target index of the country to advance to
+     * @param p_armies armies to advance
+     * @return intent
+     */
+    public static OrderIntent advance(int p_source, int p_target, int p_armies) {
+        return new OrderIntent(Kind.ADVANCE, p_source, p_target, p_armies, null);
+    }
+
+    /**
+     * Airlift card order.
+     *
+     * @param p_source index of the country to airlift from
+     * @param p_target index of the country to airlift to
+     * @param p_armies armies to airlift
+     * @return intent
+     */
+    public static OrderIntent airlift(int p_source, int p_target, int p_armies) {
+        return new OrderIntent(Kind.AIRLIFT, p_source, p_target, p_armies, null);
+    }
+
+    /**
+     * Bomb card order.
+     *
+     * @param p_target index of the country to bomb
+     * @return intent
+     */
+    public static OrderIntent bomb(int p_target) {
+        return new OrderIntent(Kind.BOMB, -1, p_target, 0, null);
+    }
+
+    /**
+     * Blockade card order.
+     *
+     * @param p_target index of the country to blockade
+     * @return intent
+     */
+    public static OrderIntent blockade(int p_target) {
+        return new OrderIntent(Kind.BLOCKADE, -1, p_target, 0, null);
+    }
+
+    /**
+     * Negotiate card order.
+     *
+     * @param p_otherPlayer player to negotiate with
+     * @return intent
+     */
+    public static OrderIntent negotiate(Player p_otherPlayer) {
+        return new OrderIntent(Kind.NEGOTIATE, -1, -1, 0, p_otherPlayer);
+    }
+
+    /**
+     * Kind of order.
+     *
+     * @return kind
+     */
+    public Kind getD_kind() {
+        return d_kind;
+    }
+
+    /**
+     * Index of the country armies leave.
+     *
+     * @return index, -1 if the order has none
+     */
+    public int getD_source() {
+        return d_source;
+    }
+
+    /**
+     * Index of the country the order is aimed at.
+     *
+     * @return index, -1 if the order has none
+     */
+    public int getD_target() {
+        return d_target;
+    }
+
+    /**
+     * Armies of the order.
+     *
+     * @return armies
+     */
+    public int getD_armies() {
+        return d_armies;
+    }
+
+    /**
+     * Player to negotiate with.
+     *
+     * @return player, or null
+     */
+    public Player getD_otherPlayer() {
+        return d_otherPlayer;
+    }
+
+    /**
+     * Log entry of the order as issued by a player. The entry holds the names
+     * of the countries, which the map already has, and its text is only built
+     * where the log is written.
+     *
+     * @param p_player player issuing the order
+     * @param p_graph  graph the country indexes refer to
+     * @return log entry
+     */
+    public LogEvent toLogEvent(Player p_player, AdjacencyGraph p_graph) {
+        String l_playerName = p_player.getD_playerName();
+        switch (d_kind) {
+            case DEPLOY:
+                return new LogEvent(LogTemplate.ORDER_ISSUED_DEPLOY, l_playerName, countryName(p_graph, d_target),
+                        null, null, d_armies, 0);
+            case ADVANCE:
+            case AIRLIFT:
+                return new LogEvent(LogTemplate.ORDER_ISSUED_MOVE, l_playerName, d_kind.commandName(),
+                        countryName(p_graph, d_source), countryName(p_graph, d_target), d_armies, 0);
+            case NEGOTIATE:
+                return new LogEvent(LogTemplate.ORDER_ISSUED_TARGET, l_playerName, d_kind.commandName(),
+                        d_otherPlayer == null ? null : d_otherPlayer.getD_playerName(), null, 0, 0);
+            default:
+                return new LogEvent(LogTemplate.ORDER_ISSUED_TARGET, l_playerName, d_kind.commandName(),
+                        countryName(p_graph, d_target), null, 0, 0);
+        }
+    }
+
+    /**
+     * Name of a country of the order.
+     *
+     * @param p_graph graph of the map
+     * @param p_index index of the country
+     * @return name, or null if the index is not in the graph
+     */
+    static String countryName(AdjacencyGraph p_graph, int p_index) {
+        return p_index >= 0 && p_index < p_graph.size() ? p_graph.country(p_index).getD_countryName() : null;
+    }
+}
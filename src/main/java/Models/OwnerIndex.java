@@ -0,0 +1,280 @@
+package Models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Owner of each country of a game, by the country's index in the adjacency
+ * graph of the map, and how many countries of each continent every player
+ * owns. Ownership itself stays in the country lists of the players; the index
+ * is built from them and kept up to date by
+ * {@link GameState#transferCountry(Country, Player, Player)}, which also adds a
+ * continent to a player's continents once the player owns all of its countries
+ * and takes it away on the first loss. It no longer applies once the map's
+ * graph or continents or the player list change, or once the country list of a
+ * player has grown or shrunk behind its back, and is then built again.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+final class OwnerIndex {
+
+    /**
+     * graph the countries are numbered by.
+     */
+    private final AdjacencyGraph d_graph;
+
+    /**
+     * continent list of the map the index was built from.
+     */
+    private final List<Continent> d_continentList;
+
+    /**
+     * continents, by their position in the continent list.
+     */
+    private final Continent[] d_continents;
+
+    /**
+     * position of the continent of each country, -1 for none.
+     */
+    private final int[] d_continentByCountryIndex;
+
+    /**
+     * countries in each continent.
+     */
+    private final int[] d_continentSizes;
+
+    /**
+     * players, in the order of the player list the index was built from.
+     */
+    private final Player[] d_players;
+
+    /**
+     * position in d_players of the owner of each country, -1 for none.
+     */
+    private final int[] d_ownerByCountryIndex;
+
+    /**
+     * countries each player owns in each continent, at player position times
+     * continent count plus continent position.
+     */
+    private final int[] d_ownedInContinent;
+
+    /**
+     * size each player's country list had when the index was last updated.
+     */
+    private final int[] d_countryCounts;
+
+    /**
+     * Builds the index from the country lists of the players. A country in more
+     * than one list is taken to belong to the last of those players, as the
+     * scans the index replaced did.
+     *
+     * @param p_map     map of the game
+     * @param p_players players of the game
+     */
+    OwnerIndex(Map p_map, List<Player> p_players) {
+        d_graph = p_map.getAdjacencyGraph();
+        d_continentList = p_map.getD_continents();
+        d_continents = d_continentList == null ? new Continent[0]
+                : d_continentList.toArray(new Continent[d_continentList.size()]);
+        d_continentByCountryIndex = new int[d_graph.size()];
+        d_continentSizes = new int[d_continents.length];
+        Arrays.fill(d_continentByCountryIndex, -1);
+        for (int l_continent = 0; l_continent < d_continents.length; l_continent++) {
+            List<Country> l_countries = d_continents[l_continent].getD_countries();
+            if (l_countries == null) {
+                continue;
+            }
+            for (Country l_country : l_countries) {
+                int l_index = indexOf(l_country);
+                if (l_index >= 0 && d_continentByCountryIndex[l_index] < 0) {
+                    d_continentByCountryIndex[l_index] = l_continent;
+                    d_continentSizes[l_continent]++;
+                }
+            }
+        }
+
+        d_players = p_players.toArray(new Player[p_players.size()]);
+        d_ownerByCountryIndex = new int[d_graph.size()];
+        d_ownedInContinent = new int[d_players.length * d_continents.length];
+        d_countryCounts = new int[d_players.length];
+        Arrays.fill(d_ownerByCountryIndex, -1);
+        for (int l_player = 0; l_player < d_players.length; l_player++) {
+            List<Country> l_countries = d_players[l_player].getD_playerCountries();
+            if (l_countries == null) {
+                continue;
+            }
+            for (Country l_country : l_countries) {
+                int l_index = d_graph.indexOf(l_country);
+                if (l_index >= 0) {
+                    d_ownerByCountryIndex[l_index] = l_player;
+                }
+            }
+            d_countryCounts[l_player] = l_countries.size();
+        }
+        for (int l_index = 0; l_index < d_ownerByCountryIndex.length; l_index++) {
+            int l_continent = d_continentByCountryIndex[l_index];
+            if (d_ownerByCountryIndex[l_index] >= 0 && l_continent >= 0) {
+                d_ownedInContinent[d_ownerByCountryIndex[l_index] * d_continents.length + l_continent]++;
+            }
+        }
+    }
+
+    /**
+     * Whether the index still applies to a game.
+     *
+     * @param p_map     current map of the game
+     * @param p_players current players of the game
+     * @return true if nothing was changed but through the index
+     */
+    boolean isCurrent(Map p_map, List<Player> p_players) {
+        if (p_map.getAdjacencyGraph() != d_graph || p_map.getD_continents() != d_continentList
+                || (d_continentList != null && d_continentList.size() != d_continents.length)
+                || p_players.size() != d_players.length) {
+            return false;
+        }
+        for (int l_player = 0; l_player < d_players.length; l_player++) {
+            if (p_players.get(l_player) != d_players[l_player]
+                    || countryCount(d_players[l_player]) != d_countryCounts[l_player]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Graph the countries are numbered by.
+     *
+     * @return graph of the map
+     */
+    AdjacencyGraph graph() {
+        return d_graph;
+    }
+
+    /**
+     * Owner of a country.
+     *
+     * @param p_index index of the country in the graph
+     * @return owner, or null if no player owns it
+     */
+    Player owner(int p_index) {
+        int l_owner = d_ownerByCountryIndex[p_index];
+        return l_owner < 0 ? null : d_players[l_owner];
+    }
+
+    /**
+     * Records that a country changed hands, after the country lists of both
+     * players were updated, and updates the continents of both players if one
+     * of them lost or completed a continent.
+     *
+     * @param p_index    index of the country in the graph, or -1 for a country
+     *                   not in it
+     * @param p_previous player who owned the country, or null
+     * @param p_next     player who owns the country now, or null
+     */
+    void transferred(int p_index, Player p_previous, Player p_next) {
+        int l_previous = position(p_previous);
+        int l_next = position(p_next);
+        if (p_index >= 0 && d_ownerByCountryIndex[p_index] != l_next) {
+            int l_continent = d_continentByCountryIndex[p_index];
+            if (l_continent >= 0) {
+                if (d_ownerByCountryIndex[p_index] >= 0) {
+                    lost(d_ownerByCountryIndex[p_index], l_continent);
+                }
+                if (l_next >= 0) {
+                    gained(l_next, l_continent);
+                }
+            }
+            d_ownerByCountryIndex[p_index] = l_next;
+        }
+        if (l_previous >= 0) {
+            d_countryCounts[l_previous] = countryCount(p_previous);
+        }
+        if (l_next >= 0) {
+            d_countryCounts[l_next] = countryCount(p_next);
+        }
+    }
+
+    /**
+     * Counts a country a player got in a continent, giving the player the
+     * continent if it was the last one missing.
+     *
+     * @param p_player    position of the player
+     * @param p_continent position of the continent
+     */
+    private void gained(int p_player, int p_continent) {
+        int l_owned = ++d_ownedInContinent[p_player * d_continents.length + p_continent];
+        if (l_owned == d_continentSizes[p_continent]) {
+            Player l_player = d_players[p_player];
+            if (l_player.getD_playerContinents() == null) {
+                l_player.setD_playerContinents(new ArrayList<Continent>());
+            }
+            if (!l_player.getD_playerContinents().contains(d_continents[p_continent])) {
+                l_player.getD_playerContinents().add(d_continents[p_continent]);
+            }
+        }
+    }
+
+    /**
+     * Counts a country a player lost in a continent, taking the continent away
+     * if the player held all of it.
+     *
+     * @param p_player    position of the player
+     * @param p_continent position of the continent
+     */
+    private void lost(int p_player, int p_continent) {
+        int l_owned = d_ownedInContinent[p_player * d_continents.length + p_continent]--;
+        List<Continent> l_continents = d_players[p_player].getD_playerContinents();
+        if (l_owned == d_continentSizes[p_continent] && l_continents != null) {
+            l_continents.remove(d_continents[p_continent]);
+        }
+    }
+
+    /**
+     * Index of a country of a continent in the graph. Continents may list other
+     * objects for the same countries, so these are matched by id.
+     *
+     * @param p_country country of a continent
+     * @return index, or -1 if the graph has no such country
+     */
+    private int indexOf(Country p_country) {
+        int l_index = d_graph.indexOf(p_country);
+        if (l_index < 0 && p_country.getD_countryId() != null) {
+            l_index = d_graph.indexOfId(p_country.getD_countryId());
+        }
+        return l_index;
+    }
+
+    /**
+     * Position of a player in the index.
+     *
+     * @param p_player player, may be null
+     * @return position, or -1 if the player is not in the game
+     */
+    private int position(Player p_player) {
+        for (int l_player = 0; l_player < d_players.length; l_player++) {
+            if (d_players[l_player] == p_player) {
+                return l_player;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Size of a player's country list.
+     *
+     * @param p_player player
+     * @return countries the player owns
+     */
+    private static int countryCount(Player p_player) {
+        List<Country> l_countries = p_player.getD_playerCountries();
+        return l_countries == null ? 0 : l_countries.size();
+    }
+}
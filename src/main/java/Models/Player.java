@@ -3,15 +3,17 @@ package Models;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 import Constants.AppConstants;
 import Exceptions.InvalidCommand;
 import Exceptions.InvalidMap;
+import Services.PlayerService;
 import CommonFunctions.CommonCode;
+import Views.Console;
 
 /**
  * This model class manages all the players in the game.
@@ -27,6 +29,12 @@ import CommonFunctions.CommonCode;
  */
 public class Player implements Serializable {
 
+    /**
+     * serial version of the class in games saved with Java serialization, which
+     * kept countries in a list; readObject turns it into a set.
+     */
+    private static final long serialVersionUID = -7666575757211648346L;
+
     /**
      * Player color.
      */
@@ -43,7 +51,7 @@ public class Player implements Serializable {
     List<Order> d_playerOrder;
 
     /*
-     * player owned countries.
+     * player owned countries, always a CountrySet unless null.
      */
     List<Country> d_playerCountries;
 
@@ -95,7 +103,7 @@ public class Player implements Serializable {
     public Player(String p_playerName) {
         this.d_playerName = p_playerName;
         this.d_unallocatedArmyCount = 0;
-        this.d_playerCountries = new ArrayList<Country>();
+        this.d_playerCountries = new CountrySet();
         this.d_playerOrder = new ArrayList<>();
         this.d_additionalOrders = true;
     }
@@ -164,7 +172,9 @@ public class Player implements Serializable {
     }
 
     /**
-     * Get list of countries owned by player.
+     * Get list of countries owned by player, in the order the player got them.
+     * The list cannot be changed through; countries change hands through
+     * {@link GameState#transferCountry(Country, Player, Player)}.
      * 
      * @return countries owned by individual player
      */
@@ -173,13 +183,37 @@ public class Player implements Serializable {
     }
 
     /**
-     * Set list of countries owned by player.
+     * Set list of countries owned by player. The player keeps a copy of the list,
+     * without repeated countries.
      * 
      * @param p_playerCountries A List of Country objects representing the countries
      *                          controlled by the player.
      */
     public void setD_playerCountries(List<Country> p_playerCountries) {
-        this.d_playerCountries = p_playerCountries;
+        this.d_playerCountries = p_playerCountries == null ? null : new CountrySet(p_playerCountries);
+    }
+
+    /**
+     * Gives a country to the player.
+     *
+     * @param p_country country
+     * @return false if the player already owned the country
+     */
+    boolean addCountry(Country p_country) {
+        if (d_playerCountries == null) {
+            d_playerCountries = new CountrySet();
+        }
+        return ((CountrySet) d_playerCountries).addCountry(p_country);
+    }
+
+    /**
+     * Takes a country away from the player.
+     *
+     * @param p_country country
+     * @return false if the player did not own the country
+     */
+    boolean removeCountry(Country p_country) {
+        return d_playerCountries != null && ((CountrySet) d_playerCountries).removeCountry(p_country);
     }
 
     /**
@@ -252,13 +286,13 @@ public class Player implements Serializable {
 
         switch (p_logType) {
             case AppConstants.ERROR_LOG_MSG:
-                System.err.println(p_playerLogMessage);
+                Console.printError(p_playerLogMessage);
                 break;
             case AppConstants.LOG_MSG:
-                System.out.println(p_playerLogMessage);
+                Console.println(p_playerLogMessage);
                 break;
             default:
-                System.out.println("Unknown log type: " + p_logType);
+                Console.println("Unknown log type: " + p_logType);
                 break;
         }
     }
@@ -300,11 +334,11 @@ public class Player implements Serializable {
                     if (l_countryName != null) {
                         l_countryNameList.add(l_countryName);
                     } else {
-                        System.out.println("Error: Country name is null.");
+                        Console.println("Error: Country name is null.");
                     }
                 }
             } else {
-                System.out.println("Error: Player doesn't own any countries.");
+                Console.println("Error: Player doesn't own any countries.");
             }
         } catch (Exception e) {
             e.printStackTrace();
@@ -328,7 +362,7 @@ public class Player implements Serializable {
                     if (continentName != null) {
                         l_continentNameList.add(continentName);
                     } else {
-                        System.out.println("Error: Continent name is null.");
+                        Console.println("Error: Continent name is null.");
                     }
                 }
             }
@@ -355,15 +389,14 @@ public class Player implements Serializable {
     }
 
     /**
-     * Obtain the player's order based on its strategy.
+     * Obtain the order a computer player decides on, without a command.
      *
      * @param p_gameState Current GameState Object
-     * @return String representing Order
+     * @return order, or null if the strategy has none
      * @throws IOException Exception
      */
-    public String getPlayerOrder(GameState p_gameState) throws IOException {
-        String l_stringOrder = this.d_playerBehaviorStrategy.generateOrder(this, p_gameState);
-        return l_stringOrder;
+    public OrderIntent getOrderIntent(GameState p_gameState) throws IOException {
+        return this.d_playerBehaviorStrategy.generateOrder(this, p_gameState);
     }
 
     /**
@@ -420,14 +453,15 @@ public class Player implements Serializable {
      * 
      * @param p_isTournament Flag to indicate whether game is being run in
      *                       tournament mode
+     * @param p_gameState    current state of the game, whose strategy stream of
+     *                       the player decides for computer players
      *
      * @throws IOException exception in reading inputs from user
      */
-    void checkAdditionalOrders(boolean p_isTournament) throws IOException {
+    void checkAdditionalOrders(boolean p_isTournament, GameState p_gameState) throws IOException {
         if (p_isTournament || !this.getD_playerBehaviorStrategy().getPlayerBehavior().equalsIgnoreCase("Human")) {
-            Random l_random = new Random();
-            System.out.println("Trying to execute next boolean logic");
-            boolean l_moreOrders = l_random.nextBoolean();
+            Console.println("Trying to execute next boolean logic");
+            boolean l_moreOrders = p_gameState.getD_random().strategy(this).nextBoolean();
             this.setD_additionalOrders(l_moreOrders);
         } else {
             BufferedReader l_reader = new BufferedReader(new InputStreamReader(System.in));
@@ -440,7 +474,7 @@ public class Player implements Serializable {
                 this.setD_additionalOrders(false);
             } else {
                 System.err.println("Invalid Input Passed.");
-                this.checkAdditionalOrders(p_isTournament);
+                this.checkAdditionalOrders(p_isTournament, p_gameState);
             }
         }
     }
@@ -467,38 +501,40 @@ public class Player implements Serializable {
     /**
      * Initializes a deployment order for a player, given a deploy command.
      *
-     * @param p_command The deploy command entered by the player.
+     * @param p_command   The deploy command entered by the player.
+     * @param p_gameState current state of the game
      */
-    public void initDeployOrder(String p_command) {
+    public void initDeployOrder(String p_command, GameState p_gameState) {
 
         try {
             // Extract the country name and number of armies from the command
             String l_country = p_command.split(" ")[1];
             String l_armyCount = p_command.split(" ")[2];
 
-            // Check if the player has enough unallocated armies for the deployment
-            if (checkDeployArmyCount(this, l_armyCount)) {
-                // Print an error message if the deployment order can't be executed due to
-                // insufficient armies
-                this.setD_playerLog(
-                        "The deploy order exceeds the player's available unallocated armies and cannot be executed",
-                        AppConstants.ERROR_LOG_MSG);
-            } else {
-                this.d_playerOrder.add(new Deploy(this, l_country, Integer.parseInt(l_armyCount)));
-                // Update the player's unallocated armies count
-                Integer l_unallocatedArmies = this.getD_unallocatedArmyCount() - Integer.parseInt(l_armyCount);
-                this.setD_unallocatedArmyCount(l_unallocatedArmies);
-                d_playerOrder.get(d_playerOrder.size() - 1).printOrder();
-                // Print a message indicating that the order has been added to the execution
-                // queue
-                this.setD_playerLog("Order Queued for player: " + this.d_playerName, AppConstants.LOG_MSG);
-
-            }
+            issueIntent(OrderIntent.deploy(countryIndex(l_country, p_gameState), Integer.parseInt(l_armyCount)),
+                    p_gameState);
         } catch (Exception l_exception) {
             this.setD_playerLog("Invalid command for deploy", AppConstants.ERROR_LOG_MSG);
         }
     }
 
+    /**
+     * Queues a deployment order the player has the armies for.
+     *
+     * @param p_country name of the country to deploy to
+     * @param p_armies  number of armies to deploy
+     */
+    private void queueDeploy(String p_country, int p_armies) {
+        this.d_playerOrder.add(new Deploy(this, p_country, p_armies));
+        // Update the player's unallocated armies count
+        Integer l_unallocatedArmies = this.getD_unallocatedArmyCount() - p_armies;
+        this.setD_unallocatedArmyCount(l_unallocatedArmies);
+        d_playerOrder.get(d_playerOrder.size() - 1).printOrder();
+        // Print a message indicating that the order has been added to the execution
+        // queue
+        this.setD_playerLog("Order Queued for player: " + this.d_playerName, AppConstants.LOG_MSG);
+    }
+
     /**
      * Handles the initialization and processing of the advance command entered by
      * the player.
@@ -512,15 +548,12 @@ public class Player implements Serializable {
                 String l_sourceCountry = p_commandEntered.split(" ")[1];
                 String l_targetCountry = p_commandEntered.split(" ")[2];
                 String l_armyCount = p_commandEntered.split(" ")[3];
-                if (this.isCountryPresentInMap(l_sourceCountry, p_gameState)
-                        && this.isCountryPresentInMap(l_targetCountry, p_gameState)
-                        && !isArmyCountZero(l_armyCount)
-                        && areCountriesAdjacent(p_gameState, l_sourceCountry, l_targetCountry)) {
-                    this.d_playerOrder
-                            .add(new Advance(this, l_sourceCountry, l_targetCountry, Integer.parseInt(l_armyCount)));
-                    this.setD_playerLog(
-                            "Advance order added to queue for execution for player: " + this.d_playerName,
-                            AppConstants.LOG_MSG);
+                int l_sourceIndex = countryIndex(l_sourceCountry, p_gameState);
+                int l_targetIndex = countryIndex(l_targetCountry, p_gameState);
+                if (this.isCountryPresentInMap(l_sourceCountry, l_sourceIndex)
+                        && this.isCountryPresentInMap(l_targetCountry, l_targetIndex)) {
+                    issueIntent(OrderIntent.advance(l_sourceIndex, l_targetIndex, Integer.parseInt(l_armyCount)),
+                            p_gameState);
                 }
             } else {
                 this.setD_playerLog("Invalid Arguments Passed For Advance Order", AppConstants.ERROR_LOG_MSG);
@@ -531,16 +564,28 @@ public class Player implements Serializable {
         }
     }
 
+    /**
+     * Index in the adjacency graph of a country given in a command.
+     *
+     * @param p_country   country name entered by the user
+     * @param p_gameState current state of the game
+     * @return index of the country, or -1 if it is not in the map
+     */
+    private int countryIndex(String p_country, GameState p_gameState) {
+        Map l_map = p_gameState.getD_map();
+        return l_map.getAdjacencyGraph().indexOf(l_map.getCountryByName(p_country));
+    }
+
     /**
      * Checks whether a country given in advance command is present in the
      * map or not.
      *
-     * @param p_country   country name which needs to be checked in map
-     * @param p_gameState current state of the map
+     * @param p_country country name which needs to be checked in map
+     * @param p_index   index of the country in the map, -1 if it is not there
      * @return true if country exists in map or else false
      */
-    private Boolean isCountryPresentInMap(String p_country, GameState p_gameState) {
-        boolean l_isCountryPresent = p_gameState.getD_map().getCountryByName(p_country) != null;
+    private Boolean isCountryPresentInMap(String p_country, int p_index) {
+        boolean l_isCountryPresent = p_index >= 0;
         if (!l_isCountryPresent) {
             this.setD_playerLog("Country : " + p_country + " does not exist in the map. Hence, order is ignored.",
                     AppConstants.ERROR_LOG_MSG);
@@ -548,54 +593,17 @@ public class Player implements Serializable {
         return l_isCountryPresent;
     }
 
-    /**
-     * Checks whether the user command consists of 0 armies.
-     *
-     * @param p_armyCount number of armies given in order
-     * @return true if given order has zero armies or else false
-     */
-    private Boolean isArmyCountZero(String p_armyCount) {
-        boolean l_isArmyCountZero = Integer.parseInt(p_armyCount) == 0;
-        if (l_isArmyCountZero) {
-            this.setD_playerLog(
-                    "Advance order should be given with more than zero armies. Hence, order cant be executed.",
-                    AppConstants.ERROR_LOG_MSG);
-        }
-        return l_isArmyCountZero;
-    }
-
-    /**
-     * Checks whether two countries are adjacent or not.
-     *
-     * @param p_gameState     current state of the game
-     * @param p_sourceCountry source country name
-     * @param p_targetCountry target country name
-     * @return boolean true if countries are adjacent or else false
-     */
-    @SuppressWarnings("unlikely-arg-type")
-    public boolean areCountriesAdjacent(GameState p_gameState, String p_sourceCountry, String p_targetCountry) {
-        Country l_sourceCountry = p_gameState.getD_map().getCountryByName(p_sourceCountry);
-        Country l_targetCountry = p_gameState.getD_map().getCountryByName(p_targetCountry);
-        Integer l_targetCountryId = l_sourceCountry.getD_adjacentCountryIds().stream()
-                .filter(l_adjCountry -> l_adjCountry == l_targetCountry.getD_countryId()).findFirst().orElse(null);
-        boolean l_isAdjacent = l_targetCountryId != null;
-        if (!l_isAdjacent) {
-            this.setD_playerLog("Advance order cannot be executed since target country : " + p_targetCountry
-                    + " is not adjacent to source country : " + p_sourceCountry, AppConstants.ERROR_LOG_MSG);
-        }
-        return l_isAdjacent;
-    }
-
     /**
      * This method will allocate a random card from the available set to the player
      * when they successfully conquer a territory.
      *
+     * @param p_gameState current state of the game, whose card stream picks the
+     *                    card
      */
-    public void allocateCard() {
+    public void allocateCard(GameState p_gameState) {
         if (!d_allowOnlyOneCardPerTurn) {
-            Random l_random = new Random();
-            this.d_playerOwnedCardList
-                    .add(AppConstants.AVAILABLE_CARDS.get(l_random.nextInt(AppConstants.NUM_AVAILABLE_CARDS)));
+            this.d_playerOwnedCardList.add(AppConstants.AVAILABLE_CARDS
+                    .get(p_gameState.getD_random().cards().nextInt(AppConstants.NUM_AVAILABLE_CARDS)));
             // this.d_playerOwnedCardList.add("negotiate");
             this.setD_playerLog(
                     "Player: " + this.d_playerName + " has earned card as reward for the successful conquest- "
@@ -667,52 +675,136 @@ public class Player implements Serializable {
      */
     public void handleCardActions(String p_receivedCommand, GameState p_gameState) {
         if (checkCardCommands(p_receivedCommand)) {
-            switch (p_receivedCommand.split(" ")[0]) {
-                case "airlift":
-                    Card l_newOrder = new Airlift(p_receivedCommand.split(" ")[1],
-                            p_receivedCommand.split(" ")[2],
-                            Integer.parseInt(p_receivedCommand.split(" ")[3]), this);
-                    if (l_newOrder.checkOrderValidity(p_gameState)) {
-                        this.d_playerOrder.add(l_newOrder);
-                        this.setD_playerLog("Card Command Added to Queue for Execution Successfully!",
-                                AppConstants.LOG_MSG);
-                        p_gameState.updateLog(getD_playerLogMessage(), AppConstants.ORDER_EFFECT);
-                    }
-                    break;
-                case "blockade":
-                    Card l_blockadeOrder = new Blockade(this, p_receivedCommand.split(" ")[1]);
-                    if (l_blockadeOrder.checkOrderValidity(p_gameState)) {
-                        this.d_playerOrder.add(l_blockadeOrder);
-                        this.setD_playerLog("Card Command added to Queue for Execution Successfully!",
-                                AppConstants.LOG_MSG);
-                        p_gameState.updateLog(getD_playerLogMessage(), AppConstants.ORDER_EFFECT);
-                    }
-                    break;
-                case "bomb":
-                    Card l_bombOrder = new Bomb(this, p_receivedCommand.split(" ")[1]);
-                    if (l_bombOrder.checkOrderValidity(p_gameState)) {
-                        this.d_playerOrder.add(l_bombOrder);
-                        this.setD_playerLog("Card Command Added to Queue for Execution Successfully!",
-                                AppConstants.LOG_MSG);
-                        p_gameState.updateLog(getD_playerLogMessage(), AppConstants.ORDER_EFFECT);
-                    }
-                    break;
-                case "negotiate":
-                    Card l_negotiateOrder = new Diplomacy(p_receivedCommand.split(" ")[1], this);
-                    if (l_negotiateOrder.checkOrderValidity(p_gameState)) {
-                        this.d_playerOrder.add(l_negotiateOrder);
-                        this.setD_playerLog("Card Command Added to Queue for Execution Successfully!",
-                                AppConstants.LOG_MSG);
-                        p_gameState.updateLog(getD_playerLogMessage(), AppConstants.ORDER_EFFECT);
-                    }
-                    break;
-                default:
-                    this.setD_playerLog("Invalid Command!", AppConstants.ERROR_LOG_MSG);
-                    p_gameState.updateLog(getD_playerLogMessage(), AppConstants.ORDER_EFFECT);
-                    break;
+            try {
+                issueIntent(cardIntent(p_receivedCommand.split(" "), p_gameState), p_gameState);
+            } catch (NumberFormatException l_exception) {
+                this.setD_playerLog("Invalid Card Command Passed! Check Arguments!", AppConstants.ERROR_LOG_MSG);
             }
         } else {
             this.setD_playerLog("Invalid Card Command Passed! Check Arguments!", AppConstants.ERROR_LOG_MSG);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Card order of a card command, whose arguments have been checked.
+     *
+     * @param p_arguments words of the card command
+     * @param p_gameState gamestate instance
+     * @return card order
+     */
+    private OrderIntent cardIntent(String[] p_arguments, GameState p_gameState) {
+        switch (p_arguments[0].toLowerCase()) {
+            case "airlift":
+                return OrderIntent.airlift(countryIndex(p_arguments[1], p_gameState),
+                        countryIndex(p_arguments[2], p_gameState), Integer.parseInt(p_arguments[3]));
+            case "blockade":
+                return OrderIntent.blockade(countryIndex(p_arguments[1], p_gameState));
+            case "bomb":
+                return OrderIntent.bomb(countryIndex(p_arguments[1], p_gameState));
+            default:
+                return OrderIntent.negotiate(new PlayerService().getPlayerByName(p_arguments[1], p_gameState));
+        }
+    }
+
+    /**
+     * Queues an order, with the checks of its command. Countries are taken from
+     * the adjacency graph by their index, so nothing is parsed; commands of
+     * human players are turned into orders first, computer players decide on
+     * orders directly.
+     *
+     * @param p_intent    order to queue
+     * @param p_gameState current state of the game
+     */
+    public void issueIntent(OrderIntent p_intent, GameState p_gameState) {
+        AdjacencyGraph l_graph = p_gameState.getD_map().getAdjacencyGraph();
+        String l_target = OrderIntent.countryName(l_graph, p_intent.getD_target());
+        switch (p_intent.getD_kind()) {
+            case DEPLOY:
+                if (l_target == null) {
+                    this.setD_playerLog("Invalid command for deploy", AppConstants.ERROR_LOG_MSG);
+                } else if (this.getD_unallocatedArmyCount() < p_intent.getD_armies()) {
+                    this.setD_playerLog(
+                            "The deploy order exceeds the player's available unallocated armies and cannot be executed",
+                            AppConstants.ERROR_LOG_MSG);
+                } else {
+                    queueDeploy(l_target, p_intent.getD_armies());
+                }
+                break;
+            case ADVANCE:
+                String l_source = OrderIntent.countryName(l_graph, p_intent.getD_source());
+                if (l_source == null || l_target == null) {
+                    int l_missing = l_source == null ? p_intent.getD_source() : p_intent.getD_target();
+                    this.setD_playerLog("Country index : " + l_missing
+                            + " is not a country of the map. Hence, order is ignored.", AppConstants.ERROR_LOG_MSG);
+                } else if (p_intent.getD_armies() == 0) {
+                    this.setD_playerLog(
+                            "Advance order should be given with more than zero armies. Hence, order cant be executed.",
+                            AppConstants.ERROR_LOG_MSG);
+                } else if (l_graph.isAdjacent(p_intent.getD_source(), p_intent.getD_target())) {
+                    this.d_playerOrder.add(new Advance(this, l_source, l_target, p_intent.getD_armies()));
+                    this.setD_playerLog("Advance order added to queue for execution for player: " + this.d_playerName,
+                            AppConstants.LOG_MSG);
+                } else {
+                    this.setD_playerLog("Advance order cannot be executed since target country : " + l_target
+                            + " is not adjacent to source country : " + l_source, AppConstants.ERROR_LOG_MSG);
+                }
+                break;
+            default:
+                if (d_playerOwnedCardList.contains(p_intent.getD_kind().commandName())) {
+                    queueCard(cardFor(p_intent, l_graph, l_target), p_gameState);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Card order for a card intent.
+     *
+     * @param p_intent intent of a card order
+     * @param p_graph  graph the intent's countries refer to
+     * @param p_target name of the intent's target country
+     * @return card order
+     */
+    private Card cardFor(OrderIntent p_intent, AdjacencyGraph p_graph, String p_target) {
+        switch (p_intent.getD_kind()) {
+            case AIRLIFT:
+                return new Airlift(OrderIntent.countryName(p_graph, p_intent.getD_source()), p_target,
+                        p_intent.getD_armies(), this);
+            case BOMB:
+                return new Bomb(this, p_target);
+            case BLOCKADE:
+                return new Blockade(this, p_target);
+            default:
+                Player l_otherPlayer = p_intent.getD_otherPlayer();
+                return new Diplomacy(l_otherPlayer == null ? null : l_otherPlayer.getD_playerName(), this);
+        }
+    }
+
+    /**
+     * Queues a card order if it is valid.
+     *
+     * @param p_cardOrder card order
+     * @param p_gameState gamestate instance
+     */
+    private void queueCard(Card p_cardOrder, GameState p_gameState) {
+        if (p_cardOrder.checkOrderValidity(p_gameState)) {
+            this.d_playerOrder.add(p_cardOrder);
+            this.setD_playerLog("Card Command Added to Queue for Execution Successfully!", AppConstants.LOG_MSG);
+            p_gameState.updateLog(getD_playerLogMessage(), AppConstants.ORDER_EFFECT);
+        }
+    }
+
+    /**
+     * Reads a saved player, whose countries were saved as a plain list.
+     *
+     * @param p_in stream to read from
+     * @throws IOException            if the stream cannot be read
+     * @throws ClassNotFoundException if a saved class is missing
+     */
+    private void readObject(ObjectInputStream p_in) throws IOException, ClassNotFoundException {
+        p_in.defaultReadObject();
+        if (d_playerCountries != null) {
+            d_playerCountries = new CountrySet(d_playerCountries);
+        }
+    }
+}
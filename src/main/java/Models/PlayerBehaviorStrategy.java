@@ -2,6 +2,7 @@ package Models;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.SplittableRandom;
 
 /**
  * This is Player Behavior's abstract strategy class.
@@ -16,6 +17,12 @@ import java.io.Serializable;
  */
 public abstract class PlayerBehaviorStrategy implements Serializable {
 
+	/**
+	 * serial version of the strategy before it returned order intents, pinned so
+	 * that games saved with Java serialization still load.
+	 */
+	private static final long serialVersionUID = -3404627114818442685L;
+
 	/**
 	 * object of player class.
 	 */
@@ -26,6 +33,20 @@ public abstract class PlayerBehaviorStrategy implements Serializable {
 	 */
 	GameState d_gameState;
 
+	/**
+	 * Reads the next command of a human player, which is handled like any
+	 * command typed at the console. Computer players give typed orders through
+	 * {@link #generateOrder(Player, GameState)} instead.
+	 *
+	 * @param p_player    object of Player class
+	 * @param p_gameState object of GameState class
+	 * @return command entered, or null if the player does not type commands
+	 * @throws IOException Exception
+	 */
+	public String readCommand(Player p_player, GameState p_gameState) throws IOException {
+		return null;
+	}
+
 	/**
 	 * A new order is created for Random, Aggressive, Cheater, and Benevolent
 	 * Players using this method.
@@ -33,28 +54,28 @@ public abstract class PlayerBehaviorStrategy implements Serializable {
 	 * @param p_player    object of Player class
 	 * @param p_gameState object of GameState class
 	 * 
-	 * @return Order object of order class
+	 * @return order intent, or null if the player gives no order this time
 	 * @throws IOException Exception
 	 */
-	public abstract String generateOrder(Player p_player, GameState p_gameState) throws IOException;
+	public abstract OrderIntent generateOrder(Player p_player, GameState p_gameState) throws IOException;
 
 	/**
 	 * Deploy Orders based on strategy definition.
 	 *
 	 * @param p_player    player to give deploy orders
 	 * @param p_gameState current Gamestate
-	 * @return String representing Order
+	 * @return order intent, or null for none
 	 */
-	public abstract String generateDeployOrder(Player p_player, GameState p_gameState);
+	public abstract OrderIntent generateDeployOrder(Player p_player, GameState p_gameState);
 
 	/**
 	 * Advance Orders based on strategy definition.
 	 *
 	 * @param p_player    player to give advance orders
 	 * @param p_gameState GameState representing current Game
-	 * @return String representing Order.
+	 * @return order intent, or null for none
 	 */
-	public abstract String generateAdvanceOrder(Player p_player, GameState p_gameState);
+	public abstract OrderIntent generateAdvanceOrder(Player p_player, GameState p_gameState);
 
 	/**
 	 * Card Orders based on strategy definition.
@@ -62,9 +83,9 @@ public abstract class PlayerBehaviorStrategy implements Serializable {
 	 * @param p_player    player to give Card Orders.
 	 * @param p_gameState GameState representing Current Game
 	 * @param p_cardName  Card Name to create Order for
-	 * @return String representing order
+	 * @return order intent, or null for none
 	 */
-	public abstract String generateCardOrder(Player p_player, GameState p_gameState, String p_cardName);
+	public abstract OrderIntent generateCardOrder(Player p_player, GameState p_gameState, String p_cardName);
 
 	/**
 	 * This method returns the player behavior.
@@ -73,4 +94,34 @@ public abstract class PlayerBehaviorStrategy implements Serializable {
 	 */
 	public abstract String getPlayerBehavior();
 
+	/**
+	 * Picks a random neighbour of a country from the map's border snapshot.
+	 *
+	 * @param p_country   country whose neighbour is picked
+	 * @param p_gameState current game state
+	 * @param p_random    random generator to pick with
+	 * @return neighbouring country, or null if the country has no neighbour in the
+	 *         map
+	 */
+	protected Country getRandomNeighbour(Country p_country, GameState p_gameState, SplittableRandom p_random) {
+		AdjacencyGraph l_graph = p_gameState.getD_map().getAdjacencyGraph();
+		int l_index = l_graph.indexOf(p_country);
+		if (l_index < 0 || l_graph.degree(l_index) == 0) {
+			return null;
+		}
+		return l_graph.country(l_graph.neighbour(l_index, p_random.nextInt(l_graph.degree(l_index))));
+	}
+
+	/**
+	 * Index of a country in the map's border snapshot, as order intents refer to
+	 * countries.
+	 *
+	 * @param p_gameState current game state
+	 * @param p_country   country, may be null
+	 * @return index, or -1 if the country is not in the map
+	 */
+	protected static int indexOf(GameState p_gameState, Country p_country) {
+		return p_gameState.getD_map().getAdjacencyGraph().indexOf(p_country);
+	}
+
 }
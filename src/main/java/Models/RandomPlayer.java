@@ -5,7 +5,9 @@ package Models;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+
+import Views.Console;
 
 /**
  * This describes the Random Player class, which randomly
@@ -22,6 +24,11 @@ import java.util.Random;
  */
 public class RandomPlayer extends PlayerBehaviorStrategy {
 
+	/**
+	 * serial version from before the strategy returned order intents.
+	 */
+	private static final long serialVersionUID = 8299543533997854918L;
+
 	/**
 	 * List containing deploy order countries.
 	 */
@@ -36,8 +43,9 @@ public class RandomPlayer extends PlayerBehaviorStrategy {
 	 * @return Order object of order class
 	 */
 	@Override
-	public String generateOrder(Player p_player, GameState p_gameState) {
-		String l_command;
+	public OrderIntent generateOrder(Player p_player, GameState p_gameState) {
+		OrderIntent l_command;
+		SplittableRandom l_random = p_gameState.getD_random().strategy(p_player);
 		if (!checkIfArmiesDepoyed(p_player)) {
 			if (p_player.getD_unallocatedArmyCount() > 0) {
 				l_command = generateDeployOrder(p_player, p_gameState);
@@ -46,7 +54,7 @@ public class RandomPlayer extends PlayerBehaviorStrategy {
 			}
 		} else {
 			if (p_player.getD_playerOwnedCards().size() > 0) {
-				int l_index = (int) (Math.random() * 3) + 1;
+				int l_index = l_random.nextInt(3) + 1;
 				switch (l_index) {
 					case 1:
 						l_command = generateDeployOrder(p_player, p_gameState);
@@ -60,7 +68,6 @@ public class RandomPlayer extends PlayerBehaviorStrategy {
 									p_player.getD_playerOwnedCards().get(0));
 							break;
 						} else {
-							Random l_random = new Random();
 							int l_randomIndex = l_random.nextInt(p_player.getD_playerOwnedCards().size());
 							l_command = generateCardOrder(p_player, p_gameState,
 									p_player.getD_playerOwnedCards().get(l_randomIndex));
@@ -71,7 +78,6 @@ public class RandomPlayer extends PlayerBehaviorStrategy {
 						break;
 				}
 			} else {
-				Random l_random = new Random();
 				Boolean l_randomBoolean = l_random.nextBoolean();
 				if (l_randomBoolean) {
 					l_command = generateDeployOrder(p_player, p_gameState);
@@ -87,15 +93,15 @@ public class RandomPlayer extends PlayerBehaviorStrategy {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public String generateDeployOrder(Player p_player, GameState p_gameState) {
+	public OrderIntent generateDeployOrder(Player p_player, GameState p_gameState) {
 		if (p_player.getD_unallocatedArmyCount() > 0) {
-			Random l_random = new Random();
-			System.out.println(p_player.getD_playerCountries().size());
-			Country l_randomCountry = getRandomCountry(p_player.getD_playerCountries());
+			SplittableRandom l_random = p_gameState.getD_random().strategy(p_player);
+			Console.println(p_player.getD_playerCountries().size());
+			Country l_randomCountry = getRandomCountry(p_player.getD_playerCountries(), l_random);
 			d_deployCountries.add(l_randomCountry);
 			int l_armiesToDeploy = l_random.nextInt(p_player.getD_unallocatedArmyCount()) + 1;
 
-			return String.format("deploy %s %d", l_randomCountry.getD_countryName(), l_armiesToDeploy);
+			return OrderIntent.deploy(indexOf(p_gameState, l_randomCountry), l_armiesToDeploy);
 		} else {
 			return generateAdvanceOrder(p_player, p_gameState);
 		}
@@ -105,40 +111,32 @@ public class RandomPlayer extends PlayerBehaviorStrategy {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public String generateAdvanceOrder(Player p_player, GameState p_gameState) {
+	public OrderIntent generateAdvanceOrder(Player p_player, GameState p_gameState) {
 		int l_armiesToSend;
-		Random l_random = new Random();
-		Country l_randomOwnCountry = getRandomCountry(d_deployCountries);
-		int l_randomIndex = l_random.nextInt(l_randomOwnCountry.getD_adjacentCountryIds().size());
-		Country l_randomNeighbor;
-		if (l_randomOwnCountry.getD_adjacentCountryIds().size() > 1) {
-			l_randomNeighbor = p_gameState.getD_map()
-					.getCountry(l_randomOwnCountry.getD_adjacentCountryIds().get(l_randomIndex));
-		} else {
-			l_randomNeighbor = p_gameState.getD_map().getCountry(l_randomOwnCountry.getD_adjacentCountryIds().get(0));
-		}
+		SplittableRandom l_random = p_gameState.getD_random().strategy(p_player);
+		Country l_randomOwnCountry = getRandomCountry(d_deployCountries, l_random);
+		Country l_randomNeighbor = getRandomNeighbour(l_randomOwnCountry, p_gameState, l_random);
 
 		if (l_randomOwnCountry.getD_armyCount() != null && l_randomOwnCountry.getD_armyCount() > 1) {
 			l_armiesToSend = l_random.nextInt(l_randomOwnCountry.getD_armyCount() - 1) + 1;
 		} else {
 			l_armiesToSend = 1;
 		}
-		return "advance " + l_randomOwnCountry.getD_countryName() + " " + l_randomNeighbor.getD_countryName() + " "
-				+ l_armiesToSend;
+		return OrderIntent.advance(indexOf(p_gameState, l_randomOwnCountry), indexOf(p_gameState, l_randomNeighbor),
+				l_armiesToSend);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public String generateCardOrder(Player p_player, GameState p_gameState, String p_cardName) {
+	public OrderIntent generateCardOrder(Player p_player, GameState p_gameState, String p_cardName) {
 		int l_armiesToSend;
-		Random l_random = new Random();
-		Country l_randomOwnCountry = getRandomCountry(p_player.getD_playerCountries());
+		SplittableRandom l_random = p_gameState.getD_random().strategy(p_player);
+		Country l_randomOwnCountry = getRandomCountry(p_player.getD_playerCountries(), l_random);
 
-		Country l_randomNeighbour = p_gameState.getD_map().getCountry(l_randomOwnCountry.getD_adjacentCountryIds()
-				.get(l_random.nextInt(l_randomOwnCountry.getD_adjacentCountryIds().size())));
-		Player l_randomPlayer = getRandomPlayer(p_player, p_gameState);
+		Country l_randomNeighbour = getRandomNeighbour(l_randomOwnCountry, p_gameState, l_random);
+		Player l_randomPlayer = getRandomPlayer(p_player, p_gameState, l_random);
 
 		if (l_randomOwnCountry.getD_armyCount() != null && l_randomOwnCountry.getD_armyCount() > 1) {
 			l_armiesToSend = l_random.nextInt(l_randomOwnCountry.getD_armyCount() - 1) + 1;
@@ -147,14 +145,15 @@ public class RandomPlayer extends PlayerBehaviorStrategy {
 		}
 		switch (p_cardName) {
 			case "bomb":
-				return "bomb " + l_randomNeighbour.getD_countryName();
+				return OrderIntent.bomb(indexOf(p_gameState, l_randomNeighbour));
 			case "blockade":
-				return "blockade " + l_randomOwnCountry.getD_countryName();
+				return OrderIntent.blockade(indexOf(p_gameState, l_randomOwnCountry));
 			case "airlift":
-				return "airlift " + l_randomOwnCountry.getD_countryName() + " "
-						+ getRandomCountry(p_player.getD_playerCountries()).getD_countryName() + " " + l_armiesToSend;
+				return OrderIntent.airlift(indexOf(p_gameState, l_randomOwnCountry),
+						indexOf(p_gameState, getRandomCountry(p_player.getD_playerCountries(), l_random)),
+						l_armiesToSend);
 			case "negotiate":
-				return "negotiate" + " " + l_randomPlayer.getD_playerName();
+				return OrderIntent.negotiate(l_randomPlayer);
 		}
 		return null;
 	}
@@ -174,11 +173,11 @@ public class RandomPlayer extends PlayerBehaviorStrategy {
 	 * Provides a randomly selected country owned by the player.
 	 *
 	 * @param p_listOfCountries list of countries owned by player
+	 * @param p_random          strategy stream of the player
 	 * @return a random country from list
 	 */
-	private Country getRandomCountry(List<Country> p_listOfCountries) {
-		Random l_random = new Random();
-		return p_listOfCountries.get(l_random.nextInt(p_listOfCountries.size()));
+	private Country getRandomCountry(List<Country> p_listOfCountries, SplittableRandom p_random) {
+		return p_listOfCountries.get(p_random.nextInt(p_listOfCountries.size()));
 	}
 
 	/**
@@ -203,16 +202,16 @@ public class RandomPlayer extends PlayerBehaviorStrategy {
 	 *
 	 * @param p_player    player object
 	 * @param p_gameState current gamestate.
+	 * @param p_random    strategy stream of the player
 	 * @return player object
 	 */
-	private Player getRandomPlayer(Player p_player, GameState p_gameState) {
+	private Player getRandomPlayer(Player p_player, GameState p_gameState, SplittableRandom p_random) {
 		ArrayList<Player> l_playerList = new ArrayList<Player>();
-		Random l_random = new Random();
 
 		for (Player l_player : p_gameState.getD_playerList()) {
 			if (!l_player.equals(p_player))
 				l_playerList.add(p_player);
 		}
-		return l_playerList.get(l_random.nextInt(l_playerList.size()));
+		return l_playerList.get(p_random.nextInt(l_playerList.size()));
 	}
 }
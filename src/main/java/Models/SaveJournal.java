@@ -0,0 +1,777 @@
+package Models;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+import Constants.AppConstants;
+import Views.Console;
+
+/**
+ * Incremental saves of a game. Saving a game writes a full snapshot, the
+ * checkpoint, and from then on every executed turn appends what it changed to a
+ * journal next to it: armies and owners of the countries that changed, and the
+ * armies, cards, continents and negotiations of the players that changed. A
+ * turn that changed nothing is not written.
+ * <p>
+ * Loading the game reads the checkpoint and replays the journal on top of it;
+ * the game then resumes after the last journaled turn. Each journal record
+ * carries a checksum, so a record cut short by a crash is dropped along with
+ * anything after it. The journal starts with the save id of its checkpoint, so
+ * a journal left over from an older checkpoint is ignored. Once the journal
+ * grows past {@link AppConstants#SAVE_JOURNAL_BYTES}, or the
+ * {@code warzone.save.journalBytes} system property, it is folded into a new
+ * checkpoint.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public final class SaveJournal {
+
+    /**
+     * first bytes of a journal, "WZJL".
+     */
+    private static final int MAGIC = 0x575A4A4C;
+
+    /**
+     * layout version of the journal.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * bytes of the journal header: magic, version and checkpoint id.
+     */
+    private static final int HEADER_BYTES = 16;
+
+    /**
+     * stands for a null Integer or a missing player.
+     */
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    /**
+     * checkpoint the journal belongs to.
+     */
+    private final Path d_checkpointFile;
+
+    /**
+     * journal file.
+     */
+    private final Path d_journalFile;
+
+    /**
+     * id of the checkpoint, written at the start of the journal.
+     */
+    private final long d_checkpointId;
+
+    /**
+     * bytes the journal may hold before it is folded into a new checkpoint.
+     */
+    private final long d_maxBytes;
+
+    /**
+     * players of the game, by index.
+     */
+    private final List<Player> d_players = new ArrayList<Player>();
+
+    /**
+     * index of each player.
+     */
+    private final IdentityHashMap<Player, Integer> d_playerIndexes = new IdentityHashMap<Player, Integer>();
+
+    /**
+     * index of each country of the map.
+     */
+    private final IdentityHashMap<Country, Integer> d_countryIndexes = new IdentityHashMap<Country, Integer>();
+
+    /**
+     * index of each continent of the map.
+     */
+    private final IdentityHashMap<Continent, Integer> d_continentIndexes = new IdentityHashMap<Continent, Integer>();
+
+    /**
+     * bytes in the journal file, 0 if it has to be started over.
+     */
+    private long d_journalBytes;
+
+    /**
+     * game as the journal last recorded it.
+     */
+    private Frame d_baseline;
+
+    /**
+     * Creates the journal of a checkpoint and records the game as it is.
+     *
+     * @param p_checkpointFile     checkpoint
+     * @param p_checkpointId       id of the checkpoint
+     * @param p_gameState          game in the state of the checkpoint
+     */
+    private SaveJournal(Path p_checkpointFile, long p_checkpointId, GameState p_gameState) {
+        d_checkpointFile = p_checkpointFile;
+        d_journalFile = journalFile(p_checkpointFile);
+        d_checkpointId = p_checkpointId;
+        d_maxBytes = Long.getLong("warzone.save.journalBytes", AppConstants.SAVE_JOURNAL_BYTES);
+
+        addPlayers(p_gameState.d_playerList);
+        addPlayers(p_gameState.d_playersFailed);
+        addPlayers(Arrays.asList(p_gameState.d_winner));
+        for (int l_index = 0; l_index < d_players.size(); l_index++) {
+            addPlayers(d_players.get(l_index).d_negotiatedWith);
+        }
+        if (p_gameState.d_map != null) {
+            for (Country l_country : p_gameState.d_map.getD_countries()) {
+                d_countryIndexes.put(l_country, d_countryIndexes.size());
+            }
+            for (Continent l_continent : p_gameState.d_map.getD_continents()) {
+                d_continentIndexes.put(l_continent, d_continentIndexes.size());
+            }
+        }
+        d_baseline = capture(p_gameState);
+    }
+
+    /**
+     * Journal file of a checkpoint.
+     *
+     * @param p_checkpointFile checkpoint
+     * @return journal file next to it
+     */
+    public static Path journalFile(Path p_checkpointFile) {
+        return p_checkpointFile.resolveSibling(p_checkpointFile.getFileName() + AppConstants.SAVE_JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Writes a checkpoint of a game and starts an empty journal for it, which
+     * the game records its turns to from then on. The checkpoint replaces the
+     * file only once it is complete.
+     *
+     * @param p_phase          phase the game is in
+     * @param p_checkpointFile file to save the game to
+     * @throws IOException if the checkpoint cannot be written
+     */
+    public static void checkpoint(GamePlayPhase p_phase, Path p_checkpointFile) throws IOException {
+        Path l_partialFile = p_checkpointFile.resolveSibling(p_checkpointFile.getFileName() + ".tmp");
+        try (FileChannel l_channel = FileChannel.open(l_partialFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            GameSnapshot.write(p_phase, l_channel);
+        }
+        long l_checkpointId = checkpointId(l_partialFile);
+        try {
+            Files.move(l_partialFile, p_checkpointFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException l_e) {
+            Files.move(l_partialFile, p_checkpointFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        // a journal of the old checkpoint no longer matches; it would be ignored
+        Files.deleteIfExists(journalFile(p_checkpointFile));
+
+        GameState l_gameState = p_phase.getD_gameState();
+        l_gameState.d_saveJournal = new SaveJournal(p_checkpointFile, l_checkpointId, l_gameState);
+    }
+
+    /**
+     * Replays the journal of a checkpoint on the game read from it, and keeps
+     * recording the turns of the game to the journal.
+     *
+     * @param p_phase          phase read from the checkpoint
+     * @param p_checkpointFile checkpoint
+     * @return phase to resume the game in: the one of the checkpoint if no turn
+     *         was journaled, else order execution of the last journaled turn,
+     *         with no orders left
+     * @throws IOException if the checkpoint or the journal cannot be read
+     */
+    public static GamePlayPhase resume(GamePlayPhase p_phase, Path p_checkpointFile) throws IOException {
+        GameState l_gameState = p_phase.getD_gameState();
+        SaveJournal l_journal = new SaveJournal(p_checkpointFile, checkpointId(p_checkpointFile), l_gameState);
+        l_gameState.d_saveJournal = l_journal;
+        if (l_journal.replay(l_gameState) == 0) {
+            return p_phase;
+        }
+        for (Player l_player : l_journal.d_players) {
+            l_player.d_playerOrder = new ArrayList<Order>();
+        }
+        l_journal.d_baseline = l_journal.capture(l_gameState);
+        return new OrderExecutionPhase(p_phase.d_gameEngineCtx, l_gameState);
+    }
+
+    /**
+     * Records a turn the game has just executed. A game that was never saved
+     * has no journal and records nothing. The game carries on if the journal
+     * cannot be written, without it.
+     *
+     * @param p_phase phase that executed the turn
+     */
+    public static void recordTurn(GamePlayPhase p_phase) {
+        GameState l_gameState = p_phase.getD_gameState();
+        SaveJournal l_journal = l_gameState.d_saveJournal;
+        if (l_journal == null) {
+            return;
+        }
+        try {
+            l_journal.append(p_phase);
+        } catch (IOException l_e) {
+            l_gameState.d_saveJournal = null;
+            Console.printError("Turns are no longer saved to " + l_journal.d_journalFile + ": " + l_e.getMessage());
+        }
+    }
+
+    /**
+     * Appends the changes of a turn, or writes a new checkpoint if the journal
+     * is full or the game holds players or countries the journal does not
+     * know.
+     *
+     * @param p_phase phase that executed the turn
+     * @throws IOException if the journal or the checkpoint cannot be written
+     */
+    private void append(GamePlayPhase p_phase) throws IOException {
+        Frame l_frame = capture(p_phase.getD_gameState());
+        if (l_frame == null || d_baseline == null) {
+            checkpoint(p_phase, d_checkpointFile);
+            return;
+        }
+        byte[] l_record = d_baseline.diff(l_frame);
+        if (l_record == null) {
+            return;
+        }
+
+        CRC32 l_crc = new CRC32();
+        l_crc.update(l_record);
+        ByteBuffer l_buffer = ByteBuffer.allocate(HEADER_BYTES + 8 + l_record.length);
+        if (d_journalBytes == 0) {
+            l_buffer.putInt(MAGIC).putInt(VERSION).putLong(d_checkpointId);
+        }
+        l_buffer.putInt(l_record.length).putInt((int) l_crc.getValue()).put(l_record);
+        l_buffer.flip();
+        try (FileChannel l_channel = d_journalBytes == 0
+                ? FileChannel.open(d_journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)
+                : FileChannel.open(d_journalFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (l_buffer.hasRemaining()) {
+                d_journalBytes += l_channel.write(l_buffer);
+            }
+        }
+        d_baseline = l_frame;
+
+        if (d_journalBytes > d_maxBytes) {
+            checkpoint(p_phase, d_checkpointFile);
+        }
+    }
+
+    /**
+     * Applies the journal records that belong to the checkpoint and are intact,
+     * and cuts the journal after the last of them.
+     *
+     * @param p_gameState game read from the checkpoint
+     * @return number of turns replayed
+     * @throws IOException if the journal cannot be read
+     */
+    private int replay(GameState p_gameState) throws IOException {
+        if (!Files.exists(d_journalFile)) {
+            return 0;
+        }
+        ByteBuffer l_journal = ByteBuffer.wrap(Files.readAllBytes(d_journalFile));
+        if (l_journal.remaining() < HEADER_BYTES || l_journal.getInt() != MAGIC || l_journal.getInt() != VERSION
+                || l_journal.getLong() != d_checkpointId) {
+            return 0;
+        }
+
+        int l_turns = 0;
+        while (l_journal.remaining() >= 8) {
+            int l_length = l_journal.getInt();
+            int l_checksum = l_journal.getInt();
+            if (l_length < 0 || l_length > l_journal.remaining()) {
+                break;
+            }
+            CRC32 l_crc = new CRC32();
+            l_crc.update(l_journal.array(), l_journal.position(), l_length);
+            if ((int) l_crc.getValue() != l_checksum) {
+                break;
+            }
+            apply(p_gameState, new DataInputStream(
+                    new ByteArrayInputStream(l_journal.array(), l_journal.position(), l_length)));
+            l_journal.position(l_journal.position() + l_length);
+            d_journalBytes = l_journal.position();
+            l_turns++;
+        }
+        if (d_journalBytes == 0) {
+            d_journalBytes = HEADER_BYTES;
+        }
+        if (d_journalBytes < l_journal.capacity()) {
+            try (FileChannel l_channel = FileChannel.open(d_journalFile, StandardOpenOption.WRITE)) {
+                l_channel.truncate(d_journalBytes);
+            }
+        }
+        return l_turns;
+    }
+
+    /**
+     * Applies one journal record.
+     *
+     * @param p_gameState game to update
+     * @param p_record    record
+     * @throws IOException if the record refers to players or map objects the
+     *                     game does not have
+     */
+    private void apply(GameState p_gameState, DataInputStream p_record) throws IOException {
+        try {
+            p_gameState.d_numberOfTurnsLeft = p_record.readInt();
+
+            List<Country> l_countries = p_gameState.d_map.getD_countries();
+            int[] l_owners = owners();
+            int l_changedCountries = p_record.readInt();
+            for (int l_change = 0; l_change < l_changedCountries; l_change++) {
+                int l_index = p_record.readInt();
+                int l_owner = p_record.readInt();
+                int l_armies = p_record.readInt();
+                Country l_country = l_countries.get(l_index);
+                l_country.d_armyCount = l_armies == NULL_INT ? null : l_armies;
+                if (l_owner != l_owners[l_index]) {
+                    if (l_owners[l_index] >= 0) {
+                        d_players.get(l_owners[l_index]).removeCountry(l_country);
+                    }
+                    if (l_owner >= 0) {
+                        d_players.get(l_owner).addCountry(l_country);
+                    }
+                    l_owners[l_index] = l_owner;
+                }
+            }
+
+            List<Continent> l_continents = p_gameState.d_map.getD_continents();
+            int l_changedPlayers = p_record.readInt();
+            for (int l_change = 0; l_change < l_changedPlayers; l_change++) {
+                Player l_player = d_players.get(p_record.readInt());
+                int l_unallocated = p_record.readInt();
+                l_player.d_unallocatedArmyCount = l_unallocated == NULL_INT ? null : l_unallocated;
+                l_player.d_additionalOrders = p_record.readBoolean();
+                l_player.d_allowOnlyOneCardPerTurn = p_record.readBoolean();
+                int l_cardCount = p_record.readInt();
+                if (l_cardCount >= 0) {
+                    l_player.d_playerOwnedCardList.clear();
+                    for (int l_card = 0; l_card < l_cardCount; l_card++) {
+                        l_player.d_playerOwnedCardList.add(p_record.readUTF());
+                    }
+                }
+                l_player.d_negotiatedWith.clear();
+                for (int l_negotiated : readIndexes(p_record)) {
+                    l_player.d_negotiatedWith.add(d_players.get(l_negotiated));
+                }
+                int[] l_continentIndexes = readIndexes(p_record);
+                if (l_continentIndexes == null) {
+                    l_player.d_playerContinents = null;
+                } else {
+                    l_player.d_playerContinents = new ArrayList<Continent>(l_continentIndexes.length);
+                    for (int l_continent : l_continentIndexes) {
+                        l_player.d_playerContinents.add(l_continents.get(l_continent));
+                    }
+                }
+            }
+
+            p_gameState.d_playerList = toPlayers(readIndexes(p_record));
+            List<Player> l_playersFailed = toPlayers(readIndexes(p_record));
+            p_gameState.d_playersFailed = l_playersFailed == null ? new ArrayList<Player>() : l_playersFailed;
+            int l_winner = p_record.readInt();
+            p_gameState.d_winner = l_winner < 0 ? null : d_players.get(l_winner);
+            // countries changed hands behind the owner index
+            p_gameState.d_ownerIndex = null;
+        } catch (IndexOutOfBoundsException | NullPointerException l_e) {
+            throw new IOException("Save journal does not match its checkpoint", l_e);
+        }
+    }
+
+    /**
+     * Adds players the journal does not know yet.
+     *
+     * @param p_players players, may be null or hold nulls
+     */
+    private void addPlayers(List<Player> p_players) {
+        if (p_players == null) {
+            return;
+        }
+        for (Player l_player : p_players) {
+            if (l_player != null && !d_playerIndexes.containsKey(l_player)) {
+                d_playerIndexes.put(l_player, d_players.size());
+                d_players.add(l_player);
+            }
+        }
+    }
+
+    /**
+     * Index of the owner of each country, -1 for none.
+     *
+     * @return owner indexes
+     */
+    private int[] owners() {
+        int[] l_owners = new int[d_countryIndexes.size()];
+        Arrays.fill(l_owners, -1);
+        for (int l_player = d_players.size() - 1; l_player >= 0; l_player--) {
+            List<Country> l_countries = d_players.get(l_player).d_playerCountries;
+            if (l_countries == null) {
+                continue;
+            }
+            for (Country l_country : l_countries) {
+                Integer l_index = d_countryIndexes.get(l_country);
+                if (l_index != null) {
+                    l_owners[l_index] = l_player;
+                }
+            }
+        }
+        return l_owners;
+    }
+
+    /**
+     * Records the game as it is.
+     *
+     * @param p_gameState game
+     * @return recorded state, or null if the game holds players or countries
+     *         the journal does not know
+     */
+    private Frame capture(GameState p_gameState) {
+        List<Country> l_countries = p_gameState.d_map == null ? new ArrayList<Country>()
+                : p_gameState.d_map.getD_countries();
+        if (l_countries.size() != d_countryIndexes.size()) {
+            return null;
+        }
+        Frame l_frame = new Frame(l_countries.size(), d_players.size());
+        l_frame.d_turnsLeft = p_gameState.d_numberOfTurnsLeft;
+        for (int l_index = 0; l_index < l_countries.size(); l_index++) {
+            Country l_country = l_countries.get(l_index);
+            if (!d_countryIndexes.containsKey(l_country)) {
+                return null;
+            }
+            l_frame.d_armies[l_index] = l_country.d_armyCount == null ? NULL_INT : l_country.d_armyCount;
+        }
+        l_frame.d_owners = owners();
+
+        for (int l_index = 0; l_index < d_players.size(); l_index++) {
+            Player l_player = d_players.get(l_index);
+            l_frame.d_unallocated[l_index] = l_player.d_unallocatedArmyCount == null ? NULL_INT
+                    : l_player.d_unallocatedArmyCount;
+            l_frame.d_additionalOrders[l_index] = l_player.d_additionalOrders;
+            l_frame.d_allowOnlyOneCard[l_index] = l_player.d_allowOnlyOneCardPerTurn;
+            l_frame.d_cards.add(isDecoded(l_player.d_playerOwnedCardList)
+                    ? new ArrayList<String>(l_player.d_playerOwnedCardList)
+                    : null);
+            l_frame.d_negotiated.add(toIndexes(l_player.d_negotiatedWith, d_playerIndexes));
+            l_frame.d_continents.add(toIndexes(l_player.d_playerContinents, d_continentIndexes));
+        }
+        l_frame.d_playerList = toIndexes(p_gameState.d_playerList, d_playerIndexes);
+        l_frame.d_playersFailed = toIndexes(p_gameState.d_playersFailed, d_playerIndexes);
+        l_frame.d_winner = p_gameState.d_winner == null ? -1 : d_playerIndexes.getOrDefault(p_gameState.d_winner, NULL_INT);
+
+        if (contains(l_frame.d_playerList, NULL_INT) || contains(l_frame.d_playersFailed, NULL_INT)
+                || l_frame.d_winner == NULL_INT) {
+            return null;
+        }
+        for (int[] l_negotiated : l_frame.d_negotiated) {
+            if (contains(l_negotiated, NULL_INT)) {
+                return null;
+            }
+        }
+        return l_frame;
+    }
+
+    /**
+     * Whether a card hand has been decoded. A hand still waiting in the
+     * checkpoint is as the checkpoint holds it, and decoding it only to record
+     * it would undo the lazy load.
+     *
+     * @param p_cards card hand of a player
+     * @return false if the hand is still encoded
+     */
+    private static boolean isDecoded(List<String> p_cards) {
+        return !(p_cards instanceof LazyList) || ((LazyList<?>) p_cards).isLoaded();
+    }
+
+    /**
+     * Id of a checkpoint: the save id of a snapshot, read from its header, or the
+     * CRC-32 of the whole file for a save that has none.
+     *
+     * @param p_file checkpoint
+     * @return checkpoint id
+     * @throws IOException if the file cannot be read
+     */
+    private static long checkpointId(Path p_file) throws IOException {
+        try (FileChannel l_channel = FileChannel.open(p_file, StandardOpenOption.READ)) {
+            Long l_saveId = GameSnapshot.readSaveId(l_channel);
+            if (l_saveId != null) {
+                return l_saveId;
+            }
+        }
+        CRC32 l_crc = new CRC32();
+        l_crc.update(Files.readAllBytes(p_file));
+        return l_crc.getValue();
+    }
+
+    /**
+     * Indexes of a list of objects; objects without an index are skipped for
+     * map objects and marked NULL_INT for players, so that capture notices
+     * them.
+     *
+     * @param <T>       players, countries or continents
+     * @param p_list    list, may be null
+     * @param p_indexes index of each known object
+     * @return indexes, or null if the list is null
+     */
+    private static <T> int[] toIndexes(List<T> p_list, IdentityHashMap<T, Integer> p_indexes) {
+        if (p_list == null) {
+            return null;
+        }
+        int[] l_indexes = new int[p_list.size()];
+        int l_count = 0;
+        for (T l_item : p_list) {
+            Integer l_index = p_indexes.get(l_item);
+            if (l_index != null) {
+                l_indexes[l_count++] = l_index;
+            } else if (l_item instanceof Player || l_item == null) {
+                l_indexes[l_count++] = l_item == null ? -1 : NULL_INT;
+            }
+        }
+        return l_count == l_indexes.length ? l_indexes : Arrays.copyOf(l_indexes, l_count);
+    }
+
+    /**
+     * Players of a list of indexes.
+     *
+     * @param p_indexes indexes, -1 for null, or null for a null list
+     * @return players, or null
+     */
+    private List<Player> toPlayers(int[] p_indexes) {
+        if (p_indexes == null) {
+            return null;
+        }
+        List<Player> l_players = new ArrayList<Player>(p_indexes.length);
+        for (int l_index : p_indexes) {
+            l_players.add(l_index < 0 ? null : d_players.get(l_index));
+        }
+        return l_players;
+    }
+
+    /**
+     * Whether an array holds a value.
+     *
+     * @param p_values array, may be null
+     * @param p_value  value looked for
+     * @return true if it does
+     */
+    private static boolean contains(int[] p_values, int p_value) {
+        if (p_values != null) {
+            for (int l_value : p_values) {
+                if (l_value == p_value) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes an array of indexes.
+     *
+     * @param p_out     output
+     * @param p_indexes indexes, may be null
+     * @throws IOException never, the output is in memory
+     */
+    private static void writeIndexes(DataOutputStream p_out, int[] p_indexes) throws IOException {
+        if (p_indexes == null) {
+            p_out.writeInt(-1);
+            return;
+        }
+        p_out.writeInt(p_indexes.length);
+        for (int l_index : p_indexes) {
+            p_out.writeInt(l_index);
+        }
+    }
+
+    /**
+     * Reads an array of indexes.
+     *
+     * @param p_in input
+     * @return indexes, or null
+     * @throws IOException if the record ends early
+     */
+    private static int[] readIndexes(DataInputStream p_in) throws IOException {
+        int l_count = p_in.readInt();
+        if (l_count < 0) {
+            return null;
+        }
+        int[] l_indexes = new int[l_count];
+        for (int l_index = 0; l_index < l_count; l_index++) {
+            l_indexes[l_index] = p_in.readInt();
+        }
+        return l_indexes;
+    }
+
+    /**
+     * State of a game as the journal records it, by index of country and
+     * player.
+     */
+    private static final class Frame {
+
+        /**
+         * turns left in the game.
+         */
+        int d_turnsLeft;
+
+        /**
+         * owner of each country, -1 for none.
+         */
+        int[] d_owners;
+
+        /**
+         * armies on each country.
+         */
+        final int[] d_armies;
+
+        /**
+         * unallocated armies of each player.
+         */
+        final int[] d_unallocated;
+
+        /**
+         * whether each player may issue more orders.
+         */
+        final boolean[] d_additionalOrders;
+
+        /**
+         * whether each player got a card this turn.
+         */
+        final boolean[] d_allowOnlyOneCard;
+
+        /**
+         * cards of each player, null for a hand not yet decoded from the
+         * checkpoint.
+         */
+        final List<List<String>> d_cards = new ArrayList<List<String>>();
+
+        /**
+         * players each player negotiated with.
+         */
+        final List<int[]> d_negotiated = new ArrayList<int[]>();
+
+        /**
+         * continents of each player.
+         */
+        final List<int[]> d_continents = new ArrayList<int[]>();
+
+        /**
+         * players of the game.
+         */
+        int[] d_playerList;
+
+        /**
+         * players that lost.
+         */
+        int[] d_playersFailed;
+
+        /**
+         * winner, -1 for none.
+         */
+        int d_winner;
+
+        /**
+         * Creates an empty frame.
+         *
+         * @param p_countryCount countries in the map
+         * @param p_playerCount  players in the game
+         */
+        Frame(int p_countryCount, int p_playerCount) {
+            d_armies = new int[p_countryCount];
+            d_unallocated = new int[p_playerCount];
+            d_additionalOrders = new boolean[p_playerCount];
+            d_allowOnlyOneCard = new boolean[p_playerCount];
+        }
+
+        /**
+         * Whether a player differs between this frame and another.
+         *
+         * @param p_other  later frame
+         * @param p_player player index
+         * @return true if it does
+         */
+        private boolean playerChanged(Frame p_other, int p_player) {
+            return d_unallocated[p_player] != p_other.d_unallocated[p_player]
+                    || d_additionalOrders[p_player] != p_other.d_additionalOrders[p_player]
+                    || d_allowOnlyOneCard[p_player] != p_other.d_allowOnlyOneCard[p_player]
+                    || !Objects.equals(d_cards.get(p_player), p_other.d_cards.get(p_player))
+                    || !Arrays.equals(d_negotiated.get(p_player), p_other.d_negotiated.get(p_player))
+                    || !Arrays.equals(d_continents.get(p_player), p_other.d_continents.get(p_player));
+        }
+
+        /**
+         * Journal record of what changed between this frame and a later one.
+         *
+         * @param p_other later frame
+         * @return record, or null if nothing changed
+         * @throws IOException never, the record is built in memory
+         */
+        byte[] diff(Frame p_other) throws IOException {
+            List<Integer> l_countries = new ArrayList<Integer>();
+            for (int l_index = 0; l_index < d_armies.length; l_index++) {
+                if (d_armies[l_index] != p_other.d_armies[l_index] || d_owners[l_index] != p_other.d_owners[l_index]) {
+                    l_countries.add(l_index);
+                }
+            }
+            List<Integer> l_players = new ArrayList<Integer>();
+            for (int l_index = 0; l_index < d_unallocated.length; l_index++) {
+                if (playerChanged(p_other, l_index)) {
+                    l_players.add(l_index);
+                }
+            }
+            if (l_countries.isEmpty() && l_players.isEmpty() && d_turnsLeft == p_other.d_turnsLeft
+                    && Arrays.equals(d_playerList, p_other.d_playerList)
+                    && Arrays.equals(d_playersFailed, p_other.d_playersFailed) && d_winner == p_other.d_winner) {
+                return null;
+            }
+
+            ByteArrayOutputStream l_bytes = new ByteArrayOutputStream();
+            DataOutputStream l_out = new DataOutputStream(l_bytes);
+            l_out.writeInt(p_other.d_turnsLeft);
+            l_out.writeInt(l_countries.size());
+            for (int l_index : l_countries) {
+                l_out.writeInt(l_index);
+                l_out.writeInt(p_other.d_owners[l_index]);
+                l_out.writeInt(p_other.d_armies[l_index]);
+            }
+            l_out.writeInt(l_players.size());
+            for (int l_index : l_players) {
+                l_out.writeInt(l_index);
+                l_out.writeInt(p_other.d_unallocated[l_index]);
+                l_out.writeBoolean(p_other.d_additionalOrders[l_index]);
+                l_out.writeBoolean(p_other.d_allowOnlyOneCard[l_index]);
+                List<String> l_cards = p_other.d_cards.get(l_index);
+                // -1 keeps the hand of the checkpoint
+                l_out.writeInt(l_cards == null ? -1 : l_cards.size());
+                if (l_cards != null) {
+                    for (String l_card : l_cards) {
+                        l_out.writeUTF(Objects.toString(l_card, ""));
+                    }
+                }
+                writeIndexes(l_out, p_other.d_negotiated.get(l_index));
+                writeIndexes(l_out, p_other.d_continents.get(l_index));
+            }
+            writeIndexes(l_out, p_other.d_playerList);
+            writeIndexes(l_out, p_other.d_playersFailed);
+            l_out.writeInt(p_other.d_winner);
+            l_out.flush();
+            return l_bytes.toByteArray();
+        }
+    }
+}
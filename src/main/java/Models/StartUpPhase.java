@@ -54,7 +54,7 @@ public class StartUpPhase extends GamePlayPhase {
 	public void initPhase(boolean isTournamentMode) {
 		BufferedReader l_reader = new BufferedReader(new InputStreamReader(System.in));
 
-		while (d_gameEngineCtx.getD_CurrentPhase() instanceof StartUpPhase) {
+		while (d_gameEngineCtx.getD_CurrentPhase() == this) {
 			try {
 				System.out.println("Enter Game Commands or type 'exit' for quitting");
 				String l_commandEntered = l_reader.readLine();
@@ -322,7 +322,10 @@ public class StartUpPhase extends GamePlayPhase {
 		// d_gameEngineCtx.setGamePlayPhase(AppConstants.ISSUE_ORDER_PHASE);
 		if (p_gameState.getD_loadMapCommand()) {
 			List<Map<String, String>> l_operations_list = p_command.getOperationsAndArguments();
-			Thread.setDefaultUncaughtExceptionHandler(new ExceptionLogHandler(d_gameState));
+			// tournament games share the JVM, so each logs to its own game from its worker thread
+			if (!p_istournamentmode) {
+				Thread.setDefaultUncaughtExceptionHandler(new ExceptionLogHandler(d_gameState));
+			}
 			if (CommonCode.isCollectionEmpty(l_operations_list) || p_istournamentmode) {
 				d_gameEngineCtx.setD_gameState(p_gameState);
 				d_gameEngineCtx.setD_isTournamentMode(p_istournamentmode);
@@ -421,16 +424,7 @@ public class StartUpPhase extends GamePlayPhase {
 			}
 			if (l_parsingSuccessful) {
 				System.out.println("Parsing Succesful");
-				for (GameState l_gameState : d_tournament.getD_gameStateList()) {
-					d_gameEngineCtx.setD_gameEngineCtxLog(
-							"\nStarting New Game on map : " + l_gameState.getD_map().getD_mapFile() + " .........\n",
-							AppConstants.ORDER_EFFECT);
-					executeAssignCountries(new Command("assigncountries"), null, true, l_gameState);
-
-					d_gameEngineCtx.setD_gameEngineCtxLog(
-							"\nGame Completed on map : " + l_gameState.getD_map().getD_mapFile() + " .........\n",
-							AppConstants.ORDER_EFFECT);
-				}
+				d_tournament.playGames(d_gameEngineCtx);
 				d_gameEngineCtx.setD_gameEngineCtxLog("************ Tournament Completed ************",
 						AppConstants.ORDER_EFFECT);
 				TournamentView l_tournamentView = new TournamentView(d_tournament);
@@ -1,9 +1,21 @@
 package Models;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import Constants.AppConstants;
 import Controllers.GameEngineCtx;
@@ -11,6 +23,9 @@ import Exceptions.InvalidCommand;
 import Exceptions.InvalidMap;
 import Services.MapService;
 import CommonFunctions.Command;
+import Views.Console;
+import Views.LogView.LogRotation;
+import Views.LogView.LogWriter;
 
 /**
  * Class implementaion of tournament mode.
@@ -25,6 +40,12 @@ import CommonFunctions.Command;
  */
 public class Tournament implements Serializable {
 
+	/**
+	 * pinned so that games saved before tournament games ran in parallel still
+	 * load.
+	 */
+	private static final long serialVersionUID = -4322760980700838936L;
+
 	/**
 	 * Map service object.
 	 */
@@ -35,6 +56,53 @@ public class Tournament implements Serializable {
 	 */
 	List<GameState> d_gameStateList = new ArrayList<GameState>();
 
+	/**
+	 * Number of games played at the same time.
+	 */
+	int d_threadCount = 1;
+
+	/**
+	 * Gets number of games played at the same time.
+	 * 
+	 * @return number of threads
+	 */
+	public int getD_threadCount() {
+		return d_threadCount;
+	}
+
+	/**
+	 * Sets number of games played at the same time.
+	 * 
+	 * @param p_threadCount number of threads
+	 */
+	public void setD_threadCount(int p_threadCount) {
+		this.d_threadCount = p_threadCount;
+	}
+
+	/**
+	 * Seed the randomness of the games is derived from, null to play each game
+	 * from a seed of its own.
+	 */
+	Long d_seed;
+
+	/**
+	 * Gets seed the randomness of the games is derived from.
+	 * 
+	 * @return seed, or null if none was given
+	 */
+	public Long getD_seed() {
+		return d_seed;
+	}
+
+	/**
+	 * Sets seed the randomness of the games is derived from.
+	 * 
+	 * @param p_seed seed, or null to play each game from a seed of its own
+	 */
+	public void setD_seed(Long p_seed) {
+		this.d_seed = p_seed;
+	}
+
 	/**
 	 * Gets list of game states.
 	 * 
@@ -69,7 +137,7 @@ public class Tournament implements Serializable {
 			GameEngineCtx p_gameEngine) throws InvalidMap, InvalidCommand {
 
 		// tournament -M listofmapfiles -P listofplayerstrategies -G numberofgames -D
-		// maxnumberofturns
+		// maxnumberofturns [-threads numberofthreads] [-seed seed]
 
 		if (p_operation.equalsIgnoreCase("M")) {
 			return processMapArguments(p_argument, p_gameEngine);
@@ -83,6 +151,12 @@ public class Tournament implements Serializable {
 		if (p_operation.equalsIgnoreCase("D")) {
 			return processNoOfTurnArguments(p_argument, p_gameEngine);
 		}
+		if (p_operation.equalsIgnoreCase("threads")) {
+			return processThreadArgument(p_argument, p_gameEngine);
+		}
+		if (p_operation.equalsIgnoreCase("seed")) {
+			return processSeedArgument(p_argument, p_gameEngine);
+		}
 		throw new InvalidCommand(AppConstants.INVALID_TOURNAMENT_CMD_ERROR);
 	}
 
@@ -109,6 +183,45 @@ public class Tournament implements Serializable {
 		}
 	}
 
+	/**
+	 * Parses number of games to be played at the same time.
+	 * 
+	 * @param p_argument   no of threads
+	 * @param p_gameEngine game engine
+	 * @return true if parsing is successful or else false
+	 */
+	private boolean processThreadArgument(String p_argument, GameEngineCtx p_gameEngine) {
+		int l_threadCount = Integer.parseInt(p_argument.split(" ")[0]);
+		if (l_threadCount >= 1 && l_threadCount <= AppConstants.MAX_TOURNAMENT_THREADS) {
+			d_threadCount = l_threadCount;
+			return true;
+		} else {
+			p_gameEngine.setD_gameEngineCtxLog(
+					"User entered invalid number of threads in command, Range of threads :- 1<=number of threads<="
+							+ AppConstants.MAX_TOURNAMENT_THREADS,
+					AppConstants.ORDER_EFFECT);
+			return false;
+		}
+	}
+
+	/**
+	 * Parses seed the randomness of the games is derived from.
+	 * 
+	 * @param p_argument   seed
+	 * @param p_gameEngine game engine
+	 * @return true if parsing is successful or else false
+	 */
+	private boolean processSeedArgument(String p_argument, GameEngineCtx p_gameEngine) {
+		try {
+			d_seed = Long.parseLong(p_argument.split(" ")[0]);
+			return true;
+		} catch (NumberFormatException l_e) {
+			p_gameEngine.setD_gameEngineCtxLog("User entered invalid seed in command, seed should be a whole number",
+					AppConstants.ORDER_EFFECT);
+			return false;
+		}
+	}
+
 	/**
 	 * Parses number of games given in tournament command to an object.
 	 * 
@@ -247,7 +360,8 @@ public class Tournament implements Serializable {
 	}
 
 	/**
-	 * Parses map arguments given in command.
+	 * Parses map arguments given in command. The maps are loaded and validated in
+	 * parallel, then added to the tournament in the order they were given.
 	 * 
 	 * @param p_argument   list of maps information
 	 * @param p_gameEngine game engine object
@@ -260,20 +374,25 @@ public class Tournament implements Serializable {
 		int l_mapFilesSize = l_listOfMapFiles.length;
 
 		if (l_mapFilesSize >= 1 & l_mapFilesSize <= 5) {
+			List<CompletableFuture<GameState>> l_mapLoads = new ArrayList<CompletableFuture<GameState>>();
 			for (String l_mapToLoad : l_listOfMapFiles) {
-				GameState l_gameState = new GameState();
-				// Loads the map if it is valid or resets the game state
-				Models.Map l_loadedMap = d_mapService.loadMap(l_gameState, l_mapToLoad);
-				l_loadedMap.setD_mapFile(l_mapToLoad);
-				if (l_loadedMap.Validate()) {
-					l_gameState.setD_loadMapCommand();
-					p_gameEngine.setD_gameEngineCtxLog(l_mapToLoad + " has been loaded to start the game",
-							AppConstants.ORDER_EFFECT);
-					d_gameStateList.add(l_gameState);
-				} else {
-					d_mapService.resetMap(l_gameState, l_mapToLoad);
-					return false;
+				l_mapLoads.add(CompletableFuture.supplyAsync(() -> loadTournamentMap(l_mapToLoad)));
+			}
+			for (int l_mapIndex = 0; l_mapIndex < l_mapFilesSize; l_mapIndex++) {
+				GameState l_gameState;
+				try {
+					l_gameState = l_mapLoads.get(l_mapIndex).join();
+				} catch (CompletionException l_e) {
+					if (l_e.getCause() instanceof InvalidMap) {
+						throw (InvalidMap) l_e.getCause();
+					}
+					throw l_e;
 				}
+				l_gameState.setD_loadMapCommand();
+				p_gameEngine.setD_gameEngineCtxLog(
+						l_listOfMapFiles[l_mapIndex] + " has been loaded to start the game",
+						AppConstants.ORDER_EFFECT);
+				d_gameStateList.add(l_gameState);
 			}
 		} else {
 			p_gameEngine.setD_gameEngineCtxLog(
@@ -284,6 +403,192 @@ public class Tournament implements Serializable {
 		return true;
 	}
 
+	/**
+	 * Loads and validates one tournament map into a new game state. Runs on the
+	 * common pool, so an invalid map is reported wrapped in a CompletionException.
+	 *
+	 * @param p_mapToLoad map file name
+	 * @return game state holding the loaded map
+	 */
+	private GameState loadTournamentMap(String p_mapToLoad) {
+		GameState l_gameState = new GameState();
+		Models.Map l_loadedMap = d_mapService.loadMap(l_gameState, p_mapToLoad);
+		l_loadedMap.setD_mapFile(p_mapToLoad);
+		try {
+			l_loadedMap.Validate();
+		} catch (InvalidMap l_e) {
+			throw new CompletionException(l_e);
+		}
+		return l_gameState;
+	}
+
+	/**
+	 * Plays every game of the tournament, up to d_threadCount games at a time.
+	 * Each game runs on an engine context and phase objects of its own and writes
+	 * its own log file, so games share nothing but the immutable map topology.
+	 * The results stay in the game states, in tournament order, and only the
+	 * calling thread writes to the tournament log. Given a seed, each game draws
+	 * its randomness from a seed derived from it and the game's place in the
+	 * tournament, so the tournament plays out the same on any number of threads.
+	 * 
+	 * @param p_gameEngine game engine the tournament command was entered on
+	 * @throws InvalidCommand returned if a game cannot be started
+	 */
+	public void playGames(GameEngineCtx p_gameEngine) throws InvalidCommand {
+		int l_threadCount = Math.max(1, Math.min(d_threadCount, d_gameStateList.size()));
+		try {
+			Files.createDirectories(Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY));
+		} catch (IOException l_e) {
+			p_gameEngine.setD_gameEngineCtxLog("Unable to create " + AppConstants.TOURNAMENT_LOG_DIRECTORY
+					+ ", game logs will be missing: " + l_e.getMessage(), AppConstants.ORDER_EFFECT);
+		}
+
+		ExecutorService l_pool = Executors.newFixedThreadPool(l_threadCount);
+		List<Path> l_logFiles = new ArrayList<Path>();
+		List<List<Path>> l_segments = new ArrayList<List<Path>>();
+		try {
+			List<Future<GameState>> l_games = new ArrayList<Future<GameState>>();
+			for (int l_gameIndex = 0; l_gameIndex < d_gameStateList.size(); l_gameIndex++) {
+				GameState l_gameState = d_gameStateList.get(l_gameIndex);
+				l_gameState.setD_random(
+						d_seed == null ? GameRandom.unseeded() : new GameRandom(GameRandom.mix(d_seed, l_gameIndex)));
+				Path l_logFile = Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY, "game-" + (l_gameIndex + 1) + ".txt");
+				List<Path> l_gameSegments = new ArrayList<Path>();
+				l_logFiles.add(l_logFile);
+				l_segments.add(l_gameSegments);
+				p_gameEngine.setD_gameEngineCtxLog("\nStarting New Game on map : "
+						+ l_gameState.getD_map().getD_mapFile() + " (log: " + l_logFile + ") .........\n",
+						AppConstants.ORDER_EFFECT);
+				l_games.add(l_pool.submit(() -> playGame(l_gameState, l_logFile, l_gameSegments)));
+			}
+			for (int l_gameIndex = 0; l_gameIndex < l_games.size(); l_gameIndex++) {
+				String l_mapFile = d_gameStateList.get(l_gameIndex).getD_map().getD_mapFile();
+				try {
+					l_games.get(l_gameIndex).get();
+					p_gameEngine.setD_gameEngineCtxLog("\nGame Completed on map : " + l_mapFile + " .........\n",
+							AppConstants.ORDER_EFFECT);
+				} catch (ExecutionException l_e) {
+					logFailure(d_gameStateList.get(l_gameIndex), l_logFiles.get(l_gameIndex),
+							l_segments.get(l_gameIndex), l_e.getCause());
+					if (l_e.getCause() instanceof InvalidCommand) {
+						throw (InvalidCommand) l_e.getCause();
+					}
+					p_gameEngine.setD_gameEngineCtxLog(
+							"Game on map : " + l_mapFile + " stopped with an error: " + l_e.getCause(),
+							AppConstants.ORDER_EFFECT);
+				}
+			}
+			writeLogIndex(p_gameEngine, l_segments);
+		} catch (InterruptedException l_e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			l_pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Writes the index of the tournament logs, one line for each game with its
+	 * number, its map and its log segments, oldest first.
+	 * 
+	 * @param p_gameEngine engine the tournament was started on, which logs a
+	 *                     failure to write the index
+	 * @param p_segments   log segments of each game, in game order
+	 */
+	private void writeLogIndex(GameEngineCtx p_gameEngine, List<List<Path>> p_segments) {
+		List<String> l_lines = new ArrayList<String>();
+		l_lines.add("game\tmap\tsegments");
+		for (int l_gameIndex = 0; l_gameIndex < p_segments.size(); l_gameIndex++) {
+			StringBuilder l_line = new StringBuilder();
+			l_line.append(l_gameIndex + 1).append('\t')
+					.append(d_gameStateList.get(l_gameIndex).getD_map().getD_mapFile()).append('\t');
+			for (Path l_segment : p_segments.get(l_gameIndex)) {
+				l_line.append(l_segment.getFileName()).append(' ');
+			}
+			l_lines.add(l_line.toString().trim());
+		}
+		Path l_index = Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY, AppConstants.TOURNAMENT_LOG_INDEX);
+		try {
+			Files.write(l_index, l_lines, StandardCharsets.US_ASCII);
+		} catch (IOException l_e) {
+			p_gameEngine.setD_gameEngineCtxLog("Unable to write " + l_index + ": " + l_e.getMessage(),
+					AppConstants.ORDER_EFFECT);
+		}
+	}
+
+	/**
+	 * Plays one tournament game to its end on a new engine context, and closes
+	 * its log file once the game is over. The log is rolled over into segments
+	 * as set by {@link LogRotation#forTournament()}, and console messages of the
+	 * game go where {@link Console#getTournamentMode()} says.
+	 * 
+	 * @param p_gameState game to play
+	 * @param p_logFile   file the game logs to, replaced with its segments if it
+	 *                    exists
+	 * @param p_segments  filled with the files of the game log, oldest first
+	 * @return the finished game
+	 * @throws InvalidCommand returned if the game cannot be started
+	 * @throws IOException    returned if the old log files cannot be removed
+	 */
+	private GameState playGame(GameState p_gameState, Path p_logFile, List<Path> p_segments)
+			throws InvalidCommand, IOException {
+		deleteLog(p_logFile);
+		LogWriter l_logWriter = LogWriter.forFile(p_logFile.toString(), LogRotation.forTournament());
+		p_gameState.redirectLog(p_logFile.toString());
+		p_gameState.updateLog("Random seed of the game: " + p_gameState.getD_random().getD_seed(),
+				AppConstants.ORDER_EFFECT);
+
+		GameEngineCtx l_gameEngine = new GameEngineCtx();
+		l_gameEngine.setD_gameState(p_gameState);
+		StartUpPhase l_startUpPhase = new StartUpPhase(l_gameEngine, p_gameState);
+		l_gameEngine.setD_CurrentPhase(l_startUpPhase);
+		Console.setThreadMode(Console.getTournamentMode());
+		try {
+			l_startUpPhase.executeAssignCountries(new Command("assigncountries"), null, true, p_gameState);
+		} finally {
+			l_gameEngine.getD_autosaveService().close();
+			Console.setThreadMode(null);
+			LogWriter.close(p_logFile.toString());
+			p_segments.addAll(l_logWriter.getSegments());
+		}
+		return p_gameState;
+	}
+
+	/**
+	 * Appends the error a game stopped with to the game's log. The game closed
+	 * its log when it stopped, so the entry opens it again and closes it once
+	 * written.
+	 * 
+	 * @param p_gameState game that stopped
+	 * @param p_logFile   log file of the game
+	 * @param p_segments  files of the game log, to which the log file is added
+	 *                    if the game left none
+	 * @param p_cause     error the game stopped with
+	 */
+	private void logFailure(GameState p_gameState, Path p_logFile, List<Path> p_segments, Throwable p_cause) {
+		p_gameState.updateLog("Game stopped with an error: " + p_cause, AppConstants.ORDER_EFFECT);
+		LogWriter.close(p_logFile.toString());
+		if (Files.exists(p_logFile) && !p_segments.contains(p_logFile)) {
+			p_segments.add(p_logFile);
+		}
+	}
+
+	/**
+	 * Removes a log file left by an earlier tournament, with its segments.
+	 * 
+	 * @param p_logFile log file to remove
+	 * @throws IOException returned if a file cannot be removed
+	 */
+	private void deleteLog(Path p_logFile) throws IOException {
+		String l_name = p_logFile.getFileName().toString();
+		String l_prefix = l_name.substring(0, l_name.lastIndexOf('.') + 1);
+		try (DirectoryStream<Path> l_files = Files.newDirectoryStream(p_logFile.toAbsolutePath().getParent(),
+				l_prefix + "*")) {
+			for (Path l_file : l_files) {
+				Files.deleteIfExists(l_file);
+			}
+		}
+	}
+
 	/**
 	 * Validates tournament command and checks if required information is there in
 	 * command or not.
@@ -294,13 +599,15 @@ public class Tournament implements Serializable {
 	 */
 	public boolean mandatoryTournamentArgPresent(List<Map<String, String>> p_operations_list, Command p_command) {
 		String l_argumentKey = new String();
-		if (p_operations_list.size() != 4)
+		if (p_operations_list.size() < 4 || p_operations_list.size() > 6)
 			return false;
 
 		for (Map<String, String> l_map : p_operations_list) {
 			if (p_command.checkRequiredKeysPresent(AppConstants.ARGUMENTS, l_map)
 					&& p_command.checkRequiredKeysPresent(AppConstants.OPERATION, l_map)) {
-				l_argumentKey.concat(l_map.get(AppConstants.OPERATION));
+				if (!l_map.get(AppConstants.OPERATION).equalsIgnoreCase("threads")
+						&& !l_map.get(AppConstants.OPERATION).equalsIgnoreCase("seed"))
+					l_argumentKey.concat(l_map.get(AppConstants.OPERATION));
 			}
 		}
 		if (!l_argumentKey.equalsIgnoreCase("MPGD"))
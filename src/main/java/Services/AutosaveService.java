@@ -0,0 +1,291 @@
+package Services;
+
+import Constants.AppConstants;
+import Models.GamePlayPhase;
+import Models.GameSnapshot;
+import Views.Console;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Saves a game on its own every few turns or every few seconds. At the end of
+ * a turn the game is snapshotted in memory, which is quick and sees the game as
+ * it is between turns; a background thread then writes the snapshot to a
+ * temporary file, forces it to disk and renames it to autosave-N.save, while
+ * the next turn is played. Only the newest autosaves are kept. If the writer
+ * falls behind, a snapshot waiting to be written is replaced by the newer one.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public final class AutosaveService {
+
+    /**
+     * start of the autosave file names.
+     */
+    private static final String FILE_PREFIX = "autosave-";
+
+    /**
+     * end of the autosave file names.
+     */
+    private static final String FILE_SUFFIX = ".save";
+
+    /**
+     * directory the autosaves are written to.
+     */
+    private final Path d_directory;
+
+    /**
+     * turns between autosaves, 0 for no limit.
+     */
+    private final int d_everyTurns;
+
+    /**
+     * milliseconds between autosaves, 0 for no limit.
+     */
+    private final long d_everyMilliseconds;
+
+    /**
+     * autosaves kept.
+     */
+    private final int d_keep;
+
+    /**
+     * turns played since the last autosave.
+     */
+    private int d_turnsSinceSave;
+
+    /**
+     * time of the last autosave.
+     */
+    private long d_lastSaveMilliseconds = System.currentTimeMillis();
+
+    /**
+     * snapshot waiting to be written.
+     */
+    private final AtomicReference<ByteBuffer> d_pending = new AtomicReference<ByteBuffer>();
+
+    /**
+     * thread writing the snapshots, started with the first autosave.
+     */
+    private ExecutorService d_writer;
+
+    /**
+     * number of the next autosave file, -1 until the directory was looked at.
+     * Used by the writer thread only.
+     */
+    private long d_nextNumber = -1;
+
+    /**
+     * newest autosave file, null before the first.
+     */
+    private volatile Path d_lastSaved;
+
+    /**
+     * Creates an autosave policy.
+     *
+     * @param p_directory         directory the autosaves are written to
+     * @param p_everyTurns        turns between autosaves, 0 for no limit
+     * @param p_everyMilliseconds milliseconds between autosaves, 0 for no limit
+     * @param p_keep              autosaves kept
+     */
+    public AutosaveService(Path p_directory, int p_everyTurns, long p_everyMilliseconds, int p_keep) {
+        d_directory = p_directory;
+        d_everyTurns = Math.max(0, p_everyTurns);
+        d_everyMilliseconds = Math.max(0, p_everyMilliseconds);
+        d_keep = Math.max(1, p_keep);
+    }
+
+    /**
+     * Autosave of single games: the defaults from AppConstants, which the
+     * {@code warzone.autosave.turns}, {@code warzone.autosave.seconds} and
+     * {@code warzone.autosave.keep} system properties override. Autosave is off
+     * unless turns or seconds are set.
+     *
+     * @return autosave policy
+     */
+    public static AutosaveService fromProperties() {
+        return new AutosaveService(Paths.get(AppConstants.SRC_MAIN_RESOURCES, AppConstants.AUTOSAVE_DIRECTORY),
+                Integer.getInteger("warzone.autosave.turns", AppConstants.AUTOSAVE_TURNS),
+                Long.getLong("warzone.autosave.seconds", AppConstants.AUTOSAVE_SECONDS) * 1000,
+                Integer.getInteger("warzone.autosave.keep", AppConstants.AUTOSAVE_KEEP));
+    }
+
+    /**
+     * Whether games are autosaved at all.
+     *
+     * @return true if a turn or time limit is set
+     */
+    public boolean isEnabled() {
+        return d_everyTurns > 0 || d_everyMilliseconds > 0;
+    }
+
+    /**
+     * Newest autosave written.
+     *
+     * @return autosave file, or null if none was written yet
+     */
+    public Path getD_lastSaved() {
+        return d_lastSaved;
+    }
+
+    /**
+     * Counts a turn the game has finished, and autosaves it if it is due.
+     *
+     * @param p_phase phase that finished the turn
+     */
+    public void turnEnded(GamePlayPhase p_phase) {
+        if (!isEnabled()) {
+            return;
+        }
+        d_turnsSinceSave++;
+        long l_now = System.currentTimeMillis();
+        if ((d_everyTurns == 0 || d_turnsSinceSave < d_everyTurns)
+                && (d_everyMilliseconds == 0 || l_now - d_lastSaveMilliseconds < d_everyMilliseconds)) {
+            return;
+        }
+        d_turnsSinceSave = 0;
+        d_lastSaveMilliseconds = l_now;
+
+        ByteBuffer l_snapshot;
+        try {
+            l_snapshot = GameSnapshot.encode(p_phase);
+        } catch (IOException l_e) {
+            Console.printError("Autosave failed: " + l_e.getMessage());
+            return;
+        }
+        if (d_pending.getAndSet(l_snapshot) == null) {
+            writer().execute(this::writePending);
+        }
+    }
+
+    /**
+     * Waits for the autosave being written, and stops the writer thread. The
+     * game calls this when it ends or exits, since the writer thread is a daemon
+     * and an autosave still pending would otherwise be lost. A later autosave
+     * starts a new writer thread.
+     */
+    public void close() {
+        if (d_writer == null) {
+            return;
+        }
+        d_writer.shutdown();
+        try {
+            d_writer.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException l_e) {
+            Thread.currentThread().interrupt();
+        }
+        d_writer = null;
+    }
+
+    /**
+     * Thread writing the snapshots, started the first time it is needed.
+     *
+     * @return writer
+     */
+    private ExecutorService writer() {
+        if (d_writer == null) {
+            d_writer = Executors.newSingleThreadExecutor(p_runnable -> {
+                Thread l_thread = new Thread(p_runnable, "warzone-autosave");
+                l_thread.setDaemon(true);
+                return l_thread;
+            });
+        }
+        return d_writer;
+    }
+
+    /**
+     * Writes the newest snapshot waiting, on the writer thread.
+     */
+    private void writePending() {
+        ByteBuffer l_snapshot = d_pending.getAndSet(null);
+        if (l_snapshot == null) {
+            return;
+        }
+        try {
+            write(l_snapshot);
+        } catch (IOException l_e) {
+            Console.printError("Autosave failed: " + l_e.getMessage());
+        }
+    }
+
+    /**
+     * Publishes a snapshot as the next autosave and drops autosaves beyond the
+     * ones kept. The autosave file appears only once it is complete on disk.
+     *
+     * @param p_snapshot snapshot
+     * @throws IOException if the autosave cannot be written
+     */
+    private void write(ByteBuffer p_snapshot) throws IOException {
+        Files.createDirectories(d_directory);
+        List<Long> l_numbers = autosaveNumbers();
+        if (d_nextNumber < 0) {
+            d_nextNumber = l_numbers.isEmpty() ? 1 : l_numbers.get(l_numbers.size() - 1) + 1;
+        }
+        Path l_autosave = d_directory.resolve(FILE_PREFIX + d_nextNumber + FILE_SUFFIX);
+        Path l_partial = d_directory.resolve(l_autosave.getFileName() + ".tmp");
+        try (FileChannel l_channel = FileChannel.open(l_partial, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (p_snapshot.hasRemaining()) {
+                l_channel.write(p_snapshot);
+            }
+            l_channel.force(true);
+        }
+        try {
+            Files.move(l_partial, l_autosave, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException l_e) {
+            Files.move(l_partial, l_autosave, StandardCopyOption.REPLACE_EXISTING);
+        }
+        d_lastSaved = l_autosave;
+        l_numbers.add(d_nextNumber++);
+
+        for (int l_index = 0; l_index < l_numbers.size() - d_keep; l_index++) {
+            Files.deleteIfExists(d_directory.resolve(FILE_PREFIX + l_numbers.get(l_index) + FILE_SUFFIX));
+        }
+    }
+
+    /**
+     * Numbers of the autosaves in the directory, oldest first.
+     *
+     * @return autosave numbers
+     * @throws IOException if the directory cannot be listed
+     */
+    private List<Long> autosaveNumbers() throws IOException {
+        List<Long> l_numbers = new ArrayList<Long>();
+        try (DirectoryStream<Path> l_files = Files.newDirectoryStream(d_directory,
+                FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path l_file : l_files) {
+                String l_name = l_file.getFileName().toString();
+                try {
+                    l_numbers.add(Long.parseLong(
+                            l_name.substring(FILE_PREFIX.length(), l_name.length() - FILE_SUFFIX.length())));
+                } catch (NumberFormatException l_e) {
+                    // not one of ours
+                }
+            }
+        }
+        Collections.sort(l_numbers);
+        return l_numbers;
+    }
+}
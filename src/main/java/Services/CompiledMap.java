@@ -0,0 +1,387 @@
+package Services;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import Models.Continent;
+import Models.Country;
+import Models.Map;
+import Models.MapTopology;
+
+/**
+ * Compact form of a parsed map file: id arrays, one name table and the borders
+ * and continent memberships in compressed sparse row form. It is stamped with
+ * the modification time and size of the source file, can be written to and
+ * memory-mapped back from a binary file, and builds a fresh map for every game
+ * that loads it on top of one shared topology.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public final class CompiledMap {
+
+    /**
+     * first bytes of a compiled map file, "WZMC".
+     */
+    private static final int MAGIC = 0x575A4D43;
+
+    /**
+     * layout version of the compiled map file.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * modification time of the source file, in nanoseconds.
+     */
+    private final long d_sourceModified;
+
+    /**
+     * size of the source file in bytes.
+     */
+    private final long d_sourceSize;
+
+    /**
+     * continent ids in map order.
+     */
+    private final int[] d_continentIds;
+
+    /**
+     * continent bonus values in map order.
+     */
+    private final int[] d_continentValues;
+
+    /**
+     * country ids in map order.
+     */
+    private final int[] d_countryIds;
+
+    /**
+     * continent id of each country.
+     */
+    private final int[] d_countryContinentIds;
+
+    /**
+     * start of each continent's row in d_members, with one extra entry at the
+     * end.
+     */
+    private final int[] d_memberOffsets;
+
+    /**
+     * country indexes of the members of all continents, row after row.
+     */
+    private final int[] d_members;
+
+    /**
+     * start of each country's row in d_borderIds, with one extra entry at the
+     * end.
+     */
+    private final int[] d_borderOffsets;
+
+    /**
+     * neighbour country ids of all countries, row after row.
+     */
+    private final int[] d_borderIds;
+
+    /**
+     * continent names followed by country names.
+     */
+    private final String[] d_names;
+
+    /**
+     * structure shared by the maps built from this compiled map.
+     */
+    private final MapTopology d_topology;
+
+    /**
+     * Creates a compiled map from its arrays.
+     *
+     * @param p_sourceModified      modification time of the source file
+     * @param p_sourceSize          size of the source file
+     * @param p_continentIds        continent ids
+     * @param p_continentValues     continent bonus values
+     * @param p_countryIds          country ids
+     * @param p_countryContinentIds continent id of each country
+     * @param p_memberOffsets       continent member row offsets
+     * @param p_members             continent member country indexes
+     * @param p_borderOffsets       border row offsets
+     * @param p_borderIds           neighbour country ids
+     * @param p_names               continent names followed by country names
+     */
+    private CompiledMap(long p_sourceModified, long p_sourceSize, int[] p_continentIds, int[] p_continentValues,
+            int[] p_countryIds, int[] p_countryContinentIds, int[] p_memberOffsets, int[] p_members,
+            int[] p_borderOffsets, int[] p_borderIds, String[] p_names) {
+        d_sourceModified = p_sourceModified;
+        d_sourceSize = p_sourceSize;
+        d_continentIds = p_continentIds;
+        d_continentValues = p_continentValues;
+        d_countryIds = p_countryIds;
+        d_countryContinentIds = p_countryContinentIds;
+        d_memberOffsets = p_memberOffsets;
+        d_members = p_members;
+        d_borderOffsets = p_borderOffsets;
+        d_borderIds = p_borderIds;
+        d_names = p_names;
+        d_topology = new MapTopology(p_continentIds, Arrays.copyOfRange(p_names, 0, p_continentIds.length),
+                p_continentValues, p_memberOffsets, p_members, p_countryIds,
+                Arrays.copyOfRange(p_names, p_continentIds.length, p_names.length), p_countryContinentIds,
+                p_borderOffsets, p_borderIds);
+    }
+
+    /**
+     * Compiles a freshly parsed map.
+     *
+     * @param p_map            parsed map
+     * @param p_sourceModified modification time of the map file in nanoseconds
+     * @param p_sourceSize     size of the map file
+     * @return compiled map, or null if the map has missing ids or names or a
+     *         continent holds a country that is not in the map, which the
+     *         compiled form cannot represent
+     */
+    public static CompiledMap compile(Map p_map, long p_sourceModified, long p_sourceSize) {
+        List<Continent> l_continents = p_map.getD_continents() == null ? new ArrayList<Continent>()
+                : p_map.getD_continents();
+        List<Country> l_countries = p_map.getD_countries() == null ? new ArrayList<Country>()
+                : p_map.getD_countries();
+        int l_continentCount = l_continents.size();
+        int l_countryCount = l_countries.size();
+        String[] l_names = new String[l_continentCount + l_countryCount];
+
+        int[] l_continentIds = new int[l_continentCount];
+        int[] l_continentValues = new int[l_continentCount];
+        int[] l_memberOffsets = new int[l_continentCount + 1];
+        List<Integer> l_members = new ArrayList<Integer>();
+        IdentityHashMap<Country, Integer> l_indexByCountry = new IdentityHashMap<Country, Integer>();
+        for (int l_index = 0; l_index < l_countryCount; l_index++) {
+            l_indexByCountry.put(l_countries.get(l_index), l_index);
+        }
+        for (int l_index = 0; l_index < l_continentCount; l_index++) {
+            Continent l_continent = l_continents.get(l_index);
+            if (l_continent.getD_continentID() == null || l_continent.getD_continentValue() == null
+                    || l_continent.getD_continentName() == null) {
+                return null;
+            }
+            l_continentIds[l_index] = l_continent.getD_continentID();
+            l_continentValues[l_index] = l_continent.getD_continentValue();
+            l_names[l_index] = l_continent.getD_continentName();
+            if (l_continent.getD_countries() != null) {
+                for (Country l_member : l_continent.getD_countries()) {
+                    Integer l_memberIndex = l_indexByCountry.get(l_member);
+                    if (l_memberIndex == null) {
+                        return null;
+                    }
+                    l_members.add(l_memberIndex);
+                }
+            }
+            l_memberOffsets[l_index + 1] = l_members.size();
+        }
+
+        int[] l_countryIds = new int[l_countryCount];
+        int[] l_countryContinentIds = new int[l_countryCount];
+        int[] l_borderOffsets = new int[l_countryCount + 1];
+        List<Integer> l_borderIds = new ArrayList<Integer>();
+        for (int l_index = 0; l_index < l_countryCount; l_index++) {
+            Country l_country = l_countries.get(l_index);
+            if (l_country.getD_countryId() == null || l_country.getD_continentId() == null
+                    || l_country.getD_countryName() == null) {
+                return null;
+            }
+            l_countryIds[l_index] = l_country.getD_countryId();
+            l_countryContinentIds[l_index] = l_country.getD_continentId();
+            l_names[l_continentCount + l_index] = l_country.getD_countryName();
+            if (l_country.getD_adjacentCountryIds() != null) {
+                for (Integer l_neighbourId : l_country.getD_adjacentCountryIds()) {
+                    if (l_neighbourId == null) {
+                        return null;
+                    }
+                    l_borderIds.add(l_neighbourId);
+                }
+            }
+            l_borderOffsets[l_index + 1] = l_borderIds.size();
+        }
+
+        return new CompiledMap(p_sourceModified, p_sourceSize, l_continentIds, l_continentValues, l_countryIds,
+                l_countryContinentIds, l_memberOffsets, toArray(l_members), l_borderOffsets, toArray(l_borderIds),
+                l_names);
+    }
+
+    /**
+     * Checks whether the map was compiled from the given version of its source.
+     *
+     * @param p_sourceModified current modification time of the map file in nanoseconds
+     * @param p_sourceSize     current size of the map file
+     * @return true if the compiled form is still up to date
+     */
+    public boolean isCompiledFrom(long p_sourceModified, long p_sourceSize) {
+        return d_sourceModified == p_sourceModified && d_sourceSize == p_sourceSize;
+    }
+
+    /**
+     * Builds a new map with its own continent and country objects, so that
+     * games loading the same file never share state that changes during play.
+     * All of them share one topology.
+     *
+     * @return new map
+     */
+    public Map toMap() {
+        return d_topology.newMap();
+    }
+
+    /**
+     * Writes the compiled map to a binary file.
+     *
+     * @param p_file file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeTo(Path p_file) throws IOException {
+        ByteBuffer l_buffer = encode();
+        try (FileChannel l_channel = FileChannel.open(p_file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (l_buffer.hasRemaining()) {
+                l_channel.write(l_buffer);
+            }
+        }
+    }
+
+    /**
+     * Encodes the compiled map in the layout of a compiled map file.
+     *
+     * @return buffer holding the encoded map, ready to be read
+     */
+    public ByteBuffer encode() {
+        byte[][] l_encodedNames = new byte[d_names.length][];
+        int l_nameBytes = 0;
+        for (int l_index = 0; l_index < d_names.length; l_index++) {
+            l_encodedNames[l_index] = d_names[l_index].getBytes(StandardCharsets.UTF_8);
+            l_nameBytes += l_encodedNames[l_index].length;
+        }
+        int l_intCount = 2 * d_continentIds.length + 2 * d_countryIds.length + d_memberOffsets.length
+                + d_members.length + d_borderOffsets.length + d_borderIds.length + d_names.length;
+        ByteBuffer l_buffer = ByteBuffer.allocate(4 * 2 + 8 * 2 + 4 * 4 + 4 * l_intCount + l_nameBytes);
+
+        l_buffer.putInt(MAGIC).putInt(VERSION).putLong(d_sourceModified).putLong(d_sourceSize);
+        l_buffer.putInt(d_continentIds.length).putInt(d_countryIds.length).putInt(d_members.length)
+                .putInt(d_borderIds.length);
+        for (int[] l_array : new int[][] { d_continentIds, d_continentValues, d_countryIds, d_countryContinentIds,
+                d_memberOffsets, d_members, d_borderOffsets, d_borderIds }) {
+            l_buffer.asIntBuffer().put(l_array);
+            l_buffer.position(l_buffer.position() + 4 * l_array.length);
+        }
+        for (byte[] l_name : l_encodedNames) {
+            l_buffer.putInt(l_name.length);
+        }
+        for (byte[] l_name : l_encodedNames) {
+            l_buffer.put(l_name);
+        }
+
+        l_buffer.flip();
+        return l_buffer;
+    }
+
+    /**
+     * Memory-maps a compiled map file.
+     *
+     * @param p_file file to read
+     * @return compiled map, or null if the file is not a compiled map of the
+     *         current layout
+     * @throws IOException if the file cannot be read
+     */
+    public static CompiledMap readFrom(Path p_file) throws IOException {
+        MappedByteBuffer l_buffer;
+        try (FileChannel l_channel = FileChannel.open(p_file, StandardOpenOption.READ)) {
+            l_buffer = l_channel.map(FileChannel.MapMode.READ_ONLY, 0, l_channel.size());
+        }
+        return decode(l_buffer);
+    }
+
+    /**
+     * Decodes a compiled map from the layout of a compiled map file, moving the
+     * buffer past it.
+     *
+     * @param p_buffer buffer positioned at the start of the map
+     * @return compiled map, or null if the buffer does not hold a compiled map of
+     *         the current layout
+     */
+    public static CompiledMap decode(ByteBuffer p_buffer) {
+        ByteBuffer l_buffer = p_buffer;
+        try {
+            if (l_buffer.getInt() != MAGIC || l_buffer.getInt() != VERSION) {
+                return null;
+            }
+            long l_sourceModified = l_buffer.getLong();
+            long l_sourceSize = l_buffer.getLong();
+            int l_continentCount = l_buffer.getInt();
+            int l_countryCount = l_buffer.getInt();
+            int l_memberCount = l_buffer.getInt();
+            int l_borderCount = l_buffer.getInt();
+
+            int[] l_continentIds = readInts(l_buffer, l_continentCount);
+            int[] l_continentValues = readInts(l_buffer, l_continentCount);
+            int[] l_countryIds = readInts(l_buffer, l_countryCount);
+            int[] l_countryContinentIds = readInts(l_buffer, l_countryCount);
+            int[] l_memberOffsets = readInts(l_buffer, l_continentCount + 1);
+            int[] l_members = readInts(l_buffer, l_memberCount);
+            int[] l_borderOffsets = readInts(l_buffer, l_countryCount + 1);
+            int[] l_borderIds = readInts(l_buffer, l_borderCount);
+            int[] l_nameLengths = readInts(l_buffer, l_continentCount + l_countryCount);
+            String[] l_names = new String[l_nameLengths.length];
+            byte[] l_nameBytes = new byte[0];
+            for (int l_index = 0; l_index < l_names.length; l_index++) {
+                if (l_nameBytes.length < l_nameLengths[l_index]) {
+                    l_nameBytes = new byte[l_nameLengths[l_index]];
+                }
+                l_buffer.get(l_nameBytes, 0, l_nameLengths[l_index]);
+                l_names[l_index] = new String(l_nameBytes, 0, l_nameLengths[l_index], StandardCharsets.UTF_8);
+            }
+            return new CompiledMap(l_sourceModified, l_sourceSize, l_continentIds, l_continentValues, l_countryIds,
+                    l_countryContinentIds, l_memberOffsets, l_members, l_borderOffsets, l_borderIds, l_names);
+        } catch (RuntimeException l_e) {
+            // truncated or corrupt file
+            return null;
+        }
+    }
+
+    /**
+     * Reads ints from the buffer and moves past them.
+     *
+     * @param p_buffer buffer to read
+     * @param p_count  number of ints
+     * @return the ints
+     */
+    private static int[] readInts(ByteBuffer p_buffer, int p_count) {
+        if (p_count < 0 || p_count > p_buffer.remaining() / 4) {
+            throw new IllegalStateException("Compiled map is truncated");
+        }
+        int[] l_values = new int[p_count];
+        p_buffer.asIntBuffer().get(l_values);
+        p_buffer.position(p_buffer.position() + 4 * p_count);
+        return l_values;
+    }
+
+    /**
+     * Copies a list of ints into an array.
+     *
+     * @param p_values list of ints
+     * @return array of ints
+     */
+    private static int[] toArray(List<Integer> p_values) {
+        int[] l_array = new int[p_values.size()];
+        for (int l_index = 0; l_index < l_array.length; l_index++) {
+            l_array[l_index] = p_values.get(l_index);
+        }
+        return l_array;
+    }
+}
@@ -1,10 +1,16 @@
 package Services;
 
+import java.io.BufferedReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
 
 import Constants.AppConstants;
 import Models.Continent;
@@ -34,157 +40,126 @@ public class ConquestMap implements Serializable {
 	 * @param p_gameState   GameState to update with the processed map
 	 */
 	public void readMapContent(List<String> p_fileContent, Map p_map, GameState p_gameState) {
-		// Parses the file and stores information in objects
-		List<String> l_continentData = retrieveMetaData(p_fileContent, AppConstants.CONTINENT);
-		List<String> l_countryData = retrieveMetaData(p_fileContent, AppConstants.COUNTRY);
-		List<Continent> l_continentObjects = analyzeContinentsMetaData(l_continentData);
-		List<Country> l_countryObjects = analyzeCountriesMetaData(l_countryData, l_continentObjects);
-		List<Country> l_updatedCountries = analyzeBorderMetaData(l_countryObjects, l_countryData);
-
-		l_continentObjects = linkCountryContinents(l_updatedCountries, l_continentObjects);
-		p_map.setD_continents(l_continentObjects);
-		p_map.setD_countries(l_countryObjects);
-		p_gameState.setD_map(p_map);
+		parseMapContent(p_fileContent.iterator(), p_map, p_gameState);
 	}
 
 	/**
-	 * Provides the essential lines obtained from the map file.
+	 * Streams the map file through the parser one line at a time, without
+	 * holding the whole file in memory.
 	 *
-	 * @param p_fileLines       All Lines in the map document
-	 * @param p_switchParameter Type of lines needed : country, continent, borders
-	 * @return List required set of lines
+	 * @param p_reader    reader positioned at the start of the map file
+	 * @param p_map       Map object to update with processed data
+	 * @param p_gameState GameState to update with the processed map
+	 * @throws IOException if the file cannot be read
 	 */
-	public List<String> retrieveMetaData(List<String> p_fileLines, String p_switchParameter) {
-		switch (p_switchParameter) {
-			case AppConstants.CONTINENT:
-				List<String> l_continentLines = p_fileLines.subList(
-						p_fileLines.indexOf(AppConstants.CONQUEST_CONTINENT) + 1,
-						p_fileLines.indexOf(AppConstants.CONQUEST_TERRITORIES) - 1);
-				return l_continentLines;
-			case AppConstants.COUNTRY:
-				List<String> l_countryLines = p_fileLines
-						.subList(p_fileLines.indexOf(AppConstants.CONQUEST_TERRITORIES) + 1, p_fileLines.size());
-				return l_countryLines;
-			default:
-				return null;
+	public void readMapContent(BufferedReader p_reader, Map p_map, GameState p_gameState) throws IOException {
+		try {
+			parseMapContent(p_reader.lines().iterator(), p_map, p_gameState);
+		} catch (UncheckedIOException l_e) {
+			throw l_e.getCause();
 		}
 	}
 
 	/**
-	 * In the 'analyzeContinentsMetaData' method, the extracted continent data from
-	 * the map file is parsed.
-	 * 
-	 * 
-	 * @param p_continentList includes continent data in list from map file
-	 * @return List of processed continent meta data
+	 * Parses a map file held in memory, slicing it into lines as the parser
+	 * asks for them rather than copying it whole.
+	 *
+	 * @param p_content   characters of the map file
+	 * @param p_map       Map object to update with processed data
+	 * @param p_gameState GameState to update with the processed map
 	 */
-	public List<Continent> analyzeContinentsMetaData(List<String> p_continentList) {
-		int l_continentId = 1;
-		List<Continent> l_continents = new ArrayList<Continent>();
+	public void readMapContent(CharSequence p_content, Map p_map, GameState p_gameState) {
+		parseMapContent(new Iterator<String>() {
+			private int d_lineStart = 0;
 
-		for (String cont : p_continentList) {
-			String[] l_metaData = cont.split("=");
-			l_continents.add(new Continent(l_continentId, l_metaData[0], Integer.parseInt(l_metaData[1])));
-			l_continentId++;
-		}
-		return l_continents;
-	}
+			@Override
+			public boolean hasNext() {
+				return d_lineStart < p_content.length();
+			}
 
-	/**
-	 * In the 'analyzeCountriesMetaData' method, the extracted country and border
-	 * data from the map file are analyzed.
-	 * 
-	 * @param p_countriesList includes country data in list from map file.
-	 * @param p_continentList includes Continents data in list from map file.
-	 * @return List of processed country meta data.
-	 */
-	public List<Country> analyzeCountriesMetaData(List<String> p_countriesList, List<Continent> p_continentList) {
-		List<Country> l_countriesList = new ArrayList<Country>();
-		int l_country_id = 1;
-		for (String country : p_countriesList) {
-			String[] l_metaDataCountries = country.split(",");
-			Continent l_continent = this.getContinentByName(p_continentList, l_metaDataCountries[3]);
-			Country l_countryObj = new Country(l_country_id, l_metaDataCountries[0],
-					l_continent.getD_continentID());
-			l_countriesList.add(l_countryObj);
-			l_country_id++;
-		}
-		return l_countriesList;
+			@Override
+			public String next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				int l_lineEnd = d_lineStart;
+				while (l_lineEnd < p_content.length() && p_content.charAt(l_lineEnd) != '\n'
+						&& p_content.charAt(l_lineEnd) != '\r') {
+					l_lineEnd++;
+				}
+				String l_line = p_content.subSequence(d_lineStart, l_lineEnd).toString();
+				d_lineStart = l_lineEnd + 1;
+				return l_line;
+			}
+		}, p_map, p_gameState);
 	}
 
 	/**
-	 * Establishes connections between the Country Objects and their corresponding
-	 * neighbors.
+	 * Parses the continents and territories in a single pass. Continent and
+	 * territory names go into symbol tables keyed by lower case name, and the
+	 * borders, which may name territories defined further down the file, are
+	 * resolved through the territory table once the pass is over.
 	 *
-	 * @param p_countriesList Total Country Objects Initialized
-	 * @param p_countryLines  Country Lines
-	 * @return List Updated Country Objects
+	 * @param p_lines     lines of the map file
+	 * @param p_map       Map object to update with processed data
+	 * @param p_gameState GameState to update with the processed map
 	 */
-	public List<Country> analyzeBorderMetaData(List<Country> p_countriesList, List<String> p_countryLines) {
-		List<Country> l_updatedCountryList = new ArrayList<>(p_countriesList);
-		String l_matchedCountry = null;
-		for (Country l_cont : l_updatedCountryList) {
-			for (String l_contStr : p_countryLines) {
-				if ((l_contStr.split(",")[0]).equalsIgnoreCase(l_cont.getD_countryName())) {
-					l_matchedCountry = l_contStr;
-					break;
-				}
+	private void parseMapContent(Iterator<String> p_lines, Map p_map, GameState p_gameState) {
+		List<Continent> l_continents = new ArrayList<Continent>();
+		HashMap<String, Continent> l_continentsByName = new HashMap<String, Continent>();
+		List<Country> l_countries = new ArrayList<Country>();
+		HashMap<String, Integer> l_countryIdsByName = new HashMap<String, Integer>();
+		List<String[]> l_borderNames = new ArrayList<String[]>();
+		String l_section = "";
+
+		while (p_lines.hasNext()) {
+			String l_line = p_lines.next().trim();
+			if (l_line.isEmpty()) {
+				continue;
+			}
+			if (l_line.charAt(0) == '[') {
+				l_section = l_line;
+				continue;
 			}
-			if (l_matchedCountry.split(",").length > 4) {
-				for (int i = 4; i < l_matchedCountry.split(",").length; i++) {
-					Country l_country = this.getCountryByName(p_countriesList, l_matchedCountry.split(",")[i]);
-					l_cont.getD_adjacentCountryIds().add(l_country.getD_countryId());
+			if (AppConstants.CONQUEST_CONTINENT.equals(l_section)) {
+				int l_separator = l_line.lastIndexOf('=');
+				String l_name = l_line.substring(0, l_separator);
+				Continent l_continent = new Continent(l_continents.size() + 1, l_name,
+						Integer.parseInt(l_line.substring(l_separator + 1).trim()));
+				l_continents.add(l_continent);
+				l_continentsByName.putIfAbsent(l_name.toLowerCase(Locale.ROOT), l_continent);
+			} else if (AppConstants.CONQUEST_TERRITORIES.equals(l_section)) {
+				String[] l_metaData = l_line.split(",");
+				Continent l_continent = l_metaData.length > 3
+						? l_continentsByName.get(l_metaData[3].toLowerCase(Locale.ROOT))
+						: null;
+				if (l_continent == null) {
+					System.out.println("Territory " + l_metaData[0] + " skipped as its continent is not defined");
+					continue;
 				}
+				Country l_country = new Country(l_countries.size() + 1, l_metaData[0], l_continent.getD_continentID());
+				l_countries.add(l_country);
+				l_countryIdsByName.putIfAbsent(l_metaData[0].toLowerCase(Locale.ROOT), l_country.getD_countryId());
+				l_continent.addCountry(l_country);
+				l_borderNames.add(l_metaData);
 			}
 		}
-		return l_updatedCountryList;
-	}
 
-	/**
-	 * Associates countries with their respective continents and assigns them within
-	 * the continent object.
-	 * 
-	 * @param p_countries  Total Country Objects
-	 * @param p_continents Total Continent Objects
-	 * @return List of updated continents
-	 */
-	public List<Continent> linkCountryContinents(List<Country> p_countries, List<Continent> p_continents) {
-		for (Country c : p_countries) {
-			for (Continent cont : p_continents) {
-				if (cont.getD_continentID().equals(c.getD_continentId())) {
-					cont.addCountry(c);
+		// Borders start at the fifth field of each territory line
+		for (int l_index = 0; l_index < l_countries.size(); l_index++) {
+			String[] l_metaData = l_borderNames.get(l_index);
+			List<Integer> l_adjacentIds = l_countries.get(l_index).getD_adjacentCountryIds();
+			for (int l_field = 4; l_field < l_metaData.length; l_field++) {
+				Integer l_neighbourId = l_countryIdsByName.get(l_metaData[l_field].toLowerCase(Locale.ROOT));
+				if (l_neighbourId != null) {
+					l_adjacentIds.add(l_neighbourId);
 				}
 			}
 		}
-		return p_continents;
-	}
-
-	/**
-	 * Filters continent based on continent name.
-	 * 
-	 * @param p_continentList list of continents from which filtering has to be done
-	 * @param p_continentName name of the continent which has to be matched
-	 * @return filtered continent based on name
-	 */
-	public Continent getContinentByName(List<Continent> p_continentList, String p_continentName) {
-		Continent l_continent = p_continentList.stream()
-				.filter(l_cont -> l_cont.getD_continentName().equalsIgnoreCase(p_continentName))
-				.findFirst().orElse(null);
-		return l_continent;
-	}
 
-	/**
-	 * Filters country based on country name.
-	 * 
-	 * @param p_countrytList list of countries from which filtering has to be done
-	 * @param p_countryName  name of the country which has to be matched
-	 * @return filtered country based on name
-	 */
-	public Country getCountryByName(List<Country> p_countrytList, String p_countryName) {
-		Country l_country = p_countrytList.stream()
-				.filter(l_cont -> l_cont.getD_countryName().equalsIgnoreCase(p_countryName))
-				.findFirst().orElse(null);
-		return l_country;
+		p_map.setD_continents(l_continents);
+		p_map.setD_countries(l_countries);
+		p_gameState.setD_map(p_map);
 	}
 
 	/**
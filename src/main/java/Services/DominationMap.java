@@ -3,8 +3,9 @@ package Services;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 
 import Constants.AppConstants;
@@ -35,132 +36,191 @@ public class DominationMap implements Serializable {
      * @param p_gameState   GameState to update with the processed map
      */
     public void readMapContent(List<String> p_fileContent, Map p_map, GameState p_gameState) {
-        List<String> l_continentData = retrieveMetaData(p_fileContent, AppConstants.CONTINENT);
-        List<String> l_countryData = retrieveMetaData(p_fileContent, AppConstants.COUNTRY);
-        List<String> l_bordersMetaData = retrieveMetaData(p_fileContent, AppConstants.BORDER);
+        readMapContent(CharBuffer.wrap(String.join("\n", p_fileContent)), p_map, p_gameState);
+    }
+
+    /**
+     * Parses the continents, countries and borders of a map file in a single pass
+     * over its characters. Numbers are read straight from the characters and only
+     * names become strings; countries are linked to their continent by position,
+     * as continent ids follow the order of the continents section.
+     *
+     * @param p_content   characters of the map file; its position is not changed
+     * @param p_map       Map object to update with processed data
+     * @param p_gameState GameState to update with the processed map
+     */
+    public void readMapContent(CharBuffer p_content, Map p_map, GameState p_gameState) {
+        char[] l_chars;
+        int l_lineStart;
+        if (p_content.hasArray()) {
+            l_chars = p_content.array();
+            l_lineStart = p_content.arrayOffset() + p_content.position();
+        } else {
+            l_chars = new char[p_content.remaining()];
+            p_content.duplicate().get(l_chars);
+            l_lineStart = 0;
+        }
+        int l_length = l_lineStart + p_content.remaining();
+
+        List<Continent> l_continents = new ArrayList<Continent>();
+        List<Country> l_countries = new ArrayList<Country>();
+        HashMap<Integer, Country> l_countriesById = new HashMap<Integer, Country>();
+        String l_section = "";
+
+        while (l_lineStart < l_length) {
+            int l_lineEnd = l_lineStart;
+            while (l_lineEnd < l_length && l_chars[l_lineEnd] != '\n') {
+                l_lineEnd++;
+            }
+            int l_start = skipBlanks(l_chars, l_lineStart, l_lineEnd);
+            int l_end = l_lineEnd;
+            while (l_end > l_start && isBlank(l_chars[l_end - 1])) {
+                l_end--;
+            }
+            l_lineStart = l_lineEnd + 1;
+            if (l_start == l_end) {
+                continue;
+            }
+            if (l_chars[l_start] == '[') {
+                l_section = sectionAt(l_chars, l_start, l_end);
+                continue;
+            }
 
-        List<Continent> l_continentObjects = analyzeContinentsMetaData(l_continentData);
-        List<Country> l_countryObjects = analyzeCountriesMetaData(l_countryData);
-        l_countryObjects = analyzeBorderMetaData(l_countryObjects, l_bordersMetaData);
-        l_continentObjects = linkCountryContinents(l_countryObjects, l_continentObjects);
+            int l_tokenEnd = tokenEnd(l_chars, l_start, l_end);
+            switch (l_section) {
+                case AppConstants.CONTINENTS: {
+                    int l_valueStart = skipBlanks(l_chars, l_tokenEnd, l_end);
+                    l_continents.add(new Continent(l_continents.size() + 1,
+                            new String(l_chars, l_start, l_tokenEnd - l_start),
+                            parseNumber(l_chars, l_valueStart, tokenEnd(l_chars, l_valueStart, l_end))));
+                    break;
+                }
+                case AppConstants.COUNTRIES: {
+                    int l_countryId = parseNumber(l_chars, l_start, l_tokenEnd);
+                    int l_nameStart = skipBlanks(l_chars, l_tokenEnd, l_end);
+                    int l_nameEnd = tokenEnd(l_chars, l_nameStart, l_end);
+                    int l_continentStart = skipBlanks(l_chars, l_nameEnd, l_end);
+                    int l_continentId = parseNumber(l_chars, l_continentStart,
+                            tokenEnd(l_chars, l_continentStart, l_end));
+                    Country l_country = new Country(l_countryId,
+                            new String(l_chars, l_nameStart, l_nameEnd - l_nameStart), l_continentId);
+                    l_countries.add(l_country);
+                    l_countriesById.put(l_countryId, l_country);
+                    if (l_continentId >= 1 && l_continentId <= l_continents.size()) {
+                        l_continents.get(l_continentId - 1).addCountry(l_country);
+                    }
+                    break;
+                }
+                case AppConstants.BORDERS: {
+                    Country l_country = l_countriesById.get(parseNumber(l_chars, l_start, l_tokenEnd));
+                    if (l_country == null) {
+                        break;
+                    }
+                    List<Integer> l_neighbours = new ArrayList<Integer>();
+                    for (int l_neighbourStart = skipBlanks(l_chars, l_tokenEnd, l_end); l_neighbourStart < l_end;) {
+                        int l_neighbourEnd = tokenEnd(l_chars, l_neighbourStart, l_end);
+                        l_neighbours.add(parseNumber(l_chars, l_neighbourStart, l_neighbourEnd));
+                        l_neighbourStart = skipBlanks(l_chars, l_neighbourEnd, l_end);
+                    }
+                    l_country.setD_adjacentCountryIds(l_neighbours);
+                    break;
+                }
+                default:
+                    break;
+            }
+        }
 
-        p_map.setD_continents(l_continentObjects);
-        p_map.setD_countries(l_countryObjects);
+        p_map.setD_continents(l_continents);
+        p_map.setD_countries(l_countries);
         p_gameState.setD_map(p_map);
     }
 
     /**
-     * Provides the essential lines obtained from the map file.
+     * Identifies the section header spanning the given characters.
      *
-     * @param p_fileLines       All Lines in the map document
-     * @param p_switchParameter Type of lines needed : country, continent, borders
-     * @return List required set of lines
+     * @param p_chars characters of the map file
+     * @param p_start first character of the header
+     * @param p_end   end of the header, exclusive
+     * @return the matching section constant, or an empty string for sections
+     *         that are not parsed
      */
-    public List<String> retrieveMetaData(List<String> p_fileLines, String p_switchParameter) {
-        switch (p_switchParameter) {
-            case AppConstants.CONTINENT:
-                List<String> l_continentLines = p_fileLines.subList(
-                        p_fileLines.indexOf(AppConstants.CONTINENTS) + 1,
-                        p_fileLines.indexOf(AppConstants.COUNTRIES) - 1);
-                return l_continentLines;
-            case AppConstants.COUNTRY:
-                List<String> l_countryLines = p_fileLines.subList(p_fileLines.indexOf(AppConstants.COUNTRIES) + 1,
-                        p_fileLines.indexOf(AppConstants.BORDERS) - 1);
-                return l_countryLines;
-            case AppConstants.BORDER:
-                List<String> l_bordersLines = p_fileLines.subList(p_fileLines.indexOf(AppConstants.BORDERS) + 1,
-                        p_fileLines.size());
-                return l_bordersLines;
-            default:
-                return null;
+    private String sectionAt(char[] p_chars, int p_start, int p_end) {
+        for (String l_section : new String[] { AppConstants.CONTINENTS, AppConstants.COUNTRIES,
+                AppConstants.BORDERS }) {
+            if (p_end - p_start == l_section.length()
+                    && CharBuffer.wrap(p_chars, p_start, p_end - p_start).compareTo(CharBuffer.wrap(l_section)) == 0) {
+                return l_section;
+            }
         }
+        return "";
     }
 
     /**
-     * In the 'analyzeContinentsMetaData' method, the extracted continent data from
-     * the map file is parsed.
-     * 
-     * 
-     * @param p_continentList includes continent data in list from map file
-     * @return List of processed continent meta data
+     * Reads a decimal integer, with an optional sign, from the given characters.
+     *
+     * @param p_chars characters of the map file
+     * @param p_start first character of the number
+     * @param p_end   end of the number, exclusive
+     * @return the number
+     * @throws NumberFormatException if the characters are not a number
      */
-    public List<Continent> analyzeContinentsMetaData(List<String> p_continentList) {
-        int l_continentId = 1;
-        List<Continent> l_continents = new ArrayList<Continent>();
-
-        for (String cont : p_continentList) {
-            String[] l_metaData = cont.split(" ");
-            l_continents.add(new Continent(l_continentId, l_metaData[0], Integer.parseInt(l_metaData[1])));
-            l_continentId++;
+    private int parseNumber(char[] p_chars, int p_start, int p_end) {
+        boolean l_negative = p_start < p_end && p_chars[p_start] == '-';
+        int l_position = l_negative || (p_start < p_end && p_chars[p_start] == '+') ? p_start + 1 : p_start;
+        if (l_position == p_end || p_end - l_position > 9) {
+            // empty, or long enough to overflow: leave it to the library
+            return Integer.parseInt(new String(p_chars, p_start, p_end - p_start));
+        }
+        int l_value = 0;
+        for (; l_position < p_end; l_position++) {
+            int l_digit = p_chars[l_position] - '0';
+            if (l_digit < 0 || l_digit > 9) {
+                throw new NumberFormatException("For input string: \"" + new String(p_chars, p_start, p_end - p_start)
+                        + "\"");
+            }
+            l_value = l_value * 10 + l_digit;
         }
-        return l_continents;
+        return l_negative ? -l_value : l_value;
     }
 
     /**
-     * In the 'analyzeCountriesMetaData' method, the extracted country and border
-     * data from the map file are analyzed.
-     * 
-     * @param p_countriesList includes country data in list from map file.
-     * @return List of processed country meta data.
+     * Skips spaces and tabs.
+     *
+     * @param p_chars characters of the map file
+     * @param p_from  position to start from
+     * @param p_end   end of the line, exclusive
+     * @return position of the next token, or p_end
      */
-    public List<Country> analyzeCountriesMetaData(List<String> p_countriesList) {
-        List<Country> l_countriesList = new ArrayList<Country>();
-        for (String country : p_countriesList) {
-            String[] l_metaDataCountries = country.split(" ");
-            l_countriesList.add(new Country(Integer.parseInt(l_metaDataCountries[0]), l_metaDataCountries[1],
-                    Integer.parseInt(l_metaDataCountries[2])));
-
+    private int skipBlanks(char[] p_chars, int p_from, int p_end) {
+        while (p_from < p_end && isBlank(p_chars[p_from])) {
+            p_from++;
         }
-
-        return l_countriesList;
+        return p_from;
     }
 
     /**
-     * Establishes connections between the Country Objects and their corresponding
-     * neighbors.
+     * Finds the end of the token starting at the given position.
      *
-     * @param p_countriesList Total Country Objects Initialized
-     * @param p_bordersList   Border Data Lines
-     * @return List Updated Country Objects
+     * @param p_chars characters of the map file
+     * @param p_from  first character of the token
+     * @param p_end   end of the line, exclusive
+     * @return position after the token
      */
-    public List<Country> analyzeBorderMetaData(List<Country> p_countriesList, List<String> p_bordersList) {
-        LinkedHashMap<Integer, List<Integer>> l_countryNeighbors = new LinkedHashMap<Integer, List<Integer>>();
-
-        for (String l_border : p_bordersList) {
-            if (null != l_border && !l_border.isEmpty()) {
-                ArrayList<Integer> l_neighbours = new ArrayList<Integer>();
-                String[] l_splitString = l_border.split(" ");
-                for (int i = 1; i <= l_splitString.length - 1; i++) {
-                    l_neighbours.add(Integer.parseInt(l_splitString[i]));
-
-                }
-                l_countryNeighbors.put(Integer.parseInt(l_splitString[0]), l_neighbours);
-            }
-        }
-        for (Country c : p_countriesList) {
-            List<Integer> l_adjacentCountries = l_countryNeighbors.get(c.getD_countryId());
-            c.setD_adjacentCountryIds(l_adjacentCountries);
+    private int tokenEnd(char[] p_chars, int p_from, int p_end) {
+        while (p_from < p_end && !isBlank(p_chars[p_from])) {
+            p_from++;
         }
-        return p_countriesList;
+        return p_from;
     }
 
     /**
-     * Associates countries with their respective continents and assigns them within
-     * the continent object.
-     * 
-     * @param p_countries  Total Country Objects
-     * @param p_continents Total Continent Objects
-     * @return List of updated continents
+     * Checks whether a character separates tokens.
+     *
+     * @param p_char character to check
+     * @return true for spaces, tabs and carriage returns
      */
-    public List<Continent> linkCountryContinents(List<Country> p_countries, List<Continent> p_continents) {
-        for (Country c : p_countries) {
-            for (Continent cont : p_continents) {
-                if (cont.getD_continentID().equals(c.getD_continentId())) {
-                    cont.addCountry(c);
-                }
-            }
-        }
-        return p_continents;
+    private boolean isBlank(char p_char) {
+        return p_char == ' ' || p_char == '\t' || p_char == '\r';
     }
 
     /**
@@ -2,8 +2,13 @@ package Services;
 
 import Constants.AppConstants;
 import Models.GamePlayPhase;
+import Models.GameSnapshot;
+import Models.SaveJournal;
 
 import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * The GameService class load and save game file.
@@ -19,25 +24,24 @@ import java.io.*;
 public class GameService {
 
     /**
-     * Serialize and save current game to specific file.
+     * Save current game to specific file, in the binary snapshot format. The
+     * turns played from then on are journaled next to it.
      *
      * @param p_phase    instance of current game phase
      * @param p_filename name of the file
      */
     public static void saveGame(GamePlayPhase p_phase, String p_filename) {
         try {
-            FileOutputStream l_gameSaveFile = new FileOutputStream(AppConstants.SRC_MAIN_RESOURCES + "/" + p_filename);
-            ObjectOutputStream l_gameSaveFileObjectStream = new ObjectOutputStream(l_gameSaveFile);
-            l_gameSaveFileObjectStream.writeObject(p_phase);
-            l_gameSaveFileObjectStream.flush();
-            l_gameSaveFileObjectStream.close();
+            SaveJournal.checkpoint(p_phase, Paths.get(AppConstants.SRC_MAIN_RESOURCES, p_filename));
         } catch (Exception l_e) {
             l_e.printStackTrace();
         }
     }
 
     /**
-     * De-Serialize the Phase stored in specified file.
+     * Load the Phase stored in specified file, with the turns journaled since it
+     * was saved. Games saved before the snapshot format are de-serialized as they
+     * always were.
      *
      * @param p_filename name of file to load phase from
      * @return the Phase saved in file
@@ -45,11 +49,22 @@ public class GameService {
      * @throws ClassNotFoundException if phase Phase class not found
      */
     public static GamePlayPhase loadGame(String p_filename) throws IOException, ClassNotFoundException {
-        ObjectInputStream l_inputStream = new ObjectInputStream(
-                new FileInputStream(AppConstants.SRC_MAIN_RESOURCES + "/" + p_filename));
-        GamePlayPhase l_phase = (GamePlayPhase) l_inputStream.readObject();
+        Path l_saveFile = Paths.get(AppConstants.SRC_MAIN_RESOURCES, p_filename);
+        FileInputStream l_gameSaveFile = new FileInputStream(l_saveFile.toFile());
+        FileChannel l_channel = l_gameSaveFile.getChannel();
+        GamePlayPhase l_phase;
+        if (GameSnapshot.isSnapshot(l_channel)) {
+            try {
+                l_phase = GameSnapshot.read(l_channel);
+            } finally {
+                l_channel.close();
+            }
+        } else {
+            ObjectInputStream l_inputStream = new ObjectInputStream(l_gameSaveFile);
+            l_phase = (GamePlayPhase) l_inputStream.readObject();
 
-        l_inputStream.close();
-        return l_phase;
+            l_inputStream.close();
+        }
+        return SaveJournal.resume(l_phase, l_saveFile);
     }
 }
@@ -1,7 +1,9 @@
 package Services;
 
+import java.io.BufferedReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.CharBuffer;
 import java.util.List;
 import Models.GameState;
 import Models.Map;
@@ -44,6 +46,29 @@ public class MapAdapter extends DominationMap {
         d_conquestMap.readMapContent(p_fileContent, p_map, p_gameState);
     }
 
+    /**
+     * Adapter for streaming a map file through the adaptee.
+     *
+     * @param p_reader    reader over the map file
+     * @param p_map       map to be set
+     * @param p_gameState current state of the game
+     * @throws IOException if the file cannot be read
+     */
+    public void readMapContent(BufferedReader p_reader, Map p_map, GameState p_gameState) throws IOException {
+        d_conquestMap.readMapContent(p_reader, p_map, p_gameState);
+    }
+
+    /**
+     * Adapter for reading a map file held in memory through the adaptee.
+     *
+     * @param p_content   characters of the map file
+     * @param p_map       map to be set
+     * @param p_gameState current state of the game
+     */
+    public void readMapContent(CharBuffer p_content, Map p_map, GameState p_gameState) {
+        d_conquestMap.readMapContent((CharSequence) p_content, p_map, p_gameState);
+    }
+
     /**
      * Adapter for writing to different type of map file through adaptee.
      * 
@@ -0,0 +1,144 @@
+package Services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import Constants.AppConstants;
+import Models.Map;
+
+/**
+ * Keeps the compiled form of every map file loaded by this process, and a copy
+ * of it on disk for the next process. An entry is used only while the source
+ * file keeps the modification time and size it was compiled from, so editing
+ * and saving a map file makes the next load parse it again.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public final class MapCache {
+
+    /**
+     * compiled maps by absolute path of their source file.
+     */
+    private static final ConcurrentHashMap<String, CompiledMap> COMPILED_MAPS = new ConcurrentHashMap<>();
+
+    /**
+     * Not instantiated, the cache is shared by all map services.
+     */
+    private MapCache() {
+    }
+
+    /**
+     * Reads the modification time and size of a map file.
+     *
+     * @param p_filePath path of the map file
+     * @return file attributes, or null if the file does not exist
+     */
+    public static BasicFileAttributes readAttributes(String p_filePath) {
+        try {
+            return Files.readAttributes(Paths.get(p_filePath), BasicFileAttributes.class);
+        } catch (IOException l_e) {
+            return null;
+        }
+    }
+
+    /**
+     * Builds a map from the compiled form of a file, looking in memory first and
+     * then in the cache directory.
+     *
+     * @param p_filePath   path of the map file
+     * @param p_attributes current attributes of the map file
+     * @return new map, or null if the file has not been compiled since it last
+     *         changed
+     */
+    public static Map load(String p_filePath, BasicFileAttributes p_attributes) {
+        String l_key = Paths.get(p_filePath).toAbsolutePath().normalize().toString();
+        long l_modified = p_attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+        CompiledMap l_compiledMap = COMPILED_MAPS.get(l_key);
+        if (l_compiledMap == null || !l_compiledMap.isCompiledFrom(l_modified, p_attributes.size())) {
+            try {
+                Path l_cacheFile = cacheFileFor(l_key);
+                l_compiledMap = Files.isRegularFile(l_cacheFile) ? CompiledMap.readFrom(l_cacheFile) : null;
+            } catch (IOException l_e) {
+                l_compiledMap = null;
+            }
+            if (l_compiledMap == null || !l_compiledMap.isCompiledFrom(l_modified, p_attributes.size())) {
+                return null;
+            }
+            COMPILED_MAPS.put(l_key, l_compiledMap);
+        }
+        return l_compiledMap.toMap();
+    }
+
+    /**
+     * Compiles a freshly parsed map and keeps it in memory and in the cache
+     * directory. Failing to write the cache file only costs a parse in the next
+     * process, so it is not reported.
+     *
+     * @param p_filePath   path of the map file
+     * @param p_attributes attributes of the map file, read before parsing it
+     * @param p_map        parsed map
+     * @return compiled map, or null if the map cannot be compiled
+     */
+    public static CompiledMap store(String p_filePath, BasicFileAttributes p_attributes, Map p_map) {
+        CompiledMap l_compiledMap = CompiledMap.compile(p_map,
+                p_attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS), p_attributes.size());
+        if (l_compiledMap == null) {
+            return null;
+        }
+        String l_key = Paths.get(p_filePath).toAbsolutePath().normalize().toString();
+        COMPILED_MAPS.put(l_key, l_compiledMap);
+
+        Path l_temporaryFile = null;
+        try {
+            Path l_cacheFile = cacheFileFor(l_key);
+            Files.createDirectories(l_cacheFile.getParent());
+            l_temporaryFile = Files.createTempFile(l_cacheFile.getParent(), l_cacheFile.getFileName().toString(),
+                    ".tmp");
+            l_compiledMap.writeTo(l_temporaryFile);
+            Files.move(l_temporaryFile, l_cacheFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException l_e) {
+            try {
+                if (l_temporaryFile != null) {
+                    Files.deleteIfExists(l_temporaryFile);
+                }
+            } catch (IOException l_ignored) {
+                // the stale temporary file is harmless
+            }
+        }
+        return l_compiledMap;
+    }
+
+    /**
+     * Forgets the compiled maps held in memory; the cache files are kept.
+     */
+    public static void clear() {
+        COMPILED_MAPS.clear();
+    }
+
+    /**
+     * Path of the cache file of a map file, named after the map file and a hash
+     * of its absolute path so that maps of the same name in different places do
+     * not collide.
+     *
+     * @param p_absolutePath absolute path of the map file
+     * @return path of the cache file
+     */
+    static Path cacheFileFor(String p_absolutePath) {
+        String l_fileName = Paths.get(p_absolutePath).getFileName().toString();
+        return Paths.get(AppConstants.MAP_CACHE_DIRECTORY,
+                l_fileName + "-" + Integer.toHexString(p_absolutePath.hashCode()) + ".bin");
+    }
+}
@@ -7,8 +7,12 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Serializable;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -37,34 +41,92 @@ import CommonFunctions.CommonCode;
 public class MapService implements Serializable {
 
 	/**
-	 * The 'loadmap' method handles the processing of map files.
+	 * pinned so that games saved before the streaming loader can still be loaded.
+	 */
+	private static final long serialVersionUID = 2795685096151330658L;
+
+	/**
+	 * The 'loadmap' method handles the processing of map files. A file that has
+	 * not changed since it was last parsed is built from its compiled form in the
+	 * map cache instead of being parsed again.
 	 * 
 	 * @param p_gameState    current state of game.
 	 * @param p_loadFileName map file name.
 	 * @return Map object after processing map file.
 	 */
 	public Map loadMap(GameState p_gameState, String p_loadFileName) {
+		String l_filePath = CommonCode.getMapFilePath(p_loadFileName);
+		BasicFileAttributes l_attributes = MapCache.readAttributes(l_filePath);
+		if (l_attributes != null) {
+			Map l_cachedMap = MapCache.load(l_filePath, l_attributes);
+			if (l_cachedMap != null) {
+				l_cachedMap.setD_mapFile(p_loadFileName);
+				p_gameState.setD_map(l_cachedMap);
+				return l_cachedMap;
+			}
+		}
+
 		Map l_map = new Map();
 		l_map.setD_mapFile(p_loadFileName);
-		List<String> l_linesOfFile = loadFile(p_loadFileName);
-		if (isValidFileContent(l_linesOfFile) && l_linesOfFile.contains("[Territories]")) {
-			MapAdapter l_mapAdapter = new MapAdapter(new ConquestMap());
-			l_mapAdapter.readMapContent(l_linesOfFile, l_map, p_gameState);
-		} else if (isValidFileContent(l_linesOfFile) && l_linesOfFile.contains("[countries]")) {
-			DominationMap l_dominationMap = new DominationMap();
-			l_dominationMap.readMapContent(l_linesOfFile, l_map, p_gameState);
+		boolean l_parsed = false;
+		String l_mapFormat = detectMapFormat(l_filePath);
+		if (AppConstants.CONQUEST_MAP.equals(l_mapFormat)) {
+			try (BufferedReader l_reader = new BufferedReader(new FileReader(l_filePath))) {
+				MapAdapter l_mapAdapter = new MapAdapter(new ConquestMap());
+				l_mapAdapter.readMapContent(l_reader, l_map, p_gameState);
+				l_parsed = true;
+			} catch (IOException l_e) {
+				System.out.println("File not Found!");
+			}
+		} else if (AppConstants.DOMINATION_MAP.equals(l_mapFormat)) {
+			try {
+				CharBuffer l_content = Charset.defaultCharset()
+						.decode(ByteBuffer.wrap(Files.readAllBytes(Paths.get(l_filePath))));
+				DominationMap l_dominationMap = new DominationMap();
+				l_dominationMap.readMapContent(l_content, l_map, p_gameState);
+				l_parsed = true;
+			} catch (IOException l_e) {
+				System.out.println("File not Found!");
+			}
+		}
+		CompiledMap l_compiledMap = l_parsed && l_attributes != null
+				? MapCache.store(l_filePath, l_attributes, l_map)
+				: null;
+		if (l_compiledMap != null) {
+			// later loads share the compiled topology, so this one should too
+			l_map = l_compiledMap.toMap();
+			l_map.setD_mapFile(p_loadFileName);
+			p_gameState.setD_map(l_map);
 		}
 		return l_map;
 	}
 
 	/**
-	 * Checks if the file content is valid.
+	 * Finds the format of a map file from its first section header, reading no
+	 * further than that header.
 	 *
-	 * @param p_fileContent List of lines from the file
-	 * @return true if the file content is valid, false otherwise
+	 * @param p_filePath path of the map file
+	 * @return conquest or domination, or null if the file is missing or has no
+	 *         known section
 	 */
-	private boolean isValidFileContent(List<String> p_fileContent) {
-		return (null != p_fileContent && !p_fileContent.isEmpty());
+	public String detectMapFormat(String p_filePath) {
+		try (BufferedReader l_reader = new BufferedReader(new FileReader(p_filePath))) {
+			String l_line;
+			while ((l_line = l_reader.readLine()) != null) {
+				l_line = l_line.trim();
+				if (l_line.equals(AppConstants.CONQUEST_MAP_HEADER) || l_line.equals(AppConstants.CONQUEST_CONTINENT)
+						|| l_line.equals(AppConstants.CONQUEST_TERRITORIES)) {
+					return AppConstants.CONQUEST_MAP;
+				}
+				if (l_line.equals(AppConstants.DOMINATION_FILES) || l_line.equals(AppConstants.CONTINENTS)
+						|| l_line.equals(AppConstants.COUNTRIES) || l_line.equals(AppConstants.BORDERS)) {
+					return AppConstants.DOMINATION_MAP;
+				}
+			}
+		} catch (IOException l_e) {
+			System.out.println("File not Found!");
+		}
+		return null;
 	}
 
 	/**
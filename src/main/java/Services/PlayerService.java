@@ -8,7 +8,10 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+import Views.Console;
 
 /**
  * This class is responsible for handling player operations.
@@ -24,6 +27,12 @@ import java.util.Random;
  */
 public class PlayerService implements Serializable {
 
+    /**
+     * serial version of the class before continents were tracked on transfer,
+     * pinned so that games saved earlier can still be loaded.
+     */
+    private static final long serialVersionUID = -9028643991624715809L;
+
     /**
      * Log messages for player service operations.
      */
@@ -86,7 +95,7 @@ public class PlayerService implements Serializable {
                     switch (p_command.toLowerCase()) {
                         case "add":
                             addPlayer(l_modifiedPlayerList, l_playerName,
-                                    l_isPlayerNamePresent);
+                                    l_isPlayerNamePresent, p_gameState);
                             break;
                         case "remove":
                             removePlayer(l_playerList, l_modifiedPlayerList,
@@ -130,13 +139,13 @@ public class PlayerService implements Serializable {
         int l_averageCountriesPerPlayer = Math.floorDiv(l_countryList.size(), p_gameStateInfo.getD_playerList().size());
 
         // alloc random countries to players
-        this.allocRandomCountries(l_averageCountriesPerPlayer, l_countryList, p_gameStateInfo.getD_playerList());
+        this.allocRandomCountries(l_averageCountriesPerPlayer, l_countryList, p_gameStateInfo);
 
-        // alloc continents to players based on their owned countries
-        this.allocRandomContinents(p_gameStateInfo.getD_playerList(), p_gameStateInfo.getD_map().getD_continents());
+        // continents went to the players completing them as countries were allocated
+        this.logAllocatedContinents(p_gameStateInfo.getD_playerList());
 
         p_gameStateInfo.updateLogFile("Allocation of Country/Continent:", AppConstants.ORDER_EFFECT);
-        System.out.println("Countries allocated successfully");
+        Console.println("Countries allocated successfully");
     }
 
     /**
@@ -150,33 +159,35 @@ public class PlayerService implements Serializable {
      * @param p_averageCountriesPerPlayer The average number of countries to be
      *                                    allocated to each player.
      * @param p_countryList               The list of available countries.
-     * @param p_playerList                The list of players to whom countries
-     *                                    should be allocated.
+     * @param p_gameState                 The current state of the game, whose
+     *                                    players the countries are allocated to.
      */
     private void allocRandomCountries(int p_averageCountriesPerPlayer, List<Country> p_countryList,
-            List<Player> p_playerList) {
+            GameState p_gameState) {
         List<Country> l_unallocatedCountries = new ArrayList<>(p_countryList);
+        SplittableRandom l_random = p_gameState.getD_random().allocation();
 
         // Iterate through each player and assign countries
-        for (Player l_player : p_playerList) {
+        for (Player l_player : p_gameState.getD_playerList()) {
             if (l_unallocatedCountries.isEmpty())
                 break;
 
             // Randomly assign countries to the player based on the specified average count
             for (int i = 0; i < p_averageCountriesPerPlayer; i++) {
-                Random l_randomVal = new Random();
-                int l_randomInd = l_randomVal.nextInt(l_unallocatedCountries.size());
+                int l_randomInd = l_random.nextInt(l_unallocatedCountries.size());
                 Country l_randomCountryVal = l_unallocatedCountries.get(l_randomInd);
 
                 if (l_player.getD_playerCountries() == null)
                     l_player.setD_playerCountries(new ArrayList<>());
 
                 // Add the random country to the player's list
-                l_player.getD_playerCountries().add(l_randomCountryVal);
+                p_gameState.transferCountry(l_randomCountryVal, null, l_player);
 
                 // Print a message indicating the country assignment to the player
-                System.out.println("Country " + l_randomCountryVal.getD_countryName()
-                        + " has been allocated to player: " + l_player.getD_playerName());
+                if (!Console.isSilent()) {
+                    Console.println("Country " + l_randomCountryVal.getD_countryName()
+                            + " has been allocated to player: " + l_player.getD_playerName());
+                }
 
                 // Remove the allocated country from the unallocated list
                 l_unallocatedCountries.remove(l_randomCountryVal);
@@ -185,48 +196,24 @@ public class PlayerService implements Serializable {
 
         // If any countries are still left unassigned, redistribute them among players
         if (!l_unallocatedCountries.isEmpty()) {
-            allocRandomCountries(1, l_unallocatedCountries, p_playerList);
+            allocRandomCountries(1, l_unallocatedCountries, p_gameState);
         }
     }
 
     /**
-     * Allocates continents to players based on their owned countries.
+     * Reports the continents each player holds once the countries are allocated.
      *
-     * This method iterates through the list of players and checks if a player owns
-     * all the countries of a continent.
-     * If a player owns all the countries of a continent, that continent is
-     * allocated to the player.
-     *
-     * @param p_playerList    The list of players in the game.
-     * @param p_continentList The list of continents in the game.
+     * @param p_playerList The list of players in the game.
      */
-    public void allocRandomContinents(List<Player> p_playerList, List<Continent> p_continentList) {
+    private void logAllocatedContinents(List<Player> p_playerList) {
         for (Player l_player : p_playerList) {
-            List<String> l_playerCountriesOwned = new ArrayList<>();
-
-            // Create a list of country names owned by the player
-            if (!CommonCode.isCollectionEmpty(l_player.getD_playerCountries())) {
-                l_player.getD_playerCountries()
-                        .forEach(l_countryVal -> l_playerCountriesOwned.add(l_countryVal.getD_countryName()));
-
-                for (Continent l_cont : p_continentList) {
-                    List<String> l_countriesOfContinent = new ArrayList<>();
-
-                    // Create a list of country names in the continent
-                    l_cont.getD_countries().forEach(l_count -> l_countriesOfContinent.add(l_count.getD_countryName()));
-
-                    // Check if the player owns all the countries of the continent
-                    if (l_playerCountriesOwned.containsAll(l_countriesOfContinent)) {
-                        if (l_player.getD_playerContinents() == null)
-                            l_player.setD_playerContinents(new ArrayList<>());
-
-                        l_player.getD_playerContinents().add(l_cont);
-
-                        // Print a message indicating the continent is allocated to the player
-                        System.out.println("Continent " + l_cont.getD_continentName()
-                                + " has been allocated to player: " + l_player.getD_playerName());
-                    }
-                }
+            if (CommonCode.isCollectionEmpty(l_player.getD_playerContinents())) {
+                continue;
+            }
+            for (Continent l_cont : l_player.getD_playerContinents()) {
+                // Print a message indicating the continent is allocated to the player
+                Console.println("Continent " + l_cont.getD_continentName()
+                        + " has been allocated to player: " + l_player.getD_playerName());
             }
         }
     }
@@ -240,7 +227,7 @@ public class PlayerService implements Serializable {
     public boolean arePlayersLoaded(GameState p_gameStateInfo) {
         // Check if the player list in the game state is null or empty
         if (p_gameStateInfo.getD_playerList() == null || p_gameStateInfo.getD_playerList().isEmpty()) {
-            System.err.println("Add players before assigning countries");
+            Console.printError("Add players before assigning countries");
             return false;
         }
         return true;
@@ -354,9 +341,11 @@ public class PlayerService implements Serializable {
      * @param p_playerName          Player name to be added
      * @param p_isPlayerNamePresent TRUE if player already present in the list;false
      *                              otherwise
+     * @param p_gameState           game the player joins, whose allocation stream
+     *                              picks the strategy
      */
     private void addPlayer(List<Player> p_modifiedPlayersList, String p_playerName,
-            boolean p_isPlayerNamePresent) {
+            boolean p_isPlayerNamePresent, GameState p_gameState) {
         if (p_isPlayerNamePresent) {
             setD_playerLog("Player: " + p_playerName + " already present. No modifications made.");
         } else {
@@ -366,7 +355,7 @@ public class PlayerService implements Serializable {
             Player l_addNewPlayer = new Player(p_playerName);
             // String l_playerStrategy = "Benevolent";
             String l_playerStrategy = AppConstants.PLAYER_BEHAVIORS
-                    .get(new Random().nextInt(AppConstants.PLAYER_BEHAVIORS.size()));
+                    .get(p_gameState.getD_random().allocation().nextInt(AppConstants.PLAYER_BEHAVIORS.size()));
 
             switch (l_playerStrategy) {
                 case "Human":
@@ -402,7 +391,7 @@ public class PlayerService implements Serializable {
     public void assignrandomstrategy(String p_enteredPlayerName) {
         Player newPlayer = new Player(p_enteredPlayerName);
         String playerStrategy = AppConstants.PLAYER_BEHAVIORS
-                .get(new Random().nextInt(AppConstants.PLAYER_BEHAVIORS.size()));
+                .get(ThreadLocalRandom.current().nextInt(AppConstants.PLAYER_BEHAVIORS.size()));
 
         switch (playerStrategy) {
             case "Human":
@@ -492,7 +481,7 @@ public class PlayerService implements Serializable {
      */
     public void setD_playerLog(String p_playerServiceLog) {
         this.d_playerServiceLog = p_playerServiceLog;
-        System.out.println(p_playerServiceLog);
+        Console.println(p_playerServiceLog);
     }
 
     /**
@@ -0,0 +1,232 @@
+package Views;
+
+import java.util.Locale;
+
+/**
+ * Console output of the game engine and the order pipeline. Messages go through
+ * here instead of straight to System.out, so that they can be kept off the
+ * console when nobody watches it:
+ * <ul>
+ * <li>PRINT writes them to the console, as the game always has;</li>
+ * <li>BUFFER keeps them in memory for the thread that wrote them, until
+ * {@link #takeBuffer()} is called or the mode of the thread is reset; only the
+ * newest {@link #BUFFER_CHARACTERS} characters or so are kept;</li>
+ * <li>SILENT drops them.</li>
+ * </ul>
+ * The mode is chosen for the whole program with the {@code -console} or
+ * {@code -headless} command line arguments, and can be set for one thread with
+ * {@link #setThreadMode(Mode)}. Tournament games are SILENT unless a mode was
+ * chosen on the command line. Prompts waiting for input are not sent here.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public final class Console {
+
+    /**
+     * number of characters a thread keeps in BUFFER mode before its oldest
+     * messages are dropped.
+     */
+    public static final int BUFFER_CHARACTERS = 1 << 20;
+
+    /**
+     * Where console messages go.
+     */
+    public enum Mode {
+        /**
+         * messages are printed.
+         */
+        PRINT,
+
+        /**
+         * messages are kept for the thread that wrote them.
+         */
+        BUFFER,
+
+        /**
+         * messages are dropped.
+         */
+        SILENT;
+
+        /**
+         * Mode of a command line argument, ignoring case.
+         *
+         * @param p_name name of the mode
+         * @return mode
+         * @throws IllegalArgumentException if there is no mode of that name
+         */
+        public static Mode of(String p_name) {
+            return valueOf(p_name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * mode chosen on the command line, null if none was.
+     */
+    private static volatile Mode d_mode;
+
+    /**
+     * mode set for the current thread, overriding the one of the program.
+     */
+    private static final ThreadLocal<Mode> THREAD_MODE = new ThreadLocal<Mode>();
+
+    /**
+     * messages kept by the current thread in BUFFER mode.
+     */
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+
+    /**
+     * Not instantiated.
+     */
+    private Console() {
+    }
+
+    /**
+     * Reads the console arguments given to the program: {@code -console print},
+     * {@code -console buffer}, {@code -console silent}, or {@code -headless}
+     * for silent. Other arguments are left alone.
+     *
+     * @param p_args command line arguments
+     * @throws IllegalArgumentException if -console names no mode
+     */
+    public static void configure(String[] p_args) {
+        for (int l_index = 0; l_index < p_args.length; l_index++) {
+            if (p_args[l_index].equalsIgnoreCase("-headless")) {
+                setMode(Mode.SILENT);
+            } else if (p_args[l_index].equalsIgnoreCase("-console")) {
+                if (l_index + 1 == p_args.length) {
+                    throw new IllegalArgumentException("-console needs one of print, buffer or silent");
+                }
+                setMode(Mode.of(p_args[++l_index]));
+            }
+        }
+    }
+
+    /**
+     * Sets the mode of the program.
+     *
+     * @param p_mode mode, null to go back to printing
+     */
+    public static void setMode(Mode p_mode) {
+        d_mode = p_mode;
+    }
+
+    /**
+     * Mode tournament games are played in: the one chosen for the program, or
+     * SILENT if none was.
+     *
+     * @return mode of tournament games
+     */
+    public static Mode getTournamentMode() {
+        Mode l_mode = d_mode;
+        return l_mode == null ? Mode.SILENT : l_mode;
+    }
+
+    /**
+     * Sets the mode of the current thread, overriding the mode of the program.
+     * Resetting it drops the messages the thread kept, so that pool threads do
+     * not carry them from one game to the next.
+     *
+     * @param p_mode mode of the thread, null to use the mode of the program
+     */
+    public static void setThreadMode(Mode p_mode) {
+        if (p_mode == null) {
+            THREAD_MODE.remove();
+            BUFFER.remove();
+        } else {
+            THREAD_MODE.set(p_mode);
+        }
+    }
+
+    /**
+     * Mode in effect on the current thread.
+     *
+     * @return mode
+     */
+    public static Mode getMode() {
+        Mode l_mode = THREAD_MODE.get();
+        if (l_mode == null) {
+            l_mode = d_mode;
+        }
+        return l_mode == null ? Mode.PRINT : l_mode;
+    }
+
+    /**
+     * Whether messages of the current thread are dropped, so that callers can
+     * skip building them.
+     *
+     * @return true in SILENT mode
+     */
+    public static boolean isSilent() {
+        return getMode() == Mode.SILENT;
+    }
+
+    /**
+     * Writes a message line.
+     *
+     * @param p_message message
+     */
+    public static void println(Object p_message) {
+        switch (getMode()) {
+            case PRINT:
+                System.out.println(p_message);
+                break;
+            case BUFFER:
+                keep(p_message);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Writes an error message line.
+     *
+     * @param p_message error message
+     */
+    public static void printError(Object p_message) {
+        switch (getMode()) {
+            case PRINT:
+                System.err.println(p_message);
+                break;
+            case BUFFER:
+                keep(p_message);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Keeps a message line for the current thread. Once the thread keeps more
+     * than BUFFER_CHARACTERS characters, its oldest lines are dropped down to
+     * half of that, so that a thread nobody takes messages from stays bounded.
+     *
+     * @param p_message message
+     */
+    private static void keep(Object p_message) {
+        StringBuilder l_buffer = BUFFER.get();
+        l_buffer.append(p_message).append(System.lineSeparator());
+        if (l_buffer.length() > BUFFER_CHARACTERS) {
+            int l_cut = l_buffer.indexOf(System.lineSeparator(), l_buffer.length() - BUFFER_CHARACTERS / 2);
+            l_buffer.delete(0, l_cut < 0 ? l_buffer.length() : l_cut + System.lineSeparator().length());
+        }
+    }
+
+    /**
+     * Messages kept by the current thread in BUFFER mode, which are cleared.
+     *
+     * @return kept messages
+     */
+    public static String takeBuffer() {
+        StringBuilder l_buffer = BUFFER.get();
+        String l_messages = l_buffer.toString();
+        l_buffer.setLength(0);
+        return l_messages;
+    }
+}
@@ -0,0 +1,112 @@
+package Views.LogView;
+
+import Constants.AppConstants;
+
+/**
+ * When a log file is rolled over into a numbered segment, and whether rolled
+ * segments are compressed. A log rolls once the next write would take it past
+ * a size, or once it has been open for a period; either limit is off when it
+ * is zero. The newest entries are always in the log file itself.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public final class LogRotation {
+
+    /**
+     * log that is never rolled over.
+     */
+    public static final LogRotation NONE = new LogRotation(0, 0, false);
+
+    /**
+     * bytes a segment may hold, 0 for no limit.
+     */
+    private final long d_maxBytes;
+
+    /**
+     * milliseconds a segment may stay open, 0 for no limit.
+     */
+    private final long d_maxMilliseconds;
+
+    /**
+     * whether rolled segments are gzip compressed.
+     */
+    private final boolean d_compress;
+
+    /**
+     * Creates a rotation policy.
+     *
+     * @param p_maxBytes        bytes a segment may hold, 0 for no limit
+     * @param p_maxMilliseconds milliseconds a segment may stay open, 0 for no
+     *                          limit
+     * @param p_compress        true to gzip rolled segments
+     */
+    public LogRotation(long p_maxBytes, long p_maxMilliseconds, boolean p_compress) {
+        d_maxBytes = Math.max(0, p_maxBytes);
+        d_maxMilliseconds = Math.max(0, p_maxMilliseconds);
+        d_compress = p_compress;
+    }
+
+    /**
+     * Rotation of tournament game logs: the defaults from AppConstants, which the
+     * {@code warzone.log.segmentBytes}, {@code warzone.log.segmentSeconds} and
+     * {@code warzone.log.compress} system properties override.
+     *
+     * @return rotation policy
+     */
+    public static LogRotation forTournament() {
+        return new LogRotation(
+                Long.getLong("warzone.log.segmentBytes", AppConstants.TOURNAMENT_LOG_SEGMENT_BYTES),
+                Long.getLong("warzone.log.segmentSeconds", AppConstants.TOURNAMENT_LOG_SEGMENT_SECONDS) * 1000,
+                Boolean.parseBoolean(System.getProperty("warzone.log.compress", "true")));
+    }
+
+    /**
+     * Bytes a segment may hold.
+     *
+     * @return bytes, 0 for no limit
+     */
+    public long getD_maxBytes() {
+        return d_maxBytes;
+    }
+
+    /**
+     * Milliseconds a segment may stay open.
+     *
+     * @return milliseconds, 0 for no limit
+     */
+    public long getD_maxMilliseconds() {
+        return d_maxMilliseconds;
+    }
+
+    /**
+     * Whether rolled segments are gzip compressed.
+     *
+     * @return true if they are
+     */
+    public boolean isD_compress() {
+        return d_compress;
+    }
+
+    /**
+     * Whether a log has to be rolled over before more is written to it. An empty
+     * log is never rolled.
+     *
+     * @param p_segmentBytes        bytes already in the log
+     * @param p_pendingBytes        bytes about to be written
+     * @param p_segmentMilliseconds milliseconds the log has been open
+     * @return true if the log has to be rolled over first
+     */
+    boolean isDue(long p_segmentBytes, long p_pendingBytes, long p_segmentMilliseconds) {
+        if (p_segmentBytes == 0) {
+            return false;
+        }
+        return (d_maxBytes > 0 && p_segmentBytes + p_pendingBytes > d_maxBytes)
+                || (d_maxMilliseconds > 0 && p_segmentMilliseconds >= d_maxMilliseconds);
+    }
+}
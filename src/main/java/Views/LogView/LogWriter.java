@@ -0,0 +1,599 @@
+package Views.LogView;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import Models.LogModel.LogCategory;
+import Models.LogModel.LogEvent;
+import Views.Console;
+
+/**
+ * Writes the entries of one log file from a background thread. Entries are
+ * queued by the game and appended in batches through a channel that stays open
+ * until the log is closed, so logging a line costs a queue insertion instead of
+ * opening, writing and closing the file. A batch is written once it is large
+ * enough, once the queue has been idle for a moment, or when a flush is asked
+ * for. All loggers of the same file share one writer, which keeps their entries
+ * in order. Open logs are flushed and closed when the program exits.
+ * <p>
+ * A log given a {@link LogRotation} is rolled over into numbered segments next
+ * to it, {@code game-1.1.txt}, {@code game-1.2.txt} and so on, gzip compressed
+ * if the rotation asks for it; the log file itself holds the newest entries.
+ * <p>
+ * When a queue is full the game waits for room, unless dropping entries was
+ * chosen with {@link #setDropWhenFull(boolean)} or the
+ * {@code warzone.log.dropWhenFull} system property.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public final class LogWriter {
+
+    /**
+     * number of entries a log file may have waiting to be written.
+     */
+    public static final int QUEUE_CAPACITY = 8192;
+
+    /**
+     * number of characters collected before they are written without waiting
+     * for the queue to go idle.
+     */
+    public static final int BATCH_CHARACTERS = 64 * 1024;
+
+    /**
+     * milliseconds the queue has to stay empty before collected entries are
+     * written.
+     */
+    public static final long IDLE_MILLISECONDS = 200;
+
+    /**
+     * open writers by normalised path of their log file.
+     */
+    private static final ConcurrentHashMap<String, LogWriter> WRITERS = new ConcurrentHashMap<>();
+
+    /**
+     * whether entries are dropped instead of waiting when a queue is full.
+     */
+    private static volatile boolean d_dropWhenFull = Boolean.getBoolean("warzone.log.dropWhenFull");
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(LogWriter::closeAll, "log-writer-shutdown"));
+    }
+
+    /**
+     * log file written.
+     */
+    private final Path d_logFile;
+
+    /**
+     * when the log is rolled over.
+     */
+    private final LogRotation d_rotation;
+
+    /**
+     * segments rolled over so far, oldest first.
+     */
+    private final List<Path> d_segments = new CopyOnWriteArrayList<Path>();
+
+    /**
+     * bytes in the log file, only used by the writer thread.
+     */
+    private long d_segmentBytes;
+
+    /**
+     * time the log file was opened, only used by the writer thread.
+     */
+    private long d_segmentOpened;
+
+    /**
+     * entries waiting to be written.
+     */
+    private final BlockingQueue<Entry> d_queue = new ArrayBlockingQueue<Entry>(QUEUE_CAPACITY);
+
+    /**
+     * number of entries dropped because the queue was full.
+     */
+    private final AtomicLong d_droppedEntries = new AtomicLong();
+
+    /**
+     * channel of the log file, only used by the writer thread; null until the
+     * first write.
+     */
+    private FileChannel d_channel;
+
+    /**
+     * thread draining the queue into the file.
+     */
+    private final Thread d_thread;
+
+    /**
+     * Starts the writer of a log file.
+     *
+     * @param p_logFile  log file to append to
+     * @param p_rotation when the log is rolled over
+     */
+    private LogWriter(Path p_logFile, LogRotation p_rotation) {
+        d_logFile = p_logFile;
+        d_rotation = p_rotation;
+        d_thread = new Thread(this::drain, "log-writer-" + p_logFile.getFileName());
+        d_thread.setDaemon(true);
+        d_thread.start();
+    }
+
+    /**
+     * Writer of a log file, started on first use.
+     *
+     * @param p_logFilePath path of the log file
+     * @return writer of the file
+     */
+    public static LogWriter forFile(String p_logFilePath) {
+        return forFile(p_logFilePath, LogRotation.NONE);
+    }
+
+    /**
+     * Writer of a log file, started on first use with the given rotation. A
+     * writer already open keeps the rotation it was started with.
+     *
+     * @param p_logFilePath path of the log file
+     * @param p_rotation    when the log is rolled over
+     * @return writer of the file
+     */
+    public static LogWriter forFile(String p_logFilePath, LogRotation p_rotation) {
+        return WRITERS.computeIfAbsent(key(p_logFilePath), l_key -> new LogWriter(Paths.get(l_key), p_rotation));
+    }
+
+    /**
+     * Chooses what happens to an entry logged while the queue of its file is full.
+     *
+     * @param p_dropWhenFull true to drop the entry, false to wait for room
+     */
+    public static void setDropWhenFull(boolean p_dropWhenFull) {
+        d_dropWhenFull = p_dropWhenFull;
+    }
+
+    /**
+     * Asks every open writer to flush what it has written so far, without
+     * waiting for it. Used at phase boundaries.
+     */
+    public static void requestFlushAll() {
+        for (LogWriter l_writer : WRITERS.values()) {
+            l_writer.d_queue.offer(Entry.FLUSH);
+        }
+    }
+
+    /**
+     * Writes out the entries queued for a log file and closes it. Entries logged
+     * afterwards open the file again.
+     *
+     * @param p_logFilePath path of the log file
+     */
+    public static void close(String p_logFilePath) {
+        LogWriter l_writer = WRITERS.remove(key(p_logFilePath));
+        if (l_writer != null) {
+            l_writer.stop();
+        }
+    }
+
+    /**
+     * Writes out the queued entries of every log file and closes them.
+     */
+    public static void closeAll() {
+        for (String l_key : new ArrayList<String>(WRITERS.keySet())) {
+            close(l_key);
+        }
+    }
+
+    /**
+     * Queues an entry to be appended to the file.
+     *
+     * @param p_text text of the entry
+     */
+    public void write(String p_text) {
+        if (p_text == null || p_text.isEmpty()) {
+            return;
+        }
+        queue(new Entry(p_text, null, null, null));
+    }
+
+    /**
+     * Queues an event to be appended to the file; its text is built by the
+     * writer thread.
+     *
+     * @param p_category category framing the event
+     * @param p_event    event to append
+     */
+    public void write(LogCategory p_category, LogEvent p_event) {
+        if (p_category == null || p_event == null) {
+            return;
+        }
+        queue(new Entry(null, p_category, p_event, null));
+    }
+
+    /**
+     * Queues an entry, dropping it or waiting for room when the queue is full.
+     *
+     * @param p_entry entry to queue
+     */
+    private void queue(Entry p_entry) {
+        if (d_dropWhenFull) {
+            if (!d_queue.offer(p_entry)) {
+                d_droppedEntries.incrementAndGet();
+            }
+        } else {
+            putUninterruptibly(p_entry);
+        }
+    }
+
+    /**
+     * Queues the truncation of the file, so that the entries queued after it
+     * start a new log.
+     */
+    public void truncate() {
+        putUninterruptibly(Entry.TRUNCATE);
+    }
+
+    /**
+     * Waits until every entry queued so far is in the file.
+     */
+    public void flush() {
+        CountDownLatch l_written = new CountDownLatch(1);
+        putUninterruptibly(new Entry(null, null, null, l_written));
+        boolean l_interrupted = false;
+        while (l_written.getCount() > 0 && d_thread.isAlive()) {
+            try {
+                l_written.await(IDLE_MILLISECONDS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException l_e) {
+                l_interrupted = true;
+            }
+        }
+        if (l_interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Files of the log, oldest first: the segments rolled over so far, then the
+     * log file itself if it exists. Complete once the log is closed.
+     *
+     * @return files of the log
+     */
+    public List<Path> getSegments() {
+        List<Path> l_segments = new ArrayList<Path>(d_segments);
+        if (Files.exists(d_logFile)) {
+            l_segments.add(d_logFile);
+        }
+        return l_segments;
+    }
+
+    /**
+     * Number of entries dropped so far because the queue was full.
+     *
+     * @return dropped entries
+     */
+    public long getDroppedEntries() {
+        return d_droppedEntries.get();
+    }
+
+    /**
+     * Writes out the queued entries and stops the thread.
+     */
+    private void stop() {
+        putUninterruptibly(Entry.STOP);
+        boolean l_interrupted = false;
+        while (d_thread.isAlive()) {
+            try {
+                d_thread.join();
+            } catch (InterruptedException l_e) {
+                l_interrupted = true;
+            }
+        }
+        if (l_interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Queues an entry, waiting for room if needed. Gives up if the writer thread
+     * has stopped, since nobody would make room.
+     *
+     * @param p_entry entry to queue
+     */
+    private void putUninterruptibly(Entry p_entry) {
+        boolean l_interrupted = false;
+        while (d_thread.isAlive()) {
+            try {
+                if (d_queue.offer(p_entry, IDLE_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException l_e) {
+                l_interrupted = true;
+            }
+        }
+        if (l_interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Body of the writer thread: collects the text of the queued entries and
+     * writes it out when enough has been collected, when the queue goes idle, or
+     * when a marker is reached. A failed write is reported and its text dropped,
+     * so that a full disk does not stop the game; the entries after it, and the
+     * marker that asked for the write, are still handled.
+     */
+    private void drain() {
+        List<Entry> l_batch = new ArrayList<Entry>();
+        StringBuilder l_text = new StringBuilder();
+        boolean l_stopped = false;
+        while (!l_stopped) {
+            Entry l_first;
+            try {
+                l_first = l_text.length() == 0 ? d_queue.take()
+                        : d_queue.poll(IDLE_MILLISECONDS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException l_e) {
+                break;
+            }
+            if (l_first == null) {
+                try {
+                    writeOut(l_text);
+                } catch (IOException l_e) {
+                    dropFailedWrite(l_e, l_text);
+                }
+                continue;
+            }
+            l_batch.add(l_first);
+            d_queue.drainTo(l_batch);
+            for (Entry l_entry : l_batch) {
+                try {
+                    handle(l_entry, l_text);
+                } catch (IOException l_e) {
+                    dropFailedWrite(l_e, l_text);
+                }
+                if (l_entry == Entry.STOP) {
+                    l_stopped = true;
+                } else if (l_entry.d_written != null) {
+                    l_entry.d_written.countDown();
+                }
+            }
+            l_batch.clear();
+        }
+        closeChannel();
+    }
+
+    /**
+     * Collects the text of an entry, writing the collected text out once there
+     * is enough of it, or writes it out and truncates the file for a marker
+     * asking for that. Stopping and flush latches are left to the caller, so
+     * that they are handled even if the write fails.
+     *
+     * @param p_entry entry taken from the queue
+     * @param p_text  text collected so far
+     * @throws IOException if the file cannot be written or truncated
+     */
+    private void handle(Entry p_entry, StringBuilder p_text) throws IOException {
+        if (p_entry.d_text != null || p_entry.d_event != null) {
+            if (p_entry.d_event != null) {
+                p_entry.d_category.appendTo(p_text, p_entry.d_event);
+            } else {
+                p_text.append(p_entry.d_text);
+            }
+            if (p_text.length() >= BATCH_CHARACTERS) {
+                writeOut(p_text);
+            }
+            return;
+        }
+        writeOut(p_text);
+        if (p_entry == Entry.TRUNCATE) {
+            openChannel().truncate(0);
+            d_segmentBytes = 0;
+            d_segmentOpened = System.currentTimeMillis();
+            deleteSegments();
+        }
+    }
+
+    /**
+     * Reports a failed write and drops the text that could not be written. The
+     * channel is closed so that the next write opens the file again.
+     *
+     * @param p_e    error of the write
+     * @param p_text text collected, emptied
+     */
+    private void dropFailedWrite(IOException p_e, StringBuilder p_text) {
+        Console.printError("Unable to write " + d_logFile + ": " + p_e);
+        p_text.setLength(0);
+        closeChannel();
+    }
+
+    /**
+     * Appends the collected text to the file.
+     *
+     * @param p_text text to append, emptied afterwards
+     * @throws IOException if the file cannot be opened or written
+     */
+    private void writeOut(StringBuilder p_text) throws IOException {
+        if (p_text.length() == 0) {
+            return;
+        }
+        ByteBuffer l_bytes = ByteBuffer.wrap(p_text.toString().getBytes(StandardCharsets.US_ASCII));
+        p_text.setLength(0);
+        FileChannel l_channel = openChannel();
+        if (d_rotation.isDue(d_segmentBytes, l_bytes.remaining(), System.currentTimeMillis() - d_segmentOpened)) {
+            rollOver();
+            l_channel = openChannel();
+        }
+        d_segmentBytes += l_bytes.remaining();
+        while (l_bytes.hasRemaining()) {
+            l_channel.write(l_bytes);
+        }
+    }
+
+    /**
+     * Closes the log file and moves it to the next numbered segment, compressing
+     * it if the rotation asks for it. The next write starts a new log file.
+     *
+     * @throws IOException if the segment cannot be written
+     */
+    private void rollOver() throws IOException {
+        closeChannel();
+        Path l_segment = segmentPath(d_segments.size() + 1, "");
+        Files.move(d_logFile, l_segment, StandardCopyOption.REPLACE_EXISTING);
+        if (d_rotation.isD_compress()) {
+            Path l_compressed = segmentPath(d_segments.size() + 1, ".gz");
+            try (OutputStream l_out = new GZIPOutputStream(Files.newOutputStream(l_compressed))) {
+                Files.copy(l_segment, l_out);
+            }
+            Files.delete(l_segment);
+            l_segment = l_compressed;
+        }
+        d_segments.add(l_segment);
+    }
+
+    /**
+     * Path of a numbered segment: the number goes before the extension of the
+     * log file.
+     *
+     * @param p_number number of the segment, from 1
+     * @param p_suffix appended after the name, such as ".gz"
+     * @return path of the segment
+     */
+    private Path segmentPath(int p_number, String p_suffix) {
+        String l_name = d_logFile.getFileName().toString();
+        int l_dot = l_name.lastIndexOf('.');
+        String l_segmentName = l_dot > 0 ? l_name.substring(0, l_dot) + "." + p_number + l_name.substring(l_dot)
+                : l_name + "." + p_number;
+        return d_logFile.resolveSibling(l_segmentName + p_suffix);
+    }
+
+    /**
+     * Removes the segments rolled over so far, when the log starts again.
+     *
+     * @throws IOException if a segment cannot be removed
+     */
+    private void deleteSegments() throws IOException {
+        for (Path l_segment : d_segments) {
+            Files.deleteIfExists(l_segment);
+        }
+        d_segments.clear();
+    }
+
+    /**
+     * Channel of the log file, opened on first use.
+     *
+     * @return open channel
+     * @throws IOException if the file cannot be opened
+     */
+    private FileChannel openChannel() throws IOException {
+        if (d_channel == null) {
+            d_channel = FileChannel.open(d_logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            d_segmentBytes = d_channel.size();
+            d_segmentOpened = System.currentTimeMillis();
+        }
+        return d_channel;
+    }
+
+    /**
+     * Closes the channel of the log file, if open.
+     */
+    private void closeChannel() {
+        if (d_channel != null) {
+            try {
+                d_channel.close();
+            } catch (IOException l_e) {
+                Console.printError("Unable to close " + d_logFile + ": " + l_e);
+            }
+            d_channel = null;
+        }
+    }
+
+    /**
+     * Normalises a log file path into its writer key.
+     *
+     * @param p_logFilePath path of the log file
+     * @return absolute normalised path
+     */
+    private static String key(String p_logFilePath) {
+        return Paths.get(p_logFilePath).toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * Queued log text or event, or a marker asking the writer to flush, truncate
+     * or stop.
+     */
+    private static final class Entry {
+
+        /**
+         * marker written out as soon as the writer reaches it.
+         */
+        static final Entry FLUSH = new Entry(null, null, null, null);
+
+        /**
+         * marker truncating the file.
+         */
+        static final Entry TRUNCATE = new Entry(null, null, null, null);
+
+        /**
+         * marker stopping the writer.
+         */
+        static final Entry STOP = new Entry(null, null, null, null);
+
+        /**
+         * text to append, null for an event or a marker.
+         */
+        final String d_text;
+
+        /**
+         * category framing the event.
+         */
+        final LogCategory d_category;
+
+        /**
+         * event to append, null for a text or a marker.
+         */
+        final LogEvent d_event;
+
+        /**
+         * released once the entries before this marker are in the file, null if
+         * nobody waits.
+         */
+        final CountDownLatch d_written;
+
+        /**
+         * Creates an entry.
+         *
+         * @param p_text     text to append, or null
+         * @param p_category category framing the event, or null
+         * @param p_event    event to append, or null
+         * @param p_written  latch released once written, or null
+         */
+        Entry(String p_text, LogCategory p_category, LogEvent p_event, CountDownLatch p_written) {
+            d_text = p_text;
+            d_category = p_category;
+            d_event = p_event;
+            d_written = p_written;
+        }
+    }
+}
@@ -1,11 +1,8 @@
 package Views.LogView;
 
+import Constants.AppConstants;
 import Models.LogModel.*;
 import java.io.*;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
 
 /**
  * The Logger class manages the update of a log file based on notifications
@@ -20,37 +17,58 @@ import java.nio.file.StandardOpenOption;
  * @version 3.0.0
  */
 public class Logger extends CustomObserver implements Serializable {
+    /**
+     * pinned so that games saved before the log file became configurable still
+     * load.
+     */
+    private static final long serialVersionUID = 4260466457866164800L;
+
     /**
      * Reference to the LogEntryBuffer observable object.
      */
     LogEntryBuffer d_logEntryBuffer;
 
+    /**
+     * Path of the file the log entries are appended to, null for the default log
+     * file.
+     */
+    String d_logFilePath;
+
+    /**
+     * Creates a logger writing to the default log file.
+     */
+    public Logger() {
+        this(AppConstants.LOG_FILE);
+    }
+
+    /**
+     * Creates a logger writing to the given file.
+     *
+     * @param p_logFilePath path of the log file
+     */
+    public Logger(String p_logFilePath) {
+        d_logFilePath = p_logFilePath;
+    }
+
     /**
      * Receives and handles notifications for updating log entries from the
-     * LogEntryBuffer.
+     * LogEntryBuffer. The event is handed to the writer of the log file, which
+     * builds its text and appends it in the background.
      *
      * @param observable The observable object triggering the update (should be a
      *                   LogEntryBuffer).
      */
     public void update(Object observable) {
         d_logEntryBuffer = (LogEntryBuffer) observable;
-        File logFile = new File("LogFile.txt");
-
-        try {
-            // Check if the log file exists; if not, create it
-            logFile.createNewFile();
-            String logMessage = d_logEntryBuffer.getD_logMessage();
-
-            // Clear log file if a specific starting message is encountered
-            if (logMessage.equals("STARTING WARZONE.........." + System.lineSeparator() + System.lineSeparator())) {
-                Files.newBufferedWriter(Paths.get("LogFile.txt"), StandardOpenOption.TRUNCATE_EXISTING).write(" ");
-            }
-
-            // Append or create log entries in the file
-            Files.write(Paths.get("LogFile.txt"), logMessage.getBytes(StandardCharsets.US_ASCII),
-                    logMessage.isEmpty() ? StandardOpenOption.CREATE : StandardOpenOption.APPEND);
-        } catch (Exception exception) {
-            exception.printStackTrace();
+        LogWriter logWriter = LogWriter.forFile(d_logFilePath == null ? AppConstants.LOG_FILE : d_logFilePath);
+
+        // Clear log file if a specific starting message is encountered
+        if (d_logEntryBuffer.getD_logCategory() == LogCategory.START_GAME && ("STARTING WARZONE.........."
+                + System.lineSeparator() + System.lineSeparator()).equals(d_logEntryBuffer.getD_logMessage())) {
+            logWriter.truncate();
         }
+
+        // Append or create log entries in the file
+        logWriter.write(d_logEntryBuffer.getD_logCategory(), d_logEntryBuffer.getD_logEvent());
     }
 }
@@ -188,14 +188,7 @@ public class ShowMap {
 	 * @return the player object
 	 */
 	private Player getCountryOwner(String p_countryName) {
-		if (d_players != null) {
-			for (Player p : d_players) {
-				if (p.getCountryList().contains(p_countryName)) {
-					return p;
-				}
-			}
-		}
-		return null;
+		return d_gameState.getCountryOwner(p_countryName);
 	}
 
 	/**
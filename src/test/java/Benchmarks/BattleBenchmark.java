@@ -0,0 +1,122 @@
+package Benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import Constants.AppConstants;
+import Models.BattleEngine;
+
+/**
+ * Compares resolving a battle with the battle engine against rolling for every
+ * army, once into boxed lists as Advance did before the engine and once with
+ * primitives, for battles of 10, 1000 and 100000 armies on each side.
+ *
+ * <p>
+ * Run with
+ * {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test -Dexec.args="-cp %classpath org.openjdk.jmh.Main Battle"}
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BattleBenchmark {
+
+    /**
+     * armies on each side of the battle.
+     */
+    @Param({ "10", "1000", "100000" })
+    public int d_armies;
+
+    /**
+     * stream the battles draw from.
+     */
+    private SplittableRandom d_random;
+
+    /**
+     * Seeds the stream.
+     */
+    @Setup
+    public void setup() {
+        d_random = new SplittableRandom(42);
+    }
+
+    /**
+     * Kills drawn by the battle engine.
+     *
+     * @param p_blackhole sink for the results
+     */
+    @Benchmark
+    public void battleEngine(Blackhole p_blackhole) {
+        p_blackhole.consume(BattleEngine.defendersKilled(d_armies, d_random));
+        p_blackhole.consume(BattleEngine.attackersKilled(d_armies, d_random));
+    }
+
+    /**
+     * Kills rolled army by army without allocating.
+     *
+     * @param p_blackhole sink for the results
+     */
+    @Benchmark
+    public void primitiveRolls(Blackhole p_blackhole) {
+        int l_defendersKilled = 0;
+        int l_attackersKilled = 0;
+        for (int l_army = 0; l_army < d_armies; l_army++) {
+            if (d_random.nextDouble() < AppConstants.ATTACKER_KILL_CHANCE) {
+                l_defendersKilled++;
+            }
+            if (d_random.nextDouble() < AppConstants.DEFENDER_KILL_CHANCE) {
+                l_attackersKilled++;
+            }
+        }
+        p_blackhole.consume(l_defendersKilled);
+        p_blackhole.consume(l_attackersKilled);
+    }
+
+    /**
+     * Army units rolled into boxed lists and compared pairwise, as Advance did
+     * before the battle engine.
+     *
+     * @param p_blackhole sink for the results
+     */
+    @Benchmark
+    public void boxedRolls(Blackhole p_blackhole) {
+        List<Integer> l_attackers = new ArrayList<>();
+        List<Integer> l_defenders = new ArrayList<>();
+        for (int l_army = 0; l_army < d_armies; l_army++) {
+            l_attackers.add((int) Math.round(d_random.nextInt(1, 10) * AppConstants.ATTACKER_KILL_CHANCE));
+            l_defenders.add((int) Math.round(d_random.nextInt(1, 10) * AppConstants.DEFENDER_KILL_CHANCE));
+        }
+        int l_attackerWins = 0;
+        for (int l_army = 0; l_army < d_armies; l_army++) {
+            if (l_attackers.get(l_army) > l_defenders.get(l_army)) {
+                l_attackerWins++;
+            }
+        }
+        p_blackhole.consume(l_attackerWins);
+    }
+}
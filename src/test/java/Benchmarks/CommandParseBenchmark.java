@@ -0,0 +1,136 @@
+package Benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import CommonFunctions.Command;
+import CommonFunctions.CommandTokens;
+
+/**
+ * Compares parsing commands with the single pass tokenizer against the regular
+ * expression and split based parsing Command did before it, on a corpus of
+ * commands as players type them in every phase of a game.
+ *
+ * <p>
+ * Run with
+ * {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test -Dexec.args="-cp %classpath org.openjdk.jmh.Main CommandParse"}
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandParseBenchmark {
+
+    /**
+     * commands parsed per benchmark call.
+     */
+    private static final String[] COMMANDS = { "loadmap canada", "editmap europe.map",
+            "editcontinent -add Atlantic 5 -remove Pacific", "editcountry -add Quebec Atlantic",
+            "editneighbor -add Quebec Ontario -remove Quebec Manitoba", "validatemap", "savemap canada.map",
+            "gameplayer -add Sumit -add Dhruv -remove Pranay", "assigncountries", "showmap",
+            "deploy Quebec 5", "deploy  Ontario   3", "advance Quebec Ontario 4", "advance Manitoba Ontario 1",
+            "bomb Ontario", "blockade Quebec", "airlift Quebec Manitoba 2", "negotiate Dhruv",
+            "savegame hello.txt", "loadgame hello.txt",
+            "tournament -M canada.map europe.map -P aggressive random benevolent -G 3 -D 20" };
+
+    /**
+     * Root command and operations of every command with the tokenizer, as the
+     * phases read them.
+     *
+     * @param p_blackhole sink for the results
+     */
+    @Benchmark
+    public void tokenizer(Blackhole p_blackhole) {
+        for (String l_text : COMMANDS) {
+            Command l_command = new Command(l_text);
+            p_blackhole.consume(l_command.getRootCommand());
+            p_blackhole.consume(l_command.getOperationsAndArguments());
+        }
+    }
+
+    /**
+     * Only the tokens of every command, without the operation maps.
+     *
+     * @param p_blackhole sink for the results
+     */
+    @Benchmark
+    public void tokensOnly(Blackhole p_blackhole) {
+        for (String l_text : COMMANDS) {
+            CommandTokens l_tokens = CommandTokens.parse(l_text);
+            p_blackhole.consume(l_tokens.getRoot());
+            for (int l_option = 0; l_option < l_tokens.getOptionCount(); l_option++) {
+                p_blackhole.consume(l_tokens.getArguments(l_option));
+            }
+        }
+    }
+
+    /**
+     * Root command and operations of every command, as Command parsed them
+     * before the tokenizer.
+     *
+     * @param p_blackhole sink for the results
+     */
+    @Benchmark
+    public void splitting(Blackhole p_blackhole) {
+        for (String l_text : COMMANDS) {
+            String l_command = l_text.trim().replaceAll(" +", " ");
+            p_blackhole.consume(l_command.split(" ")[0]);
+            p_blackhole.consume(splitOperations(l_command));
+        }
+    }
+
+    /**
+     * Operations of a command, as Command.getOperationsAndArguments parsed them
+     * before the tokenizer.
+     *
+     * @param p_command command with single spaces
+     * @return operations and their arguments
+     */
+    private static List<Map<String, String>> splitOperations(String p_command) {
+        String l_rootCommand = p_command.split(" ")[0];
+        String l_operationsString = p_command.replace(l_rootCommand, "").trim();
+        if (l_operationsString.isEmpty()) {
+            return new ArrayList<Map<String, String>>();
+        }
+        if (!l_operationsString.contains("-") && !l_operationsString.contains(" ")) {
+            l_operationsString = "-filename " + l_operationsString;
+        }
+        List<Map<String, String>> l_operations = new ArrayList<Map<String, String>>();
+        for (String l_operation : l_operationsString.split("-")) {
+            if (l_operation.length() > 1) {
+                String[] l_words = l_operation.split(" ");
+                Map<String, String> l_map = new HashMap<String, String>();
+                l_map.put("operation", l_words[0]);
+                l_map.put("arguments",
+                        String.join(" ", Arrays.copyOfRange(l_words, 1, l_words.length)));
+                l_operations.add(l_map);
+            }
+        }
+        return l_operations;
+    }
+}
@@ -0,0 +1,103 @@
+package Benchmarks;
+
+import java.io.BufferedReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import Constants.AppConstants;
+import Models.GameState;
+import Models.Map;
+import Services.ConquestMap;
+
+/**
+ * Measures the streaming Conquest parser on generated files of growing size;
+ * the time per file should grow linearly with the number of territories.
+ *
+ * <p>
+ * Run with
+ * {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test -Dexec.args="-cp %classpath org.openjdk.jmh.Main ConquestParse"}
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConquestParseBenchmark {
+
+    /**
+     * number of territories in the generated file.
+     */
+    @Param({ "5000", "10000", "20000" })
+    public int d_territories;
+
+    /**
+     * generated Conquest file.
+     */
+    private Path d_file;
+
+    /**
+     * Writes a generated grid map in Conquest format.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        GameState l_gameState = new GameState();
+        l_gameState.setD_map(SyntheticMaps.gridMap(d_territories, 10));
+        d_file = Files.createTempFile("conquest-" + d_territories, ".map");
+        try (FileWriter l_writer = new FileWriter(d_file.toFile())) {
+            new ConquestMap().writeChangesToMap(l_gameState, l_writer, AppConstants.CONQUEST_MAP);
+        }
+    }
+
+    /**
+     * Deletes the generated file.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(d_file);
+    }
+
+    /**
+     * Parses the generated file.
+     *
+     * @return parsed map
+     * @throws IOException if the file cannot be read
+     */
+    @Benchmark
+    public Map parse() throws IOException {
+        Map l_map = new Map();
+        try (BufferedReader l_reader = Files.newBufferedReader(d_file)) {
+            new ConquestMap().readMapContent(l_reader, l_map, new GameState());
+        }
+        return l_map;
+    }
+}
@@ -0,0 +1,118 @@
+package Benchmarks;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import CommonFunctions.CommonCode;
+import Constants.AppConstants;
+import Models.GameState;
+import Models.Map;
+import Services.DominationMap;
+
+/**
+ * Measures the Domination parser on canada.map and on a generated 50k-country
+ * map, from the characters of the file already in memory.
+ *
+ * <p>
+ * Run with
+ * {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test -Dexec.args="-cp %classpath org.openjdk.jmh.Main DominationParse"}
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DominationParseBenchmark {
+
+    /**
+     * map to parse: canada, or the number of countries of a generated map.
+     */
+    @Param({ "canada", "50000" })
+    public String d_source;
+
+    /**
+     * generated file, null for canada.
+     */
+    private Path d_file;
+
+    /**
+     * characters of the map file.
+     */
+    private CharBuffer d_content;
+
+    /**
+     * Reads canada.map or writes and reads a generated grid map.
+     *
+     * @throws IOException if the file cannot be written or read
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Path l_path;
+        if ("canada".equals(d_source)) {
+            l_path = Paths.get(CommonCode.getMapFilePath("canada"));
+        } else {
+            GameState l_gameState = new GameState();
+            l_gameState.setD_map(SyntheticMaps.gridMap(Integer.parseInt(d_source), 10));
+            d_file = Files.createTempFile("domination-" + d_source, ".map");
+            try (FileWriter l_writer = new FileWriter(d_file.toFile())) {
+                new DominationMap().writeChangesToMap(l_gameState, l_writer, AppConstants.DOMINATION_MAP);
+            }
+            l_path = d_file;
+        }
+        d_content = Charset.defaultCharset().decode(ByteBuffer.wrap(Files.readAllBytes(l_path)));
+    }
+
+    /**
+     * Deletes the generated file.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (d_file != null) {
+            Files.deleteIfExists(d_file);
+        }
+    }
+
+    /**
+     * Parses the map file.
+     *
+     * @return parsed map
+     */
+    @Benchmark
+    public Map parse() {
+        Map l_map = new Map();
+        new DominationMap().readMapContent(d_content, l_map, new GameState());
+        return l_map;
+    }
+}
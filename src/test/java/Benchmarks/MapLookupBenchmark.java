@@ -0,0 +1,135 @@
+package Benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import Models.Country;
+import Models.Map;
+
+/**
+ * Compares the indexed country lookups of Map against the linear list scan they
+ * replaced, on a generated 10k country map.
+ *
+ * <p>
+ * Run with
+ * {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test -Dexec.args="-cp %classpath org.openjdk.jmh.Main MapLookup"}
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapLookupBenchmark {
+
+    /**
+     * number of lookups done per benchmark call.
+     */
+    private static final int LOOKUPS = 1000;
+
+    /**
+     * generated map.
+     */
+    private Map d_map;
+
+    /**
+     * ids looked up, spread across the map.
+     */
+    private int[] d_ids;
+
+    /**
+     * names looked up, in mixed case.
+     */
+    private String[] d_names;
+
+    /**
+     * Builds the map and the lookup keys.
+     */
+    @Setup
+    public void setup() {
+        d_map = SyntheticMaps.gridMap(10000, 10);
+        d_ids = new int[LOOKUPS];
+        d_names = new String[LOOKUPS];
+        for (int l_index = 0; l_index < LOOKUPS; l_index++) {
+            d_ids[l_index] = (l_index * 7919) % 10000 + 1;
+            d_names[l_index] = ("Country" + d_ids[l_index]).toUpperCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Indexed lookup by id.
+     *
+     * @param p_blackhole sink for the results
+     */
+    @Benchmark
+    public void indexedById(Blackhole p_blackhole) {
+        for (int l_id : d_ids) {
+            p_blackhole.consume(d_map.getCountry(l_id));
+        }
+    }
+
+    /**
+     * Indexed lookup by name.
+     *
+     * @param p_blackhole sink for the results
+     */
+    @Benchmark
+    public void indexedByName(Blackhole p_blackhole) {
+        for (String l_name : d_names) {
+            p_blackhole.consume(d_map.getCountryByName(l_name));
+        }
+    }
+
+    /**
+     * Linear scan by id, as Map did before the indexes.
+     *
+     * @param p_blackhole sink for the results
+     */
+    @Benchmark
+    public void scanById(Blackhole p_blackhole) {
+        for (int l_id : d_ids) {
+            Integer l_key = l_id;
+            p_blackhole.consume(d_map.getD_countries().stream()
+                    .filter(l_country -> l_country.getD_countryId().equals(l_key)).findFirst().orElse(null));
+        }
+    }
+
+    /**
+     * Linear scan by name, as Map did before the indexes.
+     *
+     * @param p_blackhole sink for the results
+     */
+    @Benchmark
+    public void scanByName(Blackhole p_blackhole) {
+        for (String l_name : d_names) {
+            Country l_found = null;
+            for (Country l_country : d_map.getD_countries()) {
+                if (l_country.getD_countryName().equalsIgnoreCase(l_name)) {
+                    l_found = l_country;
+                    break;
+                }
+            }
+            p_blackhole.consume(l_found);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package Benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import Controllers.GameEngineCtx;
+import Models.Country;
+import Models.Deploy;
+import Models.GamePlayPhase;
+import Models.GameSnapshot;
+import Models.GameState;
+import Models.IssueOrderPhase;
+import Models.Map;
+import Models.Order;
+import Models.Player;
+
+/**
+ * Compares saving and loading a game in the binary snapshot format against the
+ * Java serialization it replaced, on generated 2k and 20k country maps shared
+ * by four players with a deploy order pending on each of their countries. The
+ * map is not backed by a file, so the snapshot holds it in full; the sizes of
+ * both save files are printed at setup. Loading a snapshot leaves the order
+ * queues undecoded, as the first phase to use them would decode them.
+ *
+ * <p>
+ * Run with
+ * {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test -Dexec.args="-cp %classpath org.openjdk.jmh.Main SaveGame"}
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveGameBenchmark {
+
+    /**
+     * number of players in the game.
+     */
+    private static final int PLAYERS = 4;
+
+    /**
+     * countries in the generated map.
+     */
+    @Param({ "2000", "20000" })
+    public int d_countryCount;
+
+    /**
+     * game that is saved.
+     */
+    private GamePlayPhase d_phase;
+
+    /**
+     * snapshot save file.
+     */
+    private Path d_snapshotFile;
+
+    /**
+     * serialized save file.
+     */
+    private Path d_serializedFile;
+
+    /**
+     * Builds the game and writes both save files once.
+     *
+     * @throws IOException if the save files cannot be written
+     */
+    @Setup
+    public void setup() throws IOException {
+        Map l_map = SyntheticMaps.gridMap(d_countryCount, 4);
+        List<Player> l_players = new ArrayList<Player>();
+        for (int l_index = 0; l_index < PLAYERS; l_index++) {
+            Player l_player = new Player("Player" + l_index);
+            l_player.setD_playerCountries(new ArrayList<Country>());
+            l_player.setD_playerOrder(new ArrayList<Order>());
+            l_players.add(l_player);
+        }
+        GameState l_gameState = new GameState();
+        l_gameState.setD_map(l_map);
+        l_gameState.setD_players(l_players);
+        for (Country l_country : l_map.getD_countries()) {
+            Player l_owner = l_players.get(l_country.getD_countryId() % PLAYERS);
+            l_country.setD_armyCount(3);
+            l_gameState.transferCountry(l_country, null, l_owner);
+            l_owner.getD_playerOrder().add(new Deploy(l_owner, l_country.getD_countryName(), 1));
+        }
+        d_phase = new IssueOrderPhase(new GameEngineCtx(), l_gameState);
+
+        d_snapshotFile = Files.createTempFile("warzone-snapshot", ".txt");
+        d_serializedFile = Files.createTempFile("warzone-serialized", ".txt");
+        saveSnapshot();
+        saveSerialized();
+        System.out.println("snapshot " + Files.size(d_snapshotFile) + " bytes, serialized "
+                + Files.size(d_serializedFile) + " bytes");
+    }
+
+    /**
+     * Removes the save files.
+     *
+     * @throws IOException if they cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(d_snapshotFile);
+        Files.deleteIfExists(d_serializedFile);
+    }
+
+    /**
+     * Saves the game as a snapshot.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Benchmark
+    public void saveSnapshot() throws IOException {
+        try (FileChannel l_channel = FileChannel.open(d_snapshotFile, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            GameSnapshot.write(d_phase, l_channel);
+        }
+    }
+
+    /**
+     * Loads the game from a snapshot.
+     *
+     * @return loaded game
+     * @throws IOException if the file cannot be read
+     */
+    @Benchmark
+    public GamePlayPhase loadSnapshot() throws IOException {
+        try (FileChannel l_channel = FileChannel.open(d_snapshotFile, StandardOpenOption.READ)) {
+            return GameSnapshot.read(l_channel);
+        }
+    }
+
+    /**
+     * Saves the game with Java serialization.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Benchmark
+    public void saveSerialized() throws IOException {
+        try (OutputStream l_file = Files.newOutputStream(d_serializedFile);
+                ObjectOutputStream l_stream = new ObjectOutputStream(l_file)) {
+            l_stream.writeObject(d_phase);
+        }
+    }
+
+    /**
+     * Loads the game with Java serialization.
+     *
+     * @return loaded game
+     * @throws IOException            if the file cannot be read
+     * @throws ClassNotFoundException if a saved class is missing
+     */
+    @Benchmark
+    public Object loadSerialized() throws IOException, ClassNotFoundException {
+        try (InputStream l_file = Files.newInputStream(d_serializedFile);
+                ObjectInputStream l_stream = new ObjectInputStream(l_file)) {
+            return l_stream.readObject();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package Benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import Models.Continent;
+import Models.Country;
+import Models.Map;
+
+/**
+ * Builds large generated maps for the benchmarks. Countries are laid out on a
+ * grid, each bordering the countries to its left, right, top and bottom, and
+ * consecutive rows of the grid are grouped into continents.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public final class SyntheticMaps {
+
+    /**
+     * number of countries in each row of the grid.
+     */
+    public static final int ROW_WIDTH = 100;
+
+    /**
+     * utility class, not instantiated.
+     */
+    private SyntheticMaps() {
+    }
+
+    /**
+     * Builds a connected grid map.
+     *
+     * @param p_countryCount    number of countries, a multiple of ROW_WIDTH
+     * @param p_rowsPerContinent number of grid rows per continent
+     * @return generated map
+     */
+    public static Map gridMap(int p_countryCount, int p_rowsPerContinent) {
+        int l_rows = p_countryCount / ROW_WIDTH;
+        List<Continent> l_continents = new ArrayList<Continent>();
+        List<Country> l_countries = new ArrayList<Country>();
+
+        for (int l_row = 0; l_row < l_rows; l_row += p_rowsPerContinent) {
+            int l_continentId = l_continents.size() + 1;
+            l_continents.add(new Continent(l_continentId, "Continent" + l_continentId, 5));
+        }
+        for (int l_index = 0; l_index < l_rows * ROW_WIDTH; l_index++) {
+            int l_row = l_index / ROW_WIDTH;
+            int l_column = l_index % ROW_WIDTH;
+            Country l_country = new Country(l_index + 1, "Country" + (l_index + 1), l_row / p_rowsPerContinent + 1);
+            if (l_column > 0) {
+                l_country.addNeighbour(l_index);
+            }
+            if (l_column < ROW_WIDTH - 1) {
+                l_country.addNeighbour(l_index + 2);
+            }
+            if (l_row > 0) {
+                l_country.addNeighbour(l_index + 1 - ROW_WIDTH);
+            }
+            if (l_row < l_rows - 1) {
+                l_country.addNeighbour(l_index + 1 + ROW_WIDTH);
+            }
+            l_countries.add(l_country);
+            l_continents.get(l_row / p_rowsPerContinent).addCountry(l_country);
+        }
+
+        Map l_map = new Map();
+        l_map.setD_mapFile("synthetic-" + p_countryCount);
+        l_map.setD_continents(l_continents);
+        l_map.setD_countries(l_countries);
+        return l_map;
+    }
+}
@@ -1,6 +1,7 @@
 package CommonFunctions;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import java.util.ArrayList;
 import java.util.Map;
@@ -60,4 +61,56 @@ public class CommandTests {
         assertEquals(l_expectedCommandList, l_actualCommandList);
     }
 
+    /**
+     * Test that repeated spaces are collapsed and that options keep all their
+     * arguments, including words with '-' in them and negative numbers.
+     */
+    @Test
+    public void testOptionsAndArguments() {
+        Command l_command = new Command("  tournament  -M canada  europe -P aggressive -G 2 -D -5 -N North-Korea  ");
+        CommandTokens l_tokens = l_command.getD_tokens();
+
+        assertEquals("tournament -M canada europe -P aggressive -G 2 -D -5 -N North-Korea", l_command.getD_command());
+        assertEquals("tournament", l_command.getRootCommand());
+        assertEquals(5, l_tokens.getOptionCount());
+        assertEquals("M", l_tokens.getOption(0));
+        assertEquals("canada europe", l_tokens.getArguments(0));
+        assertEquals("-5", l_tokens.getArguments("D"));
+        assertEquals("North-Korea", l_tokens.getArguments("N"));
+        assertNull(l_tokens.getArguments("X"));
+        assertNull(l_tokens.getError());
+    }
+
+    /**
+     * Test that a single argument after the root is read as a file name and
+     * that commands such as deploy keep their arguments in order.
+     */
+    @Test
+    public void testPositionalArguments() {
+        List<Map<String, String>> l_operations = new Command("loadmap canada.map").getOperationsAndArguments();
+        assertEquals(1, l_operations.size());
+        assertEquals("filename", l_operations.get(0).get("operation"));
+        assertEquals("canada.map", l_operations.get(0).get("arguments"));
+
+        CommandTokens l_tokens = new Command("deploy Quebec 5").getD_tokens();
+        assertEquals("Quebec 5", l_tokens.getPositionalArguments());
+        assertEquals(0, l_tokens.getOptionCount());
+        assertNull(l_tokens.getError());
+    }
+
+    /**
+     * Test that syntax errors are reported at their position in the command as
+     * entered.
+     */
+    @Test
+    public void testErrorPositions() {
+        CommandTokens l_tokens = new Command("gameplayer  -add Sumit - Dhruv").getD_tokens();
+        assertEquals(23, l_tokens.getErrorPosition());
+        assertEquals("Option name missing after '-' at position 23", l_tokens.getError());
+
+        assertEquals(11, new Command("gameplayer Sumit -add Dhruv").getD_tokens().getErrorPosition());
+        assertEquals(-1, new Command("").getD_tokens().getErrorPosition());
+        assertEquals("", new Command("").getRootCommand());
+    }
+
 }
@@ -5,6 +5,8 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -13,6 +15,7 @@ import Exceptions.InvalidCommand;
 import Exceptions.InvalidMap;
 import Models.GamePlayPhase;
 import Models.GameState;
+import Models.IssueOrderPhase;
 import Services.GameService;
 import Models.StartUpPhase;
 
@@ -114,4 +117,64 @@ public class GameEngineCtxTest {
         GamePlayPhase l_phase = Services.GameService.loadGame("12333");
     }
 
+    /**
+     * Phase transitions requested by a running phase are started by the phase
+     * loop after it returns, so the stack does not grow with the number of
+     * turns.
+     */
+    @Test
+    public void testPhaseLoopKeepsStackDepth() {
+        List<Integer> l_stackDepths = new ArrayList<Integer>();
+        RelayPhase l_firstPhase = new RelayPhase(d_gameEngineCtx, 100000, l_stackDepths);
+        d_gameEngineCtx.transitionTo(l_firstPhase, true);
+
+        assertEquals(100001, l_stackDepths.size());
+        assertEquals(1, l_stackDepths.stream().distinct().count());
+        assertTrue(d_gameEngineCtx.getD_CurrentPhase() instanceof RelayPhase);
+    }
+
+    /**
+     * Phase that hands over to a new phase of its own kind a given number of
+     * times, recording the stack depth it was started at.
+     */
+    private static class RelayPhase extends IssueOrderPhase {
+
+        /**
+         * context the phase runs on.
+         */
+        private final GameEngineCtx d_context;
+
+        /**
+         * number of phases still to follow this one.
+         */
+        private final int d_remaining;
+
+        /**
+         * stack depth at the start of every phase.
+         */
+        private final List<Integer> d_stackDepths;
+
+        /**
+         * Creates a relay phase.
+         *
+         * @param p_context     context the phase runs on
+         * @param p_remaining   number of phases still to follow
+         * @param p_stackDepths stack depth at the start of every phase
+         */
+        RelayPhase(GameEngineCtx p_context, int p_remaining, List<Integer> p_stackDepths) {
+            super(p_context, p_context.getD_gameState());
+            d_context = p_context;
+            d_remaining = p_remaining;
+            d_stackDepths = p_stackDepths;
+        }
+
+        @Override
+        public void initPhase(boolean p_isTournamentMode) {
+            d_stackDepths.add(Thread.currentThread().getStackTrace().length);
+            if (d_remaining > 0) {
+                d_context.transitionTo(new RelayPhase(d_context, d_remaining - 1, d_stackDepths), p_isTournamentMode);
+            }
+        }
+    }
+
 }
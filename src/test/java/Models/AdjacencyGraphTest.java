@@ -0,0 +1,79 @@
+package Models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import Exceptions.InvalidMap;
+import Services.MapService;
+
+/**
+ * This class is used to test the border snapshot of the Map.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public class AdjacencyGraphTest {
+
+    /**
+     * map under test.
+     */
+    Map d_map;
+
+    /**
+     * Loads the canada map.
+     */
+    @Before
+    public void setup() {
+        d_map = new MapService().loadMap(new GameState(), "canada");
+    }
+
+    /**
+     * Checks that the rows of the snapshot match the neighbour lists.
+     */
+    @Test
+    public void testRowsMatchNeighbourLists() {
+        AdjacencyGraph l_graph = d_map.getAdjacencyGraph();
+        assertEquals(d_map.getD_countries().size(), l_graph.size());
+
+        for (int l_index = 0; l_index < l_graph.size(); l_index++) {
+            Country l_country = l_graph.country(l_index);
+            assertEquals(l_index, l_graph.indexOf(l_country));
+            assertEquals(l_country.getD_adjacentCountryIds().size(), l_graph.degree(l_index));
+            for (int l_nth = 0; l_nth < l_graph.degree(l_index); l_nth++) {
+                assertEquals(l_country.getD_adjacentCountryIds().get(l_nth),
+                        l_graph.country(l_graph.neighbour(l_index, l_nth)).getD_countryId());
+            }
+        }
+    }
+
+    /**
+     * Checks that the snapshot is rebuilt after neighbour edits.
+     *
+     * @throws InvalidMap if an edit fails
+     */
+    @Test
+    public void testRebuiltAfterEdit() throws InvalidMap {
+        AdjacencyGraph l_before = d_map.getAdjacencyGraph();
+        int l_source = l_before.indexOf(d_map.getCountryByName("New_Brunswick"));
+        int l_target = l_before.indexOf(d_map.getCountryByName("Yukon_Territory"));
+        assertFalse(l_before.isAdjacent(l_source, l_target));
+        assertSame(l_before, d_map.getAdjacencyGraph());
+
+        d_map.addCountryNeighbour("New_Brunswick", "Yukon_Territory");
+
+        AdjacencyGraph l_after = d_map.getAdjacencyGraph();
+        assertNotSame(l_before, l_after);
+        assertTrue(l_after.isAdjacent(l_source, l_target));
+    }
+}
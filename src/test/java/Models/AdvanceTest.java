@@ -114,7 +114,7 @@ public class AdvanceTest {
     public void testAttackersWin() {
 
         Advance l_advance = new Advance(d_sourcePlayer, "Country1", "Country2", 5);
-        l_advance.handleSurvivingArmies(5, 0, d_country1, d_country2, d_targetPlayer);
+        l_advance.handleSurvivingArmies(5, 0, d_country1, d_country2, d_targetPlayer, d_gameState);
 
         // the target player has lost all the countries
         assertEquals(d_targetPlayer.getD_playerCountries().size(), 0);
@@ -137,7 +137,7 @@ public class AdvanceTest {
     @Test
     public void testCountryConquering() {
         Advance l_advance = new Advance(d_sourcePlayer, "Country1", "Country2", 5);
-        l_advance.handleSurvivingArmies(5, 0, d_country1, d_country2, d_targetPlayer);
+        l_advance.handleSurvivingArmies(5, 0, d_country1, d_country2, d_targetPlayer, d_gameState);
 
         // the target player has lost all the countries
         assertEquals(0, d_targetPlayer.getD_playerCountries().size());
@@ -154,7 +154,7 @@ public class AdvanceTest {
     @Test
     public void testArmyCountUpdate() {
         Advance l_advance = new Advance(d_sourcePlayer, "Country1", "Country2", 5);
-        l_advance.handleSurvivingArmies(5, 0, d_country1, d_country2, d_targetPlayer);
+        l_advance.handleSurvivingArmies(5, 0, d_country1, d_country2, d_targetPlayer, d_gameState);
 
         // Check the army count update in the conquered country
         assertEquals("5", d_sourcePlayer.getD_playerCountries().get(1).getD_armyCount().toString());
@@ -166,7 +166,7 @@ public class AdvanceTest {
     @Test
     public void testGameEndCondition() {
         Advance l_advance = new Advance(d_sourcePlayer, "Country1", "Country2", 7);
-        l_advance.handleSurvivingArmies(5, 0, d_country1, d_country2, d_targetPlayer);
+        l_advance.handleSurvivingArmies(5, 0, d_country1, d_country2, d_targetPlayer, d_gameState);
 
         OrderExecutionPhase l_orderExec = new OrderExecutionPhase(new GameEngineCtx(), d_gameState);
         assertTrue(l_orderExec.checkGameHasEnded(d_gameState));
@@ -179,7 +179,7 @@ public class AdvanceTest {
     @Test
     public void testDefendersWin() {
         Advance l_advance = new Advance(d_sourcePlayer, "Country1", "Country2", 2);
-        l_advance.handleSurvivingArmies(1, 4, d_country1, d_country2, d_targetPlayer);
+        l_advance.handleSurvivingArmies(1, 4, d_country1, d_country2, d_targetPlayer, d_gameState);
 
         assertEquals(d_targetPlayer.getD_playerCountries().size(), 1);
         assertEquals(d_sourcePlayer.getD_playerCountries().size(), 2);
@@ -82,7 +82,7 @@ public class AggressivePlayerTest {
 	 */
 	@Test
 	public void testInitialOrder() throws IOException {
-		assertEquals("deploy", d_player.getPlayerOrder(d_gameState).split(" ")[0]);
+		assertEquals(OrderIntent.Kind.DEPLOY, d_player.getOrderIntent(d_gameState).getD_kind());
 	}
 
 	/**
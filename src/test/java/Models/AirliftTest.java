@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Before;
@@ -50,6 +51,7 @@ public class AirliftTest {
         l_map.setD_countries(l_countries);
         d_gameState.setD_map(l_map);
         d_player.setD_playerCountries(l_countries);
+        d_gameState.setD_players(new ArrayList<Player>(Arrays.asList(d_player)));
     }
 
     /**
@@ -0,0 +1,189 @@
+package Models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+import Constants.AppConstants;
+
+/**
+ * Statistical tests of the battle engine. Every test draws from a fixed seed,
+ * so it either always passes or always fails.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public class BattleEngineTest {
+
+    /**
+     * samples drawn per distribution.
+     */
+    private static final int SAMPLES = 20000;
+
+    /**
+     * Mean and variance of the kills match those of the binomial, for battles
+     * rolled army by army, drawn by inversion and drawn by rejection.
+     */
+    @Test
+    public void testKillsHaveBinomialMoments() {
+        SplittableRandom l_random = new SplittableRandom(19);
+        int[] l_trials = { 1, 5, 12, 30, 40, 1000, 100000, 50000000 };
+        double[] l_chances = { 0.05, 0.3, AppConstants.ATTACKER_KILL_CHANCE, AppConstants.DEFENDER_KILL_CHANCE };
+        for (int l_trialCount : l_trials) {
+            for (double l_chance : l_chances) {
+                double l_sum = 0;
+                double l_squares = 0;
+                for (int l_sample = 0; l_sample < SAMPLES; l_sample++) {
+                    int l_kills = BattleEngine.binomial(l_trialCount, l_chance, l_random);
+                    assertTrue(l_kills >= 0 && l_kills <= l_trialCount);
+                    l_sum += l_kills;
+                    l_squares += (double) l_kills * l_kills;
+                }
+                double l_mean = l_sum / SAMPLES;
+                double l_variance = l_squares / SAMPLES - l_mean * l_mean;
+                double l_expectedVariance = l_trialCount * l_chance * (1 - l_chance);
+                String l_case = l_trialCount + " trials of " + l_chance;
+                assertEquals(l_case, l_trialCount * l_chance, l_mean, 5 * Math.sqrt(l_expectedVariance / SAMPLES));
+                assertEquals(l_case, l_expectedVariance, l_variance, 0.08 * l_expectedVariance);
+            }
+        }
+    }
+
+    /**
+     * The kills follow the binomial distribution itself, by a chi-square test
+     * at the 0.1% level.
+     */
+    @Test
+    public void testKillsFitBinomialDistribution() {
+        SplittableRandom l_random = new SplittableRandom(20);
+        // army by army, then inversion or rejection depending on the kill chance
+        for (int l_trialCount : Arrays.asList(12, 30, 60)) {
+            for (double l_chance : new double[] { AppConstants.ATTACKER_KILL_CHANCE,
+                    AppConstants.DEFENDER_KILL_CHANCE }) {
+                long[] l_counts = new long[l_trialCount + 1];
+                for (int l_sample = 0; l_sample < SAMPLES; l_sample++) {
+                    l_counts[BattleEngine.binomial(l_trialCount, l_chance, l_random)]++;
+                }
+                assertFitsBinomial(l_counts, l_trialCount, l_chance);
+            }
+        }
+    }
+
+    /**
+     * Chi-square test of observed counts against the binomial at the 0.1% level,
+     * merging outcomes until each bin expects at least 5 samples.
+     *
+     * @param p_counts     samples of each outcome
+     * @param p_trialCount number of trials
+     * @param p_chance     chance of each trial
+     */
+    private void assertFitsBinomial(long[] p_counts, int p_trialCount, double p_chance) {
+        List<double[]> l_bins = new ArrayList<double[]>();
+        double l_expected = 0;
+        double l_observed = 0;
+        for (int l_kills = 0; l_kills <= p_trialCount; l_kills++) {
+            l_expected += SAMPLES * probability(p_trialCount, l_kills, p_chance);
+            l_observed += p_counts[l_kills];
+            if (l_expected >= 5) {
+                l_bins.add(new double[] { l_observed, l_expected });
+                l_expected = 0;
+                l_observed = 0;
+            }
+        }
+        double[] l_last = l_bins.get(l_bins.size() - 1);
+        l_last[0] += l_observed;
+        l_last[1] += l_expected;
+
+        double l_statistic = 0;
+        for (double[] l_bin : l_bins) {
+            l_statistic += (l_bin[0] - l_bin[1]) * (l_bin[0] - l_bin[1]) / l_bin[1];
+        }
+        // Wilson-Hilferty approximation of the chi-square quantile, z = 3.09
+        double l_freedom = l_bins.size() - 1;
+        double l_spread = 2 / (9 * l_freedom);
+        double l_criticalValue = l_freedom * Math.pow(1 - l_spread + 3.09 * Math.sqrt(l_spread), 3);
+        assertTrue(p_trialCount + " trials of " + p_chance + ": " + l_statistic, l_statistic < l_criticalValue);
+    }
+
+    /**
+     * Probability of a binomial outcome.
+     *
+     * @param p_trialCount number of trials
+     * @param p_kills      outcome
+     * @param p_chance     chance of each trial
+     * @return probability
+     */
+    private static double probability(int p_trialCount, int p_kills, double p_chance) {
+        double l_log = p_kills * Math.log(p_chance) + (p_trialCount - p_kills) * Math.log1p(-p_chance);
+        for (int l_index = 1; l_index <= p_kills; l_index++) {
+            l_log += Math.log(p_trialCount - p_kills + l_index) - Math.log(l_index);
+        }
+        return Math.exp(l_log);
+    }
+
+    /**
+     * Battles kill at 60% for attackers and 70% for defenders, and there is no
+     * battle without armies.
+     */
+    @Test
+    public void testBattleKillChances() {
+        SplittableRandom l_random = new SplittableRandom(21);
+        long l_defendersKilled = 0;
+        long l_attackersKilled = 0;
+        for (int l_battle = 0; l_battle < SAMPLES; l_battle++) {
+            l_defendersKilled += BattleEngine.defendersKilled(10, l_random);
+            l_attackersKilled += BattleEngine.attackersKilled(10, l_random);
+        }
+        assertEquals(6.0, (double) l_defendersKilled / SAMPLES, 0.05);
+        assertEquals(7.0, (double) l_attackersKilled / SAMPLES, 0.05);
+        assertEquals(0, BattleEngine.defendersKilled(0, l_random));
+        assertEquals(5, BattleEngine.binomial(5, 1, l_random));
+    }
+
+    /**
+     * An overwhelming advance conquers the target and a hopeless one leaves it
+     * to its owner, sending the surviving attackers back.
+     */
+    @Test
+    public void testAdvanceUsesBattleOutcome() {
+        Player l_attacker = new Player("Sumit");
+        Player l_defender = new Player("Dhruv");
+        Country l_source = new Country("Source");
+        Country l_target = new Country("Target");
+        l_source.setD_armyCount(1001);
+        l_target.setD_armyCount(10);
+        l_attacker.setD_playerCountries(new ArrayList<Country>(Arrays.asList(l_source)));
+        l_defender.setD_playerCountries(new ArrayList<Country>(Arrays.asList(l_target)));
+        Map l_map = new Map();
+        l_map.setD_countries(new ArrayList<Country>(Arrays.asList(l_source, l_target)));
+        l_map.setD_continents(new ArrayList<Continent>());
+        GameState l_gameState = new GameState();
+        l_gameState.setD_map(l_map);
+        l_gameState.setD_players(Arrays.asList(l_attacker, l_defender));
+        l_gameState.setD_random(new GameRandom(22));
+
+        new Advance(l_attacker, "Source", "Target", 1000).execute(l_gameState);
+        assertTrue(l_attacker.getD_playerCountries().contains(l_target));
+        assertTrue(l_target.getD_armyCount() >= 990);
+        assertEquals(Integer.valueOf(1), l_source.getD_armyCount());
+
+        l_source.setD_armyCount(1010);
+        l_gameState.transferCountry(l_target, l_attacker, l_defender);
+        l_target.setD_armyCount(1000);
+        new Advance(l_attacker, "Source", "Target", 10).execute(l_gameState);
+        assertTrue(l_defender.getD_playerCountries().contains(l_target));
+        assertTrue(l_target.getD_armyCount() < 1000 && l_target.getD_armyCount() >= 990);
+        assertTrue(l_source.getD_armyCount() >= 1000 && l_source.getD_armyCount() < 1010);
+    }
+}
@@ -0,0 +1,110 @@
+package Models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Test class for the countries owned by a player.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public class CountrySetTest {
+
+    /**
+     * Creates countries named by their ids.
+     *
+     * @param p_count number of countries
+     * @return countries
+     */
+    private List<Country> countries(int p_count) {
+        List<Country> l_countries = new ArrayList<Country>();
+        for (int l_id = 0; l_id < p_count; l_id++) {
+            l_countries.add(new Country(l_id, "Country" + l_id, 1));
+        }
+        return l_countries;
+    }
+
+    /**
+     * Countries keep the order they were added in through removals, and are
+     * held once.
+     */
+    @Test
+    public void testOrderAndMembership() {
+        List<Country> l_countries = countries(40);
+        CountrySet l_set = new CountrySet();
+        for (Country l_country : l_countries) {
+            assertTrue(l_set.addCountry(l_country));
+        }
+        assertFalse(l_set.addCountry(l_countries.get(3)));
+
+        List<Country> l_expected = new ArrayList<Country>();
+        for (int l_index = 0; l_index < l_countries.size(); l_index++) {
+            if (l_index % 3 == 0) {
+                assertTrue(l_set.removeCountry(l_countries.get(l_index)));
+            } else {
+                l_expected.add(l_countries.get(l_index));
+            }
+        }
+        assertFalse(l_set.removeCountry(l_countries.get(0)));
+        assertFalse(l_set.contains(l_countries.get(0)));
+        assertTrue(l_set.contains(l_countries.get(1)));
+        assertEquals(l_expected, l_set);
+        assertEquals(l_expected.get(5), l_set.get(5));
+        assertEquals(5, l_set.indexOf(l_expected.get(5)));
+
+        l_set.addCountry(l_countries.get(0));
+        l_expected.add(l_countries.get(0));
+        assertEquals(l_expected, new ArrayList<Country>(l_set));
+    }
+
+    /**
+     * The countries of a player cannot be changed through their list.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testListIsReadOnly() {
+        Player l_player = new Player("Sumit");
+        l_player.setD_playerCountries(countries(2));
+        l_player.getD_playerCountries().remove(0);
+    }
+
+    /**
+     * A saved player comes back with the same countries, still in a set.
+     *
+     * @throws IOException            if the player cannot be written
+     * @throws ClassNotFoundException if the player cannot be read
+     */
+    @Test
+    public void testPlayerSurvivesSerialization() throws IOException, ClassNotFoundException {
+        Player l_player = new Player("Sumit");
+        l_player.setD_playerCountries(new ArrayList<Country>(Arrays.asList(new Country(0, "Country0", 1),
+                new Country(1, "Country1", 1))));
+        ByteArrayOutputStream l_bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream l_out = new ObjectOutputStream(l_bytes)) {
+            l_out.writeObject(l_player);
+        }
+        Player l_read;
+        try (ObjectInputStream l_in = new ObjectInputStream(new ByteArrayInputStream(l_bytes.toByteArray()))) {
+            l_read = (Player) l_in.readObject();
+        }
+        assertEquals(Arrays.asList("Country0", "Country1"), l_read.getCountryList());
+        assertTrue(l_read.getD_playerCountries() instanceof CountrySet);
+    }
+}
@@ -1,6 +1,7 @@
 package Models;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -9,6 +10,9 @@ import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 
+import Models.LogModel.LogCategory;
+import Views.Console;
+
 /**
  * This class is used to test functionality of OrderImpl class.
  * 
@@ -88,4 +92,54 @@ public class DeployTest {
         Country l_russia = d_gameState.getD_map().getCountryByName("Russia");
         assertEquals("12", l_russia.getD_armyCount().toString());
     }
+
+    /**
+     * The deploy logs the same text as before it was recorded as an event.
+     */
+    @Test
+    public void testExecuteOrderLog() {
+        d_deployOrder.execute(d_gameState);
+        assertEquals("12 armies have been deployed successfully on country : Russia",
+                d_deployOrder.orderExecutionLog());
+        assertEquals("Log: 12 armies have been deployed successfully on country : Russia" + System.lineSeparator(),
+                d_gameState.getRecentLog());
+    }
+
+    /**
+     * Nothing is logged for the deploy while order effects are switched off, but
+     * the order is still carried out.
+     */
+    @Test
+    public void testExecuteOrderWithOrderEffectsOff() {
+        LogCategory.ORDER_EFFECT.setEnabled(false);
+        try {
+            d_deployOrder.execute(d_gameState);
+        } finally {
+            LogCategory.ORDER_EFFECT.setEnabled(true);
+        }
+        assertEquals("12", d_gameState.getD_map().getCountryByName("Russia").getD_armyCount().toString());
+        assertNull(d_deployOrder.orderExecutionLog());
+        assertNull(d_gameState.getRecentLog());
+    }
+
+    /**
+     * The outcome is left as an event for the console and the log writer to
+     * turn into text: the order does not build it, and the console does only
+     * when it prints it.
+     */
+    @Test
+    public void testOutcomeRenderedBySinks() {
+        Console.setThreadMode(Console.Mode.BUFFER);
+        try {
+            Console.takeBuffer();
+            d_deployOrder.execute(d_gameState);
+            assertNull(d_deployOrder.d_orderExecutionLog);
+            assertEquals("12 armies have been deployed successfully on country : Russia" + System.lineSeparator(),
+                    Console.takeBuffer());
+        } finally {
+            Console.setThreadMode(null);
+        }
+        assertEquals("12 armies have been deployed successfully on country : Russia",
+                d_deployOrder.orderExecutionLog());
+    }
 }
@@ -0,0 +1,102 @@
+package Models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import Services.MapService;
+import Services.PlayerService;
+
+/**
+ * Test class for the seeded random source of a game.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public class GameRandomTest {
+
+    /**
+     * Draws a few numbers from a stream.
+     *
+     * @param p_random random source
+     * @param p_stream stream, 0 for allocation, 1 for battles, 2 for cards and 3
+     *                 for the strategy of player "Sumit"
+     * @return numbers drawn
+     */
+    private List<Integer> draw(GameRandom p_random, int p_stream) {
+        List<Integer> l_numbers = new ArrayList<Integer>();
+        for (int l_draw = 0; l_draw < 8; l_draw++) {
+            switch (p_stream) {
+                case 0:
+                    l_numbers.add(p_random.allocation().nextInt(1000));
+                    break;
+                case 1:
+                    l_numbers.add(p_random.battles().nextInt(1000));
+                    break;
+                case 2:
+                    l_numbers.add(p_random.cards().nextInt(1000));
+                    break;
+                default:
+                    l_numbers.add(p_random.strategy(new Player("Sumit")).nextInt(1000));
+                    break;
+            }
+        }
+        return l_numbers;
+    }
+
+    /**
+     * Each stream draws the same numbers from the same seed, whatever is drawn
+     * from the other streams in between.
+     */
+    @Test
+    public void testStreamsAreReproducibleAndIndependent() {
+        GameRandom l_first = new GameRandom(42);
+        GameRandom l_second = new GameRandom(42);
+        draw(l_second, 0);
+        draw(l_second, 3);
+
+        assertEquals(draw(l_first, 1), draw(l_second, 1));
+        assertEquals(draw(l_first, 2), draw(l_second, 2));
+        assertNotEquals(draw(new GameRandom(42), 1), draw(new GameRandom(43), 1));
+        assertNotEquals(draw(new GameRandom(42), 1), draw(new GameRandom(42), 2));
+    }
+
+    /**
+     * Countries are allocated the same way from the same seed.
+     */
+    @Test
+    public void testSameSeedAllocatesSameCountries() {
+        assertEquals(allocate(7), allocate(7));
+        assertNotEquals(allocate(7), allocate(8));
+    }
+
+    /**
+     * Allocates the countries of canada.map to two players.
+     *
+     * @param p_seed seed of the game
+     * @return countries of the first player
+     */
+    private List<String> allocate(long p_seed) {
+        GameState l_gameState = new GameState();
+        new MapService().loadMap(l_gameState, "canada");
+        l_gameState.setD_players(new ArrayList<Player>(Arrays.asList(new Player("Sumit"), new Player("Dhruv"))));
+        l_gameState.setD_random(new GameRandom(p_seed));
+        new PlayerService().allocCountriesAndContinents(l_gameState);
+
+        List<String> l_countries = new ArrayList<String>();
+        for (Country l_country : l_gameState.getD_playerList().get(0).getD_playerCountries()) {
+            l_countries.add(l_country.getD_countryName());
+        }
+        return l_countries;
+    }
+}
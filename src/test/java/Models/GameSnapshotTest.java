@@ -0,0 +1,195 @@
+package Models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import Benchmarks.SyntheticMaps;
+import Controllers.GameEngineCtx;
+import Exceptions.InvalidMap;
+import Services.MapService;
+
+/**
+ * Test class for the binary save game format.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public class GameSnapshotTest {
+
+    /**
+     * Game State.
+     */
+    GameState d_gameState;
+
+    /**
+     * file the game is saved to.
+     */
+    Path d_saveFile;
+
+    /**
+     * Loads canada.map and sets up two players with pending orders.
+     *
+     * @throws IOException if the save file cannot be created
+     */
+    @Before
+    public void setup() throws IOException {
+        d_gameState = new GameState();
+        Map l_map = new MapService().loadMap(d_gameState, "canada");
+        d_gameState.setD_map(l_map);
+
+        Player l_first = new Player("Sumit");
+        Player l_second = new Player("Dhruv");
+        l_second.setStrategy(new AggressivePlayer());
+        l_first.setD_playerCountries(new ArrayList<Country>(Arrays.asList(l_map.getD_countries().get(0))));
+        l_second.setD_playerCountries(new ArrayList<Country>(Arrays.asList(l_map.getD_countries().get(1))));
+        l_first.setD_playerContinents(new ArrayList<Continent>(Arrays.asList(l_map.getD_continents().get(0))));
+        l_map.getD_countries().get(0).setD_armyCount(4);
+        l_first.setD_unallocatedArmyCount(3);
+        l_first.getD_playerOwnedCards().add("bomb");
+        l_second.initiatePlayerNegotiation(l_first);
+        l_first.setD_playerOrder(new ArrayList<Order>());
+        l_first.getD_playerOrder().add(new Deploy(l_first, l_map.getD_countries().get(0).getD_countryName(), 3));
+        l_first.getD_playerOrder().add(new Diplomacy("Dhruv", l_first));
+        d_gameState.setD_players(new ArrayList<Player>(Arrays.asList(l_first, l_second)));
+        d_gameState.setD_numberOfTurnsLeft(7);
+
+        d_saveFile = Files.createTempFile("warzone-save", ".txt");
+    }
+
+    /**
+     * Removes the save file.
+     *
+     * @throws IOException if it cannot be deleted
+     */
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(d_saveFile);
+    }
+
+    /**
+     * Saves the game and loads it back.
+     *
+     * @return phase of the loaded game
+     * @throws IOException if the game cannot be saved or loaded
+     */
+    private GamePlayPhase saveAndLoad() throws IOException {
+        GamePlayPhase l_phase = new IssueOrderPhase(new GameEngineCtx(), d_gameState);
+        try (FileChannel l_channel = FileChannel.open(d_saveFile, StandardOpenOption.WRITE)) {
+            GameSnapshot.write(l_phase, l_channel);
+        }
+        try (FileChannel l_channel = FileChannel.open(d_saveFile, StandardOpenOption.READ)) {
+            assertTrue(GameSnapshot.isSnapshot(l_channel));
+            return GameSnapshot.read(l_channel);
+        }
+    }
+
+    /**
+     * A game on an unchanged map file comes back with its players, armies, cards,
+     * negotiations and orders, and refers to the map file instead of holding it.
+     *
+     * @throws IOException if the game cannot be saved or loaded
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        GamePlayPhase l_phase = saveAndLoad();
+        assertTrue(l_phase instanceof IssueOrderPhase);
+        assertTrue(Files.size(d_saveFile) < 1024);
+
+        GameState l_gameState = l_phase.getD_gameState();
+        Map l_map = l_gameState.getD_map();
+        assertEquals("canada", l_map.getD_mapFile());
+        assertEquals(7, l_gameState.getD_numberOfTurnsLeft());
+        assertEquals(Integer.valueOf(4), l_map.getD_countries().get(0).getD_armyCount());
+
+        Player l_first = l_gameState.getD_playerList().get(0);
+        Player l_second = l_gameState.getD_playerList().get(1);
+        assertEquals("Sumit", l_first.getD_playerName());
+        assertEquals("Aggressive", l_second.getD_playerBehaviorStrategy().getPlayerBehavior());
+        assertSame(l_map.getD_countries().get(0), l_first.getD_playerCountries().get(0));
+        assertSame(l_map.getD_continents().get(0), l_first.getD_playerContinents().get(0));
+        assertEquals(Integer.valueOf(3), l_first.getD_unallocatedArmyCount());
+        assertEquals(Arrays.asList("bomb"), l_first.getD_playerOwnedCards());
+        assertSame(l_first, l_second.d_negotiatedWith.get(0));
+        assertNull(l_gameState.getD_winner());
+
+        assertEquals(2, l_first.getD_playerOrder().size());
+        Deploy l_deploy = (Deploy) l_first.getD_playerOrder().get(0);
+        assertSame(l_first, l_deploy.d_playerInitiator);
+        assertEquals(Integer.valueOf(3), l_deploy.d_armiesToAllocate);
+        assertEquals("Dhruv", ((Diplomacy) l_first.getD_playerOrder().get(1)).d_markPlayer);
+    }
+
+    /**
+     * Card hands and order queues are decoded only when the game first uses
+     * them.
+     *
+     * @throws IOException if the game cannot be saved or loaded
+     */
+    @Test
+    public void testOrdersAndCardsLoadLazily() throws IOException {
+        Player l_first = saveAndLoad().getD_gameState().getD_playerList().get(0);
+        assertFalse(((LazyList<?>) l_first.d_playerOrder).isLoaded());
+        assertFalse(((LazyList<?>) l_first.d_playerOwnedCardList).isLoaded());
+
+        assertEquals(2, l_first.getD_playerOrder().size());
+        assertTrue(((LazyList<?>) l_first.d_playerOrder).isLoaded());
+        assertFalse(((LazyList<?>) l_first.d_playerOwnedCardList).isLoaded());
+    }
+
+    /**
+     * A save large enough to be memory mapped loads like a small one.
+     *
+     * @throws IOException if the game cannot be saved or loaded
+     */
+    @Test
+    public void testLargeSaveRoundTrip() throws IOException {
+        Map l_map = SyntheticMaps.gridMap(20000, 10);
+        Player l_player = d_gameState.getD_playerList().get(0);
+        l_player.setD_playerCountries(new ArrayList<Country>(l_map.getD_countries()));
+        for (Country l_country : l_map.getD_countries()) {
+            l_country.setD_armyCount(l_country.getD_countryId() % 7);
+        }
+        d_gameState.setD_map(l_map);
+
+        Map l_loadedMap = saveAndLoad().getD_gameState().getD_map();
+        assertTrue(Files.size(d_saveFile) > 1024 * 1024);
+        assertEquals(20000, l_loadedMap.getD_countries().size());
+        assertEquals(Integer.valueOf(19999 % 7), l_loadedMap.getD_countries().get(19998).getD_armyCount());
+    }
+
+    /**
+     * A map edited after it was loaded is saved in full, edits included.
+     *
+     * @throws IOException if the game cannot be saved or loaded
+     * @throws InvalidMap  if the map cannot be edited
+     */
+    @Test
+    public void testEditedMapIsSavedInFull() throws IOException, InvalidMap {
+        Map l_map = d_gameState.getD_map();
+        l_map.addCountry("Sable_Island", l_map.getD_continents().get(0).getD_continentName());
+
+        Map l_loadedMap = saveAndLoad().getD_gameState().getD_map();
+        assertEquals(l_map.getD_countries().size(), l_loadedMap.getD_countries().size());
+        assertEquals("Sable_Island", l_loadedMap.getCountryByName("Sable_Island").getD_countryName());
+    }
+}
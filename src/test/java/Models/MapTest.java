@@ -1,10 +1,23 @@
 package Models;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import Benchmarks.SyntheticMaps;
 import Exceptions.InvalidMap;
 import Services.MapService;
 
@@ -99,4 +112,130 @@ public class MapTest {
         d_mapInfo.checkCountryConnectivity();
     }
 
+    /**
+     * Checks that lookups by id and by name follow map edits.
+     *
+     * @throws InvalidMap if an edit fails
+     */
+    @Test
+    public void testLookupsFollowEdits() throws InvalidMap {
+        d_mapInfo = d_mapService.loadMap(d_gameState, "canada");
+        Country l_country = d_mapInfo.getCountryByName("New_Brunswick");
+
+        assertSame(l_country, d_mapInfo.getCountry(l_country.getD_countryId()));
+        assertSame(l_country, d_mapInfo.getCountryByName("new_brunswick"));
+
+        d_mapInfo.addContinent("Arctic", 3);
+        d_mapInfo.addCountry("Baffin", "arctic");
+        assertEquals("Baffin", d_mapInfo.getCountry(d_mapInfo.getD_countries().size()).getD_countryName());
+        assertSame(d_mapInfo.getContinent("Arctic"), d_mapInfo.getContinentByID(
+                d_mapInfo.getCountryByName("BAFFIN").getD_continentId()));
+
+        d_mapInfo.removeCountry("New_Brunswick");
+        assertNull(d_mapInfo.getCountryByName("New_Brunswick"));
+        assertNull(d_mapInfo.getCountry(l_country.getD_countryId()));
+
+        d_mapInfo.removeContinent("Arctic");
+        assertNull(d_mapInfo.getContinent("Arctic"));
+        assertNull(d_mapInfo.getCountryByName("Baffin"));
+    }
+
+    /**
+     * Checks that lookups still work on a deserialized map.
+     *
+     * @throws IOException            if serialization fails
+     * @throws ClassNotFoundException if deserialization fails
+     */
+    @Test
+    public void testLookupsAfterDeserialization() throws IOException, ClassNotFoundException {
+        d_mapInfo = d_mapService.loadMap(d_gameState, "canada");
+        d_mapInfo.getCountryByName("Ontario-South");
+
+        ByteArrayOutputStream l_bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream l_out = new ObjectOutputStream(l_bytes)) {
+            l_out.writeObject(d_mapInfo);
+        }
+        Map l_copy;
+        try (ObjectInputStream l_in = new ObjectInputStream(new ByteArrayInputStream(l_bytes.toByteArray()))) {
+            l_copy = (Map) l_in.readObject();
+        }
+
+        Country l_country = l_copy.getCountryByName("ontario-south");
+        assertSame(l_copy.getD_countries().get(8), l_country);
+        assertSame(l_country, l_copy.getCountry(9));
+    }
+
+    /**
+     * Checks that validation reports every unreachable country at once.
+     */
+    @Test
+    public void testValidationReportsEveryProblem() {
+        Continent l_north = new Continent(1, "North", 1);
+        Continent l_south = new Continent(2, "South", 1);
+        List<Country> l_countries = new ArrayList<Country>();
+        for (int l_id = 1; l_id <= 4; l_id++) {
+            Country l_country = new Country(l_id, "Country" + l_id, l_id <= 2 ? 1 : 2);
+            l_country.addNeighbour(l_id % 2 == 1 ? l_id + 1 : l_id - 1);
+            l_countries.add(l_country);
+            (l_id <= 2 ? l_north : l_south).addCountry(l_country);
+        }
+        d_mapInfo.setD_continents(new ArrayList<Continent>(Arrays.asList(l_north, l_south)));
+        d_mapInfo.setD_countries(l_countries);
+
+        MapValidationResult l_result = d_mapInfo.getValidationResult();
+        assertFalse(l_result.isValid());
+        assertEquals(Arrays.asList("Country3 country is not reachable", "Country4 country is not reachable"),
+                l_result.getD_errors());
+    }
+
+    /**
+     * Checks that a long chain of countries validates without running out of
+     * stack.
+     *
+     * @throws InvalidMap if the map is reported invalid
+     */
+    @Test
+    public void testValidateLongChain() throws InvalidMap {
+        int l_countryCount = 200000;
+        Continent l_continent = new Continent(1, "Chain", 1);
+        List<Country> l_countries = new ArrayList<Country>();
+        for (int l_id = 1; l_id <= l_countryCount; l_id++) {
+            Country l_country = new Country(l_id, "Country" + l_id, 1);
+            if (l_id > 1) {
+                l_country.addNeighbour(l_id - 1);
+            }
+            if (l_id < l_countryCount) {
+                l_country.addNeighbour(l_id + 1);
+            }
+            l_countries.add(l_country);
+            l_continent.addCountry(l_country);
+        }
+        d_mapInfo.setD_continents(new ArrayList<Continent>(Arrays.asList(l_continent)));
+        d_mapInfo.setD_countries(l_countries);
+
+        assertEquals(true, d_mapInfo.Validate());
+    }
+
+    /**
+     * Checks that the parallel validation of a large map reports its problems in
+     * map order.
+     */
+    @Test
+    public void testParallelValidationOrder() {
+        d_mapInfo = SyntheticMaps.gridMap(10000, 10);
+        for (String l_isolated : Arrays.asList("Country150", "Country5050")) {
+            Country l_country = d_mapInfo.getCountryByName(l_isolated);
+            d_mapInfo.removeCountryNeighboursFromAll(l_country.getD_countryId());
+            l_country.getD_adjacentCountryIds().clear();
+        }
+        d_mapInfo.invalidateIndexes();
+
+        assertEquals(Arrays.asList("Country150 does not possess any neighbour, hence isn't reachable!",
+                "Country5050 does not possess any neighbour, hence isn't reachable!",
+                "Country150 in Continent Continent1 is not reachable",
+                "Country5050 in Continent Continent6 is not reachable",
+                "Country150 country is not reachable",
+                "Country5050 country is not reachable"), d_mapInfo.getValidationResult().getD_errors());
+    }
+
 }
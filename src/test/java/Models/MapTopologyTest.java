@@ -0,0 +1,112 @@
+package Models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import Services.MapService;
+
+/**
+ * This class is used to test the topology shared by games on the same map.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public class MapTopologyTest {
+
+    /**
+     * map of the first game.
+     */
+    Map d_firstMap;
+
+    /**
+     * map of the second game.
+     */
+    Map d_secondMap;
+
+    /**
+     * Loads the canada map for two games.
+     */
+    @Before
+    public void setup() {
+        MapService l_mapService = new MapService();
+        d_firstMap = l_mapService.loadMap(new GameState(), "canada");
+        d_secondMap = l_mapService.loadMap(new GameState(), "canada");
+    }
+
+    /**
+     * Both games share the topology but have their own countries and armies.
+     */
+    @Test
+    public void testGamesShareTopology() {
+        assertNotNull(d_firstMap.getD_topology());
+        assertSame(d_firstMap.getD_topology(), d_secondMap.getD_topology());
+
+        Country l_first = d_firstMap.getCountry(1);
+        Country l_second = d_secondMap.getCountry(1);
+        assertNotSame(l_first, l_second);
+        l_first.setD_armyCount(7);
+        assertEquals(Integer.valueOf(0), l_second.getD_armyCount());
+    }
+
+    /**
+     * Lookups through the topology return the objects of the map asked.
+     */
+    @Test
+    public void testLookupsReturnOwnObjects() {
+        Country l_country = d_secondMap.getD_countries().get(0);
+        assertSame(l_country, d_secondMap.getCountry(l_country.getD_countryId()));
+        assertSame(l_country, d_secondMap.getCountryByName(l_country.getD_countryName().toUpperCase()));
+        assertNull(d_secondMap.getCountry(999));
+
+        Continent l_continent = d_secondMap.getD_continents().get(1);
+        assertSame(l_continent, d_secondMap.getContinent(l_continent.getD_continentName()));
+        assertSame(l_continent, d_secondMap.getContinentByID(l_continent.getD_continentID()));
+        assertSame(d_secondMap.getCountry(1), d_secondMap.getAdjacencyGraph().country(0));
+    }
+
+    /**
+     * Editing a neighbour list copies it, leaving the other game's list as it
+     * was.
+     */
+    @Test
+    public void testNeighbourEditCopiesList() {
+        Country l_country = d_firstMap.getCountry(1);
+        assertSame(l_country.getD_adjacentCountryIds(), d_secondMap.getCountry(1).getD_adjacentCountryIds());
+
+        l_country.addNeighbour(31);
+        assertEquals(Arrays.asList(8, 2, 3, 31), l_country.getD_adjacentCountryIds());
+        assertEquals(Arrays.asList(8, 2, 3), d_secondMap.getCountry(1).getD_adjacentCountryIds());
+
+        AdjacencyGraph l_graph = d_firstMap.getAdjacencyGraph();
+        assertTrue(l_graph.isAdjacent(0, l_graph.indexOfId(31)));
+        AdjacencyGraph l_otherGraph = d_secondMap.getAdjacencyGraph();
+        assertFalse(l_otherGraph.isAdjacent(0, l_otherGraph.indexOfId(31)));
+    }
+
+    /**
+     * Editing the map detaches it from the topology without breaking lookups.
+     */
+    @Test
+    public void testEditDetachesTopology() {
+        d_firstMap.addCountry(new Country(32, "Nowhere", 1));
+        assertNull(d_firstMap.getD_topology());
+        assertEquals("Nowhere", d_firstMap.getCountry(32).getD_countryName());
+        assertNotNull(d_secondMap.getD_topology());
+        assertNull(d_secondMap.getCountry(32));
+    }
+}
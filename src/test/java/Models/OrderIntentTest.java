@@ -0,0 +1,157 @@
+package Models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import Services.MapService;
+
+/**
+ * Test class for the orders computer players give without commands.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public class OrderIntentTest {
+
+    /**
+     * game on canada.map.
+     */
+    GameState d_gameState;
+
+    /**
+     * graph of the map.
+     */
+    AdjacencyGraph d_graph;
+
+    /**
+     * player owning the first country of the map.
+     */
+    Player d_player;
+
+    /**
+     * Loads canada.map and gives its first country to a player.
+     */
+    @Before
+    public void setup() {
+        d_gameState = new GameState();
+        new MapService().loadMap(d_gameState, "canada");
+        d_graph = d_gameState.getD_map().getAdjacencyGraph();
+        d_player = new Player("Sumit");
+        d_player.setD_playerCountries(new ArrayList<Country>(Arrays.asList(d_graph.country(0))));
+        d_player.setD_unallocatedArmyCount(5);
+        d_gameState.setD_players(new ArrayList<Player>(Arrays.asList(d_player)));
+    }
+
+    /**
+     * The log entry of an intent reads as the command it stands for, as human
+     * players' orders are logged.
+     */
+    @Test
+    public void testLogEventReadsAsCommand() {
+        int l_neighbour = d_graph.neighbour(0, 0);
+        String l_first = d_graph.country(0).getD_countryName();
+        String l_second = d_graph.country(l_neighbour).getD_countryName();
+        assertEquals("(Player: Sumit) deploy " + l_first + " 3",
+                OrderIntent.deploy(0, 3).toLogEvent(d_player, d_graph).render());
+        assertEquals("(Player: Sumit) advance " + l_first + " " + l_second + " 2",
+                OrderIntent.advance(0, l_neighbour, 2).toLogEvent(d_player, d_graph).render());
+        assertEquals("(Player: Sumit) airlift " + l_first + " " + l_first + " 1",
+                OrderIntent.airlift(0, 0, 1).toLogEvent(d_player, d_graph).render());
+        assertEquals("(Player: Sumit) bomb " + l_second,
+                OrderIntent.bomb(l_neighbour).toLogEvent(d_player, d_graph).render());
+        assertEquals("(Player: Sumit) blockade " + l_first,
+                OrderIntent.blockade(0).toLogEvent(d_player, d_graph).render());
+        assertEquals("(Player: Sumit) negotiate Sumit",
+                OrderIntent.negotiate(d_player).toLogEvent(d_player, d_graph).render());
+    }
+
+    /**
+     * A deploy intent is queued as a deploy order and takes the armies.
+     */
+    @Test
+    public void testDeployIsQueued() {
+        d_player.issueIntent(OrderIntent.deploy(0, 3), d_gameState);
+        assertEquals(1, d_player.getD_playerOrder().size());
+        assertTrue(d_player.getD_playerOrder().get(0) instanceof Deploy);
+        assertEquals(2, d_player.getD_unallocatedArmyCount().intValue());
+
+        d_player.issueIntent(OrderIntent.deploy(0, 3), d_gameState);
+        assertEquals(1, d_player.getD_playerOrder().size());
+    }
+
+    /**
+     * Advance intents go through the checks of the advance command.
+     */
+    @Test
+    public void testAdvanceIsChecked() {
+        int l_neighbour = d_graph.neighbour(0, 0);
+        int l_stranger = -1;
+        for (int l_index = 1; l_index < d_graph.size() && l_stranger < 0; l_index++) {
+            if (!d_graph.isAdjacent(0, l_index)) {
+                l_stranger = l_index;
+            }
+        }
+        d_player.issueIntent(OrderIntent.advance(0, l_stranger, 1), d_gameState);
+        d_player.issueIntent(OrderIntent.advance(0, l_neighbour, 0), d_gameState);
+        d_player.issueIntent(OrderIntent.advance(0, d_graph.size(), 1), d_gameState);
+        assertEquals(0, d_player.getD_playerOrder().size());
+        assertEquals("Country index : " + d_graph.size() + " is not a country of the map. Hence, order is ignored.",
+                d_player.getD_playerLogMessage());
+
+        d_player.issueIntent(OrderIntent.advance(0, l_neighbour, 1), d_gameState);
+        assertEquals(1, d_player.getD_playerOrder().size());
+        assertTrue(d_player.getD_playerOrder().get(0) instanceof Advance);
+    }
+
+    /**
+     * Card intents are only queued for cards the player holds.
+     */
+    @Test
+    public void testCardNeedsCard() {
+        d_player.issueIntent(OrderIntent.blockade(0), d_gameState);
+        assertEquals(0, d_player.getD_playerOrder().size());
+    }
+
+    /**
+     * Commands of human players are turned into intents and go through the same
+     * checks.
+     */
+    @Test
+    public void testCommandsAreCheckedAsIntents() {
+        String l_first = d_graph.country(0).getD_countryName();
+        int l_neighbour = d_graph.neighbour(0, 0);
+        String l_second = d_graph.country(l_neighbour).getD_countryName();
+
+        d_player.initDeployOrder("deploy " + l_first + " 9", d_gameState);
+        assertEquals("The deploy order exceeds the player's available unallocated armies and cannot be executed",
+                d_player.getD_playerLogMessage());
+        d_player.initAdvanceOrder("advance " + l_first + " " + l_second + " 0", d_gameState);
+        assertEquals("Advance order should be given with more than zero armies. Hence, order cant be executed.",
+                d_player.getD_playerLogMessage());
+        d_player.initAdvanceOrder("advance Nowhere " + l_second + " 1", d_gameState);
+        assertEquals("Country : Nowhere does not exist in the map. Hence, order is ignored.",
+                d_player.getD_playerLogMessage());
+        assertEquals(0, d_player.getD_playerOrder().size());
+
+        d_player.initDeployOrder("deploy " + l_first + " 3", d_gameState);
+        d_player.initAdvanceOrder("advance " + l_first + " " + l_second + " 2", d_gameState);
+        d_player.getD_playerOwnedCards().add("bomb");
+        d_player.handleCardActions("bomb " + l_second, d_gameState);
+        assertEquals(3, d_player.getD_playerOrder().size());
+        assertTrue(d_player.getD_playerOrder().get(0) instanceof Deploy);
+        assertTrue(d_player.getD_playerOrder().get(1) instanceof Advance);
+        assertTrue(d_player.getD_playerOrder().get(2) instanceof Bomb);
+        assertEquals(2, d_player.getD_unallocatedArmyCount().intValue());
+    }
+}
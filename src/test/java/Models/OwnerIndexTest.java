@@ -0,0 +1,149 @@
+package Models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import Services.MapService;
+import Services.PlayerService;
+
+/**
+ * Test class for the owner index of a game.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public class OwnerIndexTest {
+
+    /**
+     * game on canada.map with its countries allocated to two players.
+     */
+    GameState d_gameState;
+
+    /**
+     * first player.
+     */
+    Player d_player1;
+
+    /**
+     * second player.
+     */
+    Player d_player2;
+
+    /**
+     * Loads canada.map and allocates its countries.
+     */
+    @Before
+    public void setup() {
+        d_gameState = new GameState();
+        new MapService().loadMap(d_gameState, "canada");
+        d_player1 = new Player("Sumit");
+        d_player2 = new Player("Dhruv");
+        d_gameState.setD_players(new ArrayList<Player>(Arrays.asList(d_player1, d_player2)));
+        d_gameState.setD_random(new GameRandom(5));
+        new PlayerService().allocCountriesAndContinents(d_gameState);
+    }
+
+    /**
+     * Every country is reported owned by the player whose list holds it, by
+     * country and by name in any case.
+     */
+    @Test
+    public void testOwnersMatchCountryLists() {
+        for (Country l_country : d_gameState.getD_map().getD_countries()) {
+            Player l_owner = d_player1.getD_playerCountries().contains(l_country) ? d_player1 : d_player2;
+            assertSame(l_owner, d_gameState.getCountryOwner(l_country));
+            assertSame(l_owner, d_gameState.getCountryOwner(l_country.getD_countryName().toUpperCase()));
+        }
+        assertNull(d_gameState.getCountryOwner("Atlantis"));
+    }
+
+    /**
+     * A transfer moves the country between the lists and the index.
+     */
+    @Test
+    public void testTransferUpdatesOwner() {
+        Country l_country = d_player1.getD_playerCountries().get(0);
+        int l_countries = d_player1.getD_playerCountries().size();
+
+        d_gameState.transferCountry(l_country, d_player1, d_player2);
+        assertSame(d_player2, d_gameState.getCountryOwner(l_country));
+        assertEquals(l_countries - 1, d_player1.getD_playerCountries().size());
+        assertSame(l_country, d_player2.getD_playerCountries().get(d_player2.getD_playerCountries().size() - 1));
+
+        d_gameState.transferCountry(l_country, d_player2, null);
+        assertNull(d_gameState.getCountryOwner(l_country));
+    }
+
+    /**
+     * Countries changed hands without a transfer are picked up again.
+     */
+    @Test
+    public void testDirectChangesAreSeen() {
+        Country l_country = d_player1.getD_playerCountries().get(0);
+        assertSame(d_player1, d_gameState.getCountryOwner(l_country));
+
+        d_player1.removeCountry(l_country);
+        d_player2.addCountry(l_country);
+        assertSame(d_player2, d_gameState.getCountryOwner(l_country));
+
+        Player l_player3 = new Player("Pranay");
+        l_player3.setD_playerCountries(new ArrayList<Country>(Arrays.asList(l_country)));
+        d_gameState.getD_playerList().add(l_player3);
+        assertSame(l_player3, d_gameState.getCountryOwner(l_country));
+    }
+
+    /**
+     * After allocation every player holds exactly the continents whose
+     * countries it all owns.
+     */
+    @Test
+    public void testAllocationGivesCompletedContinents() {
+        for (Player l_player : d_gameState.getD_playerList()) {
+            for (Continent l_continent : d_gameState.getD_map().getD_continents()) {
+                boolean l_held = l_player.getD_playerContinents() != null
+                        && l_player.getD_playerContinents().contains(l_continent);
+                assertEquals(l_player.getD_playerCountries().containsAll(l_continent.getD_countries()), l_held);
+            }
+        }
+    }
+
+    /**
+     * A player gets a continent, and its bonus, with its last country and loses
+     * both with its first.
+     */
+    @Test
+    public void testTransfersUpdateContinents() {
+        Continent l_continent = d_gameState.getD_map().getD_continents().get(0);
+        for (Country l_country : l_continent.getD_countries()) {
+            if (d_gameState.getCountryOwner(l_country) == d_player2) {
+                d_gameState.transferCountry(l_country, d_player2, d_player1);
+            }
+        }
+        assertTrue(d_player1.getD_playerContinents().contains(l_continent));
+        assertFalse(d_player2.getD_playerContinents() != null
+                && d_player2.getD_playerContinents().contains(l_continent));
+        int l_armies = new PlayerService().findArmyCount(d_player1);
+
+        Country l_lost = l_continent.getD_countries().get(0);
+        d_gameState.transferCountry(l_lost, d_player1, d_player2);
+        assertFalse(d_player1.getD_playerContinents().contains(l_continent));
+        d_gameState.transferCountry(l_lost, d_player2, d_player1);
+        assertTrue(d_player1.getD_playerContinents().contains(l_continent));
+        assertEquals(l_armies, new PlayerService().findArmyCount(d_player1));
+        assertTrue(l_armies >= 3 + l_continent.getD_continentValue());
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Before;
@@ -89,8 +90,11 @@ public class PlayerTest {
      */
     @Test
     public void testInitDeployOrder() {
+        Map l_map = new Map();
+        l_map.setD_countries(new ArrayList<Country>(Arrays.asList(new Country(1, "India", 1))));
+        d_gameState.setD_map(l_map);
         d_player.setD_unallocatedArmyCount(20);
-        d_player.initDeployOrder("Deploy India 5");
+        d_player.initDeployOrder("Deploy India 5", d_gameState);
         assertEquals(d_player.getD_unallocatedArmyCount().toString(), "15");
         assertEquals(d_player.getD_playerOrder().size(), 1);
     }
@@ -0,0 +1,228 @@
+package Models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import Constants.AppConstants;
+import Controllers.GameEngineCtx;
+import Services.GameService;
+import Services.MapService;
+
+/**
+ * Test class for the save journal of incremental saves.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public class SaveJournalTest {
+
+    /**
+     * Game State.
+     */
+    GameState d_gameState;
+
+    /**
+     * phase the game is played in.
+     */
+    GamePlayPhase d_phase;
+
+    /**
+     * directory holding the checkpoint and its journal.
+     */
+    Path d_saveDirectory;
+
+    /**
+     * checkpoint file.
+     */
+    Path d_saveFile;
+
+    /**
+     * Loads canada.map with two players owning a country each, and saves the
+     * game.
+     *
+     * @throws IOException if the game cannot be saved
+     */
+    @Before
+    public void setup() throws IOException {
+        d_gameState = new GameState();
+        Map l_map = new MapService().loadMap(d_gameState, "canada");
+        d_gameState.setD_map(l_map);
+
+        Player l_first = new Player("Sumit");
+        Player l_second = new Player("Dhruv");
+        l_first.setD_playerCountries(new ArrayList<Country>(Arrays.asList(l_map.getD_countries().get(0))));
+        l_second.setD_playerCountries(new ArrayList<Country>(Arrays.asList(l_map.getD_countries().get(1))));
+        l_map.getD_countries().get(0).setD_armyCount(5);
+        l_map.getD_countries().get(1).setD_armyCount(2);
+        d_gameState.setD_players(new ArrayList<Player>(Arrays.asList(l_first, l_second)));
+        d_gameState.setD_numberOfTurnsLeft(10);
+
+        d_phase = new IssueOrderPhase(new GameEngineCtx(), d_gameState);
+        d_saveDirectory = Files.createTempDirectory("warzone-journal");
+        d_saveFile = d_saveDirectory.resolve("game.txt");
+    }
+
+    /**
+     * Removes the save files.
+     *
+     * @throws IOException if they cannot be deleted
+     */
+    @After
+    public void tearDown() throws IOException {
+        System.clearProperty("warzone.save.journalBytes");
+        Files.deleteIfExists(SaveJournal.journalFile(d_saveFile));
+        Files.deleteIfExists(d_saveFile);
+        Files.deleteIfExists(d_saveDirectory);
+    }
+
+    /**
+     * Plays a turn in which the first player conquers the country of the second
+     * and gets a card.
+     */
+    private void playConquest() {
+        Player l_first = d_gameState.getD_playerList().get(0);
+        Player l_second = d_gameState.getD_playerList().get(1);
+        Country l_conquered = l_second.getD_playerCountries().get(0);
+        d_gameState.transferCountry(l_conquered, l_second, l_first);
+        l_conquered.setD_armyCount(3);
+        d_gameState.getD_map().getD_countries().get(0).setD_armyCount(1);
+        l_first.getD_playerOwnedCards().add("airlift");
+        l_first.getD_playerOrder().add(new Deploy(l_first, l_conquered.getD_countryName(), 1));
+        d_gameState.setD_numberOfTurnsLeft(9);
+        SaveJournal.recordTurn(d_phase);
+    }
+
+    /**
+     * Reads the checkpoint and replays its journal.
+     *
+     * @return phase the game resumes in
+     * @throws IOException if the game cannot be loaded
+     */
+    private GamePlayPhase load() throws IOException {
+        try (FileChannel l_channel = FileChannel.open(d_saveFile, StandardOpenOption.READ)) {
+            return SaveJournal.resume(GameSnapshot.read(l_channel), d_saveFile);
+        }
+    }
+
+    /**
+     * Turns played after a save are journaled and replayed on load, and the game
+     * resumes after the last of them.
+     *
+     * @throws IOException if the game cannot be saved or loaded
+     */
+    @Test
+    public void testJournaledTurnsAreReplayed() throws IOException {
+        SaveJournal.checkpoint(d_phase, d_saveFile);
+        long l_checkpointBytes = Files.size(d_saveFile);
+        playConquest();
+        SaveJournal.recordTurn(d_phase);
+
+        assertEquals(l_checkpointBytes, Files.size(d_saveFile));
+        assertTrue(Files.size(SaveJournal.journalFile(d_saveFile)) < 200);
+
+        GamePlayPhase l_phase = load();
+        assertTrue(l_phase instanceof OrderExecutionPhase);
+        GameState l_gameState = l_phase.getD_gameState();
+        Player l_first = l_gameState.getD_playerList().get(0);
+        Player l_second = l_gameState.getD_playerList().get(1);
+        Map l_map = l_gameState.getD_map();
+        assertEquals(9, l_gameState.getD_numberOfTurnsLeft());
+        assertEquals(2, l_first.getD_playerCountries().size());
+        assertSame(l_map.getD_countries().get(1), l_first.getD_playerCountries().get(1));
+        assertTrue(l_second.getD_playerCountries().isEmpty());
+        assertEquals(Integer.valueOf(1), l_map.getD_countries().get(0).getD_armyCount());
+        assertEquals(Integer.valueOf(3), l_map.getD_countries().get(1).getD_armyCount());
+        assertEquals(Arrays.asList("airlift"), l_first.getD_playerOwnedCards());
+        assertTrue(l_first.getD_playerOrder().isEmpty());
+    }
+
+    /**
+     * A journal record cut short is dropped and cut off the journal.
+     *
+     * @throws IOException if the game cannot be saved or loaded
+     */
+    @Test
+    public void testTornRecordIsDropped() throws IOException {
+        SaveJournal.checkpoint(d_phase, d_saveFile);
+        playConquest();
+        Path l_journalFile = SaveJournal.journalFile(d_saveFile);
+        long l_journalBytes = Files.size(l_journalFile);
+        Files.write(l_journalFile, new byte[] { 0, 0, 0, 40, 1, 2, 3 }, StandardOpenOption.APPEND);
+
+        GameState l_gameState = load().getD_gameState();
+        assertEquals(9, l_gameState.getD_numberOfTurnsLeft());
+        assertEquals(l_journalBytes, Files.size(l_journalFile));
+    }
+
+    /**
+     * A journal past its size limit is folded into a new checkpoint.
+     *
+     * @throws IOException if the game cannot be saved or loaded
+     */
+    @Test
+    public void testFullJournalIsCompacted() throws IOException {
+        System.setProperty("warzone.save.journalBytes", "1");
+        SaveJournal.checkpoint(d_phase, d_saveFile);
+        playConquest();
+
+        assertFalse(Files.exists(SaveJournal.journalFile(d_saveFile)));
+        GameState l_gameState = load().getD_gameState();
+        assertEquals(9, l_gameState.getD_numberOfTurnsLeft());
+        assertEquals(2, l_gameState.getD_playerList().get(0).getD_playerCountries().size());
+    }
+
+    /**
+     * Loading a game does not decode the card hands, and turns that leave a
+     * hand alone journal it without decoding it either.
+     *
+     * @throws IOException            if the game cannot be saved or loaded
+     * @throws ClassNotFoundException never, the save is a snapshot
+     */
+    @Test
+    public void testLoadKeepsCardsEncoded() throws IOException, ClassNotFoundException {
+        String l_fileName = "journal-cards-test.txt";
+        Path l_saveFile = Paths.get(AppConstants.SRC_MAIN_RESOURCES, l_fileName);
+        d_gameState.getD_playerList().get(0).getD_playerOwnedCards().add("bomb");
+        try {
+            GameService.saveGame(d_phase, l_fileName);
+            GamePlayPhase l_phase = GameService.loadGame(l_fileName);
+            Player l_first = l_phase.getD_gameState().getD_playerList().get(0);
+            assertFalse(((LazyList<?>) l_first.d_playerOwnedCardList).isLoaded());
+
+            l_phase.getD_gameState().getD_map().getD_countries().get(0).setD_armyCount(8);
+            l_first.setD_unallocatedArmyCount(2);
+            SaveJournal.recordTurn(l_phase);
+            assertFalse(((LazyList<?>) l_first.d_playerOwnedCardList).isLoaded());
+
+            GameState l_gameState = GameService.loadGame(l_fileName).getD_gameState();
+            Player l_reloaded = l_gameState.getD_playerList().get(0);
+            assertEquals(Integer.valueOf(8), l_gameState.getD_map().getD_countries().get(0).getD_armyCount());
+            assertEquals(Integer.valueOf(2), l_reloaded.getD_unallocatedArmyCount());
+            assertFalse(((LazyList<?>) l_reloaded.d_playerOwnedCardList).isLoaded());
+            assertEquals(Arrays.asList("bomb"), l_reloaded.getD_playerOwnedCards());
+        } finally {
+            Files.deleteIfExists(SaveJournal.journalFile(l_saveFile));
+            Files.deleteIfExists(l_saveFile);
+        }
+    }
+}
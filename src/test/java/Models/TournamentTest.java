@@ -2,12 +2,21 @@ package Models;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import Constants.AppConstants;
 import Controllers.GameEngineCtx;
 import Exceptions.InvalidCommand;
 import Exceptions.InvalidMap;
@@ -133,4 +142,168 @@ public class TournamentTest {
                                 new GameEngineCtx()));
         }
 
+        /**
+         * Tests tournament for invalid thread arguments.
+         * 
+         * @throws InvalidCommand invalid command passed
+         * @throws InvalidMap     invalid map name passed
+         */
+        @Test
+        public void testInvalidNumberOfThreads() throws InvalidMap, InvalidCommand {
+                Tournament l_tournament = new Tournament();
+                assertFalse(l_tournament.parseTournamentCommand(d_gameState, "threads",
+                                "0", new GameEngineCtx()));
+                assertEquals(1, l_tournament.getD_threadCount());
+        }
+
+        /**
+         * Checks that games played side by side each get their own map and log
+         * file, and leave the engine the command was entered on and the JVM wide
+         * exception handler alone.
+         * 
+         * @throws InvalidCommand invalid command passed
+         * @throws InvalidMap     invalid map name passed
+         * @throws IOException    log files cannot be read
+         */
+        @Test
+        public void testGamesPlayedInParallel() throws InvalidMap, InvalidCommand, IOException {
+                Tournament l_tournament = new Tournament();
+                GameEngineCtx l_gameEngine = new GameEngineCtx();
+                l_tournament.parseTournamentCommand(d_gameState, "M", "canada", l_gameEngine);
+                l_tournament.parseTournamentCommand(d_gameState, "P", "Aggressive Random", l_gameEngine);
+                l_tournament.parseTournamentCommand(d_gameState, "G", "2", l_gameEngine);
+                l_tournament.parseTournamentCommand(d_gameState, "D", "10", l_gameEngine);
+                assertTrue(l_tournament.parseTournamentCommand(d_gameState, "threads", "2", l_gameEngine));
+
+                Thread.UncaughtExceptionHandler l_defaultHandler = Thread.getDefaultUncaughtExceptionHandler();
+                try {
+                        l_tournament.playGames(l_gameEngine);
+
+                        assertSame(l_defaultHandler, Thread.getDefaultUncaughtExceptionHandler());
+                        GameState l_firstGame = l_tournament.getD_gameStateList().get(0);
+                        GameState l_secondGame = l_tournament.getD_gameStateList().get(1);
+                        assertNotSame(l_firstGame.getD_map().getD_countries().get(0),
+                                        l_secondGame.getD_map().getD_countries().get(0));
+                        assertTrue(Files.size(Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY, "game-1.txt")) > 0);
+                        assertTrue(Files.size(Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY, "game-2.txt")) > 0);
+                        assertFalse(l_gameEngine.isD_isTournamentMode());
+                        assertEquals(Arrays.asList("game\tmap\tsegments", "1\tcanada\tgame-1.txt",
+                                        "2\tcanada\tgame-2.txt"),
+                                        Files.readAllLines(Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY,
+                                                        AppConstants.TOURNAMENT_LOG_INDEX)));
+                } finally {
+                        for (int l_game = 1; l_game <= 2; l_game++) {
+                                Files.deleteIfExists(Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY,
+                                                "game-" + l_game + ".txt"));
+                        }
+                        Files.deleteIfExists(Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY,
+                                        AppConstants.TOURNAMENT_LOG_INDEX));
+                        Files.deleteIfExists(Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY));
+                }
+        }
+
+        /**
+         * Checks that a game stopped by an error records the error in its own log,
+         * and that the other games still finish.
+         * 
+         * @throws InvalidCommand invalid command passed
+         * @throws InvalidMap     invalid map name passed
+         * @throws IOException    log files cannot be read
+         */
+        @Test
+        public void testFailedGameLogsError() throws InvalidMap, InvalidCommand, IOException {
+                Tournament l_tournament = new Tournament();
+                GameEngineCtx l_gameEngine = new GameEngineCtx();
+                l_tournament.parseTournamentCommand(d_gameState, "M", "canada", l_gameEngine);
+                l_tournament.parseTournamentCommand(d_gameState, "P", "Aggressive Random", l_gameEngine);
+                l_tournament.parseTournamentCommand(d_gameState, "G", "2", l_gameEngine);
+                l_tournament.parseTournamentCommand(d_gameState, "D", "10", l_gameEngine);
+                l_tournament.parseTournamentCommand(d_gameState, "threads", "2", l_gameEngine);
+                l_tournament.getD_gameStateList().get(0).getD_playerList().get(0).setStrategy(new AggressivePlayer() {
+                        @Override
+                        public OrderIntent generateOrder(Player p_player, GameState p_gameState) {
+                                throw new IllegalStateException("strategy failed");
+                        }
+                });
+
+                try {
+                        l_tournament.playGames(l_gameEngine);
+
+                        String l_failedLog = new String(Files.readAllBytes(
+                                        Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY, "game-1.txt")));
+                        String l_finishedLog = new String(Files.readAllBytes(
+                                        Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY, "game-2.txt")));
+                        assertTrue(l_failedLog.contains(
+                                        "Game stopped with an error: java.lang.IllegalStateException: strategy failed"));
+                        assertFalse(l_finishedLog.contains("Game stopped with an error"));
+                } finally {
+                        for (int l_game = 1; l_game <= 2; l_game++) {
+                                Files.deleteIfExists(Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY,
+                                                "game-" + l_game + ".txt"));
+                        }
+                        Files.deleteIfExists(Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY,
+                                        AppConstants.TOURNAMENT_LOG_INDEX));
+                        Files.deleteIfExists(Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY));
+                }
+        }
+
+        /**
+         * Checks that a tournament given a seed plays out the same way again, also
+         * when its games are played side by side.
+         * 
+         * @throws InvalidCommand invalid command passed
+         * @throws InvalidMap     invalid map name passed
+         * @throws IOException    log files cannot be removed
+         */
+        @Test
+        public void testSeededTournamentIsReproducible() throws InvalidMap, InvalidCommand, IOException {
+                try {
+                        assertEquals(playSeededTournament(1), playSeededTournament(2));
+                } finally {
+                        for (int l_game = 1; l_game <= 2; l_game++) {
+                                Files.deleteIfExists(Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY,
+                                                "game-" + l_game + ".txt"));
+                        }
+                        Files.deleteIfExists(Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY,
+                                        AppConstants.TOURNAMENT_LOG_INDEX));
+                        Files.deleteIfExists(Paths.get(AppConstants.TOURNAMENT_LOG_DIRECTORY));
+                }
+        }
+
+        /**
+         * Plays two games on canada.map from seed 7.
+         * 
+         * @param p_threads number of games played at the same time
+         * @return owner and armies of every country at the end of each game
+         * @throws InvalidCommand invalid command passed
+         * @throws InvalidMap     invalid map name passed
+         */
+        private List<String> playSeededTournament(int p_threads) throws InvalidMap, InvalidCommand {
+                Tournament l_tournament = new Tournament();
+                GameEngineCtx l_gameEngine = new GameEngineCtx();
+                GameState l_gameState = new GameState();
+                Player l_firstPlayer = new Player("a");
+                Player l_secondPlayer = new Player("b");
+                l_firstPlayer.setStrategy(new AggressivePlayer());
+                l_secondPlayer.setStrategy(new RandomPlayer());
+                l_gameState.setD_players(Arrays.asList(l_firstPlayer, l_secondPlayer));
+                l_tournament.parseTournamentCommand(l_gameState, "M", "canada", l_gameEngine);
+                l_tournament.parseTournamentCommand(l_gameState, "P", "Aggressive Random", l_gameEngine);
+                l_tournament.parseTournamentCommand(l_gameState, "G", "2", l_gameEngine);
+                l_tournament.parseTournamentCommand(l_gameState, "D", "10", l_gameEngine);
+                l_tournament.parseTournamentCommand(l_gameState, "threads", String.valueOf(p_threads), l_gameEngine);
+                assertTrue(l_tournament.parseTournamentCommand(l_gameState, "seed", "7", l_gameEngine));
+                l_tournament.playGames(l_gameEngine);
+
+                List<String> l_outcome = new ArrayList<String>();
+                for (GameState l_game : l_tournament.getD_gameStateList()) {
+                        for (Player l_player : l_game.getD_playerList()) {
+                                for (Country l_country : l_player.getD_playerCountries()) {
+                                        l_outcome.add(l_player.getD_playerName() + " " + l_country.getD_countryName()
+                                                        + " " + l_country.getD_armyCount());
+                                }
+                        }
+                }
+                return l_outcome;
+        }
 }
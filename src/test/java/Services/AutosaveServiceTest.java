@@ -0,0 +1,159 @@
+package Services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import Controllers.GameEngineCtx;
+import Models.GamePlayPhase;
+import Models.GameSnapshot;
+import Models.GameState;
+import Models.IssueOrderPhase;
+import Models.Player;
+
+/**
+ * Test class for autosaving games in the background.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public class AutosaveServiceTest {
+
+    /**
+     * directory the autosaves are written to.
+     */
+    Path d_directory;
+
+    /**
+     * phase of the game autosaved.
+     */
+    GamePlayPhase d_phase;
+
+    /**
+     * Sets up a game on canada.map with two players.
+     *
+     * @throws IOException if the autosave directory cannot be created
+     */
+    @Before
+    public void setup() throws IOException {
+        d_directory = Files.createTempDirectory("warzone-autosave");
+        GameState l_gameState = new GameState();
+        new MapService().loadMap(l_gameState, "canada");
+        l_gameState.setD_players(new ArrayList<Player>(Arrays.asList(new Player("Sumit"), new Player("Dhruv"))));
+        d_phase = new IssueOrderPhase(new GameEngineCtx(), l_gameState);
+    }
+
+    /**
+     * Removes the autosaves.
+     *
+     * @throws IOException if they cannot be deleted
+     */
+    @After
+    public void tearDown() throws IOException {
+        for (Path l_file : files()) {
+            Files.delete(d_directory.resolve(l_file));
+        }
+        Files.delete(d_directory);
+    }
+
+    /**
+     * Files in the autosave directory, by name.
+     *
+     * @return files
+     * @throws IOException if the directory cannot be listed
+     */
+    private List<Path> files() throws IOException {
+        List<Path> l_files = new ArrayList<Path>();
+        try (DirectoryStream<Path> l_stream = Files.newDirectoryStream(d_directory)) {
+            for (Path l_file : l_stream) {
+                l_files.add(l_file.getFileName());
+            }
+        }
+        l_files.sort(null);
+        return l_files;
+    }
+
+    /**
+     * An autosave every turn keeps only the newest ones, each a complete game.
+     *
+     * @throws IOException if an autosave cannot be read
+     */
+    @Test
+    public void testKeepsNewestAutosaves() throws IOException {
+        for (int l_turn = 0; l_turn < 4; l_turn++) {
+            // a new autosave each turn, as after a restart, goes on numbering from the newest
+            AutosaveService l_autosave = new AutosaveService(d_directory, 1, 0, 2);
+            l_autosave.turnEnded(d_phase);
+            l_autosave.close();
+        }
+
+        List<Path> l_files = files();
+        assertEquals(2, l_files.size());
+        assertEquals("autosave-3.save", l_files.get(0).toString());
+        assertEquals("autosave-4.save", l_files.get(1).toString());
+        try (FileChannel l_channel = FileChannel.open(d_directory.resolve(l_files.get(1)), StandardOpenOption.READ)) {
+            GamePlayPhase l_phase = GameSnapshot.read(l_channel);
+            assertEquals(2, l_phase.getD_gameState().getD_playerList().size());
+        }
+    }
+
+    /**
+     * Turns in between autosaves are not saved, and autosave is off unless a
+     * limit is set.
+     *
+     * @throws IOException if the autosave directory cannot be listed
+     */
+    @Test
+    public void testAutosavesEveryFewTurns() throws IOException {
+        AutosaveService l_autosave = new AutosaveService(d_directory, 3, 0, 5);
+        for (int l_turn = 0; l_turn < 5; l_turn++) {
+            l_autosave.turnEnded(d_phase);
+        }
+        l_autosave.close();
+        assertEquals(Arrays.asList(d_directory.resolve("autosave-1.save").getFileName()), files());
+        assertTrue(l_autosave.getD_lastSaved().endsWith("autosave-1.save"));
+
+        AutosaveService l_off = new AutosaveService(d_directory, 0, 0, 5);
+        l_off.turnEnded(d_phase);
+        l_off.close();
+        assertNull(l_off.getD_lastSaved());
+    }
+
+    /**
+     * Closing waits for the pending autosave, and a game autosaving again after
+     * it was closed gets a new writer.
+     *
+     * @throws IOException if the autosave directory cannot be listed
+     */
+    @Test
+    public void testAutosavesAfterClose() throws IOException {
+        AutosaveService l_autosave = new AutosaveService(d_directory, 1, 0, 5);
+        l_autosave.turnEnded(d_phase);
+        l_autosave.close();
+        assertTrue(l_autosave.getD_lastSaved().endsWith("autosave-1.save"));
+
+        l_autosave.turnEnded(d_phase);
+        l_autosave.close();
+        assertEquals(2, files().size());
+        assertTrue(l_autosave.getD_lastSaved().endsWith("autosave-2.save"));
+    }
+}
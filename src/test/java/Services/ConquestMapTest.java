@@ -3,6 +3,8 @@ package Services;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
@@ -10,6 +12,7 @@ import org.junit.Test;
 import Constants.AppConstants;
 import Exceptions.InvalidCommand;
 import Exceptions.InvalidMap;
+import Models.Country;
 import Models.GameState;
 import Models.Map;
 
@@ -142,4 +145,35 @@ public class ConquestMapTest {
         d_mapservice.editFunctions(d_state, "remove", "Swiss", AppConstants.COUNTRY);
         assertEquals(d_state.getD_map().getD_countries().size(), 99);
     }
+
+    /**
+     * Tests that loading through the map service streams the conquest file and
+     * resolves borders by territory name.
+     */
+    @Test
+    public void testStreamedLoadResolvesBorders() {
+        Map l_map = d_mapservice.loadMap(d_state, "testconquest");
+
+        assertEquals(8, l_map.getD_continents().size());
+        assertEquals(99, l_map.getD_countries().size());
+        Country l_cockpit = l_map.getCountryByName("Cockpit01");
+        assertEquals("Cockpit", l_map.getContinentByID(l_cockpit.getD_continentId()).getD_continentName());
+        assertEquals(Arrays.asList(l_map.getCountryByName("Cockpit02").getD_countryId(),
+                l_map.getCountryByName("Territory33").getD_countryId()), l_cockpit.getD_adjacentCountryIds());
+    }
+
+    /**
+     * Tests that a conquest file held in memory, with Windows line endings, is
+     * read through the adapter as it is from its lines.
+     */
+    @Test
+    public void testReadFromCharBuffer() {
+        new MapAdapter(d_conquestMap).readMapContent(CharBuffer.wrap(String.join("\r\n", d_fileContent)), d_map,
+                d_state);
+
+        assertEquals(8, d_state.getD_map().getD_continents().size());
+        assertEquals(99, d_state.getD_map().getD_countries().size());
+        Country l_cockpit = d_state.getD_map().getCountryByName("Cockpit01");
+        assertEquals(2, l_cockpit.getD_adjacentCountryIds().size());
+    }
 }
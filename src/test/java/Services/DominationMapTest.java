@@ -4,6 +4,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Before;
@@ -74,4 +76,21 @@ public class DominationMapTest {
         assertEquals(d_state.getD_map().getD_countries().size(), 31);
     }
 
-}
\ No newline at end of file
+    /**
+     * The buffer tokenizer links countries to their continents and borders, and
+     * copes with carriage returns and repeated spaces.
+     */
+    @Test
+    public void testReadMapBuffer() {
+        String l_content = String.join("\r\n", d_fileContent).replace("1 8 2 3", "1  8\t2 3");
+        d_dominationMap.readMapContent(CharBuffer.wrap(l_content), d_map, d_state);
+
+        Map l_map = d_state.getD_map();
+        assertEquals(6, l_map.getD_continents().size());
+        assertEquals(31, l_map.getD_countries().size());
+        assertEquals("New_Brunswick", l_map.getD_countries().get(0).getD_countryName());
+        assertEquals(Arrays.asList(8, 2, 3), l_map.getCountry(1).getD_adjacentCountryIds());
+        assertEquals(5, l_map.getContinent("Atlantic_Provinces").getD_countries().size());
+        assertEquals(Integer.valueOf(4), l_map.getD_continents().get(1).getD_continentValue());
+    }
+}
@@ -0,0 +1,94 @@
+package Services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import Constants.AppConstants;
+import Models.Advance;
+import Models.Country;
+import Models.Deploy;
+import Models.GamePlayPhase;
+import Models.GameState;
+import Models.IssueOrderPhase;
+import Models.Player;
+import Models.SaveJournal;
+
+/**
+ * Test class for loading saved games.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public class GameServiceTest {
+
+    /**
+     * game on canada.map with five players, saved with Java serialization by the
+     * game before the snapshot format, during the issue order phase.
+     */
+    static final String SERIALIZED_SAVE = "serialized-save.txt";
+
+    /**
+     * Removes the journal the loaded game may have started next to the save.
+     *
+     * @throws IOException if the journal cannot be deleted
+     */
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(SaveJournal.journalFile(Paths.get(AppConstants.SRC_MAIN_RESOURCES, SERIALIZED_SAVE)));
+    }
+
+    /**
+     * A game saved with Java serialization loads with its players, strategies,
+     * countries, cards and pending orders.
+     *
+     * @throws IOException            if the save cannot be read
+     * @throws ClassNotFoundException if a saved class is missing
+     */
+    @Test
+    public void testLoadSerializedGame() throws IOException, ClassNotFoundException {
+        GamePlayPhase l_phase = GameService.loadGame(SERIALIZED_SAVE);
+        assertTrue(l_phase instanceof IssueOrderPhase);
+
+        GameState l_gameState = l_phase.getD_gameState();
+        List<Player> l_players = l_gameState.getD_playerList();
+        assertEquals(5, l_players.size());
+        String[] l_behaviors = { "Human", "Aggressive", "Benevolent", "Random", "Cheater" };
+        int l_ownedCountries = 0;
+        for (int l_index = 0; l_index < l_players.size(); l_index++) {
+            Player l_player = l_players.get(l_index);
+            assertEquals(l_behaviors[l_index], l_player.getD_playerBehaviorStrategy().getPlayerBehavior());
+            assertEquals(Integer.valueOf(3), l_player.getD_unallocatedArmyCount());
+            for (Country l_country : l_player.getD_playerCountries()) {
+                assertSame(l_gameState.getD_map().getCountryByName(l_country.getD_countryName()), l_country);
+                assertTrue(l_player.getD_playerCountries().contains(l_country));
+            }
+            l_ownedCountries += l_player.getD_playerCountries().size();
+        }
+        assertEquals(l_gameState.getD_map().getD_countries().size(), l_ownedCountries);
+
+        Player l_human = l_players.get(0);
+        assertEquals("Sumit", l_human.getD_playerName());
+        assertEquals(Arrays.asList("bomb", "airlift"), l_human.getD_playerOwnedCards());
+        assertEquals(2, l_human.getD_playerOrder().size());
+        assertTrue(l_human.getD_playerOrder().get(0) instanceof Deploy);
+        assertTrue(l_human.getD_playerOrder().get(1) instanceof Advance);
+        assertNotNull(l_gameState.getD_map().getAdjacencyGraph());
+    }
+}
@@ -0,0 +1,151 @@
+package Services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import CommonFunctions.CommonCode;
+import Models.Continent;
+import Models.Country;
+import Models.GameState;
+import Models.Map;
+
+/**
+ * Test class for the compiled map cache.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public class MapCacheTest {
+
+    /**
+     * copy of canada.map that the tests may change.
+     */
+    Path d_mapFile;
+
+    /**
+     * map parsed from the copy.
+     */
+    Map d_parsedMap;
+
+    /**
+     * Copies canada.map to a temporary file and parses it.
+     *
+     * @throws IOException if the copy fails
+     */
+    @Before
+    public void setup() throws IOException {
+        d_mapFile = Files.createTempFile("canada", ".map");
+        Files.copy(Paths.get(CommonCode.getMapFilePath("canada")), d_mapFile, StandardCopyOption.REPLACE_EXISTING);
+        d_parsedMap = new Map();
+        new DominationMap().readMapContent(CharBuffer.wrap(new String(Files.readAllBytes(d_mapFile))), d_parsedMap,
+                new GameState());
+        MapCache.clear();
+    }
+
+    /**
+     * Removes the temporary map file and its cache file.
+     *
+     * @throws IOException if the files cannot be deleted
+     */
+    @After
+    public void tearDown() throws IOException {
+        MapCache.clear();
+        Files.deleteIfExists(MapCache.cacheFileFor(d_mapFile.toAbsolutePath().normalize().toString()));
+        Files.deleteIfExists(d_mapFile);
+    }
+
+    /**
+     * Every load builds new objects with the same continents, countries and
+     * borders as the parsed map.
+     */
+    @Test
+    public void testLoadBuildsFreshMaps() {
+        BasicFileAttributes l_attributes = MapCache.readAttributes(d_mapFile.toString());
+        MapCache.store(d_mapFile.toString(), l_attributes, d_parsedMap);
+
+        Map l_first = MapCache.load(d_mapFile.toString(), l_attributes);
+        Map l_second = MapCache.load(d_mapFile.toString(), l_attributes);
+        assertNotNull(l_first);
+        assertNotSame(l_first.getD_countries().get(0), l_second.getD_countries().get(0));
+        assertSameMap(d_parsedMap, l_first);
+    }
+
+    /**
+     * The cache file is used once the compiled maps in memory are forgotten.
+     */
+    @Test
+    public void testLoadFromCacheFile() {
+        BasicFileAttributes l_attributes = MapCache.readAttributes(d_mapFile.toString());
+        MapCache.store(d_mapFile.toString(), l_attributes, d_parsedMap);
+        MapCache.clear();
+
+        Map l_loaded = MapCache.load(d_mapFile.toString(), l_attributes);
+        assertNotNull(l_loaded);
+        assertSameMap(d_parsedMap, l_loaded);
+    }
+
+    /**
+     * A map file that changed after it was compiled is not served from the
+     * cache.
+     *
+     * @throws IOException if the map file cannot be changed
+     */
+    @Test
+    public void testChangedFileIsParsedAgain() throws IOException {
+        MapCache.store(d_mapFile.toString(), MapCache.readAttributes(d_mapFile.toString()), d_parsedMap);
+        Files.write(d_mapFile, System.lineSeparator().getBytes(), StandardOpenOption.APPEND);
+
+        assertNull(MapCache.load(d_mapFile.toString(), MapCache.readAttributes(d_mapFile.toString())));
+    }
+
+    /**
+     * Checks that two maps have the same continents, countries and borders.
+     *
+     * @param p_expected expected map
+     * @param p_actual   actual map
+     */
+    private void assertSameMap(Map p_expected, Map p_actual) {
+        assertEquals(p_expected.getD_continents().size(), p_actual.getD_continents().size());
+        for (int l_index = 0; l_index < p_expected.getD_continents().size(); l_index++) {
+            Continent l_expected = p_expected.getD_continents().get(l_index);
+            Continent l_actual = p_actual.getD_continents().get(l_index);
+            assertEquals(l_expected.getD_continentID(), l_actual.getD_continentID());
+            assertEquals(l_expected.getD_continentName(), l_actual.getD_continentName());
+            assertEquals(l_expected.getD_continentValue(), l_actual.getD_continentValue());
+            assertEquals(l_expected.getD_countries().size(), l_actual.getD_countries().size());
+            for (int l_member = 0; l_member < l_expected.getD_countries().size(); l_member++) {
+                assertEquals(l_expected.getD_countries().get(l_member).getD_countryId(),
+                        l_actual.getD_countries().get(l_member).getD_countryId());
+            }
+        }
+        assertEquals(p_expected.getD_countries().size(), p_actual.getD_countries().size());
+        for (int l_index = 0; l_index < p_expected.getD_countries().size(); l_index++) {
+            Country l_expected = p_expected.getD_countries().get(l_index);
+            Country l_actual = p_actual.getD_countries().get(l_index);
+            assertEquals(l_expected.getD_countryId(), l_actual.getD_countryId());
+            assertEquals(l_expected.getD_countryName(), l_actual.getD_countryName());
+            assertEquals(l_expected.getD_continentId(), l_actual.getD_continentId());
+            assertEquals(l_expected.getD_adjacentCountryIds(), l_actual.getD_adjacentCountryIds());
+        }
+    }
+}
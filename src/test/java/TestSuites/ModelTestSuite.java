@@ -9,12 +9,21 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
+import Models.AdjacencyGraphTest;
 import Models.AdvanceTest;
 import Models.AggressivePlayer;
 import Models.AggressivePlayerTest;
 import Models.AirliftTest;
+import Models.BattleEngineTest;
 import Models.BenevolentPlayerTest;
 import Models.BlockadeTest;
+import Models.GameRandomTest;
+import Models.GameSnapshotTest;
+import Models.CountrySetTest;
+import Models.OrderIntentTest;
+import Models.MapTopologyTest;
+import Models.OwnerIndexTest;
+import Models.SaveJournalTest;
 
 /**
  * Test suite for testing issue and execution of order functionality and
@@ -32,6 +41,9 @@ import Models.BlockadeTest;
 @RunWith(Suite.class)
 @SuiteClasses({ AdvanceTest.class, DeployTest.class,
         MapTest.class, PlayerTest.class, AirliftTest.class, BlockadeTest.class, DiplomacyTest.class,
-        AggressivePlayerTest.class, BenevolentPlayerTest.class })
+        AggressivePlayerTest.class, BenevolentPlayerTest.class, AdjacencyGraphTest.class,
+        MapTopologyTest.class, GameSnapshotTest.class, SaveJournalTest.class, GameRandomTest.class,
+        BattleEngineTest.class, OwnerIndexTest.class, CountrySetTest.class,
+        OrderIntentTest.class })
 public class ModelTestSuite {
 }
\ No newline at end of file
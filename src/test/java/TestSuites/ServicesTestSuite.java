@@ -2,8 +2,11 @@ package TestSuites;
 
 import Services.ConquestMapTest;
 import Services.DominationMapTest;
+import Services.MapCacheTest;
 import Services.MapServiceTest;
 import Services.PlayerServiceTest;
+import Services.AutosaveServiceTest;
+import Services.GameServiceTest;
 
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -27,7 +30,8 @@ import org.junit.runners.Suite.SuiteClasses;
  * 
  */
 @RunWith(Suite.class)
-@SuiteClasses({ MapServiceTest.class, PlayerServiceTest.class, DominationMapTest.class, ConquestMapTest.class })
+@SuiteClasses({ MapServiceTest.class, PlayerServiceTest.class, DominationMapTest.class, ConquestMapTest.class,
+        MapCacheTest.class, AutosaveServiceTest.class, GameServiceTest.class })
 public class ServicesTestSuite {
 
 }
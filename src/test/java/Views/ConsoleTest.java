@@ -0,0 +1,89 @@
+package Views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+import Views.Console.Mode;
+
+/**
+ * Test class for the console output modes.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public class ConsoleTest {
+
+    /**
+     * Puts the console back to printing.
+     */
+    @After
+    public void tearDown() {
+        Console.setThreadMode(null);
+        Console.setMode(null);
+        Console.takeBuffer();
+    }
+
+    /**
+     * Command line arguments choose the mode of the program, and tournament
+     * games are silent unless one was chosen.
+     */
+    @Test
+    public void testConfigure() {
+        assertEquals(Mode.PRINT, Console.getMode());
+        assertEquals(Mode.SILENT, Console.getTournamentMode());
+
+        Console.configure(new String[] { "-console", "Buffer" });
+        assertEquals(Mode.BUFFER, Console.getMode());
+        assertEquals(Mode.BUFFER, Console.getTournamentMode());
+
+        Console.configure(new String[] { "-headless" });
+        assertTrue(Console.isSilent());
+    }
+
+    /**
+     * A buffering thread keeps its messages until they are taken, and a silent
+     * thread drops them.
+     */
+    @Test
+    public void testThreadModes() {
+        Console.setThreadMode(Mode.BUFFER);
+        Console.println("order issued");
+        Console.printError("order refused");
+        assertEquals("order issued" + System.lineSeparator() + "order refused" + System.lineSeparator(),
+                Console.takeBuffer());
+
+        Console.setThreadMode(Mode.SILENT);
+        Console.println("order issued");
+        Console.setThreadMode(Mode.BUFFER);
+        assertEquals("", Console.takeBuffer());
+    }
+
+    /**
+     * A buffering thread nobody takes messages from keeps only its newest ones,
+     * and drops them all when its mode is reset.
+     */
+    @Test
+    public void testBufferIsBounded() {
+        Console.setThreadMode(Mode.BUFFER);
+        for (int l_message = 0; l_message < 200000; l_message++) {
+            Console.println("message " + l_message);
+        }
+        String l_kept = Console.takeBuffer();
+        assertTrue(l_kept.length() <= Console.BUFFER_CHARACTERS);
+        assertTrue(l_kept.startsWith("message "));
+        assertTrue(l_kept.endsWith("message 199999" + System.lineSeparator()));
+
+        Console.println("order issued");
+        Console.setThreadMode(null);
+        Console.setThreadMode(Mode.BUFFER);
+        assertEquals("", Console.takeBuffer());
+    }
+}
@@ -0,0 +1,179 @@
+package Views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import Views.LogView.LogRotation;
+import Views.LogView.LogWriter;
+
+/**
+ * Test class for the background log writer.
+ *
+ * @author Sumit Sharma
+ * @author Muhammad Adnan Asad
+ * @author Pranaykumar Chauhan
+ * @author Darshansinh Dilipsinh Devda
+ * @author Dhruvkumar Parmar
+ * @author Dhruv Patel
+ * @version 3.0.0
+ */
+public class LogWriterTest {
+
+    /**
+     * log file written by the tests.
+     */
+    Path d_logFile;
+
+    /**
+     * Creates an empty log file.
+     *
+     * @throws IOException if the file cannot be created
+     */
+    @Before
+    public void setup() throws IOException {
+        d_logFile = Files.createTempFile("log", ".txt");
+    }
+
+    /**
+     * Closes the writer and removes the log file with the segments rolled from
+     * it, found by name as the writer is gone once closed.
+     *
+     * @throws IOException if a file cannot be deleted
+     */
+    @After
+    public void tearDown() throws IOException {
+        LogWriter.close(d_logFile.toString());
+        String l_name = d_logFile.getFileName().toString();
+        try (DirectoryStream<Path> l_segments = Files.newDirectoryStream(d_logFile.getParent(),
+                l_name.substring(0, l_name.lastIndexOf('.')) + ".*.txt*")) {
+            for (Path l_segment : l_segments) {
+                Files.deleteIfExists(l_segment);
+            }
+        }
+        Files.deleteIfExists(d_logFile);
+    }
+
+    /**
+     * Entries are in the file, in order, once the writer is flushed.
+     *
+     * @throws IOException if the file cannot be read
+     */
+    @Test
+    public void testEntriesWrittenInOrder() throws IOException {
+        LogWriter l_writer = LogWriter.forFile(d_logFile.toString());
+        StringBuilder l_expected = new StringBuilder();
+        for (int l_entry = 0; l_entry < 20000; l_entry++) {
+            l_writer.write("entry " + l_entry + "\n");
+            l_expected.append("entry ").append(l_entry).append('\n');
+        }
+        l_writer.flush();
+
+        assertEquals(l_expected.toString(), new String(Files.readAllBytes(d_logFile), StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Truncating the file drops the entries before it and keeps the ones after
+     * it, also across closing and reopening the log.
+     *
+     * @throws IOException if the file cannot be read
+     */
+    @Test
+    public void testTruncateStartsNewLog() throws IOException {
+        LogWriter l_writer = LogWriter.forFile(d_logFile.toString());
+        l_writer.write("old game\n");
+        l_writer.truncate();
+        l_writer.write("new game\n");
+        LogWriter.close(d_logFile.toString());
+        LogWriter.forFile(d_logFile.toString()).write("next line\n");
+        LogWriter.close(d_logFile.toString());
+
+        assertEquals("new game\nnext line\n",
+                new String(Files.readAllBytes(d_logFile), StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * A log rolled over by size keeps every entry once, in order, across its
+     * compressed segments and the log file, which holds the newest ones.
+     *
+     * @throws IOException if a segment cannot be read
+     */
+    @Test
+    public void testRolledSegmentsAreCompressed() throws IOException {
+        LogWriter l_writer = LogWriter.forFile(d_logFile.toString(), new LogRotation(100, 0, true));
+        StringBuilder l_expected = new StringBuilder();
+        for (int l_entry = 0; l_entry < 50; l_entry++) {
+            l_writer.write("entry " + l_entry + "\n");
+            l_expected.append("entry ").append(l_entry).append('\n');
+            l_writer.flush();
+        }
+        LogWriter.close(d_logFile.toString());
+
+        List<Path> l_segments = l_writer.getSegments();
+        StringBuilder l_actual = new StringBuilder();
+        for (Path l_segment : l_segments.subList(0, l_segments.size() - 1)) {
+            assertTrue(l_segment.getFileName().toString().endsWith(".txt.gz"));
+            assertTrue(Files.size(l_segment) > 0);
+            try (InputStream l_in = new GZIPInputStream(Files.newInputStream(l_segment))) {
+                ByteArrayOutputStream l_text = new ByteArrayOutputStream();
+                byte[] l_buffer = new byte[4096];
+                for (int l_read = l_in.read(l_buffer); l_read > 0; l_read = l_in.read(l_buffer)) {
+                    l_text.write(l_buffer, 0, l_read);
+                }
+                String l_segmentText = new String(l_text.toByteArray(), StandardCharsets.US_ASCII);
+                assertTrue(l_segmentText.length() <= 100);
+                l_actual.append(l_segmentText);
+            }
+        }
+        assertEquals(d_logFile, l_segments.get(l_segments.size() - 1));
+        assertFalse(l_segments.size() < 5);
+        l_actual.append(new String(Files.readAllBytes(d_logFile), StandardCharsets.US_ASCII));
+
+        assertEquals(l_expected.toString(), l_actual.toString());
+    }
+
+    /**
+     * A write that fails drops its text but not the entries queued after it, so
+     * closing the log still stops the writer and later entries are written.
+     *
+     * @throws IOException if the file cannot be read
+     */
+    @Test(timeout = 10000)
+    public void testFailedWriteStillHandlesMarkers() throws IOException {
+        String l_name = d_logFile.getFileName().toString();
+        Path l_segment = d_logFile.resolveSibling(l_name.substring(0, l_name.lastIndexOf('.')) + ".1.txt");
+        Path l_blocker = l_segment.resolve("blocker");
+        Files.createDirectories(l_segment);
+        Files.createFile(l_blocker);
+        try {
+            // rolling over onto a non-empty directory makes the second write fail
+            LogWriter l_writer = LogWriter.forFile(d_logFile.toString(), new LogRotation(10, 0, false));
+            l_writer.write("first entry\n");
+            l_writer.flush();
+            l_writer.write("lost entry\n");
+            LogWriter.close(d_logFile.toString());
+
+            LogWriter.forFile(d_logFile.toString()).write("next entry\n");
+            LogWriter.close(d_logFile.toString());
+            assertEquals("first entry\nnext entry\n",
+                    new String(Files.readAllBytes(d_logFile), StandardCharsets.US_ASCII));
+        } finally {
+            Files.deleteIfExists(l_blocker);
+            Files.deleteIfExists(l_segment);
+        }
+    }
+}